@@ -0,0 +1,38 @@
+package com.hwans.apiserver.benchmark;
+
+import com.hwans.apiserver.entity.attachment.Attachment;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 첨부파일 URL 생성 벤치마크
+ * 게시글 목록의 썸네일과 글쓴이 프로필 이미지마다 호출된다.
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=AttachmentBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AttachmentBenchmark {
+    @Param({"image/png", "video/mp4", "application/pdf", "application/x-unknown"})
+    public String contentType;
+
+    private Attachment attachment;
+
+    @Setup
+    public void setUp() {
+        attachment = BenchmarkFixtures.attachment(contentType, "document.pdf");
+    }
+
+    @Benchmark
+    public String getFileTypeWithExt() {
+        return attachment.getFileTypeWithExt();
+    }
+
+    @Benchmark
+    public String getUrl() {
+        return attachment.getUrl();
+    }
+}
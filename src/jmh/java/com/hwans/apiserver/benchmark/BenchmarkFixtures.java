@@ -0,0 +1,94 @@
+package com.hwans.apiserver.benchmark;
+
+import com.hwans.apiserver.entity.BaseEntity;
+import com.hwans.apiserver.entity.account.Account;
+import com.hwans.apiserver.entity.attachment.Attachment;
+import com.hwans.apiserver.entity.blog.OpenType;
+import com.hwans.apiserver.entity.blog.Post;
+import com.hwans.apiserver.entity.blog.Series;
+import com.hwans.apiserver.entity.blog.Tag;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 벤치마크에서 사용하는 실제와 비슷한 엔티티 그래프를 생성한다.
+ * (프로필 이미지가 있는 글쓴이, 썸네일, 태그 5개, 시리즈가 연결된 게시글)
+ */
+final class BenchmarkFixtures {
+    private static final Field CREATED_AT = baseEntityField("createdAt");
+    private static final Field UPDATED_AT = baseEntityField("updatedAt");
+
+    private BenchmarkFixtures() {
+    }
+
+    static Account account() {
+        var account = Account.builder()
+                .id(UUID.randomUUID())
+                .email("akon47@naver.com")
+                .name("김환")
+                .blogId("@kim-hwan")
+                .biography("안녕하세요, 반갑습니다.")
+                .build();
+        account.setProfileImage(attachment("image/png", "profile.png"));
+        return account;
+    }
+
+    static List<Post> posts(int count) {
+        var author = account();
+        var series = Series.builder().id(UUID.randomUUID()).seriesUrl("spring-boot").title("스프링 부트").account(author).build();
+        var tags = List.of(new Tag("java"), new Tag("spring"), new Tag("jpa"), new Tag("redis"), new Tag("mysql"));
+        var now = LocalDateTime.now();
+        var posts = new ArrayList<Post>(count);
+        for (int i = 0; i < count; i++) {
+            var post = Post.builder()
+                    .id(UUID.randomUUID())
+                    .postUrl("post-" + i)
+                    .title(i + "번째 게시글 제목입니다.")
+                    .summary("게시글 목록에 표시되는 요약 내용입니다. ".repeat(3))
+                    .content("게시글 본문입니다. ".repeat(200))
+                    .openType(OpenType.PUBLIC)
+                    .hits(i * 10)
+                    .account(author)
+                    .build();
+            post.setThumbnailImage(attachment("image/jpeg", "thumbnail-" + i + ".jpg"));
+            post.setTags(tags);
+            post.setSeries(series);
+            setAuditDates(post, now.minusHours(i), now);
+            posts.add(post);
+        }
+        return posts;
+    }
+
+    static Attachment attachment(String contentType, String fileName) {
+        return Attachment.builder()
+                .id(UUID.randomUUID())
+                .contentType(contentType)
+                .fileName(fileName)
+                .fileSize(1024)
+                .localFilePath("/tmp/" + fileName)
+                .build();
+    }
+
+    private static void setAuditDates(BaseEntity entity, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        try {
+            CREATED_AT.set(entity, createdAt);
+            UPDATED_AT.set(entity, updatedAt);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Field baseEntityField(String name) {
+        try {
+            var field = BaseEntity.class.getDeclaredField(name);
+            field.setAccessible(true);
+            return field;
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.hwans.apiserver.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hwans.apiserver.dto.account.SimpleAccountDto;
+import com.hwans.apiserver.dto.blog.PostDto;
+import com.hwans.apiserver.dto.blog.SimplePostDto;
+import com.hwans.apiserver.dto.blog.TagDto;
+import com.hwans.apiserver.dto.common.SliceDto;
+import com.hwans.apiserver.entity.blog.OpenType;
+import com.hwans.apiserver.support.serialization.DtoRedisSerializers;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캐시 직렬화 벤치마크
+ * 게시글 상세(PostDto)와 게시글 목록 페이지(SliceDto&lt;SimplePostDto&gt;)를 바이너리 코덱과 Jackson 으로 인코딩/디코딩하는 시간을 비교한다.
+ * 인코딩된 크기는 Setup 에서 출력한다.
+ * Dto 는 빌더만 제공하여 Jackson 으로 객체에 바인딩할 수 없으므로, Jackson 디코딩은 JsonNode 로 파싱하는 시간(하한)으로 측정한다.
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=CacheSerializationBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CacheSerializationBenchmark {
+    /**
+     * 게시글 본문 크기 (바이트, 압축 기준인 1024 바이트 전후)
+     */
+    @Param({"512", "8192"})
+    public int contentSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private RedisSerializer<PostDto> postSerializer;
+    private RedisSerializer<SliceDto<SimplePostDto>> sliceSerializer;
+    private PostDto post;
+    private SliceDto<SimplePostDto> slice;
+    private byte[] postBinary;
+    private byte[] postJson;
+    private byte[] sliceBinary;
+    private byte[] sliceJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        var serializers = new DtoRedisSerializers(1024);
+        postSerializer = serializers.post();
+        sliceSerializer = serializers.simplePostSlice();
+
+        var content = new StringBuilder();
+        while (content.length() < contentSize) {
+            content.append("게시글 본문의 ").append(content.length()).append("번째 문장입니다. Lorem ipsum dolor sit amet. ");
+        }
+        var author = SimpleAccountDto.builder().name("김환").blogId("@kim-hwan").profileImageUrl("/profile-image").build();
+        post = PostDto.builder()
+                .id(UUID.randomUUID())
+                .postUrl("my-first-post")
+                .title("제목입니다.")
+                .summary("요약 내용입니다.")
+                .content(content.toString())
+                .openType(OpenType.PUBLIC)
+                .thumbnailImageUrl("/thumbnail")
+                .author(author)
+                .createdAt(LocalDateTime.now())
+                .lastModifiedAt(LocalDateTime.now())
+                .tags(List.of(new TagDto("java"), new TagDto("spring")))
+                .commentCount(12)
+                .likeCount(34)
+                .hits(5678)
+                .build();
+
+        var posts = new ArrayList<SimplePostDto>();
+        for (int i = 0; i < 20; i++) {
+            posts.add(SimplePostDto.builder()
+                    .id(UUID.randomUUID())
+                    .postUrl("post-" + i)
+                    .title(i + "번째 게시글")
+                    .summary("게시글 목록에 표시되는 요약 내용입니다.")
+                    .openType(OpenType.PUBLIC)
+                    .thumbnailImageUrl("/thumbnail-" + i)
+                    .author(author)
+                    .createdAt(LocalDateTime.now().minusDays(i))
+                    .lastModifiedAt(LocalDateTime.now())
+                    .tags(new LinkedHashSet<>(List.of(new TagDto("java"))))
+                    .commentCount(i)
+                    .likeCount(i * 2)
+                    .hits(i * 100)
+                    .build());
+        }
+        slice = SliceDto.<SimplePostDto>builder().data(posts).size(posts.size()).first(true).cursorId("cursor").build();
+
+        postBinary = postSerializer.serialize(post);
+        postJson = objectMapper.writeValueAsBytes(post);
+        sliceBinary = sliceSerializer.serialize(slice);
+        sliceJson = objectMapper.writeValueAsBytes(slice);
+        System.out.printf("%ncontentSize=%d post: binary=%d bytes, json=%d bytes / slice: binary=%d bytes, json=%d bytes%n",
+                contentSize, postBinary.length, postJson.length, sliceBinary.length, sliceJson.length);
+    }
+
+    @Benchmark
+    public byte[] encodePostBinary() {
+        return postSerializer.serialize(post);
+    }
+
+    @Benchmark
+    public byte[] encodePostJson() throws IOException {
+        return objectMapper.writeValueAsBytes(post);
+    }
+
+    @Benchmark
+    public PostDto decodePostBinary() {
+        return postSerializer.deserialize(postBinary);
+    }
+
+    @Benchmark
+    public JsonNode decodePostJson() throws IOException {
+        return objectMapper.readTree(postJson);
+    }
+
+    @Benchmark
+    public byte[] encodeSliceBinary() {
+        return sliceSerializer.serialize(slice);
+    }
+
+    @Benchmark
+    public byte[] encodeSliceJson() throws IOException {
+        return objectMapper.writeValueAsBytes(slice);
+    }
+
+    @Benchmark
+    public SliceDto<SimplePostDto> decodeSliceBinary() {
+        return sliceSerializer.deserialize(sliceBinary);
+    }
+
+    @Benchmark
+    public JsonNode decodeSliceJson() throws IOException {
+        return objectMapper.readTree(sliceJson);
+    }
+}
@@ -0,0 +1,100 @@
+package com.hwans.apiserver.benchmark;
+
+import com.hwans.apiserver.common.Constants;
+import com.hwans.apiserver.common.security.jwt.JwtFilter;
+import com.hwans.apiserver.common.security.jwt.JwtStatus;
+import com.hwans.apiserver.common.security.jwt.JwtTokenProvider;
+import com.hwans.apiserver.dto.authentication.TokenDto;
+import com.hwans.apiserver.support.redis.BatchingRedisClient;
+import io.lettuce.core.RedisURI;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 토큰 발급/검증과 요청마다 실행되는 JwtFilter 벤치마크
+ * JwtFilter 의 Redis 조회는 바로 완료되는 결과로 대체하여 토큰 처리 비용만 측정한다.
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=JwtBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+    private static final String EMAIL = "akon47@naver.com";
+    private static final String AUTHORITIES = "ROLE_USER,ROLE_ADMIN";
+
+    private JwtTokenProvider tokenProvider;
+    private BatchingRedisClient redisClient;
+    private JwtFilter jwtFilter;
+    private String accessToken;
+    private String bearerToken;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider(randomSecret(), randomSecret(), randomSecret());
+        tokenProvider.afterPropertiesSet();
+        accessToken = tokenProvider.createToken(EMAIL, AUTHORITIES).getAccessToken();
+        bearerToken = "Bearer " + accessToken;
+
+        var issued = CompletableFuture.completedFuture("issue");
+        redisClient = new BatchingRedisClient(RedisURI.create("redis://localhost"), Duration.ofSeconds(1), 1, new SimpleMeterRegistry()) {
+            @Override
+            public CompletableFuture<String> get(String key) {
+                return issued;
+            }
+        };
+        jwtFilter = new JwtFilter(tokenProvider, redisClient);
+    }
+
+    @TearDown
+    public void tearDown() {
+        redisClient.close();
+    }
+
+    @Benchmark
+    public TokenDto createToken() {
+        return tokenProvider.createToken(EMAIL, AUTHORITIES);
+    }
+
+    @Benchmark
+    public JwtStatus validateAccessToken() {
+        return tokenProvider.validateAccessToken(accessToken);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return tokenProvider.getAuthentication(accessToken);
+    }
+
+    @Benchmark
+    public Authentication jwtFilter() throws ServletException, IOException {
+        var request = new MockHttpServletRequest("GET", Constants.API_PREFIX + "/v1/accounts/me");
+        request.addHeader(Constants.AUTHORIZATION_HEADER, bearerToken);
+        try {
+            jwtFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private static String randomSecret() {
+        var secret = new byte[64];
+        new SecureRandom().nextBytes(secret);
+        return Base64.getEncoder().encodeToString(secret);
+    }
+}
@@ -0,0 +1,77 @@
+package com.hwans.apiserver.benchmark;
+
+import com.hwans.apiserver.common.Constants;
+import com.hwans.apiserver.common.logging.LoggingFilter;
+import com.hwans.apiserver.common.logging.RequestStatisticsRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청/응답 본문을 캐싱하는 LoggingFilter 벤치마크
+ * 필터 없이 같은 요청을 처리하는 baseline 과의 차이가 필터의 비용이다. (요청별 SQL/Redis 집계와 메트릭 기록 포함)
+ * 로그 출력(appender) 비용은 제외하기 위해 벤치마크의 logback.xml 은 WARN 이상만 출력한다.
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=LoggingFilterBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LoggingFilterBenchmark {
+    /**
+     * 응답 본문 크기 (바이트)
+     */
+    @Param({"256", "16384"})
+    public int responseSize;
+
+    private final LoggingFilter loggingFilter = new LoggingFilter(new RequestStatisticsRecorder(new SimpleMeterRegistry(), true, 20));
+    private byte[] requestBody;
+    private byte[] responseBody;
+    private FilterChain handler;
+
+    @Setup
+    public void setUp() {
+        requestBody = "{\"content\":\"댓글 내용입니다.\"}".getBytes(StandardCharsets.UTF_8);
+        responseBody = "{\"data\":\"x\"}".repeat(Math.max(1, responseSize / 12)).getBytes(StandardCharsets.UTF_8);
+        // 요청 본문을 읽고 JSON 응답을 쓰는 핸들러
+        handler = (request, response) -> {
+            request.getInputStream().readAllBytes();
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getOutputStream().write(responseBody);
+        };
+    }
+
+    @Benchmark
+    public MockHttpServletResponse baseline() throws ServletException, IOException {
+        var request = createRequest();
+        var response = new MockHttpServletResponse();
+        handler.doFilter(request, response);
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse loggingFilter() throws ServletException, IOException {
+        var request = createRequest();
+        var response = new MockHttpServletResponse();
+        loggingFilter.doFilter(request, response, handler);
+        return response;
+    }
+
+    private MockHttpServletRequest createRequest() {
+        var request = new MockHttpServletRequest("POST", Constants.API_PREFIX + "/v1/blog/@kim-hwan/posts/post-url/comments");
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.addHeader("User-Agent", "jmh");
+        request.addHeader("X-Forwarded-For", "203.0.113.1, 10.0.0.1");
+        request.setContent(requestBody);
+        return request;
+    }
+}
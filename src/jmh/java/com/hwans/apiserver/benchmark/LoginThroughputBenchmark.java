@@ -0,0 +1,71 @@
+package com.hwans.apiserver.benchmark;
+
+import com.hwans.apiserver.common.security.PasswordEncoders;
+import com.hwans.apiserver.service.authentication.PasswordHashingService;
+import com.hwans.apiserver.service.authentication.PasswordHashingServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 처리량 벤치마크
+ * 로그인 요청이 몰리는 상황을 요청 스레드 32개로 재현하여 다음 두 방식의 처리량과 응답 시간을 비교한다.
+ * <ul>
+ *     <li>requestThreadDoubleVerification: 요청 스레드에서 비밀번호를 두번 검증하던 기존 방식</li>
+ *     <li>pooledVerification: 해시 스레드 풀에서 한번만 검증하는 방식</li>
+ * </ul>
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=LoginThroughputBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(32)
+public class LoginThroughputBenchmark {
+    private static final String RAW_PASSWORD = "correct horse battery staple";
+
+    @Param({PasswordEncoders.BCRYPT, PasswordEncoders.ARGON2, PasswordEncoders.SCRYPT})
+    public String encoder;
+
+    @Param({"10"})
+    public int bcryptStrength;
+
+    private PasswordEncoder passwordEncoder;
+    private ThreadPoolTaskExecutor executor;
+    private PasswordHashingService passwordHashingService;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = PasswordEncoders.create(encoder, bcryptStrength);
+        var processors = Runtime.getRuntime().availableProcessors();
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(processors);
+        executor.setMaxPoolSize(processors);
+        // 벤치마크에서는 거절 없이 모든 요청이 처리되도록 요청 스레드 수보다 큰 큐를 사용한다.
+        executor.setQueueCapacity(1024);
+        executor.setThreadNamePrefix("password-");
+        executor.initialize();
+        passwordHashingService = new PasswordHashingServiceImpl(passwordEncoder, executor, 60000);
+        encodedPassword = passwordEncoder.encode(RAW_PASSWORD);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public boolean requestThreadDoubleVerification() {
+        return passwordEncoder.matches(RAW_PASSWORD, encodedPassword)
+                && passwordEncoder.matches(RAW_PASSWORD, encodedPassword);
+    }
+
+    @Benchmark
+    public boolean pooledVerification() {
+        return passwordHashingService.verify(RAW_PASSWORD, encodedPassword).matched();
+    }
+}
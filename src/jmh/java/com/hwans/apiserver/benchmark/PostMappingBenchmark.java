@@ -0,0 +1,56 @@
+package com.hwans.apiserver.benchmark;
+
+import com.hwans.apiserver.dto.blog.PostDto;
+import com.hwans.apiserver.dto.blog.SimplePostDto;
+import com.hwans.apiserver.dto.common.SliceDto;
+import com.hwans.apiserver.entity.blog.Post;
+import com.hwans.apiserver.mapper.PostMapper;
+import com.hwans.apiserver.support.pagination.KeysetCursor;
+import com.hwans.apiserver.support.pagination.KeysetPagination;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 엔티티 변환과 목록 페이지(SliceDto) 생성 벤치마크
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=PostMappingBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostMappingBenchmark {
+    /**
+     * 페이지 크기
+     */
+    @Param({"20"})
+    public int size;
+
+    private final PostMapper postMapper = Mappers.getMapper(PostMapper.class);
+    private List<Post> rows;
+
+    @Setup
+    public void setUp() {
+        // 다음 페이지 존재 여부 확인을 위해 한 행을 더 조회한 상태
+        rows = BenchmarkFixtures.posts(size + 1);
+    }
+
+    @Benchmark
+    public SimplePostDto entityToSimplePostDto() {
+        return postMapper.EntityToSimplePostDto(rows.get(0));
+    }
+
+    @Benchmark
+    public PostDto entityToPostDto() {
+        return postMapper.EntityToPostDto(rows.get(0));
+    }
+
+    @Benchmark
+    public SliceDto<SimplePostDto> sliceAssembly() {
+        return KeysetPagination.toSlice(rows, size, true, postMapper::EntityToSimplePostDto,
+                x -> KeysetCursor.of(x.getCreatedAt(), x.getId()));
+    }
+}
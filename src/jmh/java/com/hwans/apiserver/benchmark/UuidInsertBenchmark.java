@@ -0,0 +1,101 @@
+package com.hwans.apiserver.benchmark;
+
+import com.hwans.apiserver.support.id.UuidGenerator;
+import com.hwans.apiserver.support.id.UuidV7Generator;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UUID 식별자 생성 방식별 삽입 처리량 벤치마크
+ * 운영 테이블과 같은 BINARY(16) 기본키 테이블에 미리 rows 만큼 채운 뒤, 배치 단위로 삽입하고 커밋하는 처리량(행/초)을 비교한다.
+ * <ul>
+ *     <li>random: 무작위 UUID 버전 4, 인덱스의 임의 위치에 삽입된다.</li>
+ *     <li>v7: 시간 순 UUID 버전 7, 인덱스의 끝에 순서대로 삽입된다.</li>
+ * </ul>
+ * 기본값은 메모리 H2 이며, 버퍼 풀보다 큰 인덱스에서의 차이는 MySQL 로 실행하여 확인한다.
+ * H2 결과는 InnoDB 의 페이지 분할과 버퍼 풀 지역성을 반영하지 않으므로, v7 의 MySQL 삽입 성능 개선은 MySQL 로 실행한 결과로만 판단한다.
+ * <pre>
+ * ./gradlew jmh -PjmhIncludes=UuidInsertBenchmark
+ * ./gradlew jmh -PjmhIncludes=UuidInsertBenchmark -PjmhJdbcUrl=jdbc:mysql://localhost:3306/benchmark -PjmhJdbcUser=root -PjmhJdbcPassword=secret
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(UuidInsertBenchmark.BATCH_SIZE)
+public class UuidInsertBenchmark {
+    static final int BATCH_SIZE = 100;
+
+    private static final String TABLE = "tb_uuid_insert_benchmark";
+
+    @Param({"random", "v7"})
+    public String strategy;
+
+    @Param({"100000"})
+    public int rows;
+
+    private UuidGenerator generator;
+    private Connection connection;
+    private PreparedStatement insert;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        generator = switch (strategy) {
+            case "v7" -> UuidV7Generator.INSTANCE;
+            case "random" -> UUID::randomUUID;
+            default -> throw new IllegalArgumentException("unknown uuid strategy: " + strategy);
+        };
+        connection = DriverManager.getConnection(
+                System.getProperty("benchmark.jdbc.url", "jdbc:h2:mem:uuid-insert;DB_CLOSE_DELAY=-1"),
+                System.getProperty("benchmark.jdbc.user", "sa"),
+                System.getProperty("benchmark.jdbc.password", ""));
+        try (var statement = connection.createStatement()) {
+            statement.execute("drop table if exists " + TABLE);
+            statement.execute("create table " + TABLE + " (id binary(16) not null, created_at timestamp not null, payload varchar(255) not null, primary key (id))");
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement("insert into " + TABLE + " (id, created_at, payload) values (?, ?, ?)");
+        for (int i = 0; i < rows; i += BATCH_SIZE) {
+            insertBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        insert.close();
+        try (var statement = connection.createStatement()) {
+            statement.execute("drop table " + TABLE);
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    @Benchmark
+    public int[] insertBatch() throws SQLException {
+        var now = new Timestamp(System.currentTimeMillis());
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setBytes(1, toBytes(generator.generate()));
+            insert.setTimestamp(2, now);
+            insert.setString(3, "payload");
+            insert.addBatch();
+        }
+        var result = insert.executeBatch();
+        connection.commit();
+        return result;
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
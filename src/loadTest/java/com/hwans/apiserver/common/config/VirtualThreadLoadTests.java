@@ -0,0 +1,134 @@
+package com.hwans.apiserver.common.config;
+
+import com.hwans.apiserver.support.thread.VirtualThreads;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 플랫폼 스레드와 가상 스레드 실행 모드의 처리량과 p99 지연 시간을 동시 연결 수 별로 비교한다.
+ * 요청 처리는 JPA/Redis/SMTP 호출을 흉내내기 위해 50ms 동안 블로킹된다.
+ * 두 모드 모두 실패한 요청(연결 오류, 타임아웃, 200 이 아닌 응답)이 전체 요청의 MAX_ERROR_RATIO 이하여야 한다.
+ * 가상 스레드는 Java 21 이상의 런타임에서만 사용할 수 있으므로 -PloadTestJavaVersion 으로 실행할 런타임을 지정해야 하며,
+ * 지원하지 않는 런타임(프로젝트 기본 툴체인인 Java 17 등)에서는 건너뛴다.
+ * <pre>
+ * ./gradlew loadTest --tests '*VirtualThreadLoadTests' -PloadTestJavaVersion=21
+ * </pre>
+ */
+@Slf4j
+class VirtualThreadLoadTests {
+	private static final int[] CONCURRENCY_LEVELS = {1_000, 5_000, 10_000};
+	private static final long BLOCKING_IO_MILLIS = 50;
+	private static final double MAX_ERROR_RATIO = 0.001;
+
+	@Test
+	void compareExecutionModes() throws Exception {
+		assumeTrue(VirtualThreads.isSupported(), "virtual threads are not available on this runtime");
+
+		var report = new StringBuilder(String.format("%n%-10s %12s %14s %12s %8s%n", "mode", "connections", "throughput/s", "p99(ms)", "errors"));
+		for (var virtualThreads : new boolean[]{false, true}) {
+			try (var context = start(virtualThreads)) {
+				var port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+				var client = HttpClient.newBuilder()
+						.version(HttpClient.Version.HTTP_1_1)
+						.connectTimeout(Duration.ofSeconds(30))
+						.build();
+				run(client, port, 200);
+				for (var concurrency : CONCURRENCY_LEVELS) {
+					var result = run(client, port, concurrency);
+					report.append(String.format("%-10s %12d %14.0f %12.1f %8d%n",
+							virtualThreads ? "virtual" : "platform", concurrency, result.throughput(), result.p99Millis(), result.errors()));
+					assertThat(result.errors())
+							.withFailMessage("%s mode failed %d of %d requests", virtualThreads ? "virtual" : "platform", result.errors(), concurrency)
+							.isLessThanOrEqualTo((int) (concurrency * MAX_ERROR_RATIO));
+				}
+			}
+		}
+		log.info("execution mode comparison:{}", report);
+	}
+
+	private static ConfigurableApplicationContext start(boolean virtualThreads) {
+		return new SpringApplicationBuilder(LoadTestApplication.class)
+				.web(WebApplicationType.SERVLET)
+				.properties(
+						"server.port=0",
+						"server.tomcat.max-connections=20000",
+						"server.tomcat.accept-count=10000",
+						"virtual-threads.enabled=" + virtualThreads)
+				.run();
+	}
+
+	private static Result run(HttpClient client, int port, int concurrency) {
+		var request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/blocking"))
+				.timeout(Duration.ofSeconds(60))
+				.build();
+		var latencies = new long[concurrency];
+		var errors = new AtomicInteger();
+		var futures = new CompletableFuture<?>[concurrency];
+		var startedAt = System.nanoTime();
+		for (int i = 0; i < concurrency; i++) {
+			var index = i;
+			var requestStartedAt = System.nanoTime();
+			futures[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+					.handle((response, throwable) -> {
+						latencies[index] = System.nanoTime() - requestStartedAt;
+						if (throwable != null || response.statusCode() != 200) {
+							errors.incrementAndGet();
+						}
+						return null;
+					});
+		}
+		CompletableFuture.allOf(futures).join();
+		var elapsedNanos = System.nanoTime() - startedAt;
+
+		Arrays.sort(latencies);
+		var p99 = latencies[Math.min(latencies.length - 1, (int) Math.ceil(latencies.length * 0.99) - 1)];
+		return new Result(concurrency * 1_000_000_000.0 / elapsedNanos, p99 / 1_000_000.0, errors.get());
+	}
+
+	private record Result(double throughput, double p99Millis, int errors) {
+	}
+
+	@SpringBootConfiguration
+	@ImportAutoConfiguration({
+			ServletWebServerFactoryAutoConfiguration.class,
+			DispatcherServletAutoConfiguration.class,
+			WebMvcAutoConfiguration.class,
+			HttpMessageConvertersAutoConfiguration.class})
+	@Import({VirtualThreadConfig.class, BlockingController.class})
+	static class LoadTestApplication {
+	}
+
+	@RestController
+	static class BlockingController {
+		@GetMapping("/blocking")
+		public String blocking() throws InterruptedException {
+			Thread.sleep(BLOCKING_IO_MILLIS);
+			return "ok";
+		}
+	}
+}
@@ -0,0 +1,153 @@
+package com.hwans.apiserver.loadtest;
+
+import com.hwans.apiserver.repository.account.AccountRepository;
+import com.hwans.apiserver.repository.attachment.AttachmentRepository;
+import com.hwans.apiserver.repository.blog.CommentRepository;
+import com.hwans.apiserver.repository.blog.LikeRepository;
+import com.hwans.apiserver.repository.blog.PostRepository;
+import com.hwans.apiserver.repository.blog.SeriesRepository;
+import com.hwans.apiserver.repository.blog.tag.TagRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * local 프로파일(H2, 내장 Redis)로 애플리케이션을 띄우고 합성 데이터셋을 저장한 뒤 블로그/첨부파일/인증 API 에 가중치를 둔 트래픽을 재생한다.
+ * 엔드포인트별 처리량, 지연 시간 백분위 수, 요청당 SQL 문 수를 출력하고 build/reports/loadtest 에 저장한다.
+ * <pre>
+ * ./gradlew loadTest
+ * ./gradlew loadTest -Dloadtest.scale=1 -Dloadtest.concurrency=128 -Dloadtest.duration=300
+ * ./gradlew loadTest -Dloadtest.mix=feed:0,login:50,guest-comment:50
+ * </pre>
+ * loadtest.scale=1 은 계정 1만, 게시글 100만, 좋아요/댓글 각 1000만 건으로 H2 메모리 DB 에 수십 GB 의 힙이 필요하므로
+ * -Dloadtest.max-heap 으로 힙 크기를 함께 지정해야 한다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+		"spring.jpa.properties.hibernate.show_sql=false",
+		"spring.jpa.properties.hibernate.format_sql=false",
+		"spring.jpa.properties.hibernate.use_sql_comments=false",
+		"spring.jpa.properties.hibernate.jdbc.batch_size=1000",
+		"spring.jpa.properties.hibernate.order_inserts=true",
+		"spring.jpa.properties.hibernate.session_factory.statement_inspector=com.hwans.apiserver.loadtest.SqlStatementCounter",
+		"logging.level.org.hibernate.type.descriptor.sql=warn",
+		"logging.level.ioLog=warn",
+		"rate-limit.enabled=false"})
+@ActiveProfiles("local")
+class BlogLoadTests {
+	private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 64);
+	private static final long WARMUP_SECONDS = Long.getLong("loadtest.warmup", 10);
+	private static final long DURATION_SECONDS = Long.getLong("loadtest.duration", 60);
+	private static final Path REPORT_DIR = Path.of(System.getProperty("loadtest.report-dir", "build/reports/loadtest"));
+
+	@LocalServerPort
+	private int port;
+	@PersistenceContext
+	private EntityManager entityManager;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+	@Autowired
+	private AccountRepository accountRepository;
+	@Autowired
+	private AttachmentRepository attachmentRepository;
+	@Autowired
+	private TagRepository tagRepository;
+	@Autowired
+	private SeriesRepository seriesRepository;
+	@Autowired
+	private PostRepository postRepository;
+	@Autowired
+	private LikeRepository likeRepository;
+	@Autowired
+	private CommentRepository commentRepository;
+
+	@Test
+	void replayTrafficMix(@TempDir Path attachmentDir) throws Exception {
+		var generator = new SyntheticDatasetGenerator(entityManager, new TransactionTemplate(transactionManager), passwordEncoder,
+				accountRepository, attachmentRepository, tagRepository, seriesRepository, postRepository, likeRepository, commentRepository);
+		var dataset = generator.generate(DatasetSpec.fromSystemProperties(), attachmentDir);
+		var trafficMix = TrafficMix.fromSystemProperties("http://localhost:" + port, dataset);
+		var recorder = new LoadTestRecorder(trafficMix.endpoints());
+		var client = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.connectTimeout(Duration.ofSeconds(10))
+				.build();
+
+		var running = new AtomicBoolean(true);
+		var sequence = new AtomicInteger();
+		var seeds = new SplittableRandom(49);
+		var workers = Executors.newFixedThreadPool(CONCURRENCY);
+		for (int i = 0; i < CONCURRENCY; i++) {
+			var random = seeds.split();
+			workers.execute(() -> {
+				while (running.get()) {
+					var endpoint = trafficMix.next(random);
+					var request = endpoint.request(random, sequence.incrementAndGet());
+					var startedAt = System.nanoTime();
+					var success = false;
+					try {
+						var status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+						success = status < 400;
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						return;
+					} catch (Exception e) {
+						// 연결 실패와 타임아웃은 오류 응답과 같이 집계한다.
+					}
+					recorder.record(endpoint.name(), System.nanoTime() - startedAt, success);
+				}
+			});
+		}
+
+		TimeUnit.SECONDS.sleep(WARMUP_SECONDS);
+		recorder.reset();
+		SqlStatementCounter.reset();
+		var measuredAt = System.currentTimeMillis();
+		TimeUnit.SECONDS.sleep(DURATION_SECONDS);
+		running.set(false);
+		var elapsedMillis = System.currentTimeMillis() - measuredAt;
+		workers.shutdown();
+		assertThat(workers.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+		System.out.printf("%n%s, concurrency %d, %ds%n", dataset.spec(), CONCURRENCY, elapsedMillis / 1000);
+		var totalRequests = recorder.report(System.out, REPORT_DIR, elapsedMillis);
+		assertThat(totalRequests).isPositive();
+	}
+
+	@TestConfiguration
+	static class EndpointTagConfig {
+		@Bean
+		public FilterRegistrationBean<SqlStatementCounter.EndpointTagFilter> endpointTagFilter() {
+			var registration = new FilterRegistrationBean<>(new SqlStatementCounter.EndpointTagFilter());
+			registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+			return registration;
+		}
+	}
+}
@@ -0,0 +1,33 @@
+package com.hwans.apiserver.loadtest;
+
+import java.util.UUID;
+
+/**
+ * 생성된 합성 데이터셋
+ * 계정, 게시글, 시리즈의 식별자는 인덱스로부터 계산할 수 있으므로 트래픽 생성기는 인덱스만 골라 요청 경로를 만든다.
+ * i 번째 게시글의 작성자는 (i % 계정 수) 번째 계정이다.
+ *
+ * @param spec          데이터셋 크기
+ * @param attachmentIds 저장된 첨부파일 Id
+ */
+public record Dataset(DatasetSpec spec, UUID[] attachmentIds) {
+	public static String email(int accountIndex) {
+		return "loadtest-" + accountIndex + "@hwans.com";
+	}
+
+	public static String blogId(int accountIndex) {
+		return "@loadtest-" + accountIndex;
+	}
+
+	public static String seriesUrl(int accountIndex) {
+		return "series-" + accountIndex;
+	}
+
+	public static String postUrl(int postIndex) {
+		return "post-" + postIndex;
+	}
+
+	public int authorOf(int postIndex) {
+		return postIndex % spec.accounts();
+	}
+}
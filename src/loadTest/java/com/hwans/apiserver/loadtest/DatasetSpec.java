@@ -0,0 +1,43 @@
+package com.hwans.apiserver.loadtest;
+
+/**
+ * 합성 데이터셋의 크기
+ * 기본 크기는 계정 1만, 게시글 100만, 좋아요/댓글 각 1000만이며 loadtest.scale 배율(기본 0.01)을 곱해 사용한다.
+ * 각 값은 loadtest.accounts, loadtest.posts, loadtest.likes, loadtest.comments 로 직접 지정할 수 있다.
+ *
+ * @param accounts    계정 수
+ * @param posts       게시글 수 (계정마다 시리즈 하나, 게시글 3개 중 1개가 시리즈에 포함된다)
+ * @param tags        태그 수
+ * @param tagsPerPost 게시글마다 연결할 태그 수
+ * @param likes       좋아요 수 (게시글 수 x 계정 수를 넘을 수 없다)
+ * @param comments    댓글 수 (4개 중 1개는 대댓글, 10개 중 1개는 비회원 댓글)
+ * @param attachments 썸네일/프로필 이미지로 사용할 첨부파일 수
+ * @param batchSize   한 트랜잭션에서 저장할 엔티티 수
+ */
+public record DatasetSpec(int accounts, int posts, int tags, int tagsPerPost, long likes, long comments, int attachments, int batchSize) {
+	private static final int BASE_ACCOUNTS = 10_000;
+	private static final int BASE_POSTS = 1_000_000;
+	private static final long BASE_LIKES = 10_000_000L;
+	private static final long BASE_COMMENTS = 10_000_000L;
+
+	public DatasetSpec {
+		if (accounts <= 0 || posts <= 0 || tags <= 0 || attachments <= 0 || batchSize <= 0) {
+			throw new IllegalArgumentException("dataset sizes must be positive");
+		}
+		tagsPerPost = Math.min(tagsPerPost, tags);
+		likes = Math.min(likes, (long) posts * accounts);
+	}
+
+	public static DatasetSpec fromSystemProperties() {
+		var scale = Double.parseDouble(System.getProperty("loadtest.scale", "0.01"));
+		return new DatasetSpec(
+				Integer.getInteger("loadtest.accounts", Math.max(1, (int) (BASE_ACCOUNTS * scale))),
+				Integer.getInteger("loadtest.posts", Math.max(1, (int) (BASE_POSTS * scale))),
+				Integer.getInteger("loadtest.tags", 500),
+				Integer.getInteger("loadtest.tags-per-post", 3),
+				Long.getLong("loadtest.likes", (long) (BASE_LIKES * scale)),
+				Long.getLong("loadtest.comments", (long) (BASE_COMMENTS * scale)),
+				Integer.getInteger("loadtest.attachments", 100),
+				Integer.getInteger("loadtest.batch-size", 1000));
+	}
+}
@@ -0,0 +1,106 @@
+package com.hwans.apiserver.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 응답 지연 시간(HdrHistogram)과 오류 수를 기록하고 리포트를 만든다.
+ * 지연 시간은 마이크로초 단위로 기록하며 리포트에는 밀리초로 출력한다.
+ * 부하 생성기는 응답을 받은 뒤에 다음 요청을 보내는 closed-loop 방식이므로 서버가 멈춘 동안 보내지 못한 요청의 지연 시간은
+ * 기록되지 않는다(coordinated omission). 높은 백분위 수는 실제보다 낮게 측정될 수 있으므로 최대값과 함께 해석해야 한다.
+ */
+public class LoadTestRecorder {
+	private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+	private final Map<String, Recorder> recorders = new LinkedHashMap<>();
+	private final Map<String, LongAdder> errors = new LinkedHashMap<>();
+
+	public LoadTestRecorder(List<TrafficMix.Endpoint> endpoints) {
+		for (var endpoint : endpoints) {
+			recorders.put(endpoint.name(), new Recorder(HIGHEST_TRACKABLE_MICROS, 3));
+			errors.put(endpoint.name(), new LongAdder());
+		}
+	}
+
+	public void record(String endpoint, long elapsedNanos, boolean success) {
+		recorders.get(endpoint).recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, TimeUnit.NANOSECONDS.toMicros(elapsedNanos)));
+		if (!success) {
+			errors.get(endpoint).increment();
+		}
+	}
+
+	/**
+	 * 워밍업 동안 기록된 값을 버린다.
+	 */
+	public void reset() {
+		recorders.values().forEach(Recorder::reset);
+		errors.values().forEach(LongAdder::reset);
+	}
+
+	/**
+	 * 측정 구간의 결과를 출력하고 reportDir 에 summary.csv 와 엔드포인트별 .hgrm 파일을 저장한다.
+	 *
+	 * @param out           리포트를 출력할 스트림
+	 * @param reportDir     리포트 파일을 저장할 디렉토리
+	 * @param elapsedMillis 측정 구간 길이
+	 * @return 전체 요청 수
+	 */
+	public long report(PrintStream out, Path reportDir, long elapsedMillis) throws IOException {
+		Files.createDirectories(reportDir);
+		var seconds = elapsedMillis / 1000.0;
+		var total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+		var totalErrors = 0L;
+		var csv = new StringBuilder("endpoint,requests,errors,throughput,p50_ms,p90_ms,p99_ms,p999_ms,max_ms,sql_per_request\n");
+		out.printf("%n%-14s %9s %7s %10s %9s %9s %9s %9s %9s %8s%n",
+				"endpoint", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "sql/req");
+		for (var entry : recorders.entrySet()) {
+			var name = entry.getKey();
+			var histogram = entry.getValue().getIntervalHistogram();
+			var errorCount = errors.get(name).sum();
+			var requests = SqlStatementCounter.requests(name);
+			var sqlPerRequest = requests == 0 ? 0.0 : (double) SqlStatementCounter.statements(name) / requests;
+			total.add(histogram);
+			totalErrors += errorCount;
+			out.println(row(name, histogram, errorCount, seconds, String.format("%8.1f", sqlPerRequest)));
+			csv.append(csvRow(name, histogram, errorCount, seconds)).append(String.format(",%.2f%n", sqlPerRequest));
+			try (var hgrm = new PrintStream(Files.newOutputStream(reportDir.resolve(name + ".hgrm")))) {
+				histogram.outputPercentileDistribution(hgrm, 1000.0);
+			}
+		}
+		out.println(row("total", total, totalErrors, seconds, String.format("%8s", "")));
+		out.printf("%-14s %9d statements outside of request threads%n", SqlStatementCounter.BACKGROUND, SqlStatementCounter.statements(SqlStatementCounter.BACKGROUND));
+		csv.append(csvRow("total", total, totalErrors, seconds)).append(",\n");
+		Files.writeString(reportDir.resolve("summary.csv"), csv);
+		return total.getTotalCount();
+	}
+
+	private static String row(String name, Histogram histogram, long errorCount, double seconds, String sqlPerRequest) {
+		return String.format("%-14s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f %s",
+				name, histogram.getTotalCount(), errorCount, histogram.getTotalCount() / seconds,
+				millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+				millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+				millis(histogram.getMaxValue()), sqlPerRequest);
+	}
+
+	private static String csvRow(String name, Histogram histogram, long errorCount, double seconds) {
+		return String.format("%s,%d,%d,%.1f,%.3f,%.3f,%.3f,%.3f,%.3f",
+				name, histogram.getTotalCount(), errorCount, histogram.getTotalCount() / seconds,
+				millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+				millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+				millis(histogram.getMaxValue()));
+	}
+
+	private static double millis(long micros) {
+		return micros / 1000.0;
+	}
+}
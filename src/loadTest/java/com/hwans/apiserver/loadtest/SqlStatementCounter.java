@@ -0,0 +1,84 @@
+package com.hwans.apiserver.loadtest;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별로 실행된 SQL 문 수를 센다.
+ * Hibernate 가 클래스 이름으로 생성하는 StatementInspector 이므로 집계 값은 static 으로 보관한다.
+ * 요청을 처리하는 스레드에 {@link EndpointTagFilter} 가 부하 생성기가 보낸 엔드포인트 이름을 기록하고,
+ * 요청 스레드 밖(비동기 작업, 스케줄러)에서 실행된 SQL 은 {@link #BACKGROUND} 로 집계한다.
+ */
+public class SqlStatementCounter implements StatementInspector {
+	public static final String ENDPOINT_HEADER = "X-Load-Test-Endpoint";
+	public static final String BACKGROUND = "(background)";
+
+	private static final ThreadLocal<String> currentEndpoint = new ThreadLocal<>();
+	private static final Map<String, LongAdder> statements = new ConcurrentHashMap<>();
+	private static final Map<String, LongAdder> requests = new ConcurrentHashMap<>();
+
+	@Override
+	public String inspect(String sql) {
+		var endpoint = currentEndpoint.get();
+		statements.computeIfAbsent(endpoint == null ? BACKGROUND : endpoint, x -> new LongAdder()).increment();
+		return sql;
+	}
+
+	public static void reset() {
+		statements.clear();
+		requests.clear();
+	}
+
+	public static long statements(String endpoint) {
+		var count = statements.get(endpoint);
+		return count == null ? 0 : count.sum();
+	}
+
+	public static long requests(String endpoint) {
+		var count = requests.get(endpoint);
+		return count == null ? 0 : count.sum();
+	}
+
+	/**
+	 * 엔드포인트별 SQL 문 수를 이름 순으로 반환한다.
+	 *
+	 * @return 엔드포인트별 SQL 문 수
+	 */
+	public static Map<String, Long> snapshot() {
+		var snapshot = new TreeMap<String, Long>();
+		statements.forEach((endpoint, count) -> snapshot.put(endpoint, count.sum()));
+		return snapshot;
+	}
+
+	/**
+	 * 요청 헤더의 엔드포인트 이름을 요청 처리 스레드에 기록하는 필터
+	 * 보안 필터에서 실행되는 SQL 도 집계되도록 가장 먼저 실행되어야 한다.
+	 */
+	public static class EndpointTagFilter extends OncePerRequestFilter {
+		@Override
+		protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+			var endpoint = request.getHeader(ENDPOINT_HEADER);
+			if (endpoint == null) {
+				filterChain.doFilter(request, response);
+				return;
+			}
+			requests.computeIfAbsent(endpoint, x -> new LongAdder()).increment();
+			currentEndpoint.set(endpoint);
+			try {
+				filterChain.doFilter(request, response);
+			} finally {
+				currentEndpoint.remove();
+			}
+		}
+	}
+}
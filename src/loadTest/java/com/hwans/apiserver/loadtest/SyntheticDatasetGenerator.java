@@ -0,0 +1,215 @@
+package com.hwans.apiserver.loadtest;
+
+import com.hwans.apiserver.entity.account.Account;
+import com.hwans.apiserver.entity.account.role.Role;
+import com.hwans.apiserver.entity.account.role.RoleType;
+import com.hwans.apiserver.entity.attachment.Attachment;
+import com.hwans.apiserver.entity.blog.Comment;
+import com.hwans.apiserver.entity.blog.GuestAuthor;
+import com.hwans.apiserver.entity.blog.Like;
+import com.hwans.apiserver.entity.blog.OpenType;
+import com.hwans.apiserver.entity.blog.Post;
+import com.hwans.apiserver.entity.blog.Series;
+import com.hwans.apiserver.entity.blog.Tag;
+import com.hwans.apiserver.repository.account.AccountRepository;
+import com.hwans.apiserver.repository.attachment.AttachmentRepository;
+import com.hwans.apiserver.repository.blog.CommentRepository;
+import com.hwans.apiserver.repository.blog.LikeRepository;
+import com.hwans.apiserver.repository.blog.PostRepository;
+import com.hwans.apiserver.repository.blog.SeriesRepository;
+import com.hwans.apiserver.repository.blog.tag.TagRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * 부하 테스트용 합성 블로그 데이터셋을 리포지토리를 통해 저장한다.
+ * batchSize 개씩 트랜잭션을 나누어 saveAll 로 저장하고, 이미 저장된 엔티티는 Id 로 만든 참조(getReference)로만 연결하여
+ * 영속성 컨텍스트가 데이터셋 크기만큼 커지지 않도록 한다.
+ * 같은 크기로 다시 생성하면 같은 데이터셋이 만들어지도록 난수의 seed 는 고정한다.
+ */
+public class SyntheticDatasetGenerator {
+	private static final Logger log = LoggerFactory.getLogger(SyntheticDatasetGenerator.class);
+
+	/**
+	 * 생성된 모든 계정과 비회원 댓글의 비밀번호
+	 */
+	public static final String PASSWORD = "loadtest-password";
+
+	private final EntityManager entityManager;
+	private final TransactionTemplate transactionTemplate;
+	private final PasswordEncoder passwordEncoder;
+	private final AccountRepository accountRepository;
+	private final AttachmentRepository attachmentRepository;
+	private final TagRepository tagRepository;
+	private final SeriesRepository seriesRepository;
+	private final PostRepository postRepository;
+	private final LikeRepository likeRepository;
+	private final CommentRepository commentRepository;
+	private final SplittableRandom random = new SplittableRandom(47);
+
+	public SyntheticDatasetGenerator(EntityManager entityManager, TransactionTemplate transactionTemplate, PasswordEncoder passwordEncoder,
+									 AccountRepository accountRepository, AttachmentRepository attachmentRepository, TagRepository tagRepository,
+									 SeriesRepository seriesRepository, PostRepository postRepository, LikeRepository likeRepository,
+									 CommentRepository commentRepository) {
+		this.entityManager = entityManager;
+		this.transactionTemplate = transactionTemplate;
+		this.passwordEncoder = passwordEncoder;
+		this.accountRepository = accountRepository;
+		this.attachmentRepository = attachmentRepository;
+		this.tagRepository = tagRepository;
+		this.seriesRepository = seriesRepository;
+		this.postRepository = postRepository;
+		this.likeRepository = likeRepository;
+		this.commentRepository = commentRepository;
+	}
+
+	/**
+	 * 데이터셋을 생성한다.
+	 *
+	 * @param spec          데이터셋 크기
+	 * @param attachmentDir 첨부파일 원본을 저장할 디렉토리
+	 * @return 생성된 데이터셋
+	 */
+	public Dataset generate(DatasetSpec spec, Path attachmentDir) throws IOException {
+		var startedAt = System.nanoTime();
+		// 해시 계산 비용이 생성 시간을 지배하지 않도록 모든 계정이 같은 비밀번호 해시를 사용한다.
+		var passwordHash = passwordEncoder.encode(PASSWORD);
+
+		var accountIds = saveAll("accounts", spec.accounts(), spec.batchSize(), accountRepository, i -> {
+			var account = Account.builder()
+					.email(Dataset.email(i))
+					.name("부하테스트" + i)
+					.blogId(Dataset.blogId(i))
+					.password(passwordHash)
+					.build();
+			account.addRole(entityManager.getReference(Role.class, RoleType.USER.getName()));
+			return account;
+		}, Account::getId);
+
+		var files = new Path[spec.attachments()];
+		for (int i = 0; i < files.length; i++) {
+			var content = new byte[4 * 1024 + random.nextInt(28 * 1024)];
+			random.nextBytes(content);
+			files[i] = Files.write(attachmentDir.resolve("image-" + i + ".png"), content);
+		}
+		var attachmentIds = saveAll("attachments", spec.attachments(), spec.batchSize(), attachmentRepository,
+				i -> new Attachment(account(accountIds, i % accountIds.length), files[i].toFile(), files[i].getFileName().toString(), "image/png"),
+				Attachment::getId);
+
+		var tagIds = saveAll("tags", spec.tags(), spec.batchSize(), tagRepository, i -> new Tag("tag-" + i), Tag::getId);
+
+		var seriesIds = saveAll("series", spec.accounts(), spec.batchSize(), seriesRepository, i -> Series.builder()
+				.seriesUrl(Dataset.seriesUrl(i))
+				.title(i + "번째 시리즈")
+				.account(account(accountIds, i))
+				.build(), Series::getId);
+
+		var postIds = saveAll("posts", spec.posts(), spec.batchSize(), postRepository, i -> {
+			var accountIndex = i % accountIds.length;
+			var post = Post.builder()
+					.postUrl(Dataset.postUrl(i))
+					.title(i + "번째 게시글")
+					.summary(i + "번째 게시글의 요약")
+					.content("부하 테스트를 위한 게시글 본문입니다. ".repeat(20 + random.nextInt(200)))
+					.openType(OpenType.PUBLIC)
+					.hits(random.nextInt(10_000))
+					.account(account(accountIds, accountIndex))
+					.build();
+			post.setThumbnailImage(entityManager.getReference(Attachment.class, attachmentIds[i % attachmentIds.length]));
+			var tags = new ArrayList<Tag>(spec.tagsPerPost());
+			var firstTag = random.nextInt(tagIds.length);
+			for (int t = 0; t < spec.tagsPerPost(); t++) {
+				tags.add(entityManager.getReference(Tag.class, tagIds[(firstTag + t) % tagIds.length]));
+			}
+			post.setTags(tags);
+			if (i % 3 == 0) {
+				post.setSeries(entityManager.getReference(Series.class, seriesIds[accountIndex]));
+			}
+			return post;
+		}, Post::getId);
+
+		// 같은 게시글의 좋아요는 서로 다른 계정에 배정하여 (게시글, 계정) 유니크 제약을 지킨다.
+		saveInBatches("likes", spec.likes(), spec.batchSize(), likeRepository, i -> {
+			var postIndex = (int) (i % postIds.length);
+			var accountIndex = (int) ((i / postIds.length + postIndex * 7919L) % accountIds.length);
+			return Like.builder()
+					.post(entityManager.getReference(Post.class, postIds[postIndex]))
+					.account(account(accountIds, accountIndex))
+					.build();
+		}, (like, i) -> {
+		});
+
+		// 대댓글은 같은 게시글에 마지막으로 저장된 루트 댓글에 단다.
+		var lastRootCommentIds = new UUID[postIds.length];
+		saveInBatches("comments", spec.comments(), spec.batchSize(), commentRepository, i -> {
+			var postIndex = (int) (i % postIds.length);
+			var comment = Comment.builder()
+					.content(i + "번째 댓글입니다.")
+					.post(entityManager.getReference(Post.class, postIds[postIndex]))
+					.build();
+			if (i % 10 == 9) {
+				comment.setGuestAuthor(GuestAuthor.builder().name("손님" + i % 100).password(passwordHash).build());
+			} else {
+				comment.setAuthor(account(accountIds, (int) (i % accountIds.length)));
+			}
+			if (i % 4 == 3 && lastRootCommentIds[postIndex] != null) {
+				comment.setParent(entityManager.getReference(Comment.class, lastRootCommentIds[postIndex]));
+			}
+			return comment;
+		}, (comment, i) -> {
+			if (comment.getParent() == null) {
+				lastRootCommentIds[(int) (i % postIds.length)] = comment.getId();
+			}
+		});
+
+		log.info("generated {} in {}s", spec, (System.nanoTime() - startedAt) / 1_000_000_000L);
+		return new Dataset(spec, attachmentIds);
+	}
+
+	private Account account(UUID[] accountIds, int index) {
+		return entityManager.getReference(Account.class, accountIds[index]);
+	}
+
+	private <E> UUID[] saveAll(String name, int count, int batchSize, JpaRepository<E, UUID> repository,
+							   IntFunction<E> factory, Function<E, UUID> idOf) {
+		var ids = new UUID[count];
+		saveInBatches(name, count, batchSize, repository, i -> factory.apply((int) i), (entity, i) -> ids[(int) i] = idOf.apply(entity));
+		return ids;
+	}
+
+	private <E> void saveInBatches(String name, long count, int batchSize, JpaRepository<E, UUID> repository,
+								   LongFunction<E> factory, ObjLongConsumer<E> onSaved) {
+		for (long from = 0; from < count; from += batchSize) {
+			var start = from;
+			var end = Math.min(count, from + batchSize);
+			transactionTemplate.executeWithoutResult(status -> {
+				var entities = new ArrayList<E>((int) (end - start));
+				for (long i = start; i < end; i++) {
+					entities.add(factory.apply(i));
+				}
+				repository.saveAll(entities);
+				for (int i = 0; i < entities.size(); i++) {
+					onSaved.accept(entities.get(i), start + i);
+				}
+			});
+			if (end == count || (end / batchSize) % 100 == 0) {
+				log.info("{}: {}/{}", name, end, count);
+			}
+		}
+	}
+}
@@ -0,0 +1,145 @@
+package com.hwans.apiserver.loadtest;
+
+import com.hwans.apiserver.common.Constants;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.BiFunction;
+
+/**
+ * 부하 테스트에서 재생할 엔드포인트와 가중치
+ * 게시글과 블로그는 인기 있는 소수에 조회가 몰리도록 인덱스가 작을수록 자주 선택한다.
+ * 가중치는 loadtest.mix=feed:30,post:25,... 형식으로 바꿀 수 있으며 0 으로 지정한 엔드포인트는 재생하지 않는다.
+ */
+public class TrafficMix {
+	private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+	private static final double POPULARITY_SKEW = 3.0;
+
+	private final List<Endpoint> endpoints;
+	private final int[] cumulativeWeights;
+
+	private TrafficMix(List<Endpoint> endpoints) {
+		this.endpoints = endpoints;
+		this.cumulativeWeights = new int[endpoints.size()];
+		var sum = 0;
+		for (int i = 0; i < endpoints.size(); i++) {
+			sum += endpoints.get(i).weight();
+			cumulativeWeights[i] = sum;
+		}
+		if (sum <= 0) {
+			throw new IllegalArgumentException("traffic mix has no endpoint to replay");
+		}
+	}
+
+	public static TrafficMix fromSystemProperties(String baseUrl, Dataset dataset) {
+		var weights = new LinkedHashMap<String, Integer>();
+		weights.put("feed", 30);
+		weights.put("post", 25);
+		weights.put("comments", 15);
+		weights.put("blog-posts", 10);
+		weights.put("series", 5);
+		weights.put("attachment", 10);
+		weights.put("login", 3);
+		weights.put("guest-comment", 2);
+		var overrides = System.getProperty("loadtest.mix");
+		if (overrides != null && !overrides.isBlank()) {
+			for (var entry : overrides.split(",")) {
+				var pair = entry.trim().split(":");
+				if (pair.length != 2 || !weights.containsKey(pair[0])) {
+					throw new IllegalArgumentException("invalid loadtest.mix entry: " + entry);
+				}
+				weights.put(pair[0], Integer.parseInt(pair[1]));
+			}
+		}
+		return of(baseUrl, dataset, weights);
+	}
+
+	static TrafficMix of(String baseUrl, Dataset dataset, Map<String, Integer> weights) {
+		var api = baseUrl + Constants.API_PREFIX;
+		var spec = dataset.spec();
+		var factories = new LinkedHashMap<String, BiFunction<SplittableRandom, Integer, HttpRequest.Builder>>();
+		factories.put("feed", (random, i) -> get(api + "/v1/blog/posts?size=20"));
+		factories.put("post", (random, i) -> {
+			var post = popular(random, spec.posts());
+			return get(api + "/v1/blog/" + Dataset.blogId(dataset.authorOf(post)) + "/posts/" + Dataset.postUrl(post));
+		});
+		factories.put("comments", (random, i) -> {
+			var post = popular(random, spec.posts());
+			return get(api + "/v1/blog/" + Dataset.blogId(dataset.authorOf(post)) + "/posts/" + Dataset.postUrl(post) + "/comments");
+		});
+		factories.put("blog-posts", (random, i) -> get(api + "/v1/blog/" + Dataset.blogId(popular(random, spec.accounts())) + "/posts?size=20"));
+		factories.put("series", (random, i) -> {
+			var account = popular(random, spec.accounts());
+			return get(api + "/v1/blog/" + Dataset.blogId(account) + "/series/" + Dataset.seriesUrl(account) + "/posts");
+		});
+		factories.put("attachment", (random, i) -> get(api + "/v1/attachments/" + dataset.attachmentIds()[random.nextInt(dataset.attachmentIds().length)]));
+		factories.put("login", (random, i) -> post(api + "/v1/authentication/token", String.format("{\"email\":\"%s\",\"password\":\"%s\"}",
+				Dataset.email(random.nextInt(spec.accounts())), SyntheticDatasetGenerator.PASSWORD)));
+		factories.put("guest-comment", (random, i) -> {
+			var post = popular(random, spec.posts());
+			return post(api + "/v1/blog/" + Dataset.blogId(dataset.authorOf(post)) + "/posts/" + Dataset.postUrl(post) + "/comments/guest",
+					String.format("{\"content\":\"부하 테스트 댓글 %d\",\"name\":\"손님\",\"password\":\"%s\"}", i, SyntheticDatasetGenerator.PASSWORD));
+		});
+
+		var endpoints = new ArrayList<Endpoint>();
+		factories.forEach((name, factory) -> {
+			var weight = weights.getOrDefault(name, 0);
+			if (weight > 0) {
+				endpoints.add(new Endpoint(name, weight, factory));
+			}
+		});
+		return new TrafficMix(endpoints);
+	}
+
+	public List<Endpoint> endpoints() {
+		return endpoints;
+	}
+
+	/**
+	 * 가중치에 따라 다음에 보낼 엔드포인트를 고른다.
+	 *
+	 * @param random 호출 스레드의 난수 생성기
+	 * @return 엔드포인트
+	 */
+	public Endpoint next(SplittableRandom random) {
+		var index = Arrays.binarySearch(cumulativeWeights, random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]) + 1);
+		return endpoints.get(index >= 0 ? index : -index - 1);
+	}
+
+	private static int popular(SplittableRandom random, int count) {
+		return (int) (count * Math.pow(random.nextDouble(), POPULARITY_SKEW));
+	}
+
+	private static HttpRequest.Builder get(String url) {
+		return HttpRequest.newBuilder(URI.create(url)).timeout(REQUEST_TIMEOUT).GET();
+	}
+
+	private static HttpRequest.Builder post(String url, String json) {
+		return HttpRequest.newBuilder(URI.create(url))
+				.timeout(REQUEST_TIMEOUT)
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(json));
+	}
+
+	/**
+	 * 재생할 엔드포인트
+	 *
+	 * @param name    리포트와 SQL 집계에 사용할 이름
+	 * @param weight  가중치
+	 * @param factory 난수 생성기와 요청 순번으로 요청을 만드는 함수
+	 */
+	public record Endpoint(String name, int weight, BiFunction<SplittableRandom, Integer, HttpRequest.Builder> factory) {
+		public HttpRequest request(SplittableRandom random, int sequence) {
+			return factory.apply(random, sequence)
+					.header(SqlStatementCounter.ENDPOINT_HEADER, name)
+					.build();
+		}
+	}
+}
@@ -0,0 +1,120 @@
+package com.hwans.apiserver.service.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hwans.apiserver.common.Constants;
+import com.hwans.apiserver.common.security.jwt.JwtTokenProvider;
+import com.hwans.apiserver.dto.websocket.MessageDto;
+import com.hwans.apiserver.dto.websocket.MessageType;
+import com.hwans.apiserver.entity.chat.ChatRoom;
+import com.hwans.apiserver.repository.account.AccountRepository;
+import com.hwans.apiserver.repository.chat.ChatRoomRepository;
+import com.hwans.apiserver.support.redis.BatchingRedisClient;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 다수의 로컬 웹소켓 클라이언트가 같은 채팅방을 구독했을 때의 메시지 전파를 검사하는 부하 테스트
+ * 채팅방 구독은 참여자만 가능하므로 모든 클라이언트는 채팅방 주인의 엑세스 토큰으로 인증한 뒤 구독한다.
+ * <pre>
+ * ./gradlew loadTest --tests '*ChatRoomFanOutLoadTests' -Dloadtest.websocket.clients=2000
+ * </pre>
+ */
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ChatRoomFanOutLoadTests {
+	private static final int CLIENT_COUNT = Integer.getInteger("loadtest.websocket.clients", 1000);
+	private static final String OWNER_EMAIL = "akon47@naver.com";
+
+	@LocalServerPort
+	private int port;
+	@Autowired
+	private WebSocketService webSocketService;
+	@Autowired
+	private ObjectMapper objectMapper;
+	@Autowired
+	private AccountRepository accountRepository;
+	@Autowired
+	private ChatRoomRepository chatRoomRepository;
+	@Autowired
+	private JwtTokenProvider jwtTokenProvider;
+	@Autowired
+	private BatchingRedisClient redisClient;
+
+	@Test
+	void fanOutToSubscribedClients() throws Exception {
+		var owner = accountRepository.findByEmailAndDeletedIsFalse(OWNER_EMAIL).orElseThrow();
+		var chatRoomId = chatRoomRepository.save(ChatRoom.builder()
+				.title("fan-out")
+				.description("fan-out load test")
+				.ownerAccount(owner)
+				.build()).getId();
+		var accessToken = jwtTokenProvider.createToken(OWNER_EMAIL, "ROLE_USER").getAccessToken();
+		BatchingRedisClient.await(redisClient.set(accessToken, "issue", Duration.ofMillis(Constants.ACCESS_TOKEN_EXPIRES_TIME)));
+
+		var subscribedSessions = ConcurrentHashMap.<String>newKeySet();
+		var measured = new CountDownLatch(CLIENT_COUNT);
+		var handler = new TextWebSocketHandler() {
+			@Override
+			protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+				var payload = message.getPayload();
+				if (!payload.contains(MessageType.CHAT_MESSAGE_CREATED.name())) {
+					return;
+				}
+				if (payload.contains("measure")) {
+					measured.countDown();
+				} else {
+					subscribedSessions.add(session.getId());
+				}
+			}
+		};
+
+		var client = new StandardWebSocketClient();
+		var sessions = new ArrayList<WebSocketSession>(CLIENT_COUNT);
+		var authenticate = new TextMessage(objectMapper.writeValueAsString(MessageDto.builder()
+				.type(MessageType.AUTHENTICATE)
+				.payload(accessToken)
+				.build()));
+		var subscribe = new TextMessage(objectMapper.writeValueAsString(MessageDto.builder()
+				.type(MessageType.SUBSCRIBE_CHAT_ROOM)
+				.payload(chatRoomId)
+				.build()));
+		for (int i = 0; i < CLIENT_COUNT; i++) {
+			var session = client.doHandshake(handler, "ws://localhost:" + port + "/ws/websocket").get(10, TimeUnit.SECONDS);
+			session.sendMessage(authenticate);
+			session.sendMessage(subscribe);
+			sessions.add(session);
+		}
+
+		// 모든 클라이언트의 구독이 처리될 때까지 대기한다.
+		var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+		while (subscribedSessions.size() < CLIENT_COUNT && System.nanoTime() < deadline) {
+			webSocketService.sendToChatRoom(chatRoomId, MessageDto.builder().type(MessageType.CHAT_MESSAGE_CREATED).payload("warmup").build());
+			Thread.sleep(200);
+		}
+		assertThat(subscribedSessions).hasSize(CLIENT_COUNT);
+
+		var startedAt = System.nanoTime();
+		webSocketService.sendToChatRoom(chatRoomId, MessageDto.builder().type(MessageType.CHAT_MESSAGE_CREATED).payload("measure").build());
+		assertThat(measured.await(30, TimeUnit.SECONDS)).isTrue();
+		log.info("fan-out to {} sessions took {} ms", CLIENT_COUNT, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+
+		for (var session : sessions) {
+			session.close();
+		}
+	}
+}
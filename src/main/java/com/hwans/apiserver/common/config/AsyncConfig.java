@@ -0,0 +1,65 @@
+package com.hwans.apiserver.common.config;
+
+import com.hwans.apiserver.support.async.RejectionPolicy;
+import com.hwans.apiserver.support.async.TaskExecutorFactory;
+import com.hwans.apiserver.support.async.TaskExecutorFactory.ExecutorDefaults;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * @Async 작업을 위한 스레드 풀 설정 클래스
+ * 작업 유형별로 크기가 제한된 스레드 풀을 분리하여 한 유형의 작업이 밀리더라도 다른 작업에 영향을 주지 않도록 한다.
+ * 사용할 스레드 풀은 @Async 의 값으로 지정하며, 지정하지 않은 작업은 기본 스레드 풀에서 실행된다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class AsyncConfig implements AsyncConfigurer {
+    public static final String DEFAULT_EXECUTOR = "taskExecutor";
+    public static final String MAIL_EXECUTOR = "mailExecutor";
+    public static final String NOTIFICATION_EXECUTOR = "notificationExecutor";
+    public static final String PASSWORD_EXECUTOR = "passwordExecutor";
+
+    private final TaskExecutorFactory taskExecutorFactory;
+
+    @Bean(DEFAULT_EXECUTOR)
+    public ThreadPoolTaskExecutor taskExecutor() {
+        return taskExecutorFactory.create("default", new ExecutorDefaults(4, 8, 100, RejectionPolicy.CALLER_RUNS));
+    }
+
+    /**
+     * SMTP 전송을 위한 스레드 풀
+     */
+    @Bean(MAIL_EXECUTOR)
+    public ThreadPoolTaskExecutor mailExecutor() {
+        return taskExecutorFactory.create("mail", new ExecutorDefaults(2, 4, 500, RejectionPolicy.CALLER_RUNS));
+    }
+
+    /**
+     * 알림 푸시를 위한 스레드 풀
+     * 푸시는 유실되더라도 다음 조회 시 복구되므로 큐가 가득 차면 가장 오래된 푸시를 버린다.
+     */
+    @Bean(NOTIFICATION_EXECUTOR)
+    public ThreadPoolTaskExecutor notificationExecutor() {
+        return taskExecutorFactory.create("notification", new ExecutorDefaults(2, 4, 1000, RejectionPolicy.DISCARD_OLDEST));
+    }
+
+    /**
+     * 비밀번호 해시를 위한 스레드 풀
+     * CPU 를 많이 사용하는 작업이므로 코어 수만큼만 동시에 실행하고, 큐가 가득 차면 요청을 거절하여 요청 스레드가 쌓이지 않도록 한다.
+     */
+    @Bean(PASSWORD_EXECUTOR)
+    public ThreadPoolTaskExecutor passwordExecutor() {
+        var processors = Runtime.getRuntime().availableProcessors();
+        return taskExecutorFactory.create("password", new ExecutorDefaults(processors, processors, processors * 16, RejectionPolicy.ABORT));
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return taskExecutor();
+    }
+}
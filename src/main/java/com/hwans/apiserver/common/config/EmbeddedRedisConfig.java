@@ -10,6 +10,7 @@ import redis.embedded.RedisServer;
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import java.io.IOException;
+import java.net.ServerSocket;
 
 @Slf4j
 @Profile("local")
@@ -22,6 +23,11 @@ public class EmbeddedRedisConfig {
 
     @PostConstruct
     public void redisServer() throws IOException {
+        // 같은 JVM 의 다른 애플리케이션 컨텍스트 등에서 이미 실행 중인 Redis 가 있다면 이를 함께 사용한다.
+        if (isPortInUse(redisProperties.getPort())) {
+            log.info("embedded redis port {} is already in use, using the running server", redisProperties.getPort());
+            return;
+        }
         redisServer = new RedisServer(redisProperties.getPort());
         redisServer.start();
     }
@@ -32,4 +38,12 @@ public class EmbeddedRedisConfig {
             redisServer.stop();
         }
     }
+
+    private static boolean isPortInUse(int port) {
+        try (var ignored = new ServerSocket(port)) {
+            return false;
+        } catch (IOException e) {
+            return true;
+        }
+    }
 }
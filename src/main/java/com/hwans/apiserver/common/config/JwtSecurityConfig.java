@@ -2,8 +2,8 @@ package com.hwans.apiserver.common.config;
 
 import com.hwans.apiserver.common.security.jwt.JwtFilter;
 import com.hwans.apiserver.common.security.jwt.JwtTokenProvider;
+import com.hwans.apiserver.support.redis.BatchingRedisClient;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.config.annotation.SecurityConfigurerAdapter;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.web.DefaultSecurityFilterChain;
@@ -12,11 +12,11 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @RequiredArgsConstructor
 public class JwtSecurityConfig extends SecurityConfigurerAdapter<DefaultSecurityFilterChain, HttpSecurity> {
     private final JwtTokenProvider tokenProvider;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final BatchingRedisClient redisClient;
 
     @Override
     public void configure(HttpSecurity http) {
-        JwtFilter customFilter = new JwtFilter(tokenProvider, redisTemplate);
+        JwtFilter customFilter = new JwtFilter(tokenProvider, redisClient);
         http.addFilterBefore(customFilter, UsernamePasswordAuthenticationFilter.class);
     }
 }
@@ -1,15 +1,27 @@
 package com.hwans.apiserver.common.config;
 
+import com.hwans.apiserver.support.redis.BatchingRedisClient;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.TimeoutOptions;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.time.Duration;
+import java.util.Optional;
+
 /**
  * 메모리 캐시를 위한 Redis 설정 클래스
  */
@@ -17,11 +29,37 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 @EnableRedisRepositories
 @RequiredArgsConstructor
 public class RedisConfig {
+    private static final Duration DEFAULT_COMMAND_TIMEOUT = Duration.ofSeconds(2);
+
     private final RedisProperties redisProperties;
+    @Value("${redis-batch.max-size:512}")
+    private int batchMaxSize;
 
+    /**
+     * Lettuce 는 하나의 연결을 여러 스레드가 공유(multiplexing)하므로 연결 풀 대신 명령 타임아웃만 설정한다.
+     */
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
-        return new LettuceConnectionFactory(redisProperties.getHost(), redisProperties.getPort());
+        var clientConfiguration = LettuceClientConfiguration.builder()
+                .commandTimeout(commandTimeout())
+                .clientOptions(ClientOptions.builder()
+                        .timeoutOptions(TimeoutOptions.enabled(commandTimeout()))
+                        .build())
+                .build();
+        return new LettuceConnectionFactory(new RedisStandaloneConfiguration(redisProperties.getHost(), redisProperties.getPort()), clientConfiguration);
+    }
+
+    /**
+     * 요청마다 실행되는 토큰 확인, 조회수 증가와 같은 짧은 명령을 모아서 전송하는 Redis 클라이언트
+     */
+    @Bean(destroyMethod = "close")
+    public BatchingRedisClient batchingRedisClient(MeterRegistry meterRegistry) {
+        var redisUri = RedisURI.builder()
+                .withHost(redisProperties.getHost())
+                .withPort(redisProperties.getPort())
+                .withTimeout(commandTimeout())
+                .build();
+        return new BatchingRedisClient(redisUri, commandTimeout(), batchMaxSize, meterRegistry);
     }
 
     @Bean
@@ -34,4 +72,18 @@ public class RedisConfig {
         redisTemplate.setHashValueSerializer(new StringRedisSerializer());
         return redisTemplate;
     }
+
+    /**
+     * 서버 노드 사이의 메시지 전달(pub/sub)을 위한 리스너 컨테이너
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        return container;
+    }
+
+    private Duration commandTimeout() {
+        return Optional.ofNullable(redisProperties.getTimeout()).orElse(DEFAULT_COMMAND_TIMEOUT);
+    }
 }
@@ -0,0 +1,57 @@
+package com.hwans.apiserver.common.config;
+
+import com.hwans.apiserver.support.redis.BatchingRedisClient;
+import com.hwans.apiserver.support.statistics.HibernateStatisticsIntegrator;
+import com.hwans.apiserver.support.statistics.InstrumentedDataSource;
+import com.hwans.apiserver.support.statistics.RedisStatisticsListener;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * 요청별 SQL/Redis 사용량 집계 설정 클래스
+ * DataSource 를 {@link InstrumentedDataSource} 로 감싸고, Hibernate 이벤트 리스너와 Lettuce 명령 리스너를 등록한다.
+ * 집계 결과는 LoggingFilter 가 ioLog 와 요청 경로별 메트릭으로 남긴다.
+ * request-statistics.enabled 를 끄면 프록시와 리스너를 등록하지 않는다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "request-statistics.enabled", havingValue = "true", matchIfMissing = true)
+public class RequestStatisticsConfig {
+    private static final String INTEGRATOR_PROVIDER = "hibernate.integrator_provider";
+
+    /**
+     * 다른 빈보다 먼저 생성되어야 하므로 static 으로 선언한다.
+     */
+    @Bean
+    public static BeanPostProcessor requestStatisticsBeanPostProcessor() {
+        var redisStatisticsListener = new RedisStatisticsListener();
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof InstrumentedDataSource)) {
+                    return new InstrumentedDataSource(dataSource);
+                }
+                if (bean instanceof LettuceConnectionFactory connectionFactory) {
+                    connectionFactory.getRequiredNativeClient().addListener(redisStatisticsListener);
+                }
+                if (bean instanceof BatchingRedisClient batchingRedisClient) {
+                    batchingRedisClient.addListener(redisStatisticsListener);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer requestStatisticsHibernatePropertiesCustomizer() {
+        var integrator = new HibernateStatisticsIntegrator();
+        return properties -> properties.put(INTEGRATOR_PROVIDER, (IntegratorProvider) () -> List.of(integrator));
+    }
+}
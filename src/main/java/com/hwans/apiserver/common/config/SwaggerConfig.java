@@ -4,6 +4,7 @@ import com.hwans.apiserver.service.authentication.UserAuthenticationDetails;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.context.request.ServletWebRequest;
 import springfox.documentation.builders.ApiInfoBuilder;
 import springfox.documentation.builders.PathSelectors;
 import springfox.documentation.builders.RequestHandlerSelectors;
@@ -24,7 +25,7 @@ public class SwaggerConfig {
         return new Docket(DocumentationType.OAS_30)
                 .apiInfo(apiInfo())
                 .securityContexts(Arrays.asList(securityContext()))
-                .ignoredParameterTypes(UserAuthenticationDetails.class)
+                .ignoredParameterTypes(UserAuthenticationDetails.class, ServletWebRequest.class)
                 .securitySchemes(authenticationSchemes())
                 .select()
                 .apis(RequestHandlerSelectors.basePackage("com.hwans.apiserver.controller"))
@@ -0,0 +1,36 @@
+package com.hwans.apiserver.common.config;
+
+import com.hwans.apiserver.support.thread.VirtualThreads;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.task.TaskSchedulerCustomizer;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 가상 스레드 실행 모드 설정 클래스
+ * virtual-threads.enabled 가 켜져 있으면 톰캣 요청 처리와 스케줄러 작업을 가상 스레드에서 실행한다.
+ * (@Async 스레드 풀은 TaskExecutorFactory 에서 같은 설정을 사용한다.)
+ * 요청 처리 대부분이 JPA, Redis, SMTP 의 블로킹 I/O 이므로 고정 크기의 톰캣 스레드 풀 대신 요청마다 가상 스레드를 사용하면
+ * 동시 요청 수가 스레드 수가 아닌 server.tomcat.max-connections 에 의해 제한된다.
+ * 런타임이 가상 스레드를 지원하지 않으면 경고를 남기고 기존 플랫폼 스레드를 사용한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "virtual-threads.enabled", havingValue = "true")
+@Slf4j
+public class VirtualThreadConfig {
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> VirtualThreads.newThreadPerTaskExecutor("tomcat-handler-").ifPresentOrElse(
+                protocolHandler::setExecutor,
+                () -> log.warn("virtual threads are not available on this runtime, tomcat uses platform threads"));
+    }
+
+    @Bean
+    public TaskSchedulerCustomizer virtualThreadTaskSchedulerCustomizer() {
+        return taskScheduler -> VirtualThreads.newThreadFactory("scheduling-").ifPresentOrElse(
+                taskScheduler::setThreadFactory,
+                () -> log.warn("virtual threads are not available on this runtime, scheduler uses platform threads"));
+    }
+}
@@ -1,6 +1,7 @@
 package com.hwans.apiserver.common.config;
 
 import com.hwans.apiserver.common.Constants;
+import com.hwans.apiserver.common.security.PasswordEncoders;
 import com.hwans.apiserver.common.security.jwt.JwtAccessDeniedHandler;
 import com.hwans.apiserver.common.security.jwt.JwtAuthenticationEntryPoint;
 import com.hwans.apiserver.common.security.jwt.JwtTokenProvider;
@@ -8,16 +9,16 @@ import com.hwans.apiserver.service.authentication.oauth2.CustomOAuth2UserService
 import com.hwans.apiserver.service.authentication.oauth2.handler.OAuth2AuthenticationFailureHandler;
 import com.hwans.apiserver.service.authentication.oauth2.handler.OAuth2AuthenticationSuccessHandler;
 import com.hwans.apiserver.service.authentication.oauth2.repository.HttpCookieOAuth2AuthorizationRequestRepository;
+import com.hwans.apiserver.support.redis.BatchingRedisClient;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.stereotype.Component;
@@ -30,6 +31,7 @@ import java.util.List;
 @RequiredArgsConstructor
 @Configuration
 @EnableWebSecurity
+@EnableGlobalMethodSecurity(prePostEnabled = true)
 @Component
 public class WebSecurityConfig {
     // 인증 없이 허용할 Swagger 관련 Urls
@@ -41,17 +43,25 @@ public class WebSecurityConfig {
     };
 
     private final JwtTokenProvider tokenProvider;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final BatchingRedisClient redisClient;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
     private final CustomOAuth2UserService customOAuth2UserService;
 
     @Value("${allowedOrigins}")
     private String[] allowedOrigins;
+    @Value("${password.encoder:bcrypt}")
+    private String passwordEncoderId;
+    @Value("${password.bcrypt-strength:10}")
+    private int bcryptStrength;
 
+    /**
+     * 비밀번호 해시 인코더
+     * 새 비밀번호는 password.encoder 방식으로 해시하며, 방식이나 강도를 바꾸면 기존 비밀번호는 로그인할 때 다시 해시된다.
+     */
     @Bean
     PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return PasswordEncoders.create(passwordEncoderId, bcryptStrength);
     }
 
     /**
@@ -117,11 +127,12 @@ public class WebSecurityConfig {
                             Constants.API_PREFIX + "/v1/blog/*/posts/*/comments/guest",
                             Constants.API_PREFIX + "/v1/blog/comments/*/guest").permitAll()
                     .antMatchers(Constants.API_PREFIX + "/v1/admin/**").hasRole("ADMIN")
+                    .antMatchers("/actuator/**").hasRole("ADMIN")
                     //.antMatchers("/h2-console/**").permitAll() // Local H2 콘솔 테스트 환경
                     .anyRequest().authenticated()
                     //.and().headers().frameOptions().disable() // Local H2 콘솔 테스트 환경
                 .and()
-                    .apply(new JwtSecurityConfig(tokenProvider, redisTemplate))
+                    .apply(new JwtSecurityConfig(tokenProvider, redisClient))
                 .and()
                     .oauth2Login()
                     .authorizationEndpoint()
@@ -16,6 +16,7 @@ public class ErrorCodes {
         BAD_REQUEST("잘못된 요청입니다."),
         INVALID_PARAMETER("잘못된 파라미터입니다."),
         INVALID_EMAIL_VERIFY_CODE("잘못된 인증 코드입니다."),
+        INVALID_CURSOR("잘못된 페이징 커서입니다."),
         ;
 
         private final String defaultMessage;
@@ -155,6 +156,32 @@ public class ErrorCodes {
         }
     }
 
+    /**
+     * TooManyRequests (429)
+     */
+    @RequiredArgsConstructor
+    public enum TooManyRequests implements ErrorCode {
+        TOO_MANY_REQUESTS("요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+        ;
+
+        private final String defaultMessage;
+
+        @Override
+        public String getName() {
+            return this.name().toLowerCase();
+        }
+
+        @Override
+        public HttpStatus getStatus() {
+            return HttpStatus.TOO_MANY_REQUESTS;
+        }
+
+        @Override
+        public String getDefaultMessage() {
+            return this.defaultMessage;
+        }
+    }
+
     /**
      * InternalServerError (500)
      */
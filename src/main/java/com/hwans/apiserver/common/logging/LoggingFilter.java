@@ -1,11 +1,16 @@
 package com.hwans.apiserver.common.logging;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.hwans.apiserver.common.web.ClientIp;
+import com.hwans.apiserver.support.statistics.RequestStatistics;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.logstash.logback.marker.Markers;
 import org.slf4j.MDC;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -20,27 +25,39 @@ import java.io.IOException;
 import java.util.*;
 import java.util.stream.Collectors;
 
+/**
+ * 요청/응답을 ioLog 로 남기는 필터
+ * 응답 로그에는 요청이 실행한 SQL 문, 조회한 행, 엔티티 로딩, Redis 명령의 수와 시간(statistics)을 함께 남긴다.
+ * 인증 필터에서 실행되는 Redis 명령도 같은 traceId 로 집계되도록 보안 필터 체인과 RateLimitFilter 보다 먼저 실행된다.
+ */
 @Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 2)
+@RequiredArgsConstructor
 @Slf4j(topic = "ioLog")
 public class LoggingFilter extends OncePerRequestFilter {
     private static final String RequestType = "REQUEST";
     private static final String ResponseType = "RESPONSE";
 
+    private final RequestStatisticsRecorder requestStatisticsRecorder;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         var traceId = UUID.randomUUID().toString();
-        var clientIp = getRemoteAddr(request);
+        var clientIp = ClientIp.of(request);
+        var statistics = requestStatisticsRecorder.start();
 
         try {
             MDC.put("traceId", traceId);
             MDC.put("clientIp", clientIp);
 
-            if (isAsyncDispatch(request)) {
+            if (isAsyncDispatch(request) || isEventStream(request)) {
+                // SSE 응답은 본문을 캐싱하면 클라이언트로 전송되지 않으므로 감싸지 않는다.
                 filterChain.doFilter(request, response);
             } else {
                 doFilterWrapped(new RequestWrapper(request), new ResponseWrapper(response), filterChain);
             }
         } finally {
+            requestStatisticsRecorder.finish(request, statistics);
             MDC.clear();
         }
     }
@@ -91,31 +108,15 @@ public class LoggingFilter extends OncePerRequestFilter {
                 .httpStatus(response.getStatus())
                 .payload(getPayloadString(response.getContentType(), response.getContentAsByteArray()))
                 .headers(headers)
+                .statistics(Optional.ofNullable(RequestStatistics.current()).map(RequestStatistics::snapshot).orElse(null))
                 .build());
 
         log.info(marker, null);
     }
 
-    private static String getRemoteAddr(HttpServletRequest request) {
-        var clientIp = request.getHeader("X-Forwarded-For");
-
-        if (clientIp == null || clientIp.length() == 0 || "unknown".equalsIgnoreCase(clientIp)) {
-            clientIp = request.getHeader("Proxy-Client-IP");
-        }
-        if (clientIp == null || clientIp.length() == 0 || "unknown".equalsIgnoreCase(clientIp)) {
-            clientIp = request.getHeader("WL-Proxy-Client-IP");
-        }
-        if (clientIp == null || clientIp.length() == 0 || "unknown".equalsIgnoreCase(clientIp)) {
-            clientIp = request.getHeader("HTTP_CLIENT_IP");
-        }
-        if (clientIp == null || clientIp.length() == 0 || "unknown".equalsIgnoreCase(clientIp)) {
-            clientIp = request.getHeader("HTTP_X_FORWARDED_FOR");
-        }
-        if (clientIp == null || clientIp.length() == 0 || "unknown".equalsIgnoreCase(clientIp)) {
-            clientIp = request.getRemoteAddr();
-        }
-
-        return clientIp;
+    private static boolean isEventStream(HttpServletRequest request) {
+        var accept = request.getHeader("Accept");
+        return accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
     }
 
     private static String getUri(HttpServletRequest request) {
@@ -165,6 +166,7 @@ public class LoggingFilter extends OncePerRequestFilter {
         String payload;
         Map<String, List<String>> headers;
         Map<String, String> parameters;
+        RequestStatistics.Snapshot statistics;
 
         public Integer getContentLength() {
             if (this.contentLength < 0) {
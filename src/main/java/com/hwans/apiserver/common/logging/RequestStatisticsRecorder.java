@@ -0,0 +1,82 @@
+package com.hwans.apiserver.common.logging;
+
+import com.hwans.apiserver.support.statistics.RequestStatistics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청별 SQL/Redis 사용량({@link RequestStatistics})을 시작하고, 요청이 끝나면 요청 경로별 메트릭으로 기록한다.
+ * 하나의 요청이 실행한 SQL 문 수가 request-statistics.query-warn-threshold 를 넘으면 N+1 조회를 의심할 수 있도록 경고를 남긴다.
+ * 메트릭의 uri 태그는 경로 변수를 포함하지 않는 요청 매핑 패턴(/api/v1/blog/{blogId}/posts 등)이다.
+ */
+@Component
+@Slf4j
+public class RequestStatisticsRecorder {
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final long queryWarnThreshold;
+
+    public RequestStatisticsRecorder(MeterRegistry meterRegistry,
+                                     @Value("${request-statistics.enabled:true}") boolean enabled,
+                                     @Value("${request-statistics.query-warn-threshold:20}") long queryWarnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.queryWarnThreshold = queryWarnThreshold;
+    }
+
+    /**
+     * 현재 요청 처리 스레드에서 집계를 시작한다.
+     *
+     * @return 시작된 집계, 비활성화된 경우 null
+     */
+    public RequestStatistics start() {
+        return enabled ? RequestStatistics.start() : null;
+    }
+
+    /**
+     * 집계를 끝내고 메트릭으로 기록한다.
+     *
+     * @param request    요청
+     * @param statistics start 에서 반환된 집계
+     */
+    public void finish(HttpServletRequest request, RequestStatistics statistics) {
+        if (statistics == null) {
+            return;
+        }
+        RequestStatistics.end();
+
+        var pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        var uri = pattern == null ? UNKNOWN_URI : pattern.toString();
+        var tags = Tags.of("method", request.getMethod(), "uri", uri);
+        summary("http.server.requests.jdbc.statements", tags, statistics.getJdbcStatements());
+        summary("http.server.requests.jdbc.rows", tags, statistics.getRowsFetched());
+        summary("http.server.requests.hibernate.entity.loads", tags, statistics.getEntityLoads());
+        summary("http.server.requests.hibernate.collection.fetches", tags, statistics.getCollectionFetches());
+        summary("http.server.requests.redis.commands", tags, statistics.getRedisCommands());
+        Timer.builder("http.server.requests.jdbc.time").tags(tags).register(meterRegistry)
+                .record(statistics.getJdbcNanos(), TimeUnit.NANOSECONDS);
+        Timer.builder("http.server.requests.redis.time").tags(tags).register(meterRegistry)
+                .record(statistics.getRedisNanos(), TimeUnit.NANOSECONDS);
+
+        if (statistics.getJdbcStatements() > queryWarnThreshold) {
+            log.warn("{} {} executed {} sql statements (threshold {}), entity loads {}, collection fetches {}",
+                    request.getMethod(), uri, statistics.getJdbcStatements(), queryWarnThreshold,
+                    statistics.getEntityLoads(), statistics.getCollectionFetches());
+        }
+    }
+
+    private void summary(String name, Tags tags, long amount) {
+        DistributionSummary.builder(name).tags(tags).register(meterRegistry).record(amount);
+    }
+}
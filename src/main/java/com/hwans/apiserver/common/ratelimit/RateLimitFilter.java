@@ -0,0 +1,70 @@
+package com.hwans.apiserver.common.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hwans.apiserver.common.errors.errorcode.ErrorCodes;
+import com.hwans.apiserver.common.errors.exception.RestApiException;
+import com.hwans.apiserver.common.web.ClientIp;
+import com.hwans.apiserver.dto.common.ErrorResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 요청 제한 필터
+ * 토큰 검증 등 비용이 드는 처리 전에 거절할 수 있도록 Spring Security 필터 체인보다 먼저 실행되며,
+ * 제한된 요청에는 429 응답과 함께 Retry-After 헤더로 다시 시도할 수 있는 시간(초)을 알려준다.
+ * 규칙은 Spring MVC 가 핸들러를 찾을 때와 같이 정규화된 경로로 비교하여, 끝의 슬래시나 ;jsessionid= 등을 붙여 규칙을 우회할 수 없도록 한다.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        var retryAfter = rateLimiter.tryAcquire(request.getMethod(), lookupPath(request), ClientIp.of(request));
+        if (retryAfter > 0) {
+            var errorCode = ErrorCodes.TooManyRequests.TOO_MANY_REQUESTS;
+            response.setStatus(errorCode.getStatus().value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            objectMapper.writeValue(response.getWriter(), new ErrorResponseDto(new RestApiException(errorCode)));
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * 규칙과 비교할 경로를 구한다.
+     * 세미콜론 파라미터 제거, URL 디코딩, 중복 슬래시 제거를 거친 애플리케이션 내 경로에서
+     * Spring MVC 의 trailing slash 매칭과 같이 끝의 슬래시를 제거한다.
+     *
+     * @param request 요청
+     * @return 정규화된 경로
+     */
+    static String lookupPath(HttpServletRequest request) {
+        var path = URL_PATH_HELPER.getPathWithinApplication(request);
+        var end = path.length();
+        while (end > 1 && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        return path.substring(0, end);
+    }
+}
@@ -0,0 +1,51 @@
+package com.hwans.apiserver.common.ratelimit;
+
+import lombok.Getter;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 요청 제한 규칙
+ * "METHOD /path/pattern=cost" 형식으로 설정하며, 규칙마다 클라이언트 IP 별 토큰 버킷을 따로 가진다.
+ */
+@Getter
+final class RateLimitRule {
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final int index;
+    private final String method;
+    private final String pattern;
+    private final int cost;
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    RateLimitRule(int index, String method, String pattern, int cost) {
+        this.index = index;
+        this.method = method;
+        this.pattern = pattern;
+        this.cost = cost;
+    }
+
+    /**
+     * 설정 문자열로부터 규칙을 생성한다.
+     *
+     * @param index      규칙 순서
+     * @param definition "METHOD /path/pattern=cost" 형식의 설정
+     * @param prefix     모든 경로 앞에 붙는 prefix
+     * @return 규칙
+     */
+    static RateLimitRule parse(int index, String definition, String prefix) {
+        var separator = definition.lastIndexOf('=');
+        var route = separator < 0 ? new String[0] : definition.substring(0, separator).trim().split("\\s+");
+        if (route.length != 2) {
+            throw new IllegalArgumentException("invalid rate limit rule: " + definition);
+        }
+        return new RateLimitRule(index, route[0].toUpperCase(), prefix + route[1],
+                Integer.parseInt(definition.substring(separator + 1).trim()));
+    }
+
+    boolean matches(String method, String uri) {
+        // 메소드 비교는 객체를 생성하지 않으므로 경로 비교보다 먼저 수행한다.
+        return this.method.equals(method) && PATH_MATCHER.match(pattern, uri);
+    }
+}
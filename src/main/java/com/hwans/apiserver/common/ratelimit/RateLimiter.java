@@ -0,0 +1,142 @@
+package com.hwans.apiserver.common.ratelimit;
+
+import com.hwans.apiserver.common.Constants;
+import com.hwans.apiserver.support.redis.BatchingRedisClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 클라이언트 IP 와 경로 단위의 요청 제한기
+ * 경로마다 설정된 비용만큼 토큰 버킷의 토큰을 소비하며, 비용이 큰 경로(비회원 댓글 작성 등)일수록 적은 횟수만 허용된다.
+ * 인스턴스 로컬 버킷에서 먼저 검사하여 토큰이 부족한 요청은 Redis 조회 없이 거절하고,
+ * 통과한 요청만 Redis 의 고정 윈도우 카운터에 비용을 더해 여러 인스턴스에 나뉘어 들어온 요청의 합도 제한한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimiter {
+    static final String SHARED_KEY_PREFIX = "rate-limit:";
+
+    private final BatchingRedisClient redisClient;
+
+    @Value("${rate-limit.enabled:true}")
+    private boolean enabled;
+    @Value("${rate-limit.capacity:60}")
+    private int capacity;
+    @Value("${rate-limit.refill-per-second:1}")
+    private double refillPerSecond;
+    @Value("${rate-limit.shared-window:60000}")
+    private long sharedWindow;
+    @Value("${rate-limit.shared-enabled:true}")
+    private boolean sharedEnabled;
+    @Value("${rate-limit.rules:}")
+    private String[] ruleDefinitions;
+
+    private List<RateLimitRule> rules = List.of();
+    private long sharedLimit;
+    private LongSupplier nanoClock = System::nanoTime;
+
+    @PostConstruct
+    public void initialize() {
+        var parsedRules = new ArrayList<RateLimitRule>();
+        for (var definition : ruleDefinitions) {
+            if (definition.isBlank()) {
+                continue;
+            }
+            var rule = RateLimitRule.parse(parsedRules.size(), definition, Constants.API_PREFIX);
+            if (rule.getCost() <= 0 || rule.getCost() > capacity) {
+                throw new IllegalArgumentException("rate limit cost must be between 1 and " + capacity + ": " + definition);
+            }
+            parsedRules.add(rule);
+        }
+        rules = List.copyOf(parsedRules);
+        // 윈도우 동안 로컬 버킷이 허용할 수 있는 최대량(버킷 크기 + 윈도우 동안 채워지는 토큰)을 전체 인스턴스의 한도로 사용한다.
+        sharedLimit = capacity + (long) (refillPerSecond * sharedWindow / 1000d);
+    }
+
+    /**
+     * 요청을 허용할지 검사하고 허용하는 경우 비용만큼 토큰을 소비한다.
+     *
+     * @param method   요청 메소드
+     * @param uri      요청 경로
+     * @param clientIp 클라이언트 IP
+     * @return 허용하는 경우 0, 거절하는 경우 다시 시도할 수 있을 때까지 남은 시간 (초)
+     */
+    public long tryAcquire(String method, String uri, String clientIp) {
+        if (!enabled) {
+            return 0;
+        }
+        var rule = findRule(method, uri);
+        if (rule == null) {
+            return 0;
+        }
+
+        var now = nanoClock.getAsLong();
+        var bucket = rule.getBuckets().computeIfAbsent(clientIp, x -> new TokenBucket(capacity, refillPerSecond, now));
+        var waitNanos = bucket.tryConsume(rule.getCost(), now);
+        if (waitNanos > 0) {
+            return toRetryAfterSeconds(waitNanos);
+        }
+        return sharedEnabled ? tryAcquireShared(rule, clientIp) : 0;
+    }
+
+    /**
+     * 가득 찬 로컬 버킷을 제거한다.
+     * 요청이 끊긴 클라이언트의 버킷이 계속 쌓이지 않도록 주기적으로 호출한다.
+     *
+     * @return 제거된 버킷 수
+     */
+    public int evictIdleBuckets() {
+        var now = nanoClock.getAsLong();
+        var evicted = 0;
+        for (var rule : rules) {
+            var iterator = rule.getBuckets().values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().isFull(now)) {
+                    iterator.remove();
+                    evicted++;
+                }
+            }
+        }
+        return evicted;
+    }
+
+    private RateLimitRule findRule(String method, String uri) {
+        for (var rule : rules) {
+            if (rule.matches(method, uri)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private long tryAcquireShared(RateLimitRule rule, String clientIp) {
+        var windowMillis = System.currentTimeMillis();
+        var window = windowMillis / sharedWindow;
+        var key = SHARED_KEY_PREFIX + rule.getIndex() + ":" + clientIp + ":" + window;
+        try {
+            var used = BatchingRedisClient.await(redisClient.incrby(key, rule.getCost(), Duration.ofMillis(sharedWindow * 2)));
+            if (used != null && used > sharedLimit) {
+                return toRetryAfterSeconds(TimeUnit.MILLISECONDS.toNanos((window + 1) * sharedWindow - windowMillis));
+            }
+        } catch (DataAccessException e) {
+            // 공유 카운터를 사용할 수 없는 경우 로컬 버킷의 제한만 적용한다.
+            log.warn("shared rate limit counter is unavailable: {}", e.getMessage());
+        }
+        return 0;
+    }
+
+    private static long toRetryAfterSeconds(long nanos) {
+        return Math.max(1L, (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,68 @@
+package com.hwans.apiserver.common.ratelimit;
+
+/**
+ * 인스턴스 로컬 토큰 버킷
+ * 토큰 수를 소수점 없이 다루기 위해 1 토큰을 {@link #SCALE} 단위로 저장하며, 요청마다 객체를 생성하지 않도록 두 개의 long 필드만 사용한다.
+ */
+final class TokenBucket {
+    static final long SCALE = 1_000_000L;
+
+    private final long capacity;
+    private final long refillPerSecond;
+    private long tokens;
+    private long refilledAt;
+
+    /**
+     * @param capacity        버킷 크기 (토큰)
+     * @param refillPerSecond 초당 채워지는 토큰 수
+     * @param now             현재 시각 (나노초)
+     */
+    TokenBucket(long capacity, double refillPerSecond, long now) {
+        this.capacity = capacity * SCALE;
+        this.refillPerSecond = Math.max(1L, (long) (refillPerSecond * SCALE));
+        this.tokens = this.capacity;
+        this.refilledAt = now;
+    }
+
+    /**
+     * 토큰을 소비한다.
+     *
+     * @param cost 소비할 토큰 수
+     * @param now  현재 시각 (나노초)
+     * @return 소비한 경우 0, 토큰이 부족한 경우 다시 시도할 수 있을 때까지 남은 시간 (나노초)
+     */
+    synchronized long tryConsume(long cost, long now) {
+        refill(now);
+        var required = cost * SCALE;
+        if (tokens >= required) {
+            tokens -= required;
+            return 0;
+        }
+        var deficit = Math.min(required, capacity) - tokens;
+        return Math.max(1L, (long) Math.ceil(deficit * 1_000_000_000d / refillPerSecond));
+    }
+
+    /**
+     * 버킷이 가득 찬 상태로 유지되고 있는지 여부를 반환한다.
+     * 가득 찬 버킷은 새로 만든 버킷과 같으므로 제거해도 동작이 달라지지 않는다.
+     *
+     * @param now 현재 시각 (나노초)
+     * @return 가득 찬 상태인지 여부
+     */
+    synchronized boolean isFull(long now) {
+        refill(now);
+        return tokens >= capacity;
+    }
+
+    private void refill(long now) {
+        var elapsed = now - refilledAt;
+        if (elapsed <= 0) {
+            return;
+        }
+        var refilled = (long) (elapsed / 1_000_000_000d * refillPerSecond);
+        if (refilled > 0) {
+            tokens = Math.min(capacity, tokens + refilled);
+            refilledAt = now;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.hwans.apiserver.common.security;
+
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.scrypt.SCryptPasswordEncoder;
+
+import java.util.Map;
+
+/**
+ * 비밀번호 해시 인코더를 생성한다.
+ * 해시 앞에 {bcrypt}, {argon2}, {scrypt} 와 같이 사용한 방식을 붙여 저장하므로, 새 비밀번호에 사용할 방식을 바꾸더라도
+ * 이미 저장된 해시를 그대로 검증할 수 있다. 접두어가 없는 기존 해시는 bcrypt 로 검증한다.
+ */
+public final class PasswordEncoders {
+    public static final String BCRYPT = "bcrypt";
+    public static final String ARGON2 = "argon2";
+    public static final String SCRYPT = "scrypt";
+
+    private PasswordEncoders() {
+    }
+
+    /**
+     * 비밀번호 해시 인코더를 생성한다.
+     *
+     * @param idForEncode    새 비밀번호에 사용할 방식 (bcrypt, argon2, scrypt)
+     * @param bcryptStrength bcrypt 의 cost (4 ~ 31)
+     * @return 비밀번호 해시 인코더
+     */
+    public static PasswordEncoder create(String idForEncode, int bcryptStrength) {
+        var bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        var encoders = Map.<String, PasswordEncoder>of(
+                BCRYPT, bcrypt,
+                ARGON2, new Argon2PasswordEncoder(),
+                SCRYPT, new SCryptPasswordEncoder());
+        if (!encoders.containsKey(idForEncode)) {
+            throw new IllegalArgumentException("unknown password encoder: " + idForEncode);
+        }
+
+        var passwordEncoder = new DelegatingPasswordEncoder(idForEncode, encoders);
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return passwordEncoder;
+    }
+}
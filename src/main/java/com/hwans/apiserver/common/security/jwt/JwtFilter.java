@@ -3,9 +3,9 @@ package com.hwans.apiserver.common.security.jwt;
 import com.hwans.apiserver.common.Constants;
 import com.hwans.apiserver.common.errors.errorcode.ErrorCodes;
 import com.hwans.apiserver.common.errors.exception.RestApiException;
+import com.hwans.apiserver.support.redis.BatchingRedisClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.GenericFilterBean;
@@ -21,7 +21,7 @@ import java.io.IOException;
 @Slf4j
 public class JwtFilter extends GenericFilterBean {
     private final JwtTokenProvider tokenProvider;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final BatchingRedisClient redisClient;
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
@@ -34,7 +34,7 @@ public class JwtFilter extends GenericFilterBean {
             var jwtStatus = tokenProvider.validateAccessToken(jwt);
             if (jwtStatus == JwtStatus.ACCESS) {
                 var authentication = tokenProvider.getAuthentication(jwt);
-                if ("issue".equals(redisTemplate.opsForValue().get(jwt))) {
+                if ("issue".equals(BatchingRedisClient.await(redisClient.get(jwt)))) {
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                     log.trace("set Authentication to security context for '{}', uri: {}", authentication.getName(), requestURI);
                 } else {
@@ -0,0 +1,25 @@
+package com.hwans.apiserver.common.web;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * 요청한 클라이언트의 IP 를 구한다.
+ * X-Forwarded-For 등의 헤더는 클라이언트가 임의로 보낼 수 있으므로 직접 읽지 않고,
+ * server.forward-headers-strategy: native 로 등록되는 Tomcat RemoteIpValve 가 확인한 주소를 사용한다.
+ * RemoteIpValve 는 X-Forwarded-For 를 오른쪽부터 읽으며 신뢰하는 프록시(server.tomcat.remoteip.internal-proxies, 기본값은 사설 대역)를 건너뛰고
+ * 처음 만나는 신뢰하지 않는 주소를 원격 주소로 설정한다.
+ */
+public final class ClientIp {
+    private ClientIp() {
+    }
+
+    /**
+     * 클라이언트 IP 를 반환한다.
+     *
+     * @param request 요청
+     * @return 클라이언트 IP
+     */
+    public static String of(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
+}
@@ -3,6 +3,7 @@ package com.hwans.apiserver.controller;
 import com.hwans.apiserver.common.Constants;
 import com.hwans.apiserver.common.errors.errorcode.ErrorCodes;
 import com.hwans.apiserver.common.errors.exception.RestApiException;
+import com.hwans.apiserver.common.web.ClientIp;
 import com.hwans.apiserver.dto.blog.*;
 import com.hwans.apiserver.dto.common.SliceDto;
 import com.hwans.apiserver.entity.blog.OpenType;
@@ -10,19 +11,30 @@ import com.hwans.apiserver.service.authentication.CurrentAuthenticationDetails;
 import com.hwans.apiserver.service.authentication.CurrentAuthenticationDetailsOrElseNull;
 import com.hwans.apiserver.service.authentication.UserAuthenticationDetails;
 import com.hwans.apiserver.service.blog.BlogService;
-import com.hwans.apiserver.service.notification.NotificationService;
-import com.nimbusds.oauth2.sdk.util.StringUtils;
+import com.hwans.apiserver.service.blog.PostEventService;
+import com.hwans.apiserver.service.cache.ResourceKey;
+import com.hwans.apiserver.service.cache.ResourceVersionService;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import javax.validation.constraints.Pattern;
+import java.time.Duration;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -36,11 +48,16 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class BlogController {
     private final BlogService blogService;
-    private final NotificationService notificationService;
+    private final PostEventService postEventService;
+    private final ResourceVersionService resourceVersionService;
+    @Value("${http-cache.s-maxage:60000}")
+    private long sharedMaxAge;
+    @Value("${http-cache.stale-while-revalidate:300000}")
+    private long staleWhileRevalidate;
 
     @ApiOperation(value = "전체 블로그 게시글 조회", notes = "전체 블로그 게시글을 조회한다.", tags = "블로그")
     @GetMapping(value = "/v1/blog/posts")
-    public SliceDto<SimplePostDto> getAllPosts(@ApiParam(value = "페이징 조회를 위한 CursorId") @RequestParam(required = false) Optional<UUID> cursorId,
+    public SliceDto<SimplePostDto> getAllPosts(@ApiParam(value = "페이징 조회를 위한 CursorId") @RequestParam(required = false) Optional<String> cursorId,
                                                @ApiParam(value = "조회할 최대 페이지 수") @RequestParam(required = false, defaultValue = "20") int size,
                                                @ApiParam(value = "검색어") @RequestParam(required = false) String search,
                                                @ApiParam(value = "정렬") @RequestParam(required = false) @Pattern(regexp = "^createdAt|hits$") String sortBy) {
@@ -74,16 +91,20 @@ public class BlogController {
     public SliceDto<SimplePostDto> getBlogPosts(@CurrentAuthenticationDetailsOrElseNull UserAuthenticationDetails userAuthenticationDetails,
                                                 @ApiParam(value = "블로그 Id") @PathVariable String blogId,
                                                 @ApiParam(value = "특정 태그만 조회 시 해당 태그") @RequestParam(required = false) String tag,
-                                                @ApiParam(value = "페이징 조회를 위한 CursorId") @RequestParam(required = false) Optional<UUID> cursorId,
-                                                @ApiParam(value = "조회할 최대 페이지 수") @RequestParam(required = false, defaultValue = "20") int size) {
+                                                @ApiParam(value = "페이징 조회를 위한 CursorId") @RequestParam(required = false) Optional<String> cursorId,
+                                                @ApiParam(value = "조회할 최대 페이지 수") @RequestParam(required = false, defaultValue = "20") int size,
+                                                ServletWebRequest webRequest) {
         boolean findPublicPostOnly = userAuthenticationDetails == null || !userAuthenticationDetails.getBlogId().equals(blogId);
+        if (checkNotModified(webRequest, userAuthenticationDetails == null, findPublicPostOnly, ResourceKey.blog(blogId), ResourceKey.POSTS)) {
+            return null;
+        }
         return blogService.getBlogPosts(blogId, tag, cursorId, size, findPublicPostOnly);
     }
 
     @ApiOperation(value = "특정 블로그 주인이 좋아요 한 전체 게시글 조회", notes = "특정 블로그 주인이 좋아요 한 전체 게시글을 조회한다.", tags = "블로그")
     @GetMapping(value = "/v1/blog/{blogId}/likes")
     public SliceDto<SimplePostDto> getBloggerLikePosts(@ApiParam(value = "블로그 Id") @PathVariable String blogId,
-                                                       @ApiParam(value = "페이징 조회를 위한 CursorId") @RequestParam(required = false) Optional<UUID> cursorId,
+                                                       @ApiParam(value = "페이징 조회를 위한 CursorId") @RequestParam(required = false) Optional<String> cursorId,
                                                        @ApiParam(value = "조회할 최대 페이지 수") @RequestParam(required = false, defaultValue = "20") int size) {
         return blogService.getBloggerLikePosts(blogId, cursorId, size);
     }
@@ -103,11 +124,25 @@ public class BlogController {
         return post.withHits(post.getHits() + 1);
     }
 
+    @ApiOperation(value = "블로그 게시글 실시간 이벤트 구독", notes = "게시글의 조회수, 좋아요 수, 댓글 수 변경을 SSE 로 구독한다.", tags = "블로그")
+    @GetMapping(value = "/v1/blog/{blogId}/posts/{postUrl}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribePostEvents(@CurrentAuthenticationDetailsOrElseNull UserAuthenticationDetails userAuthenticationDetails,
+                                          @ApiParam(value = "블로그 Id") @PathVariable String blogId,
+                                          @ApiParam(value = "게시글 Url") @PathVariable String postUrl,
+                                          HttpServletRequest request) {
+        boolean findPublicPostOnly = userAuthenticationDetails == null || !userAuthenticationDetails.getBlogId().equals(blogId);
+        return postEventService.subscribe(blogId, postUrl, findPublicPostOnly, ClientIp.of(request));
+    }
+
     @ApiOperation(value = "블로그 정보 조회", notes = "블로그 정보를 조회한다.", tags = "블로그")
     @GetMapping(value = "/v1/blog/{blogId}")
     public BlogDetailsDto getBlogDetails(@CurrentAuthenticationDetailsOrElseNull UserAuthenticationDetails userAuthenticationDetails,
-                                         @ApiParam(value = "블로그 Id") @PathVariable String blogId) {
+                                         @ApiParam(value = "블로그 Id") @PathVariable String blogId,
+                                         ServletWebRequest webRequest) {
         boolean findPublicPostOnly = userAuthenticationDetails == null || !userAuthenticationDetails.getBlogId().equals(blogId);
+        if (checkNotModified(webRequest, userAuthenticationDetails == null, findPublicPostOnly, ResourceKey.blog(blogId))) {
+            return null;
+        }
         return blogService.getBlogDetails(blogId, findPublicPostOnly);
     }
 
@@ -117,9 +152,19 @@ public class BlogController {
                                     @ApiParam(value = "블로그 Id") @PathVariable String blogId,
                                     @ApiParam(value = "게시글 Url") @PathVariable String postUrl,
                                     @ApiParam(value = "댓글", required = true) @RequestBody @Valid final CommentRequestDto commentRequestDto) {
-        var comment = blogService.createComment(userAuthenticationDetails.getId(), blogId, postUrl, commentRequestDto);
-        notificationService.createCommentNotification(comment);
-        return comment;
+        return blogService.createComment(userAuthenticationDetails.getId(), blogId, postUrl, commentRequestDto);
+    }
+
+    @ApiOperation(value = "게시글 댓글 스레드 조회", notes = "게시글의 댓글을 루트 댓글 단위로 대댓글과 함께 조회한다.", tags = "블로그")
+    @GetMapping(value = "/v1/blog/{blogId}/posts/{postUrl}/comments")
+    public SliceDto<CommentThreadDto> getPostComments(@CurrentAuthenticationDetailsOrElseNull UserAuthenticationDetails userAuthenticationDetails,
+                                                      @ApiParam(value = "블로그 Id") @PathVariable String blogId,
+                                                      @ApiParam(value = "게시글 Url") @PathVariable String postUrl,
+                                                      @ApiParam(value = "페이징 조회를 위한 CursorId") @RequestParam(required = false) Optional<String> cursorId,
+                                                      @ApiParam(value = "조회할 최대 루트 댓글 수") @RequestParam(required = false, defaultValue = "20") int size,
+                                                      @ApiParam(value = "루트 댓글마다 포함할 대댓글 수") @RequestParam(required = false, defaultValue = "3") int replySize) {
+        boolean findPublicPostOnly = userAuthenticationDetails == null || !userAuthenticationDetails.getBlogId().equals(blogId);
+        return blogService.getPostComments(blogId, postUrl, cursorId, size, replySize, findPublicPostOnly);
     }
 
     @ApiOperation(value = "비회원 댓글 작성", notes = "게시글에 비회원 댓글을 작성한다.", tags = "블로그")
@@ -127,36 +172,46 @@ public class BlogController {
     public CommentDto createComment(@ApiParam(value = "블로그 Id") @PathVariable String blogId,
                                     @ApiParam(value = "게시글 Url") @PathVariable String postUrl,
                                     @ApiParam(value = "비회원 댓글", required = true) @RequestBody @Valid final GuestCommentRequestDto guestCommentRequestDto) {
-        var comment = blogService.createGuestComment(blogId, postUrl, guestCommentRequestDto);
-        notificationService.createCommentNotification(comment);
-        return comment;
+        return blogService.createGuestComment(blogId, postUrl, guestCommentRequestDto);
     }
 
     @ApiOperation(value = "댓글 수정", notes = "댓글을 수정한다.", tags = "블로그")
     @PutMapping(value = "/v1/blog/comments/{commentId}")
-    public CommentDto modifyComment(@CurrentAuthenticationDetailsOrElseNull UserAuthenticationDetails userAuthenticationDetails,
-                                    @ApiParam(value = "댓글 Id") @PathVariable UUID commentId,
+    @PreAuthorize("@commentPermission.canModify(#commentId, authentication, #password)")
+    public CommentDto modifyComment(@ApiParam(value = "댓글 Id") @PathVariable UUID commentId,
                                     @ApiParam(value = "댓글", required = true) @RequestBody @Valid final CommentRequestDto commentRequestDto,
                                     @ApiParam(value = "비회원 댓글인 경우 비밀번호") @RequestParam(required = false) String password) {
-        checkCommentModifyPermission(commentId, userAuthenticationDetails, password);
         return blogService.modifyComment(commentId, commentRequestDto);
     }
 
     @ApiOperation(value = "댓글 삭제", notes = "댓글을 삭제한다.", tags = "블로그")
     @DeleteMapping(value = "/v1/blog/comments/{commentId}")
-    public void deleteComment(@CurrentAuthenticationDetailsOrElseNull UserAuthenticationDetails userAuthenticationDetails,
-                              @ApiParam(value = "댓글 Id") @PathVariable UUID commentId,
+    @PreAuthorize("@commentPermission.canDelete(#commentId, authentication, #password)")
+    public void deleteComment(@ApiParam(value = "댓글 Id") @PathVariable UUID commentId,
                               @ApiParam(value = "비회원 댓글인 경우 비밀번호") @RequestParam(required = false) String password) {
-        checkCommentDeletePermission(commentId, userAuthenticationDetails, password);
         blogService.deleteComment(commentId);
     }
 
     @ApiOperation(value = "댓글 조회", notes = "댓글을 조회한다.", tags = "블로그")
     @GetMapping(value = "/v1/blog/comments/{commentId}")
-    public CommentDto getComment(@ApiParam(value = "댓글 Id") @PathVariable UUID commentId) {
+    public CommentDto getComment(@ApiParam(value = "댓글 Id") @PathVariable UUID commentId,
+                                 ServletWebRequest webRequest) {
+        // 응답에 댓글이 작성된 게시글이 포함되므로 게시글의 블로그 버전도 ETag 에 포함한다.
+        var blogId = blogService.getCommentBlogId(commentId);
+        if (checkNotModified(webRequest, true, true, ResourceKey.comment(commentId), ResourceKey.blog(blogId), ResourceKey.POSTS)) {
+            return null;
+        }
         return blogService.getComment(commentId);
     }
 
+    @ApiOperation(value = "대댓글 조회", notes = "댓글의 대댓글을 작성 순서대로 조회한다.", tags = "블로그")
+    @GetMapping(value = "/v1/blog/comments/{commentId}/replies")
+    public SliceDto<CommentThreadDto> getCommentReplies(@ApiParam(value = "댓글 Id") @PathVariable UUID commentId,
+                                                        @ApiParam(value = "페이징 조회를 위한 CursorId") @RequestParam(required = false) Optional<String> cursorId,
+                                                        @ApiParam(value = "조회할 최대 대댓글 수") @RequestParam(required = false, defaultValue = "20") int size) {
+        return blogService.getCommentReplies(commentId, cursorId, size);
+    }
+
     @ApiOperation(value = "대댓글 작성", notes = "댓글에 댓글을 작성한다.", tags = "블로그")
     @PostMapping(value = "/v1/blog/comments/{commentId}")
     public CommentDto createCommentToComment(@CurrentAuthenticationDetails UserAuthenticationDetails userAuthenticationDetails,
@@ -228,7 +283,11 @@ public class BlogController {
 
     @ApiOperation(value = "특정 블로그 시리즈 목록 조회", notes = "특정 블로그 시리즈 목록을 조회한다.", tags = "블로그")
     @GetMapping(value = "/v1/blog/{blogId}/series")
-    public List<SimpleSeriesDto> getBlogSeries(@ApiParam(value = "블로그 Id") @PathVariable String blogId) {
+    public List<SimpleSeriesDto> getBlogSeries(@ApiParam(value = "블로그 Id") @PathVariable String blogId,
+                                               ServletWebRequest webRequest) {
+        if (checkNotModified(webRequest, true, true, ResourceKey.blog(blogId))) {
+            return null;
+        }
         return blogService.getBlogSeries(blogId);
     }
 
@@ -236,65 +295,36 @@ public class BlogController {
     @GetMapping(value = "/v1/blog/{blogId}/series/{seriesUrl}/posts")
     public List<SimplePostDto> getBlogSeriesPosts(@CurrentAuthenticationDetailsOrElseNull UserAuthenticationDetails userAuthenticationDetails,
                                                   @ApiParam(value = "블로그 Id") @PathVariable String blogId,
-                                                  @ApiParam(value = "시리즈 Url") @PathVariable String seriesUrl) {
+                                                  @ApiParam(value = "시리즈 Url") @PathVariable String seriesUrl,
+                                                  ServletWebRequest webRequest) {
         boolean findPublicPostOnly = userAuthenticationDetails == null || !userAuthenticationDetails.getBlogId().equals(blogId);
-        return blogService.getBlogSeriesPosts(blogId, seriesUrl, findPublicPostOnly);
-    }
-
-    /**
-     * 전달된 인증정보 또는 비밀번호에 따라 해당 댓글에 대해서 수정 동작이 가능한지 검사한다.
-     * 가능하지 않으면 예외를 발생시킨다.
-     *
-     * @param commentId                 댓글 Id
-     * @param userAuthenticationDetails 인증정보에 따른 사용자 정보
-     * @param password                  댓글 비밀번호
-     */
-    private void checkCommentModifyPermission(UUID commentId, UserAuthenticationDetails userAuthenticationDetails, String password) {
-        var comment = blogService.getComment(commentId);
-
-        // 비회원 댓글인 경우 항상 비밀번호 일치 여부를 검사한다.
-        if (comment.getAuthor().isGuest()) {
-            if (StringUtils.isBlank(password) || !blogService.matchCommentAuthorPassword(commentId, password)) {
-                throw new RestApiException(ErrorCodes.BadRequest.BAD_REQUEST);
-            } else {
-                return;
-            }
-        }
-
-        // 인증정보가 없거나 댓글의 글쓴이가 아니라면 예외를 발생시킨다.
-        var authorId = blogService.getCommentAuthorId(commentId);
-        if (userAuthenticationDetails == null || !userAuthenticationDetails.getId().equals(authorId)) {
-            throw new RestApiException(ErrorCodes.Unauthorized.UNAUTHORIZED);
+        if (checkNotModified(webRequest, userAuthenticationDetails == null, findPublicPostOnly, ResourceKey.blog(blogId), ResourceKey.POSTS)) {
+            return null;
         }
+        return blogService.getBlogSeriesPosts(blogId, seriesUrl, findPublicPostOnly);
     }
 
     /**
-     * 전달된 인증정보 또는 비밀번호에 따라 해당 댓글에 대해서 삭제 동작이 가능한지 검사한다.
-     * 가능하지 않으면 예외를 발생시킨다.
+     * 리소스 버전으로 만든 ETag 와 캐시 헤더를 설정하고, 요청의 If-None-Match 와 일치하는지 검사한다.
+     * DB 를 조회하기 전에 호출하며, true 를 반환하면 304 응답이 설정된 것이므로 본문 없이 null 을 반환한다.
      *
-     * @param commentId                 댓글 Id
-     * @param userAuthenticationDetails 인증정보에 따른 사용자 정보
-     * @param password                  댓글 비밀번호
+     * @param webRequest         요청
+     * @param shared             CDN 등 공유 캐시에 저장 가능한 응답인지 여부
+     * @param findPublicPostOnly 공개 게시글만 포함하는 응답인지 여부
+     * @param keys               응답에 포함된 리소스
+     * @return 리소스가 변경되지 않았는지 여부
      */
-    private void checkCommentDeletePermission(UUID commentId, UserAuthenticationDetails userAuthenticationDetails, String password) {
-        var comment = blogService.getComment(commentId);
-
-        // 댓글의 글쓴이가 나거나 내 게시글이라면 통과시킨다.
-        var authorId = blogService.getCommentAuthorId(commentId);
-        var postAuthorId = blogService.getPostAuthorId(comment.getPost().getId());
-        if (userAuthenticationDetails != null && (userAuthenticationDetails.getId().equals(authorId) || userAuthenticationDetails.getId().equals(postAuthorId))) {
-            return;
-        }
-
-        // 비회원 댓글인 경우 항상 비밀번호 일치 여부를 검사한다.
-        if (comment.getAuthor().isGuest()) {
-            if (StringUtils.isBlank(password) || !blogService.matchCommentAuthorPassword(commentId, password)) {
-                throw new RestApiException(ErrorCodes.BadRequest.BAD_REQUEST);
-            } else {
-                return;
-            }
-        }
-
-        throw new RestApiException(ErrorCodes.Forbidden.FORBIDDEN);
+    private boolean checkNotModified(ServletWebRequest webRequest, boolean shared, boolean findPublicPostOnly, ResourceKey... keys) {
+        var request = webRequest.getRequest();
+        var variant = request.getRequestURI() + "?" + Objects.toString(request.getQueryString(), "") + (findPublicPostOnly ? "|public" : "|all");
+        var cacheControl = shared
+                ? CacheControl.maxAge(Duration.ZERO).cachePublic()
+                .sMaxAge(Duration.ofMillis(sharedMaxAge))
+                .staleWhileRevalidate(Duration.ofMillis(staleWhileRevalidate))
+                : CacheControl.noCache().cachePrivate();
+        var response = Objects.requireNonNull(webRequest.getResponse());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+        return webRequest.checkNotModified(resourceVersionService.getETag(variant, keys));
     }
 }
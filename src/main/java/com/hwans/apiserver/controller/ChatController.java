@@ -34,7 +34,7 @@ public class ChatController {
     @ApiOperation(value = "채팅 메시지 조회", notes = "채팅방 메시지를 조회한다.", tags = "채팅")
     @GetMapping(value = "/chat/rooms/{chatRoomId}/messages")
     public SliceDto<ChatMessageDto> getMessages(@ApiParam(value = "채팅방 Id") @PathVariable UUID chatRoomId,
-                                                @ApiParam(value = "페이징 조회를 위한 CursorId") @RequestParam(required = false) Optional<UUID> cursorId,
+                                                @ApiParam(value = "페이징 조회를 위한 CursorId") @RequestParam(required = false) Optional<String> cursorId,
                                                 @ApiParam(value = "조회할 최대 페이지 수") @RequestParam(required = false, defaultValue = "20") int size) {
         return chatService.getChatMessages(chatRoomId, cursorId, size);
     }
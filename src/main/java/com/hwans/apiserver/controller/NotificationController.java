@@ -28,12 +28,18 @@ public class NotificationController {
     @ApiOperation(value = "알림 목록 조회", notes = "받은 알림 목록을 조회한다.", tags = "알림")
     @GetMapping(value = "/v1/notifications")
     public SliceDto<NotificationDto> getNotifications(@CurrentAuthenticationDetails UserAuthenticationDetails userAuthenticationDetails,
-                                                      @ApiParam(value = "페이징 조회를 위한 CursorId") @RequestParam(required = false) Optional<UUID> cursorId,
+                                                      @ApiParam(value = "페이징 조회를 위한 CursorId") @RequestParam(required = false) Optional<String> cursorId,
                                                       @ApiParam(value = "조회할 최대 페이지 수") @RequestParam(required = false, defaultValue = "20") int size,
                                                       @ApiParam(value = "읽지 않은 알림만 조회할지 여부") @RequestParam(required = false, defaultValue = "false") boolean unreadOnly) {
         return notificationService.getNotifications(userAuthenticationDetails.getId(), cursorId, size, unreadOnly);
     }
 
+    @ApiOperation(value = "읽지 않은 알림 수 조회", notes = "읽지 않은 알림 수를 조회한다.", tags = "알림")
+    @GetMapping(value = "/v1/notifications/unread-count")
+    public long getUnreadNotificationCount(@CurrentAuthenticationDetails UserAuthenticationDetails userAuthenticationDetails) {
+        return notificationService.getUnreadNotificationCount(userAuthenticationDetails.getId());
+    }
+
     @ApiOperation(value = "알림 조회", notes = "알림을 조회한다.", tags = "알림")
     @GetMapping(value = "/v1/notifications/{notificationId}")
     public NotificationDto getNotification(@CurrentAuthenticationDetails UserAuthenticationDetails userAuthenticationDetails,
@@ -0,0 +1,36 @@
+package com.hwans.apiserver.dto.blog;
+
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * 댓글 수정/삭제 권한 검사용 Dto
+ * 댓글 작성자와 게시글 작성자 정보만을 한번의 조회로 가져오기 위한 프로젝션이다.
+ */
+@Getter
+public class CommentPermissionDto {
+    private final UUID commentAuthorId;
+    private final String commentAuthorEmail;
+    private final UUID postAuthorId;
+    private final String postAuthorEmail;
+    private final String guestPasswordHash;
+
+    public CommentPermissionDto(UUID commentAuthorId, String commentAuthorEmail, UUID postAuthorId, String postAuthorEmail,
+                                String guestPasswordHash) {
+        this.commentAuthorId = commentAuthorId;
+        this.commentAuthorEmail = commentAuthorEmail;
+        this.postAuthorId = postAuthorId;
+        this.postAuthorEmail = postAuthorEmail;
+        this.guestPasswordHash = guestPasswordHash;
+    }
+
+    /**
+     * 비회원 댓글인지 여부를 반환한다.
+     *
+     * @return 비회원 댓글인지 여부
+     */
+    public boolean isGuest() {
+        return this.guestPasswordHash != null;
+    }
+}
@@ -55,8 +55,8 @@ public class PostDto implements Serializable {
     LocalDateTime lastModifiedAt;
     @ApiModelProperty(value = "태그")
     List<TagDto> tags;
-    @ApiModelProperty(value = "댓글")
-    List<SimpleCommentDto> comments;
+    @ApiModelProperty(value = "댓글 수")
+    int commentCount;
     @ApiModelProperty(value = "좋아요 수")
     int likeCount;
     @ApiModelProperty(value = "조회수")
@@ -0,0 +1,22 @@
+package com.hwans.apiserver.dto.blog;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * 게시글 실시간 이벤트
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostEventDto implements Serializable {
+    private UUID postId;
+    private PostEventType type;
+    private long value;
+}
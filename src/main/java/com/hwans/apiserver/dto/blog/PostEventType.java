@@ -0,0 +1,29 @@
+package com.hwans.apiserver.dto.blog;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 실시간 이벤트 유형
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PostEventType {
+    /**
+     * 조회수 변경, value: 조회수
+     */
+    HITS_CHANGED("hits"),
+    /**
+     * 좋아요 수 변경, value: 좋아요 수
+     */
+    LIKE_COUNT_CHANGED("likes"),
+    /**
+     * 댓글 수 변경, value: 댓글 수
+     */
+    COMMENT_COUNT_CHANGED("comments");
+
+    /**
+     * SSE 이벤트 이름
+     */
+    private final String eventName;
+}
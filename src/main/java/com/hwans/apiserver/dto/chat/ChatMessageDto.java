@@ -22,6 +22,9 @@ public class ChatMessageDto implements Serializable {
     @ApiModelProperty(value = "메시지 Id", required = true)
     @NotNull
     UUID id;
+    @ApiModelProperty(value = "채팅방 Id", required = true)
+    @NotNull
+    UUID chatRoomId;
     @ApiModelProperty(value = "메시지 내용", required = true, example = "안녕히세요")
     @NotBlank
     String content;
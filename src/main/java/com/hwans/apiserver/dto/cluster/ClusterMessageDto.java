@@ -0,0 +1,35 @@
+package com.hwans.apiserver.dto.cluster;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 서버 노드 사이에 Redis pub/sub 으로 전달되는 메시지
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ClusterMessageDto {
+    /**
+     * 메시지 중복 수신 확인을 위한 이벤트 Id
+     */
+    private UUID eventId;
+    /**
+     * 메시지를 발행한 노드 Id
+     */
+    private String nodeId;
+    private ClusterMessageTopic topic;
+    /**
+     * 메시지 대상 (예: 채팅방 Id)
+     */
+    private String target;
+    /**
+     * 직렬화된 메시지 내용
+     */
+    private String payload;
+}
@@ -0,0 +1,28 @@
+package com.hwans.apiserver.dto.cluster;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 서버 노드 사이에 전달되는 메시지 유형
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ClusterMessageTopic {
+    /**
+     * 노드의 웹소켓 세션 수 변경, payload: 없음
+     */
+    SESSION_COUNT_CHANGED,
+    /**
+     * 채팅방 구독자에게 전달할 웹소켓 메시지, target: 채팅방 Id, payload: 직렬화된 웹소켓 메시지
+     */
+    CHAT_ROOM_MESSAGE,
+    /**
+     * 계정으로 인증된 세션에게 전달할 웹소켓 메시지, target: 계정 Id, payload: 직렬화된 웹소켓 메시지
+     */
+    ACCOUNT_MESSAGE,
+    /**
+     * 게시글 실시간 이벤트 목록, payload: 직렬화된 게시글 이벤트 목록
+     */
+    POST_EVENTS
+}
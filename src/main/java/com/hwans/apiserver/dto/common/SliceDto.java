@@ -7,7 +7,6 @@ import lombok.Getter;
 
 import java.io.Serializable;
 import java.util.List;
-import java.util.UUID;
 
 /**
  * 커서 페이징 조회 응답을 위한 Dto
@@ -29,5 +28,5 @@ public class SliceDto<T extends Serializable> {
     @ApiModelProperty(value = "마지막 페이지 여부")
     boolean last;
     @ApiModelProperty(value = "다음 페이지 조회를 위한 커서 Id")
-    UUID cursorId;
+    String cursorId;
 }
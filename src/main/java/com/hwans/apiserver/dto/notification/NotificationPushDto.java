@@ -0,0 +1,29 @@
+package com.hwans.apiserver.dto.notification;
+
+import com.hwans.apiserver.entity.notification.NotificationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 웹소켓으로 전송되는 새 알림의 요약 정보
+ * 알림의 상세 내용은 알림 조회 API 로 조회한다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class NotificationPushDto implements Serializable {
+    private UUID id;
+    private NotificationType notificationType;
+    private LocalDateTime createdAt;
+    /**
+     * 알림을 받은 계정의 읽지 않은 알림 수
+     */
+    private long unreadCount;
+}
@@ -9,5 +9,33 @@ import lombok.RequiredArgsConstructor;
 @Getter
 @RequiredArgsConstructor
 public enum MessageType {
-    SESSION_COUNT_CHANGED
+    /**
+     * (서버 -> 클라이언트) 접속 중인 세션 수 변경, payload: 세션 수
+     */
+    SESSION_COUNT_CHANGED,
+    /**
+     * (클라이언트 -> 서버) 채팅방 구독, payload: 채팅방 Id
+     * AUTHENTICATE 로 인증된 세션의 계정이 채팅방의 참여자인 경우에만 구독된다.
+     */
+    SUBSCRIBE_CHAT_ROOM,
+    /**
+     * (클라이언트 -> 서버) 채팅방 구독 해제, payload: 채팅방 Id
+     */
+    UNSUBSCRIBE_CHAT_ROOM,
+    /**
+     * (서버 -> 클라이언트) 구독 중인 채팅방의 새 메시지, payload: 채팅 메시지
+     */
+    CHAT_MESSAGE_CREATED,
+    /**
+     * (클라이언트 -> 서버) 세션 인증, payload: 엑세스 토큰
+     */
+    AUTHENTICATE,
+    /**
+     * (서버 -> 클라이언트) 세션 인증 결과, payload: 인증 성공 여부
+     */
+    AUTHENTICATED,
+    /**
+     * (서버 -> 클라이언트) 인증된 계정의 새 알림, payload: 알림 요약 정보
+     */
+    NOTIFICATION_CREATED
 }
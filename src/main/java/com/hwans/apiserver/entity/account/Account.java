@@ -27,13 +27,13 @@ import java.util.stream.Collectors;
 @NoArgsConstructor
 public class Account extends BaseEntity {
     @Id
-    @GeneratedValue(generator = "uuid2")
-    @GenericGenerator(name = "uuid2", strategy = "uuid2")
+    @GeneratedValue(generator = "uuid7")
+    @GenericGenerator(name = "uuid7", strategy = "com.hwans.apiserver.support.id.UuidIdentifierGenerator")
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
     @Column(length = 320, unique = true, nullable = false)
     private String email;
-    @Column(length = 64)
+    @Column(length = 255)
     private String password;
     @Column(length = 32)
     private String name;
@@ -126,22 +126,4 @@ public class Account extends BaseEntity {
     public void setPassword(String encodedPassword) {
         this.password = encodedPassword;
     }
-
-    /**
-     * 이름과 비밀번호로 손님 계정을 생성합니다.
-     *
-     * @param name            이름
-     * @param encodedPassword 비밀번호
-     * @return 계정
-     */
-    public static Account createGuestAccount(String name, String encodedPassword) {
-        var uuid = UUID.randomUUID();
-        var account = new Account();
-        account.id = uuid;
-        account.name = name;
-        account.password = encodedPassword;
-        account.email = uuid.toString();
-        account.blogId = uuid.toString();
-        return account;
-    }
 }
\ No newline at end of file
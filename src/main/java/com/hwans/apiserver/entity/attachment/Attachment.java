@@ -24,8 +24,8 @@ import java.util.UUID;
 @NoArgsConstructor
 public class Attachment extends BaseEntity {
     @Id
-    @GeneratedValue(generator = "uuid2")
-    @GenericGenerator(name = "uuid2", strategy = "uuid2")
+    @GeneratedValue(generator = "uuid7")
+    @GenericGenerator(name = "uuid7", strategy = "com.hwans.apiserver.support.id.UuidIdentifierGenerator")
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
     @Column(length = 255)
@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Formula;
 import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.Where;
 
@@ -16,15 +17,19 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
-@Table(name = "tb_comment")
+@Table(name = "tb_comment",
+        indexes = {
+                @Index(name = "idx_comment_post_parent_created_at", columnList = "post_id, parent_id, deleted, createdAt, id"),
+                @Index(name = "idx_comment_parent_created_at", columnList = "parent_id, deleted, createdAt, id")
+        })
 @Getter
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
 public class Comment extends BaseEntity {
     @Id
-    @GeneratedValue(generator = "uuid2")
-    @GenericGenerator(name = "uuid2", strategy = "uuid2")
+    @GeneratedValue(generator = "uuid7")
+    @GenericGenerator(name = "uuid7", strategy = "com.hwans.apiserver.support.id.UuidIdentifierGenerator")
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
     @Column
@@ -39,16 +44,25 @@ public class Comment extends BaseEntity {
     @OrderBy(value = "createdAt asc")
     @Where(clause = "deleted = false")
     private final Set<Comment> children = new HashSet<>();
+    /**
+     * 삭제되지 않은 대댓글 수 (대댓글을 불러오지 않고 댓글 조회 시 함께 계산한다)
+     */
+    @Formula("(select count(*) from tb_comment r where r.parent_id = id and r.deleted = false)")
+    private int childrenCount;
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "post_id", nullable = false)
     private Post post;
+    /**
+     * 회원 댓글의 작성자 (비회원 댓글인 경우 null)
+     */
     @ManyToOne
-    @JoinColumn(name = "account_id", nullable = false)
+    @JoinColumn(name = "account_id")
     private Account account;
-
-    public int getChildrenCount() {
-        return this.children.size();
-    }
+    /**
+     * 비회원 댓글의 작성자 (회원 댓글인 경우 null)
+     */
+    @Embedded
+    private GuestAuthor guestAuthor;
 
     public UUID getParentId() {
         return Optional.ofNullable(this.parent)
@@ -79,6 +93,19 @@ public class Comment extends BaseEntity {
         return this.account;
     }
 
+    public void setGuestAuthor(GuestAuthor guestAuthor) {
+        this.guestAuthor = guestAuthor;
+    }
+
+    /**
+     * 비회원 댓글인지 여부를 반환한다.
+     *
+     * @return 비회원 댓글인지 여부
+     */
+    public boolean isGuest() {
+        return this.guestAuthor != null;
+    }
+
     public void setParent(Comment comment) {
         this.parent = comment;
     }
@@ -0,0 +1,25 @@
+package com.hwans.apiserver.entity.blog;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+
+/**
+ * 비회원 댓글 작성자
+ * 비회원 댓글마다 손님 계정을 만들지 않고 댓글에 이름과 비밀번호 해시만 저장한다.
+ */
+@Embeddable
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class GuestAuthor {
+    @Column(name = "guest_name", length = 32)
+    private String name;
+    @Column(name = "guest_password", length = 255)
+    private String password;
+}
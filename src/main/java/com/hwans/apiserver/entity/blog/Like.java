@@ -12,15 +12,17 @@ import javax.persistence.*;
 import java.util.UUID;
 
 @Entity
-@Table(name = "tb_like", uniqueConstraints = @UniqueConstraint(columnNames = {"post_id", "account_id"}))
+@Table(name = "tb_like",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"post_id", "account_id"}),
+        indexes = @Index(name = "idx_like_account_created_at", columnList = "account_id, createdAt, id"))
 @Getter
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
 public class Like extends BaseEntity {
     @Id
-    @GeneratedValue(generator = "uuid2")
-    @GenericGenerator(name = "uuid2", strategy = "uuid2")
+    @GeneratedValue(generator = "uuid7")
+    @GenericGenerator(name = "uuid7", strategy = "com.hwans.apiserver.support.id.UuidIdentifierGenerator")
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
     @ManyToOne
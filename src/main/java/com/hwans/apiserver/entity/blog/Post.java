@@ -4,6 +4,7 @@ import com.hwans.apiserver.entity.BaseEntity;
 import com.hwans.apiserver.entity.account.Account;
 import com.hwans.apiserver.entity.attachment.Attachment;
 import lombok.*;
+import org.hibernate.annotations.Formula;
 import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.Where;
 
@@ -12,15 +13,21 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 @Entity
-@Table(name = "tb_post", uniqueConstraints = @UniqueConstraint(columnNames = {"account_id", "postUrl"}))
+@Table(name = "tb_post",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"account_id", "postUrl"}),
+        indexes = {
+                @Index(name = "idx_post_public_created_at", columnList = "deleted, openType, createdAt, id"),
+                @Index(name = "idx_post_public_hits", columnList = "deleted, openType, hits, createdAt, id"),
+                @Index(name = "idx_post_account_created_at", columnList = "account_id, deleted, createdAt, id")
+        })
 @Getter
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
 public class Post extends BaseEntity {
     @Id
-    @GeneratedValue(generator = "uuid2")
-    @GenericGenerator(name = "uuid2", strategy = "uuid2")
+    @GeneratedValue(generator = "uuid7")
+    @GenericGenerator(name = "uuid7", strategy = "com.hwans.apiserver.support.id.UuidIdentifierGenerator")
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
     @Column(length = 320, nullable = false)
@@ -51,6 +58,13 @@ public class Post extends BaseEntity {
     private final List<Comment> comments = new ArrayList<>();
     @OneToMany(mappedBy = "post")
     private final Set<Like> likes = new HashSet<>();
+    /**
+     * 댓글 수와 좋아요 수는 컬렉션을 불러오지 않고 게시글 조회 시 인덱스를 사용하는 서브쿼리로 함께 계산한다.
+     */
+    @Formula("(select count(*) from tb_comment c where c.post_id = id and c.parent_id is null and c.deleted = false)")
+    private int commentCount;
+    @Formula("(select count(*) from tb_like l where l.post_id = id)")
+    private int likeCount;
     @OneToMany(mappedBy = "post", cascade = CascadeType.PERSIST, orphanRemoval = true)
     @Getter(AccessLevel.NONE)
     private final List<PostTag> postTags = new ArrayList<>();
@@ -111,14 +125,6 @@ public class Post extends BaseEntity {
         return postTags.stream().map(PostTag::getTag).collect(Collectors.toList());
     }
 
-    public int getLikeCount() {
-        return this.likes.size();
-    }
-
-    public int getCommentCount() {
-        return this.comments.size();
-    }
-
     public Account getAuthor() {
         return this.account;
     }
@@ -12,7 +12,7 @@ import java.io.Serializable;
 import java.util.UUID;
 
 @Entity
-@Table(name = "tb_post_series")
+@Table(name = "tb_post_series", indexes = @Index(name = "idx_post_series_series_created_at", columnList = "series_id, createdAt"))
 @Getter
 @Builder
 @AllArgsConstructor
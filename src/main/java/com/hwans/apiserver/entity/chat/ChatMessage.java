@@ -12,15 +12,15 @@ import javax.persistence.*;
 import java.util.UUID;
 
 @Entity
-@Table(name = "tb_chat_message")
+@Table(name = "tb_chat_message", indexes = @Index(name = "idx_chat_message_room_created_at", columnList = "chat_room_id, deleted, createdAt, id"))
 @Getter
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
 public class ChatMessage extends BaseEntity {
     @Id
-    @GeneratedValue(generator = "uuid2")
-    @GenericGenerator(name = "uuid2", strategy = "uuid2")
+    @GeneratedValue(generator = "uuid7")
+    @GenericGenerator(name = "uuid7", strategy = "com.hwans.apiserver.support.id.UuidIdentifierGenerator")
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
     @Column(length = 2000, nullable = false)
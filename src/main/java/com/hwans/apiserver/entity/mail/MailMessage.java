@@ -0,0 +1,69 @@
+package com.hwans.apiserver.entity.mail;
+
+import com.hwans.apiserver.entity.BaseEntity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 전송 대기 중인 메일
+ * 본문 대신 템플릿 파라미터를 저장하며, 같은 digestKey 를 가진 메일은 전송 시 하나의 요약 메일로 합쳐진다.
+ */
+@Entity
+@Table(name = "tb_mail_message", indexes = {
+        @Index(name = "idx_mail_message_available_at", columnList = "availableAt, id"),
+        @Index(name = "idx_mail_message_digest_key", columnList = "digestKey, availableAt")})
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MailMessage extends BaseEntity {
+    @Id
+    @GeneratedValue(generator = "uuid7")
+    @GenericGenerator(name = "uuid7", strategy = "com.hwans.apiserver.support.id.UuidIdentifierGenerator")
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID id;
+    @Enumerated(EnumType.STRING)
+    @Column(length = 32, nullable = false)
+    private MailType mailType;
+    @Column(length = 320, nullable = false)
+    private String recipient;
+    @Column
+    @Lob
+    private String parameters;
+    @Column(length = 400)
+    private String digestKey;
+    @Column(nullable = false)
+    private int attempts;
+    @Column(nullable = false)
+    private LocalDateTime availableAt;
+    @Column(length = 1000)
+    private String lastError;
+
+    /**
+     * 전송을 위해 메일을 가져간다.
+     *
+     * @param leaseUntil 임대 만료 시간
+     */
+    public void claim(LocalDateTime leaseUntil) {
+        this.attempts++;
+        this.availableAt = leaseUntil;
+    }
+
+    /**
+     * 전송에 실패한 메일을 다시 시도하도록 예약한다.
+     *
+     * @param retryAt   다시 시도할 시간
+     * @param lastError 실패 사유
+     */
+    public void retry(LocalDateTime retryAt, String lastError) {
+        this.availableAt = retryAt;
+        this.lastError = lastError;
+    }
+}
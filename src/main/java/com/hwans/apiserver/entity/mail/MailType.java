@@ -0,0 +1,10 @@
+package com.hwans.apiserver.entity.mail;
+
+/**
+ * 메일 유형
+ */
+public enum MailType {
+    VERIFY_CODE,
+    RESET_PASSWORD,
+    NEW_COMMENT
+}
@@ -16,15 +16,15 @@ import java.util.UUID;
 @Entity
 @Inheritance(strategy = InheritanceType.JOINED)
 @DiscriminatorColumn(name = "notification_type", discriminatorType = DiscriminatorType.STRING)
-@Table(name = "tb_notification")
+@Table(name = "tb_notification", indexes = @Index(name = "idx_notification_account_created_at", columnList = "account_id, deleted, createdAt, id"))
 @Getter
 @SuperBuilder
 @AllArgsConstructor
 @NoArgsConstructor
 public abstract class Notification extends BaseEntity {
     @Id
-    @GeneratedValue(generator = "uuid2")
-    @GenericGenerator(name = "uuid2", strategy = "uuid2")
+    @GeneratedValue(generator = "uuid7")
+    @GenericGenerator(name = "uuid7", strategy = "com.hwans.apiserver.support.id.UuidIdentifierGenerator")
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
     @Column(nullable = false)
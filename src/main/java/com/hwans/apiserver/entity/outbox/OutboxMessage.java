@@ -0,0 +1,62 @@
+package com.hwans.apiserver.entity.outbox;
+
+import com.hwans.apiserver.entity.BaseEntity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 트랜잭션 아웃박스 메시지
+ * 도메인 이벤트를 발생시킨 트랜잭션 안에서 함께 저장되며, 릴레이가 availableAt 이 지난 메시지를 읽어 핸들러에 전달한다.
+ */
+@Entity
+@Table(name = "tb_outbox_message", indexes = @Index(name = "idx_outbox_message_available_at", columnList = "availableAt, id"))
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class OutboxMessage extends BaseEntity {
+    @Id
+    @GeneratedValue(generator = "uuid7")
+    @GenericGenerator(name = "uuid7", strategy = "com.hwans.apiserver.support.id.UuidIdentifierGenerator")
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID id;
+    @Column(length = 128, nullable = false)
+    private String eventType;
+    @Column(length = 4000, nullable = false)
+    private String payload;
+    @Column(nullable = false)
+    private int attempts;
+    @Column(nullable = false)
+    private LocalDateTime availableAt;
+    @Column(length = 1000)
+    private String lastError;
+
+    /**
+     * 릴레이가 메시지를 가져간다.
+     * 처리 결과가 기록되기 전에 노드가 종료되더라도 임대 시간이 지나면 다른 노드가 다시 가져갈 수 있다.
+     *
+     * @param leaseUntil 임대 만료 시간
+     */
+    public void claim(LocalDateTime leaseUntil) {
+        this.attempts++;
+        this.availableAt = leaseUntil;
+    }
+
+    /**
+     * 처리에 실패한 메시지를 다시 시도하도록 예약한다.
+     *
+     * @param retryAt   다시 시도할 시간
+     * @param lastError 실패 사유
+     */
+    public void retry(LocalDateTime retryAt, String lastError) {
+        this.availableAt = retryAt;
+        this.lastError = lastError;
+    }
+}
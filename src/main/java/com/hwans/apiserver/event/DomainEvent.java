@@ -0,0 +1,9 @@
+package com.hwans.apiserver.event;
+
+/**
+ * 트랜잭션 아웃박스를 통해 전달되는 도메인 이벤트
+ * 아웃박스 테이블에 JSON 으로 저장되므로 엔티티 대신 Id 와 필요한 필드만 가지는 작은 모델이어야 하며,
+ * 클래스 이름이 이벤트 타입으로 저장되므로 처리되지 않은 메시지가 남아있는 동안에는 이름을 변경하지 않아야 한다.
+ */
+public interface DomainEvent {
+}
@@ -0,0 +1,14 @@
+package com.hwans.apiserver.event;
+
+import java.lang.annotation.*;
+
+/**
+ * 트랜잭션 아웃박스 릴레이가 호출하는 도메인 이벤트 핸들러 메서드를 지정한다.
+ * 메서드는 DomainEvent 를 구현한 파라미터 하나만 가져야 하며, 최소 한 번 이상 호출될 수 있으므로 중복 호출에 안전해야 한다.
+ * 핸들러 단위로 처리 완료 여부가 기록되므로 같은 이벤트의 다른 핸들러가 실패하여 재시도되더라도 이미 성공한 핸들러는 다시 호출되지 않는다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface DomainEventListener {
+}
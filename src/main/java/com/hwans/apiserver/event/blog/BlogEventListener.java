@@ -1,8 +1,10 @@
 package com.hwans.apiserver.event.blog;
 
+import com.hwans.apiserver.event.DomainEventListener;
+import com.hwans.apiserver.service.blog.PostEventService;
 import com.hwans.apiserver.service.mail.MailSenderService;
+import com.hwans.apiserver.service.notification.NotificationService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionalEventListener;
 
@@ -10,12 +12,21 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @RequiredArgsConstructor
 public class BlogEventListener {
     private final MailSenderService mailSenderService;
+    private final NotificationService notificationService;
+    private final PostEventService postEventService;
 
-    @Async
-    @TransactionalEventListener
+    @DomainEventListener
     public void onCreateComment(CreateCommentEvent event) {
-        var comment = event.getComment();
-        var email = comment.getPost().getAuthor().getEmail();
-        mailSenderService.sendCreateCommentNotify(email, comment.getId());
+        mailSenderService.sendCreateCommentNotify(event.getPostAuthorEmail(), event.getCommentId());
+    }
+
+    @DomainEventListener
+    public void onCreateCommentNotify(CreateCommentEvent event) {
+        notificationService.createCommentNotification(event.getCommentId());
+    }
+
+    @TransactionalEventListener
+    public void onChangePostStatistics(ChangePostStatisticsEvent event) {
+        postEventService.publish(event.getPostId(), event.getType(), event.getValue());
     }
 }
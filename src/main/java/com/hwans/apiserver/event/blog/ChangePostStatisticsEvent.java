@@ -0,0 +1,24 @@
+package com.hwans.apiserver.event.blog;
+
+import com.hwans.apiserver.dto.blog.PostEventType;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.UUID;
+
+/**
+ * 게시글의 좋아요 수, 댓글 수 등의 통계 변경 이벤트
+ */
+@Getter
+public class ChangePostStatisticsEvent extends ApplicationEvent {
+    private final UUID postId;
+    private final PostEventType type;
+    private final long value;
+
+    public ChangePostStatisticsEvent(Object source, UUID postId, PostEventType type, long value) {
+        super(source);
+        this.postId = postId;
+        this.type = type;
+        this.value = value;
+    }
+}
@@ -1,18 +1,22 @@
 package com.hwans.apiserver.event.blog;
 
-import com.hwans.apiserver.entity.blog.Comment;
+import com.hwans.apiserver.event.DomainEvent;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
-import org.springframework.context.ApplicationEvent;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
 
 /**
  * 댓글 생성 이벤트
  */
 @Getter
-public class CreateCommentEvent extends ApplicationEvent {
-    private final Comment comment;
-
-    public CreateCommentEvent(Object source, Comment comment) {
-        super(source);
-        this.comment = comment;
-    }
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CreateCommentEvent implements DomainEvent {
+    private UUID commentId;
+    private UUID postId;
+    private String postAuthorEmail;
 }
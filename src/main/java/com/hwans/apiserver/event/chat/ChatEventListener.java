@@ -1,23 +1,24 @@
 package com.hwans.apiserver.event.chat;
 
-import com.hwans.apiserver.event.blog.CreateCommentEvent;
+import com.hwans.apiserver.dto.websocket.MessageDto;
+import com.hwans.apiserver.dto.websocket.MessageType;
+import com.hwans.apiserver.event.DomainEventListener;
+import com.hwans.apiserver.service.chat.ChatService;
+import com.hwans.apiserver.service.websocket.WebSocketService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 @Component
 @RequiredArgsConstructor
 public class ChatEventListener {
-    @Async
-    @TransactionalEventListener
-    public void onCreateChatRoom(CreateCommentEvent event) {
-
-    }
-
-    @Async
-    @TransactionalEventListener
-    public void onCreateChatMessage(CreateCommentEvent event) {
+    private final ChatService chatService;
+    private final WebSocketService webSocketService;
 
+    @DomainEventListener
+    public void onCreateChatMessage(CreateChatMessageEvent event) {
+        webSocketService.sendToChatRoom(event.getChatRoomId(), MessageDto.builder()
+                .type(MessageType.CHAT_MESSAGE_CREATED)
+                .payload(chatService.getChatMessage(event.getChatMessageId()))
+                .build());
     }
 }
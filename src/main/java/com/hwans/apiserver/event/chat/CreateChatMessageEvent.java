@@ -1,18 +1,21 @@
 package com.hwans.apiserver.event.chat;
 
-import com.hwans.apiserver.entity.chat.ChatMessage;
+import com.hwans.apiserver.event.DomainEvent;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
-import org.springframework.context.ApplicationEvent;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
 
 /**
  * 채팅 메시지 생성 이벤트
  */
 @Getter
-public class CreateChatMessageEvent extends ApplicationEvent {
-    private final ChatMessage chatMessage;
-
-    public CreateChatMessageEvent(Object source, ChatMessage chatMessage) {
-        super(source);
-        this.chatMessage = chatMessage;
-    }
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CreateChatMessageEvent implements DomainEvent {
+    private UUID chatMessageId;
+    private UUID chatRoomId;
 }
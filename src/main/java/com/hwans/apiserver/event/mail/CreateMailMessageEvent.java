@@ -0,0 +1,13 @@
+package com.hwans.apiserver.event.mail;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 전송 대기 메일 생성 이벤트
+ * 트랜잭션이 커밋된 뒤 폴링 주기를 기다리지 않고 메일 전송을 시작하기 위해 사용된다.
+ */
+public class CreateMailMessageEvent extends ApplicationEvent {
+    public CreateMailMessageEvent(Object source) {
+        super(source);
+    }
+}
@@ -0,0 +1,20 @@
+package com.hwans.apiserver.event.mail;
+
+import com.hwans.apiserver.common.config.AsyncConfig;
+import com.hwans.apiserver.service.mail.MailSenderService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class MailEventListener {
+    private final MailSenderService mailSenderService;
+
+    @Async(AsyncConfig.MAIL_EXECUTOR)
+    @TransactionalEventListener
+    public void onCreateMailMessage(CreateMailMessageEvent event) {
+        mailSenderService.sendQueuedMails();
+    }
+}
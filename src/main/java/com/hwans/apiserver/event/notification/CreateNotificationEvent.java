@@ -0,0 +1,18 @@
+package com.hwans.apiserver.event.notification;
+
+import com.hwans.apiserver.entity.notification.Notification;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 알림 생성 이벤트
+ */
+@Getter
+public class CreateNotificationEvent extends ApplicationEvent {
+    private final Notification notification;
+
+    public CreateNotificationEvent(Object source, Notification notification) {
+        super(source);
+        this.notification = notification;
+    }
+}
@@ -0,0 +1,36 @@
+package com.hwans.apiserver.event.notification;
+
+import com.hwans.apiserver.common.config.AsyncConfig;
+import com.hwans.apiserver.dto.notification.NotificationPushDto;
+import com.hwans.apiserver.dto.websocket.MessageDto;
+import com.hwans.apiserver.dto.websocket.MessageType;
+import com.hwans.apiserver.service.notification.NotificationService;
+import com.hwans.apiserver.service.websocket.WebSocketService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class NotificationEventListener {
+    private final NotificationService notificationService;
+    private final WebSocketService webSocketService;
+
+    @Async(AsyncConfig.NOTIFICATION_EXECUTOR)
+    @TransactionalEventListener
+    public void onCreateNotification(CreateNotificationEvent event) {
+        var notification = event.getNotification();
+        var accountId = notification.getReceiver().getId();
+        var unreadCount = notificationService.increaseUnreadNotificationCount(accountId);
+        webSocketService.sendToAccount(accountId, MessageDto.builder()
+                .type(MessageType.NOTIFICATION_CREATED)
+                .payload(NotificationPushDto.builder()
+                        .id(notification.getId())
+                        .notificationType(notification.getNotificationType())
+                        .createdAt(notification.getCreatedAt())
+                        .unreadCount(unreadCount)
+                        .build())
+                .build());
+    }
+}
@@ -0,0 +1,13 @@
+package com.hwans.apiserver.event.outbox;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 아웃박스 메시지 생성 이벤트
+ * 트랜잭션이 커밋된 뒤 폴링 주기를 기다리지 않고 릴레이를 깨우기 위해 사용된다.
+ */
+public class CreateOutboxMessageEvent extends ApplicationEvent {
+    public CreateOutboxMessageEvent(Object source) {
+        super(source);
+    }
+}
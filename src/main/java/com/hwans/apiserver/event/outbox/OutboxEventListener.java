@@ -0,0 +1,19 @@
+package com.hwans.apiserver.event.outbox;
+
+import com.hwans.apiserver.support.outbox.OutboxRelay;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class OutboxEventListener {
+    private final OutboxRelay outboxRelay;
+
+    @Async
+    @TransactionalEventListener
+    public void onCreateOutboxMessage(CreateOutboxMessageEvent event) {
+        outboxRelay.relay();
+    }
+}
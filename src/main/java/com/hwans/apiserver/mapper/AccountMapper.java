@@ -3,9 +3,9 @@ package com.hwans.apiserver.mapper;
 import com.hwans.apiserver.dto.account.CreateAccountDto;
 import com.hwans.apiserver.dto.account.AccountDto;
 import com.hwans.apiserver.entity.account.Account;
+import com.hwans.apiserver.service.authentication.PasswordHashingService;
 import org.mapstruct.*;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 /**
  * 계정 엔티티와 계정 데이터 모델 사이의 변환을 제공한다.
@@ -13,7 +13,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 @Mapper(componentModel = "spring")
 public abstract class AccountMapper {
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
     @Mapping(target = "password", qualifiedByName = "encodePassword")
     @Mapping(target = "id", ignore = true)
@@ -33,6 +33,6 @@ public abstract class AccountMapper {
         if (password == null)
             return null;
 
-        return passwordEncoder.encode(password);
+        return passwordHashingService.encode(password);
     }
 }
@@ -6,8 +6,11 @@ import com.hwans.apiserver.dto.chat.ChatRoomRequestDto;
 import com.hwans.apiserver.entity.chat.ChatMessage;
 import com.hwans.apiserver.entity.chat.ChatRoom;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public abstract class ChatMessageMapper {
+    @Mapping(target = "chatRoomId", source = "chatRoom.id")
+    @Mapping(target = "owner", source = "author")
     public abstract ChatMessageDto entityToDto(ChatMessage chatMessage);
 }
@@ -1,11 +1,18 @@
 package com.hwans.apiserver.mapper;
 
+import com.hwans.apiserver.dto.account.AccountDto;
+import com.hwans.apiserver.dto.account.SimpleAccountDto;
 import com.hwans.apiserver.dto.blog.CommentDto;
 import com.hwans.apiserver.dto.blog.CommentRequestDto;
+import com.hwans.apiserver.dto.blog.CommentThreadDto;
 import com.hwans.apiserver.dto.blog.GuestCommentRequestDto;
+import com.hwans.apiserver.dto.blog.SimpleCommentDto;
 import com.hwans.apiserver.entity.blog.Comment;
+import com.hwans.apiserver.entity.blog.GuestAuthor;
+import org.mapstruct.AfterMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 
 /**
  * 댓글 엔티티와 댓글 데이터 모델 사이의 변환을 제공한다.
@@ -14,10 +21,17 @@ import org.mapstruct.Mapping;
 public interface CommentMapper {
     CommentDto toDto(Comment comment);
 
+    SimpleCommentDto toSimpleDto(Comment comment);
+
+    @Mapping(target = "replyCount", ignore = true)
+    @Mapping(target = "replies", ignore = true)
+    CommentThreadDto toThreadDto(Comment comment);
+
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "parent", ignore = true)
     @Mapping(target = "post", ignore = true)
     @Mapping(target = "account", ignore = true)
+    @Mapping(target = "guestAuthor", ignore = true)
     @Mapping(target = "deleted", constant = "false")
     Comment toEntity(CommentRequestDto commentRequestDto);
 
@@ -25,6 +39,35 @@ public interface CommentMapper {
     @Mapping(target = "parent", ignore = true)
     @Mapping(target = "post", ignore = true)
     @Mapping(target = "account", ignore = true)
+    @Mapping(target = "guestAuthor", ignore = true)
     @Mapping(target = "deleted", constant = "false")
     Comment toEntity(GuestCommentRequestDto guestCommentRequestDto);
+
+    /**
+     * 비회원 댓글은 작성자 계정이 없으므로 댓글에 저장된 이름으로 작성자 정보를 채운다.
+     */
+    @AfterMapping
+    default void mapGuestAuthor(Comment comment, @MappingTarget CommentDto.CommentDtoBuilder builder) {
+        if (comment.isGuest()) {
+            builder.author(AccountDto.builder().name(comment.getGuestAuthor().getName()).guest(true).build());
+        }
+    }
+
+    @AfterMapping
+    default void mapGuestSimpleAuthor(Comment comment, @MappingTarget SimpleCommentDto.SimpleCommentDtoBuilder builder) {
+        if (comment.isGuest()) {
+            builder.author(toGuestAccountDto(comment.getGuestAuthor()));
+        }
+    }
+
+    @AfterMapping
+    default void mapGuestThreadAuthor(Comment comment, @MappingTarget CommentThreadDto.CommentThreadDtoBuilder builder) {
+        if (comment.isGuest()) {
+            builder.author(toGuestAccountDto(comment.getGuestAuthor()));
+        }
+    }
+
+    private static SimpleAccountDto toGuestAccountDto(GuestAuthor guestAuthor) {
+        return SimpleAccountDto.builder().name(guestAuthor.getName()).guest(true).build();
+    }
 }
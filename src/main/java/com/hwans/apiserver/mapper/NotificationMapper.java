@@ -10,7 +10,7 @@ import org.mapstruct.SubclassMapping;
 /**
  * 알림 엔티티와 알림 데이터 모델 사이의 변환을 제공한다.
  */
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", uses = CommentMapper.class)
 public interface NotificationMapper {
     @SubclassMapping(target = CommentNotificationDto.class, source = CommentNotification.class)
     NotificationDto EntityToNotificationDto(Notification notification);
@@ -18,6 +18,8 @@ public interface PostMapper {
     @Mapping(target = "thumbnailImage", ignore = true)
     @Mapping(target = "hits", ignore = true)
     @Mapping(target = "postSeries", ignore = true)
+    @Mapping(target = "commentCount", ignore = true)
+    @Mapping(target = "likeCount", ignore = true)
     Post PostRequestDtoToEntity(PostRequestDto postRequestDto);
 
     PostDto EntityToPostDto(Post post);
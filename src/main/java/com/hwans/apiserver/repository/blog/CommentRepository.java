@@ -1,9 +1,16 @@
 package com.hwans.apiserver.repository.blog;
 
+import com.hwans.apiserver.dto.blog.CommentPermissionDto;
 import com.hwans.apiserver.entity.blog.Comment;
 import com.hwans.apiserver.entity.blog.Post;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -16,4 +23,105 @@ public interface CommentRepository extends JpaRepository<Comment, UUID> {
      * @return 존재하는 경우 댓글 엔티티
      */
     Optional<Comment> findByIdAndDeletedIsFalse(UUID id);
+
+    /**
+     * 삭제되지 않은 댓글이 작성된 게시글의 블로그 Id 를 조회한다.
+     *
+     * @param commentId 댓글 Id
+     * @return 존재하는 경우 블로그 Id
+     */
+    @Query("select a.blogId from Comment c join c.post p join p.account a where c.id = :commentId and c.deleted = false")
+    Optional<String> findBlogIdById(@Param("commentId") UUID commentId);
+
+    /**
+     * 게시글의 삭제되지 않은 댓글 수를 조회한다. (대댓글 제외, Post.commentCount 와 같은 기준)
+     *
+     * @param postId 게시글 Id
+     * @return 댓글 수
+     */
+    long countByPostIdAndParentIsNullAndDeletedIsFalse(UUID postId);
+
+    /**
+     * 댓글 수정/삭제 권한 검사에 필요한 작성자 정보를 조회한다.
+     * 댓글, 작성자, 게시글 작성자를 기본키로 조인하여 필요한 컬럼만 조회하므로 엔티티를 불러오지 않는다.
+     *
+     * @param id 댓글 Id
+     * @return 존재하는 경우 권한 검사용 Dto
+     */
+    @Query("select new com.hwans.apiserver.dto.blog.CommentPermissionDto(a.id, a.email, pa.id, pa.email, c.guestAuthor.password) " +
+            "from Comment c left join c.account a join c.post p join p.account pa " +
+            "where c.id = :id and c.deleted = false")
+    Optional<CommentPermissionDto> findPermissionById(@Param("id") UUID id);
+
+    /**
+     * 게시글의 삭제되지 않은 루트 댓글을 작성 순서대로 조회한다.
+     *
+     * @param postId   게시글 Id
+     * @param pageable 조회 크기
+     * @return 루트 댓글 목록
+     */
+    @Query("select c from Comment c left join fetch c.account a left join fetch a.profileImage " +
+            "where c.post.id = :postId and c.parent is null and c.deleted = false " +
+            "order by c.createdAt asc, c.id asc")
+    List<Comment> findRootsByPostId(@Param("postId") UUID postId, Pageable pageable);
+
+    /**
+     * 커서 이후에 작성된 게시글의 삭제되지 않은 루트 댓글을 작성 순서대로 조회한다.
+     */
+    @Query("select c from Comment c left join fetch c.account a left join fetch a.profileImage " +
+            "where c.post.id = :postId and c.parent is null and c.deleted = false " +
+            "and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id)) " +
+            "order by c.createdAt asc, c.id asc")
+    List<Comment> findRootsByPostIdAndCursor(@Param("postId") UUID postId,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") UUID id,
+                                             Pageable pageable);
+
+    /**
+     * 댓글의 삭제되지 않은 대댓글을 작성 순서대로 조회한다.
+     *
+     * @param parentId 부모 댓글 Id
+     * @param pageable 조회 크기
+     * @return 대댓글 목록
+     */
+    @Query("select c from Comment c left join fetch c.account a left join fetch a.profileImage " +
+            "where c.parent.id = :parentId and c.deleted = false " +
+            "order by c.createdAt asc, c.id asc")
+    List<Comment> findRepliesByParentId(@Param("parentId") UUID parentId, Pageable pageable);
+
+    /**
+     * 커서 이후에 작성된 댓글의 삭제되지 않은 대댓글을 작성 순서대로 조회한다.
+     */
+    @Query("select c from Comment c left join fetch c.account a left join fetch a.profileImage " +
+            "where c.parent.id = :parentId and c.deleted = false " +
+            "and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id)) " +
+            "order by c.createdAt asc, c.id asc")
+    List<Comment> findRepliesByParentIdAndCursor(@Param("parentId") UUID parentId,
+                                                 @Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("id") UUID id,
+                                                 Pageable pageable);
+
+    /**
+     * 부모 댓글마다 먼저 작성된 삭제되지 않은 대댓글을 최대 replySize 개씩 한번에 조회하여 Id 를 반환한다.
+     * 부모 댓글별 개수 제한은 JPQL 로 표현할 수 없으므로 윈도우 함수를 사용한다.
+     *
+     * @param parentIds 부모 댓글 Id 목록
+     * @param replySize 부모 댓글마다 조회할 대댓글 수
+     * @return 대댓글 Id 목록 (BINARY(16))
+     */
+    @Query(value = "select r.id from (" +
+            "select c.id, row_number() over (partition by c.parent_id order by c.created_at, c.id) as reply_rank " +
+            "from tb_comment c where c.parent_id in (:parentIds) and c.deleted = false" +
+            ") r where r.reply_rank <= :replySize", nativeQuery = true)
+    List<byte[]> findFirstReplyIdsByParentIds(@Param("parentIds") Collection<UUID> parentIds, @Param("replySize") int replySize);
+
+    /**
+     * 댓글을 작성자 정보와 함께 작성 순서대로 조회한다.
+     *
+     * @param ids 댓글 Id 목록
+     * @return 댓글 목록
+     */
+    @Query("select c from Comment c left join fetch c.account a left join fetch a.profileImage " +
+            "where c.id in :ids order by c.createdAt asc, c.id asc")
+    List<Comment> findAllWithAuthorByIdIn(@Param("ids") Collection<UUID> ids);
 }
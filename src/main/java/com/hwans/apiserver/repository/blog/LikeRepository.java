@@ -1,11 +1,10 @@
 package com.hwans.apiserver.repository.blog;
 
 import com.hwans.apiserver.entity.blog.Like;
-import com.hwans.apiserver.entity.blog.Post;
-import io.lettuce.core.dynamic.annotation.Param;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -17,9 +16,11 @@ public interface LikeRepository extends JpaRepository<Like, UUID> {
 
     boolean existsByAccountIdAndPostId(UUID accountId, UUID postId);
 
+    long countByPostId(UUID postId);
+
     @Query("select x from Like as x where x.post.deleted = false and x.account.blogId = :blogId order by x.createdAt desc, x.id desc")
-    List<Like> findAllByOrderByIdDesc(@Param("blogId") String blogId, Pageable page);
+    List<Like> findAllByBlogIdOrderByCreatedAtDesc(@Param("blogId") String blogId, Pageable page);
 
-    @Query("select x from Like as x where x.post.deleted = false and x.account.blogId = :blogId and ((x.createdAt < :createdAt and x.id < :id) or (x.createdAt < :createdAt)) order by x.createdAt desc, x.id desc")
-    List<Like> findByIdLessThanOrderByIdDesc(@Param("blogId") String blogId, @Param("uuid") UUID id, @Param("createdAt") LocalDateTime createdAt, Pageable page);
+    @Query("select x from Like as x where x.post.deleted = false and x.account.blogId = :blogId and (x.createdAt < :createdAt or (x.createdAt = :createdAt and x.id < :id)) order by x.createdAt desc, x.id desc")
+    List<Like> findByBlogIdAndCursorLessThanOrderByCreatedAtDesc(@Param("blogId") String blogId, @Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Pageable page);
 }
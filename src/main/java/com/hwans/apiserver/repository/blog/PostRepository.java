@@ -1,13 +1,14 @@
 package com.hwans.apiserver.repository.blog;
 
 import com.hwans.apiserver.entity.blog.Post;
-import io.lettuce.core.dynamic.annotation.Param;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -25,17 +26,17 @@ public interface PostRepository extends JpaRepository<Post, UUID> {
     @Query("select x from Post as x where x.deleted = false and x.openType = 'PUBLIC' order by x.hits desc, x.createdAt desc, x.id desc")
     List<Post> findAllByOrderByHitsDesc(Pageable page);
 
-    @Query("select x from Post as x where x.deleted = false and x.openType = 'PUBLIC' and ((x.createdAt < :createdAt and x.id < :id) or (x.createdAt < :createdAt)) order by x.createdAt desc, x.id desc")
-    List<Post> findByCursorLessThanOrderByCreatedAtDesc(@Param("id") UUID id, @Param("createdAt") LocalDateTime createdAt, Pageable page);
+    @Query("select x from Post as x where x.deleted = false and x.openType = 'PUBLIC' and (x.createdAt < :createdAt or (x.createdAt = :createdAt and x.id < :id)) order by x.createdAt desc, x.id desc")
+    List<Post> findByCursorLessThanOrderByCreatedAtDesc(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Pageable page);
 
-    @Query("select x from Post as x where x.deleted = false and x.openType = 'PUBLIC' and ((x.hits < :hits) or (x.hits = :hits and x.createdAt < :createdAt) or (x.hits = :hits and x.createdAt = :createdAt and x.id < :id)) order by x.hits desc, x.createdAt desc, x.id desc")
-    List<Post> findByCursorLessThanOrderByHitsDesc(@Param("id") UUID id, @Param("createdAt") LocalDateTime createdAt, @Param("hits") Integer hits, Pageable page);
+    @Query("select x from Post as x where x.deleted = false and x.openType = 'PUBLIC' and (x.hits < :hits or (x.hits = :hits and (x.createdAt < :createdAt or (x.createdAt = :createdAt and x.id < :id)))) order by x.hits desc, x.createdAt desc, x.id desc")
+    List<Post> findByCursorLessThanOrderByHitsDesc(@Param("hits") Integer hits, @Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Pageable page);
 
     @Query("select distinct post from Post as post left outer join post.postTags as postTag left outer join postTag.tag as tag where post.deleted = false and (:findPublicPostOnly is false or post.openType = 'PUBLIC') and post.account.blogId = :blogId and (:tag is null or tag.name = :tag) order by post.createdAt desc, post.id desc")
-    List<Post> findAllByOrderByIdDesc(@Param("blogId") String blogId, @Param("tag") String tag, @Param("findPublicPostOnly") boolean findPublicPostOnly, Pageable page);
+    List<Post> findAllByBlogIdOrderByCreatedAtDesc(@Param("blogId") String blogId, @Param("tag") String tag, @Param("findPublicPostOnly") boolean findPublicPostOnly, Pageable page);
 
-    @Query("select distinct post from Post as post left outer join post.postTags as postTag left outer join postTag.tag as tag where post.deleted = false and (:findPublicPostOnly is false or post.openType = 'PUBLIC') and post.account.blogId = :blogId and (:tag is null or tag.name = :tag) and ((post.createdAt < :createdAt and post.id < :id) or (post.createdAt < :createdAt)) order by post.createdAt desc, post.id desc")
-    List<Post> findByIdLessThanOrderByIdDesc(@Param("blogId") String blogId, @Param("tag") String tag, @Param("uuid") UUID id, @Param("createdAt") LocalDateTime createdAt, @Param("findPublicPostOnly") boolean findPublicPostOnly, Pageable page);
+    @Query("select distinct post from Post as post left outer join post.postTags as postTag left outer join postTag.tag as tag where post.deleted = false and (:findPublicPostOnly is false or post.openType = 'PUBLIC') and post.account.blogId = :blogId and (:tag is null or tag.name = :tag) and (post.createdAt < :createdAt or (post.createdAt = :createdAt and post.id < :id)) order by post.createdAt desc, post.id desc")
+    List<Post> findByBlogIdAndCursorLessThanOrderByCreatedAtDesc(@Param("blogId") String blogId, @Param("tag") String tag, @Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, @Param("findPublicPostOnly") boolean findPublicPostOnly, Pageable page);
 
     @Query("select x from Post as x where x.deleted = false and x.openType = 'PUBLIC' and (x.title like concat('%',:search,'%') or x.content like concat('%',:search,'%')) order by x.createdAt desc, x.id desc")
     List<Post> findAllByOrderByCreatedAtDesc(@Param("search") String search, Pageable page);
@@ -43,11 +44,11 @@ public interface PostRepository extends JpaRepository<Post, UUID> {
     @Query("select x from Post as x where x.deleted = false and x.openType = 'PUBLIC' and (x.title like concat('%',:search,'%') or x.content like concat('%',:search,'%')) order by x.hits desc, x.createdAt desc, x.id desc")
     List<Post> findAllByOrderByHitsDesc(@Param("search") String search, Pageable page);
 
-    @Query("select x from Post as x where x.deleted = false and x.openType = 'PUBLIC' and ((x.createdAt < :createdAt and x.id < :id) or (x.createdAt < :createdAt)) and (x.title like concat('%',:search,'%') or x.content like concat('%',:search,'%')) order by x.createdAt desc, x.id desc")
-    List<Post> findByCursorLessThanOrderByCreatedAtDesc(@Param("id") UUID id, @Param("createdAt") LocalDateTime createdAt, @Param("search") String search, Pageable page);
+    @Query("select x from Post as x where x.deleted = false and x.openType = 'PUBLIC' and (x.createdAt < :createdAt or (x.createdAt = :createdAt and x.id < :id)) and (x.title like concat('%',:search,'%') or x.content like concat('%',:search,'%')) order by x.createdAt desc, x.id desc")
+    List<Post> findByCursorLessThanOrderByCreatedAtDesc(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, @Param("search") String search, Pageable page);
 
-    @Query("select x from Post as x where x.deleted = false and x.openType = 'PUBLIC' and ((x.hits < :hits) or (x.hits = :hits and x.createdAt < :createdAt) or (x.hits = :hits and x.createdAt = :createdAt and x.id < :id)) and (x.title like concat('%',:search,'%') or x.content like concat('%',:search,'%')) order by x.hits desc, x.createdAt desc, x.id desc")
-    List<Post> findByCursorLessThanOrderByHitsDesc(@Param("id") UUID id, @Param("createdAt") LocalDateTime createdAt, @Param("hits") Integer hits, @Param("search") String search, Pageable page);
+    @Query("select x from Post as x where x.deleted = false and x.openType = 'PUBLIC' and (x.hits < :hits or (x.hits = :hits and (x.createdAt < :createdAt or (x.createdAt = :createdAt and x.id < :id)))) and (x.title like concat('%',:search,'%') or x.content like concat('%',:search,'%')) order by x.hits desc, x.createdAt desc, x.id desc")
+    List<Post> findByCursorLessThanOrderByHitsDesc(@Param("hits") Integer hits, @Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, @Param("search") String search, Pageable page);
 
     @Query("select count(*) from Post as x where x.deleted = false and (:findPublicPostOnly is false or x.openType = 'PUBLIC') and x.account.blogId = :blogId")
     int getCountByBlogId(@Param("blogId") String blogId, @Param("findPublicPostOnly") boolean findPublicPostOnly);
@@ -58,6 +59,9 @@ public interface PostRepository extends JpaRepository<Post, UUID> {
     @Query("select post from Post as post where post.deleted = false and (:findPublicPostOnly is false or post.openType = 'PUBLIC') and post.account.blogId = :blogId and (post.postSeries.series.seriesUrl = :seriesUrl) order by post.postSeries.createdAt")
     List<Post> findByBlogIdAndSeriesUrl(@Param("blogId") String blogId, @Param("seriesUrl") String seriesUrl, @Param("findPublicPostOnly") boolean findPublicPostOnly);
 
+    @Query("select distinct x.account.blogId from Post as x where x.id in :ids")
+    List<String> findBlogIdsByIdIn(@Param("ids") Collection<UUID> ids);
+
     @Modifying
     @Query("update Post x set x.hits = :hits where x.id = :id")
     Integer updateHits(@Param("id") UUID id, @Param("hits") Integer hits);
@@ -2,8 +2,16 @@ package com.hwans.apiserver.repository.chat;
 
 import com.hwans.apiserver.entity.chat.ChatRoom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.UUID;
 
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, UUID> {
+    /**
+     * 계정이 삭제되지 않은 채팅방의 참여자(채팅방 주인 또는 메시지를 작성한 계정)인지 조회한다.
+     */
+    @Query("select case when count(x) > 0 then true else false end from ChatRoom as x where x.id = :chatRoomId and x.deleted = false " +
+            "and (x.ownerAccount.id = :accountId or exists (select m.id from ChatMessage as m where m.chatRoom = x and m.author.id = :accountId and m.deleted = false))")
+    boolean existsMember(@Param("chatRoomId") UUID chatRoomId, @Param("accountId") UUID accountId);
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.hwans.apiserver.repository.mail;
+
+import com.hwans.apiserver.entity.mail.MailMessage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface MailMessageRepository extends JpaRepository<MailMessage, UUID> {
+    /**
+     * 전송 가능한 메일을 잠그고 조회한다.
+     * lock.timeout 힌트 -2 는 Hibernate 의 LockOptions.SKIP_LOCKED 로, 다른 노드가 잠근 행은 기다리지 않고 건너뛴다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("select x from MailMessage as x where x.availableAt <= :now order by x.availableAt asc, x.id asc")
+    List<MailMessage> findAvailableForUpdateSkipLocked(@Param("now") LocalDateTime now, Pageable page);
+
+    /**
+     * 아직 전송을 시도하지 않은 같은 요약 키를 가진 메일의 전송 예정 시간을 조회한다.
+     */
+    @Query("select min(x.availableAt) from MailMessage as x where x.digestKey = :digestKey and x.attempts = 0")
+    Optional<LocalDateTime> findPendingDigestAvailableAt(@Param("digestKey") String digestKey);
+}
@@ -1,11 +1,12 @@
 package com.hwans.apiserver.repository.notification;
 
+import com.hwans.apiserver.entity.notification.CommentNotification;
 import com.hwans.apiserver.entity.notification.Notification;
-import io.lettuce.core.dynamic.annotation.Param;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -22,13 +23,24 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
      */
     @Modifying
     @Query("update Notification x set x.deleted = True where x.account.id = :accountId and x.deleted != True")
-    int setDeletedAllByAccountId(@Param("uuid") UUID accountId);
+    int setDeletedAllByAccountId(@Param("accountId") UUID accountId);
 
     Optional<Notification> findByAccountIdAndId(UUID accountId, UUID id);
 
-    @Query("select x from Notification as x where x.account.id = :accountId and x.deleted = false and (:findUnreadNotificationOnly is false or x.readAt is not null) order by x.createdAt desc, x.id desc")
-    List<Notification> findAllByOrderByIdDesc(@Param("uuid") UUID accountId, boolean findUnreadNotificationOnly, Pageable page);
+    /**
+     * 댓글에 대해 생성된 알림을 조회합니다.
+     *
+     * @param commentId 관련 댓글 Id
+     * @return 생성된 알림
+     */
+    @Query("select x from CommentNotification as x where x.comment.id = :commentId")
+    Optional<CommentNotification> findCommentNotificationByCommentId(@Param("commentId") UUID commentId);
+
+    long countByAccountIdAndDeletedIsFalseAndReadAtIsNull(UUID accountId);
+
+    @Query("select x from Notification as x where x.account.id = :accountId and x.deleted = false and (:findUnreadNotificationOnly is false or x.readAt is null) order by x.createdAt desc, x.id desc")
+    List<Notification> findAllByAccountIdOrderByCreatedAtDesc(@Param("accountId") UUID accountId, @Param("findUnreadNotificationOnly") boolean findUnreadNotificationOnly, Pageable page);
 
-    @Query("select x from Notification as x where x.account.id = :accountId and x.deleted = false and (:findUnreadNotificationOnly is false or x.readAt is not null) and ((x.createdAt < :createdAt and x.id < :id) or (x.createdAt < :createdAt)) order by x.createdAt desc, x.id desc")
-    List<Notification> findByIdLessThanOrderByIdDesc(@Param("uuid") UUID accountId, @Param("uuid") UUID id, @Param("createdAt") LocalDateTime createdAt, boolean findUnreadNotificationOnly, Pageable page);
+    @Query("select x from Notification as x where x.account.id = :accountId and x.deleted = false and (:findUnreadNotificationOnly is false or x.readAt is null) and (x.createdAt < :createdAt or (x.createdAt = :createdAt and x.id < :id)) order by x.createdAt desc, x.id desc")
+    List<Notification> findByAccountIdAndCursorLessThanOrderByCreatedAtDesc(@Param("accountId") UUID accountId, @Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, @Param("findUnreadNotificationOnly") boolean findUnreadNotificationOnly, Pageable page);
 }
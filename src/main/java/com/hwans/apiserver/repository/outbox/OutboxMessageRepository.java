@@ -0,0 +1,26 @@
+package com.hwans.apiserver.repository.outbox;
+
+import com.hwans.apiserver.entity.outbox.OutboxMessage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, UUID> {
+    /**
+     * 처리 가능한 메시지를 잠그고 조회한다.
+     * lock.timeout 힌트 -2 는 Hibernate 의 LockOptions.SKIP_LOCKED 로, 다른 노드가 잠근 행은 기다리지 않고 건너뛴다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("select x from OutboxMessage as x where x.availableAt <= :now order by x.availableAt asc, x.id asc")
+    List<OutboxMessage> findAvailableForUpdateSkipLocked(@Param("now") LocalDateTime now, Pageable page);
+}
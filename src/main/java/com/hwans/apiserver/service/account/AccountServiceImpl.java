@@ -13,11 +13,13 @@ import com.hwans.apiserver.mapper.AccountMapper;
 import com.hwans.apiserver.repository.account.AccountRepository;
 import com.hwans.apiserver.repository.attachment.AttachmentRepository;
 import com.hwans.apiserver.repository.role.RoleRepository;
+import com.hwans.apiserver.service.authentication.PasswordHashingService;
+import com.hwans.apiserver.service.cache.ResourceKey;
+import com.hwans.apiserver.service.cache.ResourceVersionService;
+import com.hwans.apiserver.support.redis.BatchingRedisClient;
 import com.nimbusds.oauth2.sdk.util.StringUtils;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,9 +38,10 @@ public class AccountServiceImpl implements AccountService {
     private final RoleRepository roleRepository;
     private final AttachmentRepository attachmentRepository;
     private final AccountMapper accountMapper;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final BatchingRedisClient redisClient;
     private final JwtTokenProvider jwtTokenProvider;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final ResourceVersionService resourceVersionService;
 
     /**
      * 계정을 생성한다.
@@ -88,7 +91,7 @@ public class AccountServiceImpl implements AccountService {
 
         if (needVerifyCode) {
             final var emailVerifyCodeKey = getEmailVerifyCodeKey(createAccountDto.getEmail());
-            String verifyCode = redisTemplate.opsForValue().get(emailVerifyCodeKey);
+            String verifyCode = BatchingRedisClient.await(redisClient.get(emailVerifyCodeKey));
             if (StringUtils.isBlank(verifyCode) || verifyCode.equals(createAccountDto.getEmailVerifyCode()) == false) {
                 throw new RestApiException(ErrorCodes.BadRequest.INVALID_EMAIL_VERIFY_CODE);
             }
@@ -115,6 +118,7 @@ public class AccountServiceImpl implements AccountService {
                 .findByIdAndDeletedIsFalse(accountId)
                 .orElseThrow(() -> new RestApiException(ErrorCodes.NotFound.NOT_FOUND));
         foundAccount.update(modifyAccountDto);
+        bumpAccountVersion(foundAccount.getBlogId());
         return accountMapper.toDto(foundAccount);
     }
 
@@ -131,6 +135,7 @@ public class AccountServiceImpl implements AccountService {
                 .orElseThrow(() -> new RestApiException(ErrorCodes.NotFound.NOT_FOUND));
         attachmentRepository.deleteAllByAccountId(accountId);
         accountRepository.delete(foundAccount);
+        bumpAccountVersion(foundAccount.getBlogId());
     }
 
     /**
@@ -146,7 +151,7 @@ public class AccountServiceImpl implements AccountService {
                 .orElseThrow(() -> new RestApiException(ErrorCodes.BadRequest.BAD_REQUEST));
 
         final var passwordResetTokenKey = getPasswordResetTokenKey(email);
-        String passwordResetToken = redisTemplate.opsForValue().getAndDelete(passwordResetTokenKey);
+        String passwordResetToken = BatchingRedisClient.await(redisClient.getDel(passwordResetTokenKey));
         if (StringUtils.isBlank(passwordResetToken) || passwordResetToken.equals(resetPasswordDto.getResetPasswordToken()) == false) {
             throw new RestApiException(ErrorCodes.BadRequest.INVALID_EMAIL_VERIFY_CODE);
         }
@@ -154,7 +159,7 @@ public class AccountServiceImpl implements AccountService {
         var foundAccount = accountRepository
                 .findByEmailAndDeletedIsFalse(email)
                 .orElseThrow(() -> new RestApiException(ErrorCodes.NotFound.NOT_FOUND));
-        foundAccount.setPassword(passwordEncoder.encode(resetPasswordDto.getNewPassword()));
+        foundAccount.setPassword(passwordHashingService.encode(resetPasswordDto.getNewPassword()));
     }
 
     /**
@@ -171,9 +176,9 @@ public class AccountServiceImpl implements AccountService {
         }
 
         final var emailVerifyCodeKey = getEmailVerifyCodeKey(email);
-        if (redisTemplate.hasKey(emailVerifyCodeKey) == false) {
-            var verifyCode = createNewVerifyCode();
-            redisTemplate.opsForValue().set(emailVerifyCodeKey, verifyCode, Duration.ofMillis(Constants.EMAIL_VERIFY_CODE_EXPIRES_TIME));
+        var verifyCode = createNewVerifyCode();
+        // 확인과 저장을 하나의 명령(SET NX)으로 처리하여 동시 요청에도 하나의 코드만 저장되도록 한다.
+        if (BatchingRedisClient.await(redisClient.setIfAbsent(emailVerifyCodeKey, verifyCode, Duration.ofMillis(Constants.EMAIL_VERIFY_CODE_EXPIRES_TIME)))) {
             return verifyCode;
         } else {
             throw new RestApiException(ErrorCodes.Conflict.ALREADY_EXISTS_VERIFY_CODE);
@@ -194,9 +199,8 @@ public class AccountServiceImpl implements AccountService {
         }
 
         final var passwordResetTokenKey = getPasswordResetTokenKey(email);
-        if (redisTemplate.hasKey(passwordResetTokenKey) == false) {
-            var passwordResetToken = jwtTokenProvider.createPasswordResetToken(email);
-            redisTemplate.opsForValue().set(passwordResetTokenKey, passwordResetToken, Duration.ofMillis(Constants.PASSWORD_RESET_TOKEN_EXPIRES_TIME));
+        var passwordResetToken = jwtTokenProvider.createPasswordResetToken(email);
+        if (BatchingRedisClient.await(redisClient.setIfAbsent(passwordResetTokenKey, passwordResetToken, Duration.ofMillis(Constants.PASSWORD_RESET_TOKEN_EXPIRES_TIME)))) {
             return passwordResetToken;
         } else {
             throw new RestApiException(ErrorCodes.Conflict.ALREADY_EXISTS_PASSWORD_RESET_URL);
@@ -220,6 +224,7 @@ public class AccountServiceImpl implements AccountService {
                 .findById(fileId)
                 .orElseThrow(() -> new RestApiException(ErrorCodes.NotFound.NOT_FOUND));
         foundAccount.setProfileImage(attachment);
+        bumpAccountVersion(foundAccount.getBlogId());
         return accountMapper.toDto(foundAccount);
     }
 
@@ -291,4 +296,11 @@ public class AccountServiceImpl implements AccountService {
     private String getPasswordResetTokenKey(String email) {
         return "password-reset-token: " + email;
     }
+
+    /**
+     * 계정 정보는 블로그 정보와 게시글, 댓글의 작성자로 응답에 포함되므로 관련된 리소스의 버전을 변경한다.
+     */
+    private void bumpAccountVersion(String blogId) {
+        resourceVersionService.bump(ResourceKey.blog(blogId), ResourceKey.POSTS);
+    }
 }
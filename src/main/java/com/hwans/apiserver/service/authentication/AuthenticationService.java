@@ -3,6 +3,9 @@ package com.hwans.apiserver.service.authentication;
 import com.hwans.apiserver.dto.authentication.AuthenticationInfoDto;
 import com.hwans.apiserver.dto.authentication.TokenDto;
 
+import java.util.Optional;
+import java.util.UUID;
+
 public interface AuthenticationService {
     /**
      * 사용자 인증 토큰을 발급합니다.
@@ -27,4 +30,12 @@ public interface AuthenticationService {
      * @param accessToken 엑세스 토큰
      */
     void redeemToken(String accessToken);
+
+    /**
+     * 엑세스 토큰을 검증하고 토큰을 발급받은 계정의 Id 를 조회합니다.
+     *
+     * @param accessToken 엑세스 토큰
+     * @return 유효한 토큰인 경우 계정 Id
+     */
+    Optional<UUID> authenticateAccessToken(String accessToken);
 }
@@ -9,21 +9,22 @@ import com.hwans.apiserver.dto.authentication.AuthenticationInfoDto;
 import com.hwans.apiserver.dto.authentication.TokenDto;
 import com.hwans.apiserver.entity.account.Account;
 import com.hwans.apiserver.repository.account.AccountRepository;
+import com.hwans.apiserver.support.redis.BatchingRedisClient;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -33,9 +34,8 @@ import java.util.stream.Collectors;
 public class AuthenticationServiceImpl implements AuthenticationService, UserDetailsService {
     private final AccountRepository accountRepository;
     private final JwtTokenProvider tokenProvider;
-    private final AuthenticationManagerBuilder authenticationManagerBuilder;
-    private final PasswordEncoder passwordEncoder;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final PasswordHashingService passwordHashingService;
+    private final BatchingRedisClient redisClient;
 
     private static final String NO_ACCOUNT_ID = "계정 Id 정보를 찾을 수 없습니다."; // TODO: 보안적으로 문제가 될 수 있는 정보 노출이므로 예외 메시지 수정 필요
     private static final String NO_PASSWORD_MATCH = "계정 비밀번호가 잘못되었습니다."; // TODO: 보안적으로 문제가 될 수 있는 정보 노출이므로 예외 메시지 수정 필요
@@ -55,15 +55,19 @@ public class AuthenticationServiceImpl implements AuthenticationService, UserDet
         if (foundAccount.isGuest()) {
             throw new RestApiException(ErrorCodes.BadRequest.BAD_REQUEST);
         }
-        if (!passwordEncoder.matches(authenticationInfoDto.getPassword(), foundAccount.getPassword())) {
+        // 비밀번호는 한번만 검증하고, AuthenticationManager 를 거쳐 다시 검증하지 않도록 인증정보를 직접 생성한다.
+        var verification = passwordHashingService.verify(authenticationInfoDto.getPassword(), foundAccount.getPassword());
+        if (!verification.matched()) {
             throw new RestApiException(ErrorCodes.BadRequest.BAD_REQUEST, NO_PASSWORD_MATCH);
         }
-        var authenticationToken = new UsernamePasswordAuthenticationToken(authenticationInfoDto.getEmail(), authenticationInfoDto.getPassword());
-        var authentication = authenticationManagerBuilder.getObject().authenticate(authenticationToken);
+        // 해시 방식이나 강도가 변경된 경우 다시 해시된 비밀번호로 교체한다.
+        verification.getUpgradedPassword().ifPresent(foundAccount::setPassword);
+        var userAuthenticationDetails = createAuthenticationDetails(foundAccount);
+        var authentication = new UsernamePasswordAuthenticationToken(userAuthenticationDetails, null, userAuthenticationDetails.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(authentication);
         var token = tokenProvider.createToken(authentication);
         accountRepository.save(foundAccount.withRefreshToken(token.getRefreshToken()));
-        redisTemplate.opsForValue().set(token.getAccessToken(), "issue", Duration.ofMillis(Constants.ACCESS_TOKEN_EXPIRES_TIME));
+        BatchingRedisClient.await(redisClient.set(token.getAccessToken(), "issue", Duration.ofMillis(Constants.ACCESS_TOKEN_EXPIRES_TIME)));
 
         return token;
     }
@@ -89,7 +93,7 @@ public class AuthenticationServiceImpl implements AuthenticationService, UserDet
                     accountRepository.save(foundAccount);
                 });
 
-        redisTemplate.opsForValue().set(accessToken, "redeem", Duration.ofMillis(Constants.ACCESS_TOKEN_EXPIRES_TIME));
+        BatchingRedisClient.await(redisClient.set(accessToken, "redeem", Duration.ofMillis(Constants.ACCESS_TOKEN_EXPIRES_TIME)));
     }
 
     /**
@@ -118,14 +122,39 @@ public class AuthenticationServiceImpl implements AuthenticationService, UserDet
             accountRepository.save(foundAccount.withRefreshToken(token.getRefreshToken()));
 
             // 새로 토큰을 발급받았으므로 이전에 발급하여 사용중인 AccessToken은 사용중지 처리한다.
-            redisTemplate.opsForValue().set(accessToken, "redeem", Duration.ofMillis(Constants.ACCESS_TOKEN_EXPIRES_TIME));
-            redisTemplate.opsForValue().set(token.getAccessToken(), "issue", Duration.ofMillis(Constants.ACCESS_TOKEN_EXPIRES_TIME));
+            // 두 명령을 함께 전송하도록 결과를 기다리기 전에 모두 요청한다.
+            var redeemed = redisClient.set(accessToken, "redeem", Duration.ofMillis(Constants.ACCESS_TOKEN_EXPIRES_TIME));
+            var issued = redisClient.set(token.getAccessToken(), "issue", Duration.ofMillis(Constants.ACCESS_TOKEN_EXPIRES_TIME));
+            BatchingRedisClient.await(redeemed.thenCombine(issued, (x, y) -> y));
             return token;
         } else {
             throw new RestApiException(ErrorCodes.Unauthorized.INVALID_REFRESH_TOKEN);
         }
     }
 
+    /**
+     * 엑세스 토큰을 검증하고 토큰을 발급받은 계정의 Id 를 조회합니다.
+     *
+     * @param accessToken 엑세스 토큰
+     * @return 유효한 토큰인 경우 계정 Id
+     */
+    @Override
+    public Optional<UUID> authenticateAccessToken(String accessToken) {
+        var jwt = tokenProvider.extractTokenFromHeader(accessToken);
+        if (!StringUtils.hasText(jwt) || tokenProvider.validateAccessToken(jwt) != JwtStatus.ACCESS) {
+            return Optional.empty();
+        }
+        // JwtFilter 와 동일하게 사용 중지되지 않은 토큰만 허용한다.
+        if (!"issue".equals(BatchingRedisClient.await(redisClient.get(jwt)))) {
+            return Optional.empty();
+        }
+
+        return tokenProvider
+                .getAccountEmailFromAccessToken(jwt)
+                .flatMap(accountRepository::findByEmailAndDeletedIsFalse)
+                .map(Account::getId);
+    }
+
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         return accountRepository
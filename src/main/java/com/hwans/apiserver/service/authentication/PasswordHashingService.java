@@ -0,0 +1,50 @@
+package com.hwans.apiserver.service.authentication;
+
+import java.util.Optional;
+
+/**
+ * 비밀번호 해시 서비스
+ * 해시 계산은 CPU 를 많이 사용하므로 요청 스레드가 아닌 크기가 제한된 별도의 스레드 풀에서 실행되며,
+ * 대기 중인 작업이 너무 많으면 TOO_MANY_REQUESTS 오류가 발생한다.
+ */
+public interface PasswordHashingService {
+    /**
+     * 비밀번호를 해시합니다.
+     *
+     * @param rawPassword 비밀번호
+     * @return 해시된 비밀번호
+     */
+    String encode(String rawPassword);
+
+    /**
+     * 비밀번호가 해시된 비밀번호와 일치하는지 검사합니다.
+     *
+     * @param rawPassword     비밀번호
+     * @param encodedPassword 해시된 비밀번호
+     * @return 일치하는 경우 true
+     */
+    boolean matches(String rawPassword, String encodedPassword);
+
+    /**
+     * 비밀번호가 해시된 비밀번호와 일치하는지 검사하고, 해시 방식이나 강도가 현재 설정과 다른 경우 다시 해시합니다.
+     *
+     * @param rawPassword     비밀번호
+     * @param encodedPassword 해시된 비밀번호
+     * @return 검사 결과
+     */
+    Verification verify(String rawPassword, String encodedPassword);
+
+    /**
+     * 비밀번호 검사 결과
+     *
+     * @param matched         비밀번호 일치 여부
+     * @param upgradedPassword 현재 설정으로 다시 해시된 비밀번호 (다시 해시할 필요가 없는 경우 null)
+     */
+    record Verification(boolean matched, String upgradedPassword) {
+        public static final Verification MISMATCH = new Verification(false, null);
+
+        public Optional<String> getUpgradedPassword() {
+            return Optional.ofNullable(upgradedPassword);
+        }
+    }
+}
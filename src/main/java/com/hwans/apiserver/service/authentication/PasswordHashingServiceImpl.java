@@ -0,0 +1,94 @@
+package com.hwans.apiserver.service.authentication;
+
+import com.hwans.apiserver.common.config.AsyncConfig;
+import com.hwans.apiserver.common.errors.errorcode.ErrorCodes;
+import com.hwans.apiserver.common.errors.exception.RestApiException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Service
+@Slf4j
+public class PasswordHashingServiceImpl implements PasswordHashingService {
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor executor;
+    private final long timeout;
+
+    public PasswordHashingServiceImpl(PasswordEncoder passwordEncoder,
+                                      @Qualifier(AsyncConfig.PASSWORD_EXECUTOR) ThreadPoolTaskExecutor executor,
+                                      @Value("${password.hashing.timeout:5000}") long timeout) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public String encode(String rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) {
+            return false;
+        }
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public Verification verify(String rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) {
+            return Verification.MISMATCH;
+        }
+        // 일치 여부 검사와 다시 해시하는 작업을 한번에 제출하여 큐에서 두번 기다리지 않도록 한다.
+        return execute(() -> {
+            if (!passwordEncoder.matches(rawPassword, encodedPassword)) {
+                return Verification.MISMATCH;
+            }
+            var upgradedPassword = passwordEncoder.upgradeEncoding(encodedPassword) ? passwordEncoder.encode(rawPassword) : null;
+            return new Verification(true, upgradedPassword);
+        });
+    }
+
+    /**
+     * 해시 스레드 풀에서 작업을 실행하고 결과를 기다린다.
+     * 큐가 가득 찼거나 제한 시간 내에 끝나지 않으면 요청 스레드를 더 붙잡지 않고 TOO_MANY_REQUESTS 오류를 발생시킨다.
+     */
+    private <T> T execute(Callable<T> task) {
+        var future = submit(task);
+        try {
+            return future.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("password hashing timed out after {}ms", timeout);
+            throw new RestApiException(ErrorCodes.TooManyRequests.TOO_MANY_REQUESTS);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RestApiException(ErrorCodes.InternalServerError.INTERNAL_SERVER_ERROR);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private <T> Future<T> submit(Callable<T> task) {
+        try {
+            return executor.submit(task);
+        } catch (TaskRejectedException e) {
+            throw new RestApiException(ErrorCodes.TooManyRequests.TOO_MANY_REQUESTS);
+        }
+    }
+}
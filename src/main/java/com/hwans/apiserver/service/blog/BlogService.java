@@ -27,7 +27,7 @@ public interface BlogService {
      * @param size 조회를 원하는 최대 size
      * @return 조회된 게시글 목록 (페이징)
      */
-    SliceDto<SimplePostDto> getAllPosts(String search, Optional<UUID> cursorId, int size, String sortBy);
+    SliceDto<SimplePostDto> getAllPosts(String search, Optional<String> cursorId, int size, String sortBy);
 
     /**
      * 게시글을 생성(작성)합니다.
@@ -65,7 +65,7 @@ public interface BlogService {
      * @param findPublicPostOnly Public 게시글만 조회할지 여부
      * @return 조회된 게시글 목록 (페이징)
      */
-    SliceDto<SimplePostDto> getBlogPosts(String blogId, String tag, Optional<UUID> cursorId, int size, boolean findPublicPostOnly);
+    SliceDto<SimplePostDto> getBlogPosts(String blogId, String tag, Optional<String> cursorId, int size, boolean findPublicPostOnly);
 
     /**
      * 해당 blogId의 주인이 좋아요 한 게시글을 조회합니다.
@@ -75,7 +75,7 @@ public interface BlogService {
      * @param size 조회를 원하는 최대 size
      * @return 조회된 게시글 목록 (페이징)
      */
-    SliceDto<SimplePostDto> getBloggerLikePosts(String blogId, Optional<UUID> cursorId, int size);
+    SliceDto<SimplePostDto> getBloggerLikePosts(String blogId, Optional<String> cursorId, int size);
 
     /**
      * 게시글을 조회합니다.
@@ -180,6 +180,14 @@ public interface BlogService {
      */
     CommentDto modifyComment(UUID commentId, CommentRequestDto commentRequestDto);
 
+    /**
+     * 댓글이 작성된 게시글의 블로그 Id 를 조회합니다.
+     *
+     * @param commentId 댓글 Id
+     * @return 블로그 Id
+     */
+    String getCommentBlogId(UUID commentId);
+
     /**
      * 댓글을 조회합니다.
      *
@@ -189,28 +197,34 @@ public interface BlogService {
     CommentDto getComment(UUID commentId);
 
     /**
-     * 댓글을 삭제합니다.
+     * 게시글의 댓글을 루트 댓글 단위의 스레드로 조회합니다.
      *
-     * @param commentId 댓글 Id
+     * @param blogId             블로그 Id
+     * @param postUrl            게시글 Url
+     * @param cursorId           페이징 조회를 위한 기준 cursorId
+     * @param size               조회를 원하는 최대 루트 댓글 수
+     * @param replySize          루트 댓글마다 포함할 대댓글 수
+     * @param findPublicPostOnly Public 게시글만 조회할지 여부
+     * @return 조회된 댓글 스레드 목록 (페이징)
      */
-    void deleteComment(UUID commentId);
+    SliceDto<CommentThreadDto> getPostComments(String blogId, String postUrl, Optional<String> cursorId, int size, int replySize, boolean findPublicPostOnly);
 
     /**
-     * 댓글 작성자의 Id를 조회합니다.
+     * 댓글의 대댓글을 조회합니다.
      *
      * @param commentId 댓글 Id
-     * @return 작성자 Id
+     * @param cursorId  페이징 조회를 위한 기준 cursorId
+     * @param size      조회를 원하는 최대 대댓글 수
+     * @return 조회된 대댓글 목록 (페이징)
      */
-    UUID getCommentAuthorId(UUID commentId);
+    SliceDto<CommentThreadDto> getCommentReplies(UUID commentId, Optional<String> cursorId, int size);
 
     /**
-     * 댓글 작성자의 비밀번호가 맞는지 검사합니다.
+     * 댓글을 삭제합니다.
      *
      * @param commentId 댓글 Id
-     * @param password 댓글 작성자 비밀번호
-     * @return 일치하는지 여부
      */
-    boolean matchCommentAuthorPassword(UUID commentId, String password);
+    void deleteComment(UUID commentId);
 
     /**
      * 시리즈를 생성합니다.
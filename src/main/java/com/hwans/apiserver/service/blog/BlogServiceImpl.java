@@ -4,13 +4,14 @@ import com.hwans.apiserver.common.errors.errorcode.ErrorCodes;
 import com.hwans.apiserver.common.errors.exception.RestApiException;
 import com.hwans.apiserver.dto.blog.*;
 import com.hwans.apiserver.dto.common.SliceDto;
-import com.hwans.apiserver.entity.account.Account;
-import com.hwans.apiserver.entity.account.role.RoleType;
+import com.hwans.apiserver.entity.blog.Comment;
+import com.hwans.apiserver.entity.blog.GuestAuthor;
 import com.hwans.apiserver.entity.blog.Like;
+import com.hwans.apiserver.entity.blog.OpenType;
 import com.hwans.apiserver.entity.blog.Post;
 import com.hwans.apiserver.entity.blog.Tag;
+import com.hwans.apiserver.event.blog.ChangePostStatisticsEvent;
 import com.hwans.apiserver.event.blog.CreateCommentEvent;
-import com.hwans.apiserver.event.blog.CreatePostEvent;
 import com.hwans.apiserver.mapper.AccountMapper;
 import com.hwans.apiserver.mapper.CommentMapper;
 import com.hwans.apiserver.mapper.PostMapper;
@@ -22,17 +23,24 @@ import com.hwans.apiserver.repository.blog.LikeRepository;
 import com.hwans.apiserver.repository.blog.PostRepository;
 import com.hwans.apiserver.repository.blog.SeriesRepository;
 import com.hwans.apiserver.repository.blog.tag.TagRepository;
-import com.hwans.apiserver.repository.role.RoleRepository;
+import com.hwans.apiserver.service.authentication.PasswordHashingService;
+import com.hwans.apiserver.service.cache.ResourceKey;
+import com.hwans.apiserver.service.cache.ResourceVersionService;
+import com.hwans.apiserver.service.outbox.OutboxService;
+import com.hwans.apiserver.support.annotation.SingleFlight;
+import com.hwans.apiserver.support.pagination.KeysetCursor;
+import com.hwans.apiserver.support.pagination.KeysetPagination;
+import com.hwans.apiserver.support.redis.BatchingRedisClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -48,7 +56,6 @@ import java.util.stream.Collectors;
 @Slf4j
 public class BlogServiceImpl implements BlogService {
     private final AccountRepository accountRepository;
-    private final RoleRepository roleRepository;
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final TagRepository tagRepository;
@@ -60,8 +67,12 @@ public class BlogServiceImpl implements BlogService {
     private final CommentMapper commentMapper;
     private final SeriesMapper seriesMapper;
     private final RedisTemplate<String, Integer> redisTemplate;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final ApplicationEventPublisher eventPublisher;
+    private final PostEventService postEventService;
+    private final OutboxService outboxService;
+    private final BatchingRedisClient redisClient;
+    private final ResourceVersionService resourceVersionService;
 
     /**
      * 레디스에 조회수 저장을 위한 키값
@@ -69,6 +80,7 @@ public class BlogServiceImpl implements BlogService {
     private static final String POST_HITS_KEY = "post-hits";
 
     @Override
+    @SingleFlight
     public BlogDetailsDto getBlogDetails(String blogId, boolean findPublicPostOnly) {
         var foundAccount = accountRepository
                 .findByBlogId(blogId)
@@ -92,52 +104,47 @@ public class BlogServiceImpl implements BlogService {
     }
 
     @Override
-    public SliceDto<SimplePostDto> getAllPosts(String search, Optional<UUID> cursorId, int size, String sortBy) {
+    public SliceDto<SimplePostDto> getAllPosts(String search, Optional<String> cursorId, int size, String sortBy) {
         List<Post> foundPosts;
 
         // 조회수 순 정렬 조회인지 여부, 아니라면 생성순이다.
         var isSortByHits = Objects.equals(sortBy, "hits");
-        if (cursorId.isPresent()) {
-            var foundCursorPost = postRepository
-                    .findById(cursorId.get())
-                    .orElseThrow(() -> new RestApiException(ErrorCodes.NotFound.NOT_FOUND));
+        var cursor = KeysetPagination.decode(cursorId);
+        var page = KeysetPagination.lookAhead(size);
+        if (cursor.isPresent()) {
+            var key = cursor.get();
             if (search == null) {
                 if(isSortByHits) {
-                    foundPosts = postRepository.findByCursorLessThanOrderByHitsDesc(foundCursorPost.getId(), foundCursorPost.getCreatedAt(), foundCursorPost.getHits(), PageRequest.of(0, size + 1));
+                    foundPosts = postRepository.findByCursorLessThanOrderByHitsDesc(key.getInteger(0), key.getLocalDateTime(1), key.getUuid(2), page);
                 } else {
-                    foundPosts = postRepository.findByCursorLessThanOrderByCreatedAtDesc(foundCursorPost.getId(), foundCursorPost.getCreatedAt(), PageRequest.of(0, size + 1));
+                    foundPosts = postRepository.findByCursorLessThanOrderByCreatedAtDesc(key.getLocalDateTime(0), key.getUuid(1), page);
                 }
             } else {
                 if(isSortByHits) {
-                    foundPosts = postRepository.findByCursorLessThanOrderByHitsDesc(foundCursorPost.getId(), foundCursorPost.getCreatedAt(), foundCursorPost.getHits(), search, PageRequest.of(0, size + 1));
+                    foundPosts = postRepository.findByCursorLessThanOrderByHitsDesc(key.getInteger(0), key.getLocalDateTime(1), key.getUuid(2), search, page);
                 } else {
-                    foundPosts = postRepository.findByCursorLessThanOrderByCreatedAtDesc(foundCursorPost.getId(), foundCursorPost.getCreatedAt(), search, PageRequest.of(0, size + 1));
+                    foundPosts = postRepository.findByCursorLessThanOrderByCreatedAtDesc(key.getLocalDateTime(0), key.getUuid(1), search, page);
                 }
             }
         } else {
             if (search == null) {
                 if(isSortByHits) {
-                    foundPosts = postRepository.findAllByOrderByHitsDesc(PageRequest.of(0, size + 1));
+                    foundPosts = postRepository.findAllByOrderByHitsDesc(page);
                 } else {
-                    foundPosts = postRepository.findAllByOrderByCreatedAtDesc(PageRequest.of(0, size + 1));
+                    foundPosts = postRepository.findAllByOrderByCreatedAtDesc(page);
                 }
             } else {
                 if(isSortByHits) {
-                    foundPosts = postRepository.findAllByOrderByHitsDesc(search, PageRequest.of(0, size + 1));
+                    foundPosts = postRepository.findAllByOrderByHitsDesc(search, page);
                 } else {
-                    foundPosts = postRepository.findAllByOrderByCreatedAtDesc(search, PageRequest.of(0, size + 1));
+                    foundPosts = postRepository.findAllByOrderByCreatedAtDesc(search, page);
                 }
             }
         }
-        var last = foundPosts.size() <= size;
-        return SliceDto.<SimplePostDto>builder()
-                .data(foundPosts.stream().limit(size).map(postMapper::EntityToSimplePostDto).toList())
-                .size((int) foundPosts.stream().limit(size).count())
-                .empty(foundPosts.isEmpty())
-                .first(cursorId.isEmpty())
-                .last(last)
-                .cursorId(last ? null : foundPosts.stream().limit(size).skip(size - 1).findFirst().map(Post::getId).orElse(null))
-                .build();
+        return KeysetPagination.toSlice(foundPosts, size, cursor.isEmpty(), postMapper::EntityToSimplePostDto,
+                isSortByHits
+                        ? x -> KeysetCursor.of(Objects.requireNonNullElse(x.getHits(), 0), x.getCreatedAt(), x.getId())
+                        : x -> KeysetCursor.of(x.getCreatedAt(), x.getId()));
     }
 
     @Override
@@ -156,6 +163,8 @@ public class BlogServiceImpl implements BlogService {
                 });
         var post = postMapper.PostRequestDtoToEntity(postRequestDto);
         post.setAuthor(foundAccount);
+        // 조회수 순 키셋 페이징 시 null 조회수의 게시글이 누락되지 않도록 0으로 초기화한다.
+        post.setHits(0);
         post.updatePostUrlIfNecessary();
         post.setTags(postRequestDto
                 .getTags().stream()
@@ -182,7 +191,7 @@ public class BlogServiceImpl implements BlogService {
         }
 
         var savedPost = postRepository.save(post);
-        eventPublisher.publishEvent(new CreatePostEvent(this, savedPost));
+        resourceVersionService.bump(ResourceKey.blog(foundAccount.getBlogId()));
         return postMapper.EntityToPostDto(savedPost);
     }
 
@@ -230,6 +239,7 @@ public class BlogServiceImpl implements BlogService {
             foundPost.setThumbnailImage(attachment);
         }
 
+        resourceVersionService.bump(ResourceKey.blog(blogId));
         return postMapper.EntityToPostDto(foundPost);
     }
 
@@ -240,57 +250,41 @@ public class BlogServiceImpl implements BlogService {
                 .findByBlogIdAndPostUrlAndDeletedIsFalse(blogId, postUrl)
                 .orElseThrow(() -> new RestApiException(ErrorCodes.NotFound.NOT_FOUND_POST));
         foundPost.setDeleted();
+        resourceVersionService.bump(ResourceKey.blog(blogId));
     }
 
     @Override
-    public SliceDto<SimplePostDto> getBlogPosts(String blogId, String tag, Optional<UUID> cursorId, int size, boolean findPublicPostOnly) {
+    public SliceDto<SimplePostDto> getBlogPosts(String blogId, String tag, Optional<String> cursorId, int size, boolean findPublicPostOnly) {
         List<Post> foundPosts;
-        if (cursorId.isPresent()) {
-            var foundCursorPost = postRepository
-                    .findById(cursorId.get())
-                    .orElseThrow(() -> new RestApiException(ErrorCodes.NotFound.NOT_FOUND));
+        var cursor = KeysetPagination.decode(cursorId);
+        if (cursor.isPresent()) {
             foundPosts = postRepository
-                    .findByIdLessThanOrderByIdDesc(blogId, tag, foundCursorPost.getId(), foundCursorPost.getCreatedAt(), findPublicPostOnly, PageRequest.of(0, size + 1));
+                    .findByBlogIdAndCursorLessThanOrderByCreatedAtDesc(blogId, tag, cursor.get().getLocalDateTime(0), cursor.get().getUuid(1), findPublicPostOnly, KeysetPagination.lookAhead(size));
         } else {
             foundPosts = postRepository
-                    .findAllByOrderByIdDesc(blogId, tag, findPublicPostOnly, PageRequest.of(0, size + 1));
+                    .findAllByBlogIdOrderByCreatedAtDesc(blogId, tag, findPublicPostOnly, KeysetPagination.lookAhead(size));
         }
-        var last = foundPosts.size() <= size;
-        return SliceDto.<SimplePostDto>builder()
-                .data(foundPosts.stream().limit(size).map(postMapper::EntityToSimplePostDto).toList())
-                .size((int) foundPosts.stream().limit(size).count())
-                .empty(foundPosts.isEmpty())
-                .first(cursorId.isEmpty())
-                .last(last)
-                .cursorId(last ? null : foundPosts.stream().limit(size).skip(size - 1).findFirst().map(Post::getId).orElse(null))
-                .build();
+        return KeysetPagination.toSlice(foundPosts, size, cursor.isEmpty(), postMapper::EntityToSimplePostDto,
+                x -> KeysetCursor.of(x.getCreatedAt(), x.getId()));
     }
 
     @Override
-    public SliceDto<SimplePostDto> getBloggerLikePosts(String blogId, Optional<UUID> cursorId, int size) {
+    public SliceDto<SimplePostDto> getBloggerLikePosts(String blogId, Optional<String> cursorId, int size) {
         List<Like> foundLikes;
-        if (cursorId.isPresent()) {
-            var foundCursorLike = likeRepository
-                    .findById(cursorId.get())
-                    .orElseThrow(() -> new RestApiException(ErrorCodes.NotFound.NOT_FOUND));
+        var cursor = KeysetPagination.decode(cursorId);
+        if (cursor.isPresent()) {
             foundLikes = likeRepository
-                    .findByIdLessThanOrderByIdDesc(blogId, foundCursorLike.getId(), foundCursorLike.getCreatedAt(), PageRequest.of(0, size + 1));
+                    .findByBlogIdAndCursorLessThanOrderByCreatedAtDesc(blogId, cursor.get().getLocalDateTime(0), cursor.get().getUuid(1), KeysetPagination.lookAhead(size));
         } else {
             foundLikes = likeRepository
-                    .findAllByOrderByIdDesc(blogId, PageRequest.of(0, size + 1));
+                    .findAllByBlogIdOrderByCreatedAtDesc(blogId, KeysetPagination.lookAhead(size));
         }
-        var last = foundLikes.size() <= size;
-        return SliceDto.<SimplePostDto>builder()
-                .data(foundLikes.stream().limit(size).map(x -> postMapper.EntityToSimplePostDto(x.getPost())).toList())
-                .size((int) foundLikes.stream().limit(size).count())
-                .empty(foundLikes.isEmpty())
-                .first(cursorId.isEmpty())
-                .last(last)
-                .cursorId(last ? null : foundLikes.stream().limit(size).skip(size - 1).findFirst().map(Like::getId).orElse(null))
-                .build();
+        return KeysetPagination.toSlice(foundLikes, size, cursor.isEmpty(), x -> postMapper.EntityToSimplePostDto(x.getPost()),
+                x -> KeysetCursor.of(x.getCreatedAt(), x.getId()));
     }
 
     @Override
+    @SingleFlight
     public PostDto getPost(String blogId, String postUrl) {
         var foundPost = postRepository
                 .findByBlogIdAndPostUrlAndDeletedIsFalse(blogId, postUrl)
@@ -344,6 +338,8 @@ public class BlogServiceImpl implements BlogService {
                 .orElseThrow(() -> new RestApiException(ErrorCodes.NotFound.NOT_FOUND_POST));
 
         likeRepository.save(Like.builder().account(account).post(foundPost).build());
+        publishLikeCountChanged(foundPost);
+        resourceVersionService.bump(ResourceKey.blog(blogId));
     }
 
     @Override
@@ -362,6 +358,8 @@ public class BlogServiceImpl implements BlogService {
                 .orElseThrow(() -> new RestApiException(ErrorCodes.NotFound.NOT_FOUND));
 
         likeRepository.delete(like);
+        publishLikeCountChanged(foundPost);
+        resourceVersionService.bump(ResourceKey.blog(blogId));
     }
 
     @Override
@@ -386,7 +384,9 @@ public class BlogServiceImpl implements BlogService {
         comment.setAuthor(authorAccount);
         comment.setPost(foundPost);
         var savedComment = commentRepository.save(comment);
-        eventPublisher.publishEvent(new CreateCommentEvent(this, savedComment));
+        publishCommentCreated(savedComment);
+        publishCommentCountChanged(savedComment.getPost());
+        resourceVersionService.bump(ResourceKey.blog(blogId));
         return commentMapper.toDto(savedComment);
     }
 
@@ -397,15 +397,13 @@ public class BlogServiceImpl implements BlogService {
                 .findByBlogIdAndPostUrlAndDeletedIsFalse(blogId, postUrl)
                 .orElseThrow(() -> new RestApiException(ErrorCodes.NotFound.NOT_FOUND_POST));
 
-        // 비회원 계정 정보 생성
-        var guestAccount = createGuestAccount(guestCommentRequestDto.getName(), guestCommentRequestDto.getPassword());
-
-        // 비회원 댓글 정보 생성
         var comment = commentMapper.toEntity(guestCommentRequestDto);
-        comment.setAuthor(guestAccount);
+        comment.setGuestAuthor(createGuestAuthor(guestCommentRequestDto.getName(), guestCommentRequestDto.getPassword()));
         comment.setPost(foundPost);
         var savedComment = commentRepository.save(comment);
-        eventPublisher.publishEvent(new CreateCommentEvent(this, savedComment));
+        publishCommentCreated(savedComment);
+        publishCommentCountChanged(savedComment.getPost());
+        resourceVersionService.bump(ResourceKey.blog(blogId));
         return commentMapper.toDto(savedComment);
     }
 
@@ -424,7 +422,9 @@ public class BlogServiceImpl implements BlogService {
         comment.setPost(foundComment.getPost());
         comment.setParent(foundComment);
         var savedComment = commentRepository.save(comment);
-        eventPublisher.publishEvent(new CreateCommentEvent(this, savedComment));
+        publishCommentCreated(savedComment);
+        publishCommentCountChanged(savedComment.getPost());
+        bumpCommentVersion(savedComment, ResourceKey.blog(foundComment.getPost().getAuthor().getBlogId()));
         return commentMapper.toDto(savedComment);
     }
 
@@ -435,16 +435,14 @@ public class BlogServiceImpl implements BlogService {
                 .findByIdAndDeletedIsFalse(commentId)
                 .orElseThrow(() -> new RestApiException(ErrorCodes.NotFound.NOT_FOUND_COMMENT));
 
-        // 비회원 계정 정보 생성
-        var guestAccount = createGuestAccount(guestCommentRequestDto.getName(), guestCommentRequestDto.getPassword());
-
-        // 비회원 댓글 정보 생성
         var comment = commentMapper.toEntity(guestCommentRequestDto);
-        comment.setAuthor(guestAccount);
+        comment.setGuestAuthor(createGuestAuthor(guestCommentRequestDto.getName(), guestCommentRequestDto.getPassword()));
         comment.setPost(foundComment.getPost());
         comment.setParent(foundComment);
         var savedComment = commentRepository.save(comment);
-        eventPublisher.publishEvent(new CreateCommentEvent(this, savedComment));
+        publishCommentCreated(savedComment);
+        publishCommentCountChanged(savedComment.getPost());
+        bumpCommentVersion(savedComment, ResourceKey.blog(foundComment.getPost().getAuthor().getBlogId()));
         return commentMapper.toDto(savedComment);
     }
 
@@ -456,9 +454,17 @@ public class BlogServiceImpl implements BlogService {
                 .orElseThrow(() -> new RestApiException(ErrorCodes.NotFound.NOT_FOUND_COMMENT));
         foundComment.setContent(commentRequestDto.getContent());
         var savedComment = commentRepository.save(foundComment);
+        bumpCommentVersion(savedComment);
         return commentMapper.toDto(savedComment);
     }
 
+    @Override
+    public String getCommentBlogId(UUID commentId) {
+        return commentRepository
+                .findBlogIdById(commentId)
+                .orElseThrow(() -> new RestApiException(ErrorCodes.NotFound.NOT_FOUND_COMMENT));
+    }
+
     @Override
     public CommentDto getComment(UUID commentId) {
         var foundComment = commentRepository
@@ -468,28 +474,71 @@ public class BlogServiceImpl implements BlogService {
     }
 
     @Override
-    @Transactional
-    public void deleteComment(UUID commentId) {
-        var foundComment = commentRepository
-                .findById(commentId)
-                .orElseThrow(() -> new RestApiException(ErrorCodes.NotFound.NOT_FOUND_COMMENT));
-        foundComment.setDeleted();
+    public SliceDto<CommentThreadDto> getPostComments(String blogId, String postUrl, Optional<String> cursorId, int size, int replySize, boolean findPublicPostOnly) {
+        var foundPost = postRepository
+                .findByBlogIdAndPostUrlAndDeletedIsFalse(blogId, postUrl)
+                .orElseThrow(() -> new RestApiException(ErrorCodes.NotFound.NOT_FOUND_POST));
+        if (findPublicPostOnly && foundPost.getOpenType() != OpenType.PUBLIC) {
+            throw new RestApiException(ErrorCodes.NotFound.NOT_FOUND_POST);
+        }
+
+        var cursor = KeysetPagination.decode(cursorId);
+        var foundComments = cursor.isPresent() ?
+                commentRepository.findRootsByPostIdAndCursor(foundPost.getId(), cursor.get().getLocalDateTime(0), cursor.get().getUuid(1), KeysetPagination.lookAhead(size)) :
+                commentRepository.findRootsByPostId(foundPost.getId(), KeysetPagination.lookAhead(size));
+        return CommentTreeAssembler.assemble(foundComments, size, cursor.isEmpty(),
+                findFirstReplies(foundComments, size, replySize), commentMapper::toThreadDto);
     }
 
     @Override
-    public UUID getCommentAuthorId(UUID commentId) {
+    public SliceDto<CommentThreadDto> getCommentReplies(UUID commentId, Optional<String> cursorId, int size) {
         var foundComment = commentRepository
-                .findById(commentId)
+                .findByIdAndDeletedIsFalse(commentId)
                 .orElseThrow(() -> new RestApiException(ErrorCodes.NotFound.NOT_FOUND_COMMENT));
-        return foundComment.getAuthor().getId();
+
+        var cursor = KeysetPagination.decode(cursorId);
+        var foundReplies = cursor.isPresent() ?
+                commentRepository.findRepliesByParentIdAndCursor(foundComment.getId(), cursor.get().getLocalDateTime(0), cursor.get().getUuid(1), KeysetPagination.lookAhead(size)) :
+                commentRepository.findRepliesByParentId(foundComment.getId(), KeysetPagination.lookAhead(size));
+        return CommentTreeAssembler.assemble(foundReplies, size, cursor.isEmpty(), List.of(), commentMapper::toThreadDto);
+    }
+
+    /**
+     * 페이지에 포함된 루트 댓글마다 먼저 작성된 대댓글을 replySize 개씩 조회한다.
+     * 대댓글 Id 를 한번에 조회한 뒤 작성자 정보와 함께 다시 한번 조회하므로 루트 댓글 수와 관계없이 두번의 쿼리만 발생한다.
+     */
+    private List<Comment> findFirstReplies(List<Comment> foundComments, int size, int replySize) {
+        if (replySize <= 0 || foundComments.isEmpty()) {
+            return List.of();
+        }
+        var parentIds = foundComments.stream()
+                .limit(size)
+                .filter(x -> x.getChildrenCount() > 0)
+                .map(Comment::getId)
+                .toList();
+        if (parentIds.isEmpty()) {
+            return List.of();
+        }
+        var replyIds = commentRepository.findFirstReplyIdsByParentIds(parentIds, replySize)
+                .stream()
+                .map(BlogServiceImpl::toUuid)
+                .toList();
+        return replyIds.isEmpty() ? List.of() : commentRepository.findAllWithAuthorByIdIn(replyIds);
+    }
+
+    private static UUID toUuid(byte[] bytes) {
+        var buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
     }
 
     @Override
-    public boolean matchCommentAuthorPassword(UUID commentId, String password) {
+    @Transactional
+    public void deleteComment(UUID commentId) {
         var foundComment = commentRepository
                 .findById(commentId)
                 .orElseThrow(() -> new RestApiException(ErrorCodes.NotFound.NOT_FOUND_COMMENT));
-        return passwordEncoder.matches(password, foundComment.getAuthor().getPassword());
+        foundComment.setDeleted();
+        bumpCommentVersion(foundComment, ResourceKey.blog(foundComment.getPost().getAuthor().getBlogId()));
     }
 
     @Override
@@ -510,6 +559,7 @@ public class BlogServiceImpl implements BlogService {
         series.setAuthor(foundAccount);
 
         var savedSeries = seriesRepository.save(series);
+        resourceVersionService.bump(ResourceKey.blog(foundAccount.getBlogId()));
         return seriesMapper.EntityToSeriesDto(savedSeries);
     }
 
@@ -529,6 +579,7 @@ public class BlogServiceImpl implements BlogService {
         }
 
         foundSeries.setTitle(seriesRequestDto.getTitle());
+        resourceVersionService.bump(ResourceKey.blog(blogId));
 
         return seriesMapper.EntityToSeriesDto(foundSeries);
     }
@@ -540,6 +591,7 @@ public class BlogServiceImpl implements BlogService {
                 .findByBlogIdAndSeriesUrl(blogId, seriesUrl)
                 .orElseThrow(() -> new RestApiException(ErrorCodes.NotFound.NOT_FOUND_SERIES));
         seriesRepository.delete(foundSeries);
+        resourceVersionService.bump(ResourceKey.blog(blogId));
     }
 
     @Override
@@ -573,30 +625,36 @@ public class BlogServiceImpl implements BlogService {
         var foundPost = postRepository
                 .findById(postId)
                 .orElseThrow(() -> new RestApiException(ErrorCodes.NotFound.NOT_FOUND_POST));
-        foundPost.setHits(increaseHits(foundPost).intValue());
+        var hits = increaseHits(foundPost);
+        foundPost.setHits(hits.intValue());
+        postEventService.publish(postId, PostEventType.HITS_CHANGED, hits);
     }
 
     @Override
     @Transactional
     public void updatePostHitsFromCache() {
         HashOperations<String, String, String> hashOperations = redisTemplate.opsForHash();
-        hashOperations.keys(POST_HITS_KEY).forEach((postId) -> {
+        var postIds = hashOperations.keys(POST_HITS_KEY);
+        var updatedPostIds = new ArrayList<UUID>();
+        postIds.forEach((postId) -> {
             var hits = hashOperations.get(POST_HITS_KEY, postId);
             hashOperations.delete(POST_HITS_KEY, postId);
             if (hits != null) {
                 postRepository.updateHits(UUID.fromString(postId), Integer.valueOf(hits));
+                updatedPostIds.add(UUID.fromString(postId));
             }
         });
+        // 조회수가 변경된 게시글의 블로그 버전만 변경한다.
+        if (!updatedPostIds.isEmpty()) {
+            resourceVersionService.bump(postRepository.findBlogIdsByIdIn(updatedPostIds).stream()
+                    .map(ResourceKey::blog)
+                    .toArray(ResourceKey[]::new));
+        }
     }
 
     private Long getPostHitsFromCache(Post post) {
-        HashOperations<String, String, String> hashOperations = redisTemplate.opsForHash();
-        final String hashKey = post.getId().toString();
-        if (!hashOperations.hasKey(POST_HITS_KEY, hashKey)) {
-            return null;
-        }
-
-        return hashOperations.increment(POST_HITS_KEY, hashKey, 0L);
+        var hits = BatchingRedisClient.await(redisClient.hget(POST_HITS_KEY, post.getId().toString()));
+        return hits == null ? null : Long.valueOf(hits);
     }
 
     /**
@@ -606,27 +664,58 @@ public class BlogServiceImpl implements BlogService {
      * @return 증가된 후 게시글의 조회수
      */
     private Long increaseHits(Post post) {
-        HashOperations<String, String, String> hashOperations = redisTemplate.opsForHash();
         final String hashKey = post.getId().toString();
-        if (!hashOperations.hasKey(POST_HITS_KEY, hashKey)) {
-            Optional.ofNullable(post.getHits()).ifPresent((hits) -> {
-                hashOperations.put(POST_HITS_KEY, hashKey, hits.toString());
-            });
+        // 캐시에 조회수가 없는 경우 DB의 조회수로 초기화(HSETNX)한 뒤 증가시키며, 두 명령은 하나의 배치로 전송된다.
+        Optional.ofNullable(post.getHits()).ifPresent((hits) -> redisClient.hsetnx(POST_HITS_KEY, hashKey, hits.toString()));
+        return BatchingRedisClient.await(redisClient.hincrby(POST_HITS_KEY, hashKey, 1L));
+    }
+
+    /**
+     * 댓글과 대댓글 목록에 이 댓글이 포함된 부모 댓글의 버전을 변경한다.
+     * 부모 댓글의 대댓글 수는 조부모 댓글의 대댓글 목록에 포함되므로 조부모 댓글의 버전도 함께 변경한다.
+     *
+     * @param comment   변경된 댓글
+     * @param otherKeys 함께 변경할 리소스
+     */
+    private void bumpCommentVersion(Comment comment, ResourceKey... otherKeys) {
+        var keys = new ArrayList<>(List.of(otherKeys));
+        keys.add(ResourceKey.comment(comment.getId()));
+        var ancestor = comment.getParent();
+        for (int depth = 0; ancestor != null && depth < 2; depth++) {
+            keys.add(ResourceKey.comment(ancestor.getId()));
+            ancestor = ancestor.getParent();
         }
-        return hashOperations.increment(POST_HITS_KEY, hashKey, 1L);
+        resourceVersionService.bump(keys.toArray(ResourceKey[]::new));
+    }
+
+    private void publishLikeCountChanged(Post post) {
+        var likeCount = likeRepository.countByPostId(post.getId());
+        eventPublisher.publishEvent(new ChangePostStatisticsEvent(this, post.getId(), PostEventType.LIKE_COUNT_CHANGED, likeCount));
+    }
+
+    private void publishCommentCreated(Comment comment) {
+        outboxService.publish(CreateCommentEvent.builder()
+                .commentId(comment.getId())
+                .postId(comment.getPost().getId())
+                .postAuthorEmail(comment.getPost().getAuthor().getEmail())
+                .build());
+    }
+
+    private void publishCommentCountChanged(Post post) {
+        var commentCount = commentRepository.countByPostIdAndParentIsNullAndDeletedIsFalse(post.getId());
+        eventPublisher.publishEvent(new ChangePostStatisticsEvent(this, post.getId(), PostEventType.COMMENT_COUNT_CHANGED, commentCount));
     }
 
     /**
-     * 비회원 계정을 생성합니다.
+     * 비회원 댓글 작성자 정보를 생성합니다.
      *
      * @param name     이름
      * @param password 비밀번호
      */
-    private Account createGuestAccount(String name, String password) {
-        var guestAccount = Account.createGuestAccount(name, passwordEncoder.encode(password));
-        var savedAccount = accountRepository.save(guestAccount);
-        var userRole = roleRepository.saveIfNotExist(RoleType.GUEST.getName());
-        savedAccount.addRole(userRole);
-        return savedAccount;
+    private GuestAuthor createGuestAuthor(String name, String password) {
+        return GuestAuthor.builder()
+                .name(name)
+                .password(passwordHashingService.encode(password))
+                .build();
     }
 }
@@ -0,0 +1,102 @@
+package com.hwans.apiserver.service.blog;
+
+import com.hwans.apiserver.common.errors.errorcode.ErrorCodes;
+import com.hwans.apiserver.common.errors.exception.RestApiException;
+import com.hwans.apiserver.dto.blog.CommentPermissionDto;
+import com.hwans.apiserver.repository.blog.CommentRepository;
+import com.hwans.apiserver.service.authentication.PasswordHashingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 댓글 수정/삭제 권한을 검사한다.
+ * 메소드 보안 표현식에서 사용하며, 권한이 없는 경우 false 를 반환하는 대신 기존과 동일한 오류 코드로 예외를 발생시킨다.
+ * <pre>
+ * &#64;PreAuthorize("&#64;commentPermission.canModify(#commentId, authentication, #password)")
+ * </pre>
+ */
+@Component("commentPermission")
+@RequiredArgsConstructor
+public class CommentPermissionEvaluator {
+    private final CommentRepository commentRepository;
+    private final PasswordHashingService passwordHashingService;
+
+    /**
+     * 전달된 인증정보 또는 비밀번호로 댓글을 수정할 수 있는지 검사한다.
+     *
+     * @param commentId      댓글 Id
+     * @param authentication 인증정보
+     * @param password       비회원 댓글인 경우 비밀번호
+     * @return 수정 가능한 경우 true
+     */
+    public boolean canModify(UUID commentId, Authentication authentication, String password) {
+        var permission = findPermission(commentId);
+
+        // 비회원 댓글인 경우 항상 비밀번호 일치 여부를 검사한다.
+        if (permission.isGuest()) {
+            return checkPassword(permission, password);
+        }
+
+        // 인증정보가 없거나 댓글의 글쓴이가 아니라면 예외를 발생시킨다.
+        var email = getEmail(authentication);
+        if (email == null || !email.equals(permission.getCommentAuthorEmail())) {
+            throw new RestApiException(ErrorCodes.Unauthorized.UNAUTHORIZED);
+        }
+        return true;
+    }
+
+    /**
+     * 전달된 인증정보 또는 비밀번호로 댓글을 삭제할 수 있는지 검사한다.
+     * 댓글의 글쓴이와 게시글의 글쓴이는 삭제할 수 있다.
+     *
+     * @param commentId      댓글 Id
+     * @param authentication 인증정보
+     * @param password       비회원 댓글인 경우 비밀번호
+     * @return 삭제 가능한 경우 true
+     */
+    public boolean canDelete(UUID commentId, Authentication authentication, String password) {
+        var permission = findPermission(commentId);
+
+        // 댓글의 글쓴이가 나거나 내 게시글이라면 통과시킨다.
+        var email = getEmail(authentication);
+        if (email != null && (email.equals(permission.getCommentAuthorEmail()) || email.equals(permission.getPostAuthorEmail()))) {
+            return true;
+        }
+
+        // 비회원 댓글인 경우 항상 비밀번호 일치 여부를 검사한다.
+        if (permission.isGuest()) {
+            return checkPassword(permission, password);
+        }
+
+        throw new RestApiException(ErrorCodes.Forbidden.FORBIDDEN);
+    }
+
+    private CommentPermissionDto findPermission(UUID commentId) {
+        return commentRepository
+                .findPermissionById(Objects.requireNonNull(commentId))
+                .orElseThrow(() -> new RestApiException(ErrorCodes.NotFound.NOT_FOUND_COMMENT));
+    }
+
+    private boolean checkPassword(CommentPermissionDto permission, String password) {
+        if (password == null || password.isBlank() || !passwordHashingService.matches(password, permission.getGuestPasswordHash())) {
+            throw new RestApiException(ErrorCodes.BadRequest.BAD_REQUEST);
+        }
+        return true;
+    }
+
+    /**
+     * 인증된 사용자의 이메일을 반환한다.
+     * 토큰의 subject 가 이메일이므로 계정을 다시 조회하지 않고 작성자와 비교할 수 있다.
+     */
+    private static String getEmail(Authentication authentication) {
+        if (authentication != null && authentication.getPrincipal() instanceof UserDetails userDetails) {
+            return userDetails.getUsername();
+        }
+        return null;
+    }
+}
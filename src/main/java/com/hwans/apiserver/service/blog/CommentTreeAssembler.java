@@ -0,0 +1,61 @@
+package com.hwans.apiserver.service.blog;
+
+import com.hwans.apiserver.dto.blog.CommentThreadDto;
+import com.hwans.apiserver.dto.common.SliceDto;
+import com.hwans.apiserver.entity.blog.Comment;
+import com.hwans.apiserver.support.pagination.KeysetCursor;
+import com.hwans.apiserver.support.pagination.KeysetPagination;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 키셋 페이징으로 조회된 댓글과 한번에 조회된 대댓글로 댓글 스레드를 구성한다.
+ * 부모 댓글 Id 별로 대댓글을 묶는 한번의 순회로 트리를 구성하므로 조회된 댓글 수에 비례하는 시간이 걸리며 추가 조회가 발생하지 않는다.
+ */
+public final class CommentTreeAssembler {
+    private CommentTreeAssembler() {
+    }
+
+    /**
+     * 댓글 스레드를 구성한다.
+     * 대댓글 수는 댓글 조회 시 함께 계산된 값을 사용하며, 포함된 대댓글의 대댓글은 개수만 제공한다.
+     *
+     * @param rows    KeysetPagination.lookAhead 로 작성 순서대로 조회된 댓글 (최대 size + 1 개)
+     * @param size    페이지 크기
+     * @param first   첫 페이지 여부
+     * @param replies 작성 순서대로 정렬된, 페이지에 포함된 댓글의 대댓글
+     * @param mapper  댓글을 Dto 로 변환하는 함수
+     * @return 댓글 스레드
+     */
+    public static SliceDto<CommentThreadDto> assemble(List<Comment> rows, int size, boolean first, List<Comment> replies,
+                                                      Function<Comment, CommentThreadDto> mapper) {
+        var repliesByParentId = new HashMap<UUID, List<Comment>>();
+        for (var reply : replies) {
+            repliesByParentId.computeIfAbsent(reply.getParentId(), x -> new ArrayList<>()).add(reply);
+        }
+
+        return KeysetPagination.toSlice(rows, size, first,
+                row -> toThread(row, repliesByParentId, mapper),
+                row -> KeysetCursor.of(row.getCreatedAt(), row.getId()));
+    }
+
+    private static CommentThreadDto toThread(Comment comment, Map<UUID, List<Comment>> repliesByParentId,
+                                             Function<Comment, CommentThreadDto> mapper) {
+        var replies = repliesByParentId.getOrDefault(comment.getId(), Collections.emptyList());
+        var inlined = new ArrayList<CommentThreadDto>(replies.size());
+        for (var reply : replies) {
+            inlined.add(toNode(reply, mapper).withReplies(Collections.emptyList()));
+        }
+        return toNode(comment, mapper).withReplies(inlined);
+    }
+
+    private static CommentThreadDto toNode(Comment comment, Function<Comment, CommentThreadDto> mapper) {
+        return mapper.apply(comment).withReplyCount(comment.getChildrenCount());
+    }
+}
@@ -0,0 +1,43 @@
+package com.hwans.apiserver.service.blog;
+
+import com.hwans.apiserver.dto.blog.PostEventType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+/**
+ * 게시글 실시간 이벤트(SSE) 서비스 인터페이스
+ */
+public interface PostEventService {
+    /**
+     * 게시글의 실시간 이벤트를 구독한다.
+     * 게시글별, 클라이언트별 구독 수가 제한을 넘으면 구독하지 않는다.
+     *
+     * @param blogId             블로그 Id
+     * @param postUrl            게시글 Url
+     * @param findPublicPostOnly 공개된 게시글만 구독할 수 있는지 여부
+     * @param clientIp           구독하는 클라이언트 IP
+     * @return SSE 스트림
+     */
+    SseEmitter subscribe(String blogId, String postUrl, boolean findPublicPostOnly, String clientIp);
+
+    /**
+     * 게시글 이벤트를 발행한다.
+     * 같은 게시글의 같은 유형의 이벤트는 전송 주기 동안 마지막 값으로 병합된다.
+     *
+     * @param postId 게시글 Id
+     * @param type   이벤트 유형
+     * @param value  변경된 값
+     */
+    void publish(UUID postId, PostEventType type, long value);
+
+    /**
+     * 병합된 게시글 이벤트를 모든 노드에 한번에 전송한다.
+     */
+    void flushPendingEvents();
+
+    /**
+     * 연결이 유지되도록 모든 구독자에게 빈 이벤트를 전송한다.
+     */
+    void sendHeartbeat();
+}
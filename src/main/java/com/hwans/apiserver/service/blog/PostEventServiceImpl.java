@@ -0,0 +1,252 @@
+package com.hwans.apiserver.service.blog;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hwans.apiserver.common.errors.errorcode.ErrorCodes;
+import com.hwans.apiserver.common.errors.exception.RestApiException;
+import com.hwans.apiserver.dto.blog.PostEventDto;
+import com.hwans.apiserver.dto.blog.PostEventType;
+import com.hwans.apiserver.dto.cluster.ClusterMessageDto;
+import com.hwans.apiserver.dto.cluster.ClusterMessageTopic;
+import com.hwans.apiserver.entity.blog.OpenType;
+import com.hwans.apiserver.repository.blog.PostRepository;
+import com.hwans.apiserver.service.cluster.ClusterMessageService;
+import com.hwans.apiserver.support.async.RejectionPolicy;
+import com.hwans.apiserver.support.async.TaskExecutorFactory;
+import com.hwans.apiserver.support.async.TaskExecutorFactory.ExecutorDefaults;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 실시간 이벤트(SSE) 서비스 구현체
+ * 구독자 연결은 비동기 요청으로 유지되어 톰캣 스레드를 점유하지 않으며, 이벤트 전송은 작은 전용 스레드 풀에서 처리한다.
+ * 연결마다 SseEmitter 가 유지되므로 게시글별, 클라이언트 IP 별 구독 수를 제한한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PostEventServiceImpl implements PostEventService {
+    private static final TypeReference<List<PostEventDto>> POST_EVENTS_TYPE = new TypeReference<>() {
+    };
+
+    private final PostRepository postRepository;
+    private final ClusterMessageService clusterMessageService;
+    private final ObjectMapper objectMapper;
+    private final TaskExecutorFactory taskExecutorFactory;
+
+    /**
+     * 게시글 Id 별 현재 노드의 구독자
+     */
+    private final Map<UUID, Set<SseEmitter>> postSubscribers = new ConcurrentHashMap<>();
+    /**
+     * 클라이언트 IP 별 현재 노드의 구독 수
+     */
+    private final Map<String, Integer> clientSubscriptionCounts = new ConcurrentHashMap<>();
+    /**
+     * 전송 대기 중인 이벤트, 같은 게시글의 같은 유형의 이벤트는 마지막 값만 남는다.
+     */
+    private final Map<PendingEventKey, Long> pendingEvents = new ConcurrentHashMap<>();
+    private ThreadPoolTaskExecutor senderExecutor;
+
+    /**
+     * 구독 연결이 유지되는 최대 시간 (ms), 만료되면 클라이언트가 다시 연결한다.
+     */
+    @Value("${post-events.timeout:1800000}")
+    private long timeout;
+
+    /**
+     * 게시글별 최대 구독자 수
+     */
+    @Value("${post-events.max-subscribers-per-post:1000}")
+    private int maxSubscribersPerPost;
+
+    /**
+     * 클라이언트 IP 별 최대 구독 수
+     */
+    @Value("${post-events.max-subscriptions-per-client:10}")
+    private int maxSubscriptionsPerClient;
+
+    /**
+     * 이벤트 전송에 사용할 스레드 수
+     */
+    @Value("${post-events.sender-threads:2}")
+    private int senderThreads;
+
+    /**
+     * 전송 대기할 수 있는 최대 작업 수
+     */
+    @Value("${post-events.sender-queue-capacity:1000}")
+    private int senderQueueCapacity;
+
+    /**
+     * 이벤트 전송 스레드 풀을 생성한다.
+     * 기본 크기는 post-events.sender-threads, post-events.sender-queue-capacity 를 따르며 async.executors.post-event-sender.* 로 변경할 수 있다.
+     * 밀린 전송은 다음 주기의 이벤트로 대체되므로 큐가 가득 차면 거절한다.
+     */
+    @PostConstruct
+    public void initialize() {
+        senderExecutor = taskExecutorFactory.create("post-event-sender", new ExecutorDefaults(senderThreads, senderThreads, senderQueueCapacity, RejectionPolicy.ABORT));
+        senderExecutor.initialize();
+
+        clusterMessageService.addListener(ClusterMessageTopic.POST_EVENTS, this::onPostEvents);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senderExecutor.shutdown();
+        postSubscribers.values().forEach(subscribers -> subscribers.forEach(SseEmitter::complete));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SseEmitter subscribe(String blogId, String postUrl, boolean findPublicPostOnly, String clientIp) {
+        var foundPost = postRepository
+                .findByBlogIdAndPostUrlAndDeletedIsFalse(blogId, postUrl)
+                .orElseThrow(() -> new RestApiException(ErrorCodes.NotFound.NOT_FOUND_POST));
+        if (findPublicPostOnly && foundPost.getOpenType() != OpenType.PUBLIC) {
+            throw new RestApiException(ErrorCodes.NotFound.NOT_FOUND_POST);
+        }
+
+        var acquired = new boolean[1];
+        clientSubscriptionCounts.compute(clientIp, (key, count) -> {
+            var current = count == null ? 0 : count;
+            acquired[0] = current < maxSubscriptionsPerClient;
+            return acquired[0] ? current + 1 : count;
+        });
+        if (!acquired[0]) {
+            throw new RestApiException(ErrorCodes.TooManyRequests.TOO_MANY_REQUESTS);
+        }
+
+        var postId = foundPost.getId();
+        var emitter = new SseEmitter(timeout);
+        var subscribed = new boolean[1];
+        postSubscribers.compute(postId, (key, subscribers) -> {
+            var result = subscribers == null ? ConcurrentHashMap.<SseEmitter>newKeySet() : subscribers;
+            if (result.size() < maxSubscribersPerPost) {
+                subscribed[0] = result.add(emitter);
+            }
+            return result.isEmpty() ? null : result;
+        });
+        if (!subscribed[0]) {
+            releaseClientSubscription(clientIp);
+            throw new RestApiException(ErrorCodes.TooManyRequests.TOO_MANY_REQUESTS);
+        }
+        emitter.onCompletion(() -> unsubscribe(postId, emitter, clientIp));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> unsubscribe(postId, emitter, clientIp));
+        return emitter;
+    }
+
+    @Override
+    public void publish(UUID postId, PostEventType type, long value) {
+        pendingEvents.put(new PendingEventKey(postId, type), value);
+    }
+
+    @Override
+    public void flushPendingEvents() {
+        if (pendingEvents.isEmpty()) {
+            return;
+        }
+
+        var events = new ArrayList<PostEventDto>(pendingEvents.size());
+        for (var key : pendingEvents.keySet()) {
+            var value = pendingEvents.remove(key);
+            if (value != null) {
+                events.add(PostEventDto.builder()
+                        .postId(key.postId())
+                        .type(key.type())
+                        .value(value)
+                        .build());
+            }
+        }
+
+        // 한 주기 동안 변경된 모든 게시글의 이벤트를 하나의 메시지로 모든 노드에 전달한다.
+        try {
+            clusterMessageService.publish(ClusterMessageTopic.POST_EVENTS, null, objectMapper.writeValueAsString(events));
+        } catch (JsonProcessingException e) {
+            log.error("post events serialization failed", e);
+        }
+    }
+
+    @Override
+    public void sendHeartbeat() {
+        postSubscribers.values().forEach(subscribers -> execute(() -> subscribers.forEach(emitter ->
+                send(emitter, SseEmitter.event().comment("heartbeat")))));
+    }
+
+    private void onPostEvents(ClusterMessageDto message) {
+        List<PostEventDto> events;
+        try {
+            events = objectMapper.readValue(message.getPayload(), POST_EVENTS_TYPE);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            log.warn("invalid post events message", e);
+            return;
+        }
+
+        for (var event : events) {
+            var subscribers = postSubscribers.get(event.getPostId());
+            if (subscribers == null || subscribers.isEmpty()) {
+                continue;
+            }
+            execute(() -> subscribers.forEach(emitter ->
+                    send(emitter, SseEmitter.event().name(event.getType().getEventName()).data(event.getValue()))));
+        }
+    }
+
+    private void execute(Runnable task) {
+        try {
+            senderExecutor.execute(task);
+        } catch (TaskRejectedException e) {
+            // 전송이 밀린 경우 다음 주기의 이벤트로 최신 값이 전달되므로 버린다.
+            log.debug("post event send task rejected");
+        }
+    }
+
+    private void send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            log.trace("post event send failed: {}", e.getMessage());
+            emitter.completeWithError(e);
+        }
+    }
+
+    /**
+     * 구독을 해제한다.
+     * 오류와 완료 콜백이 모두 호출될 수 있으므로 실제로 제거된 경우에만 클라이언트의 구독 수를 줄인다.
+     */
+    private void unsubscribe(UUID postId, SseEmitter emitter, String clientIp) {
+        var removed = new boolean[1];
+        postSubscribers.computeIfPresent(postId, (key, subscribers) -> {
+            removed[0] = subscribers.remove(emitter);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+        if (removed[0]) {
+            releaseClientSubscription(clientIp);
+        }
+    }
+
+    private void releaseClientSubscription(String clientIp) {
+        clientSubscriptionCounts.computeIfPresent(clientIp, (key, count) -> count <= 1 ? null : count - 1);
+    }
+
+    private record PendingEventKey(UUID postId, PostEventType type) {
+    }
+}
@@ -0,0 +1,55 @@
+package com.hwans.apiserver.service.cache;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 버전을 관리하는 리소스의 키
+ * <ul>
+ *     <li>blog: 블로그의 게시글과 게시글 목록에 포함되는 조회수, 좋아요 수, 댓글 수, 시리즈, 블로그 주인 정보가 변경될 때 변경된다.</li>
+ *     <li>comment: 댓글의 내용, 삭제 여부, 대댓글이 변경될 때 변경된다.</li>
+ *     <li>posts: 여러 블로그의 응답에 포함되는 계정(작성자) 정보가 변경될 때 변경된다.</li>
+ * </ul>
+ */
+public final class ResourceKey {
+    /**
+     * 모든 게시글에 공통으로 적용되는 키
+     * 변경하면 모든 블로그의 캐시가 무효화되므로, 다른 블로그의 댓글 작성자로 포함되는 계정 정보처럼 블로그를 특정할 수 없는 변경에만 사용한다.
+     */
+    public static final ResourceKey POSTS = new ResourceKey("posts");
+
+    private final String key;
+
+    private ResourceKey(String key) {
+        this.key = key;
+    }
+
+    public static ResourceKey blog(String blogId) {
+        return new ResourceKey("blog:" + blogId);
+    }
+
+    public static ResourceKey comment(UUID commentId) {
+        return new ResourceKey("comment:" + commentId);
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return key.equals(((ResourceKey) o).key);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(key);
+    }
+
+    @Override
+    public String toString() {
+        return key;
+    }
+}
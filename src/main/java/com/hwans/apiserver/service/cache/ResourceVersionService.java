@@ -0,0 +1,24 @@
+package com.hwans.apiserver.service.cache;
+
+/**
+ * HTTP 조건부 요청(ETag)을 위한 리소스 버전 서비스
+ */
+public interface ResourceVersionService {
+    /**
+     * 리소스의 버전을 변경한다.
+     * 트랜잭션 안에서 호출된 경우 커밋된 뒤에 변경하여, 커밋 전의 데이터가 새 버전으로 캐시되지 않도록 한다.
+     *
+     * @param keys 변경된 리소스
+     */
+    void bump(ResourceKey... keys);
+
+    /**
+     * 리소스의 현재 버전과 요청 정보로 strong ETag 를 생성한다.
+     * DB 를 조회하지 않으며 Redis 명령은 한번에 전송된다.
+     *
+     * @param variant 같은 리소스라도 응답이 달라지는 요청 정보 (URI, 조회 범위 등)
+     * @param keys    응답에 포함된 리소스
+     * @return 따옴표로 감싼 ETag
+     */
+    String getETag(String variant, ResourceKey... keys);
+}
@@ -0,0 +1,84 @@
+package com.hwans.apiserver.service.cache;
+
+import com.hwans.apiserver.support.redis.BatchingRedisClient;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 리소스 버전 서비스 구현체
+ * 버전은 증가하는 숫자 대신 임의의 값을 사용하여, Redis 의 키가 만료되거나 유실된 뒤 다시 생성되어도 이전 ETag 와 겹치지 않도록 한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ResourceVersionServiceImpl implements ResourceVersionService {
+    static final String KEY_PREFIX = "resource-version:";
+
+    private final BatchingRedisClient redisClient;
+    @Value("${http-cache.version-ttl:2592000000}")
+    private long versionTtl;
+
+    @Override
+    public void bump(ResourceKey... keys) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bumpNow(keys);
+                }
+            });
+        } else {
+            bumpNow(keys);
+        }
+    }
+
+    @Override
+    public String getETag(String variant, ResourceKey... keys) {
+        var versions = new ArrayList<CompletableFuture<String>>(keys.length);
+        for (var key : keys) {
+            versions.add(redisClient.get(KEY_PREFIX + key.getKey()));
+        }
+
+        var builder = new StringBuilder(variant);
+        for (int i = 0; i < keys.length; i++) {
+            var version = BatchingRedisClient.await(versions.get(i));
+            if (version == null) {
+                version = initializeVersion(keys[i]);
+            }
+            builder.append('|').append(keys[i].getKey()).append('=').append(version);
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(builder.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    private void bumpNow(ResourceKey... keys) {
+        var results = new ArrayList<CompletableFuture<String>>(keys.length);
+        for (var key : keys) {
+            results.add(redisClient.set(KEY_PREFIX + key.getKey(), newVersion(), Duration.ofMillis(versionTtl)));
+        }
+        results.forEach(BatchingRedisClient::await);
+    }
+
+    private String initializeVersion(ResourceKey key) {
+        var redisKey = KEY_PREFIX + key.getKey();
+        var version = newVersion();
+        if (BatchingRedisClient.await(redisClient.setIfAbsent(redisKey, version, Duration.ofMillis(versionTtl)))) {
+            return version;
+        }
+        // 다른 요청이 먼저 생성한 버전을 사용한다. 그 사이에 만료된 경우에는 이번 응답만 캐시되지 않는다.
+        var current = BatchingRedisClient.await(redisClient.get(redisKey));
+        return current != null ? current : version;
+    }
+
+    private static String newVersion() {
+        return UUID.randomUUID().toString();
+    }
+}
@@ -32,6 +32,14 @@ public interface ChatService {
      */
     ChatMessageDto createChatMessage(UUID authorAccountId, UUID chatRoomId, ChatMessageRequestDto chatMessageRequestDto);
 
+    /**
+     * 메시지를 조회한다.
+     *
+     * @param chatMessageId 메시지 Id
+     * @return 조회된 메시지 모델
+     */
+    ChatMessageDto getChatMessage(UUID chatMessageId);
+
     /**
      * 채팅방의 메시지 목록을 반환한다.
      *
@@ -40,5 +48,15 @@ public interface ChatService {
      * @param size       조회를 원하는 최대 size
      * @return 조회된 메시지 목록 (페이징)
      */
-    SliceDto<ChatMessageDto> getChatMessages(UUID chatRoomId, Optional<UUID> cursorId, int size);
+    SliceDto<ChatMessageDto> getChatMessages(UUID chatRoomId, Optional<String> cursorId, int size);
+
+    /**
+     * 계정이 채팅방의 참여자인지 확인한다.
+     * 채팅방 주인과 채팅방에 메시지를 작성한 계정을 참여자로 본다.
+     *
+     * @param accountId  계정 Id
+     * @param chatRoomId 채팅방 Id
+     * @return 참여자 여부 (채팅방이 없거나 삭제된 경우 false)
+     */
+    boolean isChatRoomMember(UUID accountId, UUID chatRoomId);
 }
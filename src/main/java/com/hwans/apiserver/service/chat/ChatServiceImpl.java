@@ -9,16 +9,16 @@ import com.hwans.apiserver.dto.chat.ChatRoomRequestDto;
 import com.hwans.apiserver.dto.common.SliceDto;
 import com.hwans.apiserver.entity.chat.ChatMessage;
 import com.hwans.apiserver.event.chat.CreateChatMessageEvent;
-import com.hwans.apiserver.event.chat.CreateChatRoomEvent;
 import com.hwans.apiserver.mapper.ChatMessageMapper;
 import com.hwans.apiserver.mapper.ChatRoomMapper;
 import com.hwans.apiserver.repository.account.AccountRepository;
 import com.hwans.apiserver.repository.chat.ChatMessageRepository;
 import com.hwans.apiserver.repository.chat.ChatRoomRepository;
+import com.hwans.apiserver.service.outbox.OutboxService;
+import com.hwans.apiserver.support.pagination.KeysetCursor;
+import com.hwans.apiserver.support.pagination.KeysetPagination;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -39,7 +39,7 @@ public class ChatServiceImpl implements ChatService {
     private final AccountRepository accountRepository;
     private final ChatRoomMapper chatRoomMapper;
     private final ChatMessageMapper chatMessageMapper;
-    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxService outboxService;
 
     /**
      * 새로운 채팅방을 생성한다.
@@ -51,7 +51,6 @@ public class ChatServiceImpl implements ChatService {
     @Transactional
     public ChatRoomDto createChatRoom(ChatRoomRequestDto chatRoomRequestDto) {
         var savedChatRoom = chatRoomRepository.save(chatRoomMapper.toEntity(chatRoomRequestDto));
-        eventPublisher.publishEvent(new CreateChatRoomEvent(this, savedChatRoom));
         return chatRoomMapper.entityToDto(savedChatRoom);
     }
 
@@ -81,10 +80,28 @@ public class ChatServiceImpl implements ChatService {
                 .chatRoom(chatRoom)
                 .build());
 
-        eventPublisher.publishEvent(new CreateChatMessageEvent(this, savedMessage));
+        outboxService.publish(CreateChatMessageEvent.builder()
+                .chatMessageId(savedMessage.getId())
+                .chatRoomId(chatRoom.getId())
+                .build());
         return chatMessageMapper.entityToDto(savedMessage);
     }
 
+    /**
+     * 메시지를 조회한다.
+     *
+     * @param chatMessageId 메시지 Id
+     * @return 조회된 메시지 모델
+     */
+    @Override
+    public ChatMessageDto getChatMessage(UUID chatMessageId) {
+        return chatMessageRepository
+                .findById(chatMessageId)
+                .filter(x -> !x.isDeleted())
+                .map(chatMessageMapper::entityToDto)
+                .orElseThrow(() -> new RestApiException(ErrorCodes.NotFound.NOT_FOUND));
+    }
+
     /**
      * 채팅방의 메시지 목록을 반환한다.
      *
@@ -94,25 +111,28 @@ public class ChatServiceImpl implements ChatService {
      * @return 조회된 메시지 목록 (페이징)
      */
     @Override
-    public SliceDto<ChatMessageDto> getChatMessages(UUID chatRoomId, Optional<UUID> cursorId, int size) {
+    public SliceDto<ChatMessageDto> getChatMessages(UUID chatRoomId, Optional<String> cursorId, int size) {
         List<ChatMessage> foundMessages;
-        if (cursorId.isPresent()) {
-            var foundCursorMessage = chatMessageRepository
-                    .findById(cursorId.get())
-                    .orElseThrow(() -> new RestApiException(ErrorCodes.NotFound.NOT_FOUND));
-            foundMessages = chatMessageRepository.findByIdLessThanOrderByIdDesc(chatRoomId, foundCursorMessage.getId(), foundCursorMessage.getCreatedAt(), PageRequest.of(0, size + 1));
+        var cursor = KeysetPagination.decode(cursorId);
+        if (cursor.isPresent()) {
+            foundMessages = chatMessageRepository.findByChatRoomIdAndCursorLessThanOrderByCreatedAtDesc(chatRoomId, cursor.get().getLocalDateTime(0), cursor.get().getUuid(1), KeysetPagination.lookAhead(size));
         } else {
-            foundMessages = chatMessageRepository.findAllByOrderByIdDesc(chatRoomId, PageRequest.of(0, size + 1));
+            foundMessages = chatMessageRepository.findAllByChatRoomIdOrderByCreatedAtDesc(chatRoomId, KeysetPagination.lookAhead(size));
         }
 
-        var last = foundMessages.size() <= size;
-        return SliceDto.<ChatMessageDto>builder()
-                .data(foundMessages.stream().limit(size).map(chatMessageMapper::entityToDto).toList())
-                .size((int) foundMessages.stream().limit(size).count())
-                .empty(foundMessages.isEmpty())
-                .first(cursorId.isEmpty())
-                .last(last)
-                .cursorId(last ? null : foundMessages.stream().limit(size).skip(size - 1).findFirst().map(ChatMessage::getId).orElse(null))
-                .build();
+        return KeysetPagination.toSlice(foundMessages, size, cursor.isEmpty(), chatMessageMapper::entityToDto,
+                x -> KeysetCursor.of(x.getCreatedAt(), x.getId()));
+    }
+
+    /**
+     * 계정이 채팅방의 참여자인지 확인한다.
+     *
+     * @param accountId  계정 Id
+     * @param chatRoomId 채팅방 Id
+     * @return 참여자 여부 (채팅방이 없거나 삭제된 경우 false)
+     */
+    @Override
+    public boolean isChatRoomMember(UUID accountId, UUID chatRoomId) {
+        return chatRoomRepository.existsMember(chatRoomId, accountId);
     }
 }
@@ -0,0 +1,56 @@
+package com.hwans.apiserver.service.cluster;
+
+import com.hwans.apiserver.dto.cluster.ClusterMessageDto;
+import com.hwans.apiserver.dto.cluster.ClusterMessageTopic;
+
+import java.util.function.Consumer;
+
+/**
+ * 여러 서버 노드 사이의 메시지 전달 서비스 인터페이스
+ */
+public interface ClusterMessageService {
+    /**
+     * 현재 노드의 Id 를 반환한다.
+     *
+     * @return 노드 Id
+     */
+    String getNodeId();
+
+    /**
+     * 현재 노드를 포함한 모든 노드에 메시지를 발행한다.
+     * 현재 노드의 리스너는 발행하는 스레드에서 바로 호출된다.
+     *
+     * @param topic   메시지 유형
+     * @param target  메시지 대상
+     * @param payload 직렬화된 메시지 내용
+     */
+    void publish(ClusterMessageTopic topic, String target, String payload);
+
+    /**
+     * 메시지 유형에 대한 리스너를 등록한다.
+     *
+     * @param topic    메시지 유형
+     * @param listener 리스너
+     */
+    void addListener(ClusterMessageTopic topic, Consumer<ClusterMessageDto> listener);
+
+    /**
+     * 현재 노드의 웹소켓 세션 수를 갱신하고 다른 노드에 알린다.
+     *
+     * @param sessionCount 현재 노드의 세션 수
+     */
+    void updateLocalSessionCount(int sessionCount);
+
+    /**
+     * 살아있는 모든 노드의 웹소켓 세션 수의 합을 조회한다.
+     *
+     * @return 전체 세션 수
+     */
+    int getClusterSessionCount();
+
+    /**
+     * 현재 노드의 세션 수를 만료 시간과 함께 다시 기록하여 노드가 살아있음을 알린다.
+     * 만료된 노드가 발견되어 전체 세션 수가 바뀐 경우 현재 노드의 리스너에게 알린다.
+     */
+    void heartbeat();
+}
@@ -0,0 +1,222 @@
+package com.hwans.apiserver.service.cluster;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hwans.apiserver.dto.cluster.ClusterMessageDto;
+import com.hwans.apiserver.dto.cluster.ClusterMessageTopic;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ClusterMessageServiceImpl implements ClusterMessageService, MessageListener {
+    static final String CHANNEL = "cluster-messages";
+    static final String NODES_KEY = "cluster-nodes";
+    static final String SESSION_COUNT_KEY_PREFIX = "cluster-session-count:";
+    /**
+     * 중복 수신 확인을 위해 기억하는 최근 이벤트 Id 의 수
+     */
+    private static final int MAX_HANDLED_EVENT_IDS = 10_000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<ClusterMessageTopic, List<Consumer<ClusterMessageDto>>> listeners = new EnumMap<>(ClusterMessageTopic.class);
+    private final Set<UUID> handledEventIds = Collections.synchronizedSet(Collections.newSetFromMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, Boolean> eldest) {
+            return size() > MAX_HANDLED_EVENT_IDS;
+        }
+    }));
+    private final AtomicInteger localSessionCount = new AtomicInteger();
+    private final AtomicInteger lastClusterSessionCount = new AtomicInteger();
+
+    /**
+     * 노드의 세션 수 기록이 만료되는 시간 (ms), heartbeat 주기보다 충분히 길어야 한다.
+     */
+    @Value("${cluster.heartbeat-ttl:15000}")
+    private long heartbeatTtl;
+
+    @PostConstruct
+    public void subscribe() {
+        for (var topic : ClusterMessageTopic.values()) {
+            listeners.put(topic, new CopyOnWriteArrayList<>());
+        }
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @PreDestroy
+    public void leave() {
+        try {
+            redisTemplate.delete(getSessionCountKey(nodeId));
+            redisTemplate.opsForSet().remove(NODES_KEY, nodeId);
+            // 종료 중에는 현재 노드의 리스너를 호출하지 않고 다른 노드에만 알린다.
+            broadcast(createMessage(ClusterMessageTopic.SESSION_COUNT_CHANGED, null, null));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("failed to leave cluster: {}", nodeId, e);
+        }
+    }
+
+    @Override
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void publish(ClusterMessageTopic topic, String target, String payload) {
+        var message = createMessage(topic, target, payload);
+        dispatch(message);
+
+        try {
+            broadcast(message);
+        } catch (JsonProcessingException | RuntimeException e) {
+            // Redis 장애 시에도 현재 노드에 접속한 사용자에게는 전달되도록 한다.
+            log.warn("failed to publish cluster message: {}", topic, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        ClusterMessageDto clusterMessage;
+        try {
+            clusterMessage = objectMapper.readValue(message.getBody(), ClusterMessageDto.class);
+        } catch (IOException e) {
+            log.warn("invalid cluster message", e);
+            return;
+        }
+        if (clusterMessage.getEventId() == null || clusterMessage.getTopic() == null || nodeId.equals(clusterMessage.getNodeId())) {
+            return;
+        }
+        if (!handledEventIds.add(clusterMessage.getEventId())) {
+            return;
+        }
+
+        dispatch(clusterMessage);
+    }
+
+    @Override
+    public void addListener(ClusterMessageTopic topic, Consumer<ClusterMessageDto> listener) {
+        listeners.get(topic).add(listener);
+    }
+
+    @Override
+    public void updateLocalSessionCount(int sessionCount) {
+        localSessionCount.set(sessionCount);
+        try {
+            writeSessionCount();
+        } catch (RuntimeException e) {
+            log.warn("failed to update session count: {}", nodeId, e);
+        }
+        publish(ClusterMessageTopic.SESSION_COUNT_CHANGED, null, null);
+    }
+
+    @Override
+    public int getClusterSessionCount() {
+        int sessionCount;
+        try {
+            sessionCount = sumSessionCounts();
+        } catch (RuntimeException e) {
+            log.warn("failed to read cluster session count", e);
+            sessionCount = localSessionCount.get();
+        }
+        lastClusterSessionCount.set(sessionCount);
+        return sessionCount;
+    }
+
+    @Override
+    public void heartbeat() {
+        try {
+            writeSessionCount();
+        } catch (RuntimeException e) {
+            log.warn("cluster heartbeat failed: {}", nodeId, e);
+            return;
+        }
+
+        var previousSessionCount = lastClusterSessionCount.get();
+        if (getClusterSessionCount() != previousSessionCount) {
+            dispatch(createMessage(ClusterMessageTopic.SESSION_COUNT_CHANGED, null, null));
+        }
+    }
+
+    private ClusterMessageDto createMessage(ClusterMessageTopic topic, String target, String payload) {
+        return ClusterMessageDto.builder()
+                .eventId(UUID.randomUUID())
+                .nodeId(nodeId)
+                .topic(topic)
+                .target(target)
+                .payload(payload)
+                .build();
+    }
+
+    private void broadcast(ClusterMessageDto message) throws JsonProcessingException {
+        // 자신이 발행한 메시지는 Redis 에서 다시 수신되더라도 중복으로 처리되어 무시된다.
+        handledEventIds.add(message.getEventId());
+        redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(message));
+    }
+
+    private void writeSessionCount() {
+        redisTemplate.opsForValue().set(getSessionCountKey(nodeId), String.valueOf(localSessionCount.get()), Duration.ofMillis(heartbeatTtl));
+        redisTemplate.opsForSet().add(NODES_KEY, nodeId);
+    }
+
+    private int sumSessionCounts() {
+        var nodeIds = redisTemplate.opsForSet().members(NODES_KEY);
+        if (nodeIds == null || nodeIds.isEmpty()) {
+            return localSessionCount.get();
+        }
+
+        var nodeIdList = new ArrayList<>(nodeIds);
+        var sessionCounts = redisTemplate.opsForValue().multiGet(nodeIdList.stream().map(this::getSessionCountKey).toList());
+        var sum = 0;
+        for (int i = 0; i < nodeIdList.size(); i++) {
+            var sessionCount = sessionCounts == null ? null : sessionCounts.get(i);
+            if (sessionCount == null) {
+                // heartbeat 가 끊겨 기록이 만료된 노드는 목록에서 제거한다.
+                redisTemplate.opsForSet().remove(NODES_KEY, nodeIdList.get(i));
+                continue;
+            }
+            sum += Integer.parseInt(sessionCount);
+        }
+        return sum;
+    }
+
+    private String getSessionCountKey(String nodeId) {
+        return SESSION_COUNT_KEY_PREFIX + nodeId;
+    }
+
+    private void dispatch(ClusterMessageDto message) {
+        for (var listener : listeners.get(message.getTopic())) {
+            try {
+                listener.accept(message);
+            } catch (RuntimeException e) {
+                log.error("cluster message listener failed: {}", message.getTopic(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.hwans.apiserver.service.mail;
+
+import com.hwans.apiserver.entity.mail.MailMessage;
+import com.hwans.apiserver.entity.mail.MailType;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 메일 전송 큐 서비스 인터페이스
+ */
+public interface MailQueueService {
+    /**
+     * 메일을 전송 큐에 추가한다.
+     * digestKey 가 있는 메일은 요약 대기 시간 뒤에 전송되며, 그 사이 같은 digestKey 로 추가된 메일과 함께 전송된다.
+     *
+     * @param mailType   메일 유형
+     * @param recipient  받는 사람 메일 주소
+     * @param parameters 템플릿 파라미터
+     * @param digestKey  요약 메일로 합칠 기준 키 (없으면 null)
+     */
+    void enqueue(MailType mailType, String recipient, Map<String, String> parameters, String digestKey);
+
+    /**
+     * 전송 가능한 메일을 가져간다.
+     *
+     * @param batchSize 최대 메일 수
+     * @return 가져간 메일
+     */
+    List<MailMessage> claimMessages(int batchSize);
+
+    /**
+     * 전송이 완료된 메일을 삭제한다.
+     *
+     * @param mailMessageIds 메일 Id 목록
+     */
+    void completeMessages(Collection<UUID> mailMessageIds);
+
+    /**
+     * 전송에 실패한 메일을 지수 백오프 후 다시 시도하도록 예약한다.
+     * 최대 시도 횟수를 넘긴 메일은 로그를 남기고 삭제한다.
+     *
+     * @param mailMessageIds 메일 Id 목록
+     * @param error          실패 사유
+     */
+    void failMessages(Collection<UUID> mailMessageIds, String error);
+}
@@ -0,0 +1,111 @@
+package com.hwans.apiserver.service.mail;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hwans.apiserver.entity.mail.MailMessage;
+import com.hwans.apiserver.entity.mail.MailType;
+import com.hwans.apiserver.event.mail.CreateMailMessageEvent;
+import com.hwans.apiserver.repository.mail.MailMessageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 메일 전송 큐 서비스 구현체
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Slf4j
+public class MailQueueServiceImpl implements MailQueueService {
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final MailMessageRepository mailMessageRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${mail-queue.digest-window:60000}")
+    private long digestWindow;
+    @Value("${mail-queue.lease:120000}")
+    private long lease;
+    @Value("${mail-queue.retry-backoff:5000}")
+    private long retryBackoff;
+    @Value("${mail-queue.max-retry-backoff:3600000}")
+    private long maxRetryBackoff;
+    @Value("${mail-queue.max-attempts:10}")
+    private int maxAttempts;
+
+    @Override
+    @Transactional
+    public void enqueue(MailType mailType, String recipient, Map<String, String> parameters, String digestKey) {
+        String serializedParameters;
+        try {
+            serializedParameters = objectMapper.writeValueAsString(parameters);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("mail parameters serialization failed", e);
+        }
+
+        var now = LocalDateTime.now();
+        var availableAt = digestKey == null ? now : mailMessageRepository
+                .findPendingDigestAvailableAt(digestKey)
+                .orElseGet(() -> now.plus(digestWindow, ChronoUnit.MILLIS));
+
+        mailMessageRepository.save(MailMessage.builder()
+                .mailType(mailType)
+                .recipient(recipient)
+                .parameters(serializedParameters)
+                .digestKey(digestKey)
+                .availableAt(availableAt)
+                .build());
+        if (!availableAt.isAfter(now)) {
+            eventPublisher.publishEvent(new CreateMailMessageEvent(this));
+        }
+    }
+
+    @Override
+    @Transactional
+    public List<MailMessage> claimMessages(int batchSize) {
+        var now = LocalDateTime.now();
+        var messages = mailMessageRepository.findAvailableForUpdateSkipLocked(now, PageRequest.of(0, batchSize));
+        var leaseUntil = now.plus(lease, ChronoUnit.MILLIS);
+        messages.forEach(x -> x.claim(leaseUntil));
+        return messages;
+    }
+
+    @Override
+    @Transactional
+    public void completeMessages(Collection<UUID> mailMessageIds) {
+        if (mailMessageIds.isEmpty()) {
+            return;
+        }
+        mailMessageRepository.deleteAllByIdInBatch(mailMessageIds);
+    }
+
+    @Override
+    @Transactional
+    public void failMessages(Collection<UUID> mailMessageIds, String error) {
+        var lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        for (var message : mailMessageRepository.findAllById(mailMessageIds)) {
+            if (message.getAttempts() >= maxAttempts) {
+                log.error("mail {} ({}) dropped after {} attempts: {}",
+                        message.getId(), message.getMailType(), message.getAttempts(), error);
+                mailMessageRepository.delete(message);
+                continue;
+            }
+
+            var backoff = Math.min(maxRetryBackoff, retryBackoff << Math.max(0, Math.min(message.getAttempts() - 1, 30)));
+            message.retry(LocalDateTime.now().plus(backoff, ChronoUnit.MILLIS), lastError);
+        }
+    }
+}
@@ -28,4 +28,9 @@ public interface MailSenderService {
      * @param commentId 새 댓글에 대한 Id
      */
     void sendCreateCommentNotify(String email, UUID commentId);
+
+    /**
+     * 전송 대기 중인 메일을 배치 단위로 하나의 SMTP 연결을 통해 전송합니다.
+     */
+    void sendQueuedMails();
 }
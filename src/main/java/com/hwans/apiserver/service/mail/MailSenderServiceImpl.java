@@ -1,30 +1,72 @@
 package com.hwans.apiserver.service.mail;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hwans.apiserver.dto.mail.MailMessageDto;
-import com.hwans.apiserver.entity.blog.Comment;
+import com.hwans.apiserver.entity.mail.MailMessage;
+import com.hwans.apiserver.entity.mail.MailType;
 import com.hwans.apiserver.repository.blog.CommentRepository;
+import com.hwans.apiserver.support.mail.MailTemplate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.io.IOUtils;
-import org.springframework.core.io.ClassPathResource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.util.HtmlUtils;
 
+import javax.annotation.PostConstruct;
 import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * 메일 전송 서비스 구현체
+ * 메일은 전송 큐에 저장된 뒤 배치 단위로 하나의 SMTP 연결을 통해 전송되며, 같은 사람에게 가는 새 댓글 알림은 요약 메일로 합쳐진다.
  */
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 @Slf4j
 public class MailSenderServiceImpl implements MailSenderService {
+    private static final TypeReference<Map<String, String>> PARAMETERS_TYPE = new TypeReference<>() {
+    };
+
     private final JavaMailSender javaMailSender;
     private final CommentRepository commentRepository;
+    private final MailQueueService mailQueueService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${mail-queue.batch-size:50}")
+    private int batchSize;
+
+    private final AtomicBoolean sending = new AtomicBoolean();
+    private final AtomicBoolean sendRequested = new AtomicBoolean();
+    private MailTemplate verifyCodeTemplate;
+    private MailTemplate resetPasswordTemplate;
+    private MailTemplate newCommentNotifyTemplate;
+    private MailTemplate newCommentDigestTemplate;
+    private MailTemplate newCommentDigestItemTemplate;
+
+    @PostConstruct
+    public void initialize() {
+        verifyCodeTemplate = MailTemplate.load("mail-templates/verify-code.html");
+        resetPasswordTemplate = MailTemplate.load("mail-templates/reset-password.html");
+        newCommentNotifyTemplate = MailTemplate.load("mail-templates/new-comment-notify.html");
+        newCommentDigestTemplate = MailTemplate.load("mail-templates/new-comment-digest.html");
+        newCommentDigestItemTemplate = MailTemplate.load("mail-templates/new-comment-digest-item.html");
+    }
 
     /**
      * 이메일 인증을 위한 인증코드 메일을 전송합니다.
@@ -33,8 +75,9 @@ public class MailSenderServiceImpl implements MailSenderService {
      * @param verifyCode 인증코드
      */
     @Override
+    @Transactional
     public void sendMailVerifyCode(String email, String verifyCode) {
-        sendMail(createVerifyEmailMessage(email, verifyCode));
+        mailQueueService.enqueue(MailType.VERIFY_CODE, email, Map.of("verify-code", verifyCode), null);
     }
 
     /**
@@ -44,112 +87,176 @@ public class MailSenderServiceImpl implements MailSenderService {
      * @param resetPasswordToken 비밀번호 초기화를 위한 토큰
      */
     @Override
+    @Transactional
     public void sendResetPasswordUrl(String email, String resetPasswordToken) {
-        sendMail(createResetPasswordMessage(email, resetPasswordToken));
+        mailQueueService.enqueue(MailType.RESET_PASSWORD, email, Map.of("reset-password-token", resetPasswordToken), null);
     }
 
     /**
      * 새 댓글에 대한 알림 메일을 전송합니다.
+     * 요약 대기 시간 동안 같은 사람에게 추가된 새 댓글 알림은 하나의 요약 메일로 전송됩니다.
      *
      * @param email     전송할 대상 메일 주소
      * @param commentId 새 댓글에 대한 Id
      */
     @Override
+    @Transactional
     public void sendCreateCommentNotify(String email, UUID commentId) {
-        var a = commentRepository.findById(commentId);
         commentRepository.findById(commentId).ifPresent(comment -> {
-            sendMail(createNewCommentNotifyMessage(email, comment));
+            var post = comment.getPost();
+            mailQueueService.enqueue(MailType.NEW_COMMENT, email, Map.of(
+                    "comment", HtmlUtils.htmlEscape(Objects.toString(comment.getContent(), "")),
+                    "blog-id", HtmlUtils.htmlEscape(post.getAuthor().getBlogId()),
+                    "post-url", HtmlUtils.htmlEscape(post.getPostUrl())), MailType.NEW_COMMENT + ":" + email);
         });
     }
 
-
     /**
-     * 메일을 전송합니다.
-     *
-     * @param mailMessageDto 메일을 전송하기 위한 데이터 모델
+     * 전송 대기 중인 메일을 모두 전송합니다.
+     * 큐의 가져가기/완료/실패 처리는 각각의 트랜잭션으로 바로 커밋되어야 하며, SMTP 전송 동안 트랜잭션과 연결을 붙잡지 않도록
+     * 트랜잭션 없이 실행합니다.
      */
-    private void sendMail(MailMessageDto mailMessageDto) {
-        var mimeMessage = javaMailSender.createMimeMessage();
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void sendQueuedMails() {
+        sendRequested.set(true);
+        if (!sending.compareAndSet(false, true)) {
+            return;
+        }
+
         try {
-            var mimeMessageHelper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
-            mimeMessageHelper.setTo(mailMessageDto.getTo());
-            mimeMessageHelper.setSubject(mailMessageDto.getSubject());
-            mimeMessageHelper.setText(mailMessageDto.getContent(), mailMessageDto.getIsHtmlContent());
-            javaMailSender.send(mimeMessage);
-        } catch (MessagingException e) {
-            throw new RuntimeException(e);
+            while (sendRequested.getAndSet(false)) {
+                while (sendBatch() >= batchSize) {
+                    // 가득 찬 배치를 가져온 경우 남은 메일이 있을 수 있으므로 계속 조회한다.
+                }
+            }
+        } catch (Exception e) {
+            log.error("sending queued mails failed", e);
+        } finally {
+            sending.set(false);
         }
     }
 
     /**
-     * 인증코드 메일에 대한 데이터 모델을 생성합니다.
+     * 메일 한 배치를 가져와 하나의 SMTP 연결로 전송합니다.
      *
-     * @param email      전송할 대상 메일 주소
-     * @param verifyCode 인증코드
-     * @return 인증코드 메일에 대한 데이터 모델
+     * @return 가져간 메일 수
      */
-    private MailMessageDto createVerifyEmailMessage(String email, String verifyCode) {
+    int sendBatch() {
+        var messages = mailQueueService.claimMessages(batchSize);
+        if (messages.isEmpty()) {
+            return 0;
+        }
+
+        // 요약 키가 같은 메일은 하나로 합쳐 전송한다.
+        var groups = new LinkedHashMap<Object, List<MailMessage>>();
+        for (var message : messages) {
+            var groupKey = message.getDigestKey() == null ? message.getId() : message.getDigestKey();
+            groups.computeIfAbsent(groupKey, x -> new ArrayList<>()).add(message);
+        }
+
+        var mimeMessages = new LinkedHashMap<MimeMessage, List<UUID>>();
+        for (var group : groups.values()) {
+            var ids = group.stream().map(MailMessage::getId).toList();
+            try {
+                mimeMessages.put(createMimeMessage(render(group)), ids);
+            } catch (MessagingException | JsonProcessingException | IllegalArgumentException e) {
+                log.error("failed to create mail {}", ids, e);
+                mailQueueService.failMessages(ids, e.toString());
+            }
+        }
+        if (mimeMessages.isEmpty()) {
+            return messages.size();
+        }
+
+        Map<Object, Exception> failedMessages = Map.of();
         try {
-            var templateResource = new ClassPathResource("mail-templates/verify-code.html");
-            var content = IOUtils.toString(templateResource.getInputStream(), "UTF-8").replace("{{verify-code}}", verifyCode);
+            javaMailSender.send(mimeMessages.keySet().toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            failedMessages = e.getFailedMessages();
+            if (failedMessages.isEmpty()) {
+                failedMessages = failAll(mimeMessages, e);
+            }
+        } catch (MailException e) {
+            failedMessages = failAll(mimeMessages, e);
+        }
 
-            return MailMessageDto.builder()
-                    .subject("[Hwan'Story] 회원가입")
-                    .content(content)
-                    .to(email)
-                    .isHtmlContent(true)
-                    .build();
-        } catch (Exception e) {
-            throw new RuntimeException(e);
+        var completedIds = new ArrayList<UUID>(messages.size());
+        for (var entry : mimeMessages.entrySet()) {
+            var exception = failedMessages.get(entry.getKey());
+            if (exception == null) {
+                completedIds.addAll(entry.getValue());
+            } else {
+                log.warn("failed to send mail {}", entry.getValue(), exception);
+                mailQueueService.failMessages(entry.getValue(), exception.toString());
+            }
         }
+        mailQueueService.completeMessages(completedIds);
+        return messages.size();
+    }
+
+    private static Map<Object, Exception> failAll(Map<MimeMessage, List<UUID>> mimeMessages, Exception exception) {
+        var failedMessages = new LinkedHashMap<Object, Exception>();
+        mimeMessages.keySet().forEach(x -> failedMessages.put(x, exception));
+        return failedMessages;
     }
 
     /**
-     * 비밀번호 초기화 메일을 위한 데이터 모델을 생성합니다.
+     * 메일을 생성합니다.
      *
-     * @param email              전송할 대상 메일 주소
-     * @param resetPasswordToken 비밀번호 초기화를 위한 토큰
-     * @return 비밀번호 재설정 메일에 대한 데이터 모델
+     * @param mailMessageDto 메일을 전송하기 위한 데이터 모델
+     * @return MimeMessage
      */
-    private MailMessageDto createResetPasswordMessage(String email, String resetPasswordToken) {
-        try {
-            var templateResource = new ClassPathResource("mail-templates/reset-password.html");
-            var content = IOUtils.toString(templateResource.getInputStream(), "UTF-8").replace("{{reset-password-token}}", resetPasswordToken);
-
-            return MailMessageDto.builder()
-                    .subject("[Hwan'Story] 비밀번호 재설정 요청")
-                    .content(content)
-                    .to(email)
-                    .isHtmlContent(true)
-                    .build();
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+    private MimeMessage createMimeMessage(MailMessageDto mailMessageDto) throws MessagingException {
+        var mimeMessage = javaMailSender.createMimeMessage();
+        var mimeMessageHelper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
+        mimeMessageHelper.setTo(mailMessageDto.getTo());
+        mimeMessageHelper.setSubject(mailMessageDto.getSubject());
+        mimeMessageHelper.setText(mailMessageDto.getContent(), mailMessageDto.getIsHtmlContent());
+        return mimeMessage;
     }
 
     /**
-     * 새 댓글 알림 메일을 위한 데이터 모델을 생성합니다.
+     * 같은 그룹의 메일로부터 전송할 메일에 대한 데이터 모델을 생성합니다.
      *
-     * @param email   전송할 대상 메일 주소
-     * @param comment 생성된 댓글
-     * @return 새 댓글 알림 메일에 대한 데이터 모델
+     * @param group 요약 키가 같은 메일 (요약 키가 없는 경우 하나)
+     * @return 메일에 대한 데이터 모델
      */
-    private MailMessageDto createNewCommentNotifyMessage(String email, Comment comment) {
-        try {
-            var templateResource = new ClassPathResource("mail-templates/new-comment-notify.html");
-            var content = IOUtils.toString(templateResource.getInputStream(), "UTF-8")
-                    .replace("{{comment}}", comment.getContent())
-                    .replace("{{blog-id}}", comment.getPost().getAuthor().getBlogId())
-                    .replace("{{post-url}}", comment.getPost().getPostUrl());
+    private MailMessageDto render(List<MailMessage> group) throws JsonProcessingException {
+        var first = group.get(0);
+        var parameters = objectMapper.readValue(first.getParameters(), PARAMETERS_TYPE);
+        var builder = MailMessageDto.builder()
+                .to(first.getRecipient())
+                .isHtmlContent(true);
 
-            return MailMessageDto.builder()
+        return switch (first.getMailType()) {
+            case VERIFY_CODE -> builder
+                    .subject("[Hwan'Story] 회원가입")
+                    .content(verifyCodeTemplate.render(parameters))
+                    .build();
+            case RESET_PASSWORD -> builder
+                    .subject("[Hwan'Story] 비밀번호 재설정 요청")
+                    .content(resetPasswordTemplate.render(parameters))
+                    .build();
+            case NEW_COMMENT -> group.size() == 1
+                    ? builder
                     .subject("[Hwan'Story] 새 댓글 알림")
-                    .content(content)
-                    .to(email)
-                    .isHtmlContent(true)
+                    .content(newCommentNotifyTemplate.render(parameters))
+                    .build()
+                    : builder
+                    .subject("[Hwan'Story] 새 댓글 알림 (" + group.size() + "건)")
+                    .content(renderNewCommentDigest(group))
                     .build();
-        } catch (Exception e) {
-            throw new RuntimeException(e);
+        };
+    }
+
+    private String renderNewCommentDigest(List<MailMessage> group) throws JsonProcessingException {
+        var comments = new StringBuilder();
+        for (var message : group) {
+            comments.append(newCommentDigestItemTemplate.render(objectMapper.readValue(message.getParameters(), PARAMETERS_TYPE)));
         }
+        return newCommentDigestTemplate.render(Map.of(
+                "comment-count", Integer.toString(group.size()),
+                "comments", comments.toString()));
     }
 }
@@ -1,6 +1,5 @@
 package com.hwans.apiserver.service.notification;
 
-import com.hwans.apiserver.dto.blog.CommentDto;
 import com.hwans.apiserver.dto.common.SliceDto;
 import com.hwans.apiserver.dto.notification.NotificationDto;
 
@@ -20,7 +19,7 @@ public interface NotificationService {
      * @param findUnreadNotificationOnly 읽지 않은 알림만 조회할지 여부
      * @return 조회된 알림 목록 (페이징)
      */
-    SliceDto<NotificationDto> getNotifications(UUID accountId, Optional<UUID> cursorId, int size, boolean findUnreadNotificationOnly);
+    SliceDto<NotificationDto> getNotifications(UUID accountId, Optional<String> cursorId, int size, boolean findUnreadNotificationOnly);
 
     /**
      * 알림을 조회한다.
@@ -56,9 +55,26 @@ public interface NotificationService {
 
     /**
      * 새 댓글 알림을 생성합니다.
+     * 아웃박스 이벤트는 중복 전달될 수 있으므로 이미 생성된 알림이 있다면 새로 생성하지 않습니다.
      *
-     * @param comment 관련 댓글
-     * @return 생성된 알림 데이터 모델
+     * @param commentId 관련 댓글 Id
+     * @return 생성된 알림 데이터 모델 (이미 생성된 경우 기존 알림)
      */
-    NotificationDto createCommentNotification(CommentDto comment);
+    NotificationDto createCommentNotification(UUID commentId);
+
+    /**
+     * 읽지 않은 알림 수를 조회합니다.
+     *
+     * @param accountId 조회할 대상의 계정 Id
+     * @return 읽지 않은 알림 수
+     */
+    long getUnreadNotificationCount(UUID accountId);
+
+    /**
+     * 새 알림이 생성된 후 읽지 않은 알림 수를 증가시킵니다.
+     *
+     * @param accountId 알림을 받은 계정 Id
+     * @return 증가된 읽지 않은 알림 수
+     */
+    long increaseUnreadNotificationCount(UUID accountId);
 }
@@ -2,20 +2,28 @@ package com.hwans.apiserver.service.notification;
 
 import com.hwans.apiserver.common.errors.errorcode.ErrorCodes;
 import com.hwans.apiserver.common.errors.exception.RestApiException;
-import com.hwans.apiserver.dto.blog.CommentDto;
 import com.hwans.apiserver.dto.common.SliceDto;
 import com.hwans.apiserver.dto.notification.NotificationDto;
 import com.hwans.apiserver.entity.notification.CommentNotification;
 import com.hwans.apiserver.entity.notification.Notification;
+import com.hwans.apiserver.event.notification.CreateNotificationEvent;
 import com.hwans.apiserver.mapper.NotificationMapper;
 import com.hwans.apiserver.repository.account.AccountRepository;
 import com.hwans.apiserver.repository.blog.CommentRepository;
 import com.hwans.apiserver.repository.notification.NotificationRepository;
+import com.hwans.apiserver.support.pagination.KeysetCursor;
+import com.hwans.apiserver.support.pagination.KeysetPagination;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.Optional;
@@ -29,10 +37,27 @@ import java.util.UUID;
 @RequiredArgsConstructor
 @Slf4j
 public class NotificationServiceImpl implements NotificationService {
+    /**
+     * 계정 Id 별 읽지 않은 알림 수를 저장하는 Redis 해시 키
+     */
+    private static final String UNREAD_NOTIFICATION_COUNT_KEY = "unread-notification-count";
+    /**
+     * 저장된 읽지 않은 알림 수가 있는 경우에만 값을 더하는 스크립트 (0 보다 작아지지 않는다)
+     * 저장된 값이 없는 경우 nil 을 반환하며, 값은 다음 조회에서 DB 로부터 다시 계산된다.
+     */
+    private static final RedisScript<Long> ADD_UNREAD_NOTIFICATION_COUNT_SCRIPT = new DefaultRedisScript<>(
+            "local count = redis.call('HGET', KEYS[1], ARGV[1]) " +
+                    "if not count then return nil end " +
+                    "local updated = math.max(0, tonumber(count) + tonumber(ARGV[2])) " +
+                    "redis.call('HSET', KEYS[1], ARGV[1], updated) " +
+                    "return updated", Long.class);
+
     private final NotificationRepository notificationRepository;
     private final AccountRepository accountRepository;
     private final CommentRepository commentRepository;
     private final NotificationMapper notificationMapper;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 알림 목록을 조회한다.
@@ -44,27 +69,18 @@ public class NotificationServiceImpl implements NotificationService {
      * @return 조회된 알림 목록(페이징)
      */
     @Override
-    public SliceDto<NotificationDto> getNotifications(UUID accountId, Optional<UUID> cursorId, int size, boolean findUnreadNotificationOnly) {
-        List<Notification> foundPosts;
-        if (cursorId.isPresent()) {
-            var foundCursorPost = notificationRepository
-                    .findById(cursorId.get())
-                    .orElseThrow(() -> new RestApiException(ErrorCodes.NotFound.NOT_FOUND));
-            foundPosts = notificationRepository
-                    .findByIdLessThanOrderByIdDesc(accountId, foundCursorPost.getId(), foundCursorPost.getCreatedAt(), findUnreadNotificationOnly, PageRequest.of(0, size + 1));
+    public SliceDto<NotificationDto> getNotifications(UUID accountId, Optional<String> cursorId, int size, boolean findUnreadNotificationOnly) {
+        List<Notification> foundNotifications;
+        var cursor = KeysetPagination.decode(cursorId);
+        if (cursor.isPresent()) {
+            foundNotifications = notificationRepository
+                    .findByAccountIdAndCursorLessThanOrderByCreatedAtDesc(accountId, cursor.get().getLocalDateTime(0), cursor.get().getUuid(1), findUnreadNotificationOnly, KeysetPagination.lookAhead(size));
         } else {
-            foundPosts = notificationRepository
-                    .findAllByOrderByIdDesc(accountId, findUnreadNotificationOnly, PageRequest.of(0, size + 1));
+            foundNotifications = notificationRepository
+                    .findAllByAccountIdOrderByCreatedAtDesc(accountId, findUnreadNotificationOnly, KeysetPagination.lookAhead(size));
         }
-        var last = foundPosts.size() <= size;
-        return SliceDto.<NotificationDto>builder()
-                .data(foundPosts.stream().limit(size).map(notificationMapper::EntityToNotificationDto).toList())
-                .size((int) foundPosts.stream().limit(size).count())
-                .empty(foundPosts.isEmpty())
-                .first(cursorId.isEmpty())
-                .last(last)
-                .cursorId(last ? null : foundPosts.stream().limit(size).skip(size - 1).findFirst().map(Notification::getId).orElse(null))
-                .build();
+        return KeysetPagination.toSlice(foundNotifications, size, cursor.isEmpty(), notificationMapper::EntityToNotificationDto,
+                x -> KeysetCursor.of(x.getCreatedAt(), x.getId()));
     }
 
     /**
@@ -88,8 +104,12 @@ public class NotificationServiceImpl implements NotificationService {
         var foundNotification = notificationRepository
                 .findByAccountIdAndId(accountId, notificationId)
                 .orElseThrow(() -> new RestApiException(ErrorCodes.NotFound.NOT_FOUND_NOTIFICATION));
+        var unread = foundNotification.getReadAt() == null;
         foundNotification.setReadAtNow();
         var savedNotification = notificationRepository.save(foundNotification);
+        if (unread) {
+            decreaseUnreadNotificationCount(accountId);
+        }
         return notificationMapper.EntityToNotificationDto(savedNotification);
     }
 
@@ -102,6 +122,8 @@ public class NotificationServiceImpl implements NotificationService {
     @Transactional
     public void deleteNotifications(UUID accountId) {
         notificationRepository.setDeletedAllByAccountId(accountId);
+        // 커밋 전에 생성된 알림도 있을 수 있으므로 0 으로 설정하지 않고 다음 조회에서 다시 계산하도록 제거한다.
+        afterCommit(() -> redisTemplate.opsForHash().delete(UNREAD_NOTIFICATION_COUNT_KEY, accountId.toString()));
     }
 
     /**
@@ -118,19 +140,29 @@ public class NotificationServiceImpl implements NotificationService {
                 .orElseThrow(() -> new RestApiException(ErrorCodes.NotFound.NOT_FOUND_NOTIFICATION));
         foundNotification.setDeleted();
         notificationRepository.save(foundNotification);
+        if (foundNotification.getReadAt() == null) {
+            decreaseUnreadNotificationCount(accountId);
+        }
     }
 
     /**
      * 새 댓글 알림을 생성합니다.
+     * 아웃박스 이벤트는 중복 전달될 수 있으므로 이미 생성된 알림이 있다면 새로 생성하거나 다시 전송하지 않습니다.
+     * 동시에 전달된 경우에는 comment_id 의 unique 제약 조건으로 하나만 저장되고, 실패한 전달은 재시도에서 기존 알림을 찾습니다.
      *
-     * @param comment 관련 댓글
-     * @return 생성된 알림 데이터 모델
+     * @param commentId 관련 댓글 Id
+     * @return 생성된 알림 데이터 모델 (이미 생성된 경우 기존 알림)
      */
     @Override
     @Transactional
-    public NotificationDto createCommentNotification(CommentDto comment) {
+    public NotificationDto createCommentNotification(UUID commentId) {
+        var existingNotification = notificationRepository.findCommentNotificationByCommentId(commentId);
+        if (existingNotification.isPresent()) {
+            return notificationMapper.EntityToNotificationDto(existingNotification.get());
+        }
+
         var foundComment = commentRepository
-                .findById(comment.getId())
+                .findById(commentId)
                 .orElseThrow(() -> new RestApiException(ErrorCodes.NotFound.NOT_FOUND));
 
         var receiverAccountId = foundComment.getPost().getAuthor().getId();
@@ -141,8 +173,9 @@ public class NotificationServiceImpl implements NotificationService {
             throw new RestApiException(ErrorCodes.NotFound.NOT_FOUND);
         }
 
-        var senderAccountId = foundComment.getAuthor().getId();
-        if (receiverAccountId.equals(senderAccountId)) {
+        // 비회원 댓글은 작성자 계정이 없으므로 항상 알림을 생성한다.
+        var senderAccount = foundComment.getAuthor();
+        if (senderAccount != null && receiverAccountId.equals(senderAccount.getId())) {
             return null;
         }
 
@@ -152,6 +185,72 @@ public class NotificationServiceImpl implements NotificationService {
                 .build();
 
         var savedNotification = notificationRepository.save(notification);
+        eventPublisher.publishEvent(new CreateNotificationEvent(this, savedNotification));
         return notificationMapper.EntityToNotificationDto(savedNotification);
     }
+
+    /**
+     * 읽지 않은 알림 수를 조회합니다.
+     * Redis 에 저장된 값이 없는 경우에만 DB 에서 계산하여 저장합니다.
+     *
+     * @param accountId 조회할 대상의 계정 Id
+     * @return 읽지 않은 알림 수
+     */
+    @Override
+    public long getUnreadNotificationCount(UUID accountId) {
+        HashOperations<String, String, String> hashOperations = redisTemplate.opsForHash();
+        var hashKey = accountId.toString();
+        var cachedCount = hashOperations.get(UNREAD_NOTIFICATION_COUNT_KEY, hashKey);
+        if (cachedCount != null) {
+            return Math.max(0L, Long.parseLong(cachedCount));
+        }
+
+        var count = notificationRepository.countByAccountIdAndDeletedIsFalseAndReadAtIsNull(accountId);
+        hashOperations.putIfAbsent(UNREAD_NOTIFICATION_COUNT_KEY, hashKey, String.valueOf(count));
+        return count;
+    }
+
+    /**
+     * 새 알림이 생성된 후 읽지 않은 알림 수를 증가시킵니다.
+     *
+     * @param accountId 알림을 받은 계정 Id
+     * @return 증가된 읽지 않은 알림 수
+     */
+    @Override
+    public long increaseUnreadNotificationCount(UUID accountId) {
+        var increased = addUnreadNotificationCount(accountId, 1L);
+        // 저장된 값이 없다면 커밋된 새 알림을 포함하여 DB 에서 다시 계산한다.
+        return increased != null ? increased : getUnreadNotificationCount(accountId);
+    }
+
+    /**
+     * 트랜잭션이 커밋된 후 읽지 않은 알림 수를 감소시킵니다.
+     * 롤백된 변경이 반영되지 않도록 커밋 이후에 적용합니다.
+     */
+    private void decreaseUnreadNotificationCount(UUID accountId) {
+        afterCommit(() -> addUnreadNotificationCount(accountId, -1L));
+    }
+
+    /**
+     * 저장된 읽지 않은 알림 수에 값을 더합니다.
+     * 값의 존재 확인과 변경을 하나의 스크립트로 실행하여, 그 사이에 값이 제거되어 잘못된 값이 생성되지 않도록 합니다.
+     *
+     * @return 변경된 값, 저장된 값이 없는 경우 null
+     */
+    private Long addUnreadNotificationCount(UUID accountId, long delta) {
+        return redisTemplate.execute(ADD_UNREAD_NOTIFICATION_COUNT_SCRIPT, List.of(UNREAD_NOTIFICATION_COUNT_KEY), accountId.toString(), String.valueOf(delta));
+    }
+
+    private static void afterCommit(Runnable runnable) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    runnable.run();
+                }
+            });
+        } else {
+            runnable.run();
+        }
+    }
 }
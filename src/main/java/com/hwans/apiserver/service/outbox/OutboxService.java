@@ -0,0 +1,46 @@
+package com.hwans.apiserver.service.outbox;
+
+import com.hwans.apiserver.entity.outbox.OutboxMessage;
+import com.hwans.apiserver.event.DomainEvent;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 트랜잭션 아웃박스 서비스 인터페이스
+ */
+public interface OutboxService {
+    /**
+     * 도메인 이벤트를 현재 트랜잭션 안에서 아웃박스에 저장한다.
+     * 트랜잭션이 롤백되면 이벤트도 함께 사라지며, 커밋된 이벤트는 최소 한 번 이상 핸들러에 전달된다.
+     *
+     * @param event 도메인 이벤트
+     */
+    void publish(DomainEvent event);
+
+    /**
+     * 처리 가능한 메시지를 가져간다.
+     * 다른 노드가 가져가는 중인 메시지는 기다리지 않고 건너뛰며, 가져간 메시지는 임대 시간 동안 다른 노드가 가져가지 않는다.
+     *
+     * @param batchSize 최대 메시지 수
+     * @return 가져간 메시지
+     */
+    List<OutboxMessage> claimMessages(int batchSize);
+
+    /**
+     * 처리가 완료된 메시지를 삭제한다.
+     *
+     * @param outboxMessageIds 메시지 Id 목록
+     */
+    void completeMessages(Collection<UUID> outboxMessageIds);
+
+    /**
+     * 처리에 실패한 메시지를 지수 백오프 후 다시 시도하도록 예약한다.
+     * 최대 시도 횟수를 넘긴 메시지는 로그를 남기고 삭제한다.
+     *
+     * @param outboxMessageId 메시지 Id
+     * @param error           실패 사유
+     */
+    void failMessage(UUID outboxMessageId, String error);
+}
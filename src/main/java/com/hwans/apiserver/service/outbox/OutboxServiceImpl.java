@@ -0,0 +1,100 @@
+package com.hwans.apiserver.service.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hwans.apiserver.entity.outbox.OutboxMessage;
+import com.hwans.apiserver.event.DomainEvent;
+import com.hwans.apiserver.event.outbox.CreateOutboxMessageEvent;
+import com.hwans.apiserver.repository.outbox.OutboxMessageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 트랜잭션 아웃박스 서비스 구현체
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxServiceImpl implements OutboxService {
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${outbox.lease:60000}")
+    private long lease;
+    @Value("${outbox.retry-backoff:1000}")
+    private long retryBackoff;
+    @Value("${outbox.max-retry-backoff:3600000}")
+    private long maxRetryBackoff;
+    @Value("${outbox.max-attempts:20}")
+    private int maxAttempts;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(DomainEvent event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("domain event serialization failed", e);
+        }
+
+        outboxMessageRepository.save(OutboxMessage.builder()
+                .eventType(event.getClass().getSimpleName())
+                .payload(payload)
+                .availableAt(LocalDateTime.now())
+                .build());
+        eventPublisher.publishEvent(new CreateOutboxMessageEvent(this));
+    }
+
+    @Override
+    @Transactional
+    public List<OutboxMessage> claimMessages(int batchSize) {
+        var now = LocalDateTime.now();
+        var messages = outboxMessageRepository.findAvailableForUpdateSkipLocked(now, PageRequest.of(0, batchSize));
+        var leaseUntil = now.plus(lease, ChronoUnit.MILLIS);
+        messages.forEach(x -> x.claim(leaseUntil));
+        return messages;
+    }
+
+    @Override
+    @Transactional
+    public void completeMessages(Collection<UUID> outboxMessageIds) {
+        if (outboxMessageIds.isEmpty()) {
+            return;
+        }
+        outboxMessageRepository.deleteAllByIdInBatch(outboxMessageIds);
+    }
+
+    @Override
+    @Transactional
+    public void failMessage(UUID outboxMessageId, String error) {
+        outboxMessageRepository.findById(outboxMessageId).ifPresent(message -> {
+            if (message.getAttempts() >= maxAttempts) {
+                log.error("outbox message {} ({}) dropped after {} attempts: {}",
+                        message.getId(), message.getEventType(), message.getAttempts(), error);
+                outboxMessageRepository.delete(message);
+                return;
+            }
+
+            var backoff = Math.min(maxRetryBackoff, retryBackoff << Math.max(0, Math.min(message.getAttempts() - 1, 30)));
+            var lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+            message.retry(LocalDateTime.now().plus(backoff, ChronoUnit.MILLIS), lastError);
+        });
+    }
+}
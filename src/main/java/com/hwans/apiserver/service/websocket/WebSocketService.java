@@ -1,10 +1,34 @@
 package com.hwans.apiserver.service.websocket;
 
+import com.hwans.apiserver.dto.websocket.MessageDto;
 import org.springframework.web.socket.WebSocketHandler;
 
+import java.util.UUID;
+
 /**
  * 웹소켓 서비스 인터페이스
  */
 public interface WebSocketService {
     WebSocketHandler getWebSocketHandler();
+
+    /**
+     * 채팅방을 구독 중인 세션들에게 메시지를 전송한다.
+     *
+     * @param chatRoomId 채팅방 Id
+     * @param message    전송할 메시지
+     */
+    void sendToChatRoom(UUID chatRoomId, MessageDto message);
+
+    /**
+     * 계정으로 인증된 세션들에게 메시지를 전송한다.
+     *
+     * @param accountId 계정 Id
+     * @param message   전송할 메시지
+     */
+    void sendToAccount(UUID accountId, MessageDto message);
+
+    /**
+     * 마지막 호출 이후 세션 수가 변경된 경우 접속 중인 세션들에게 전체 세션 수를 한번만 전송한다.
+     */
+    void broadcastSessionCount();
 }
@@ -1,59 +1,358 @@
 package com.hwans.apiserver.service.websocket;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hwans.apiserver.dto.cluster.ClusterMessageDto;
+import com.hwans.apiserver.dto.cluster.ClusterMessageTopic;
 import com.hwans.apiserver.dto.websocket.MessageDto;
 import com.hwans.apiserver.dto.websocket.MessageType;
+import com.hwans.apiserver.service.authentication.AuthenticationService;
+import com.hwans.apiserver.service.chat.ChatService;
+import com.hwans.apiserver.service.cluster.ClusterMessageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class WebSocketServiceImpl extends TextWebSocketHandler implements WebSocketService {
-    private Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+    private static final String SUBSCRIBED_CHAT_ROOMS_ATTRIBUTE = "subscribedChatRooms";
+    private static final String ACCOUNT_ID_ATTRIBUTE = "accountId";
+    private static final int MAX_CHAT_ROOM_SUBSCRIPTIONS_PER_SESSION = 16;
+
+    private final ObjectMapper objectMapper;
+    private final ClusterMessageService clusterMessageService;
+    private final AuthenticationService authenticationService;
+    private final ChatService chatService;
+    /**
+     * 세션 Id 별 송신 버퍼가 제한된 세션
+     */
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+    /**
+     * 채팅방 Id 별 구독 중인 세션
+     */
+    private final Map<UUID, Set<WebSocketSession>> chatRoomSubscribers = new ConcurrentHashMap<>();
+    /**
+     * 계정 Id 별 인증된 세션
+     */
+    private final Map<UUID, Set<WebSocketSession>> accountSessions = new ConcurrentHashMap<>();
+    /**
+     * 연결된 이후 아직 세션 수를 전달받지 못한 세션
+     */
+    private final Set<WebSocketSession> sessionsAwaitingSessionCount = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean localSessionCountChanged = new AtomicBoolean();
+    private final AtomicBoolean clusterSessionCountChanged = new AtomicBoolean();
+    private final ReentrantLock broadcastSessionCountLock = new ReentrantLock();
+    private int lastReportedLocalSessionCount = -1;
+    private int lastSentSessionCount = -1;
+
+    /**
+     * 하나의 메시지 전송에 허용되는 최대 시간 (ms)
+     */
+    @Value("${websocket.send-time-limit:5000}")
+    private int sendTimeLimit;
+
+    /**
+     * 세션별로 전송 대기할 수 있는 최대 메시지 크기 (byte)
+     */
+    @Value("${websocket.buffer-size-limit:524288}")
+    private int bufferSizeLimit;
+
+    @PostConstruct
+    public void registerClusterMessageListeners() {
+        clusterMessageService.addListener(ClusterMessageTopic.CHAT_ROOM_MESSAGE, message -> deliver(chatRoomSubscribers, message));
+        clusterMessageService.addListener(ClusterMessageTopic.ACCOUNT_MESSAGE, message -> deliver(accountSessions, message));
+        clusterMessageService.addListener(ClusterMessageTopic.SESSION_COUNT_CHANGED, message -> clusterSessionCountChanged.set(true));
+    }
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) {
-        var sessionId = session.getId();
-        sessions.put(sessionId, session);
+        // 메시지를 제때 소비하지 못하는 세션은 송신 버퍼가 가득 차면 종료시켜 다른 세션으로의 전송이 지연되지 않도록 한다.
+        var decoratedSession = new ConcurrentWebSocketSessionDecorator(session, sendTimeLimit, bufferSizeLimit,
+                ConcurrentWebSocketSessionDecorator.OverflowStrategy.TERMINATE);
+        decoratedSession.getAttributes().put(SUBSCRIBED_CHAT_ROOMS_ATTRIBUTE, ConcurrentHashMap.<UUID>newKeySet());
+        sessions.put(session.getId(), decoratedSession);
+        sessionsAwaitingSessionCount.add(decoratedSession);
 
         NotifySessionCountChanged();
     }
 
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
-        var sessionId = session.getId();
-        sessions.remove(sessionId);
+        var decoratedSession = sessions.remove(session.getId());
+        if (decoratedSession != null) {
+            sessionsAwaitingSessionCount.remove(decoratedSession);
+            getSubscribedChatRooms(decoratedSession).forEach(chatRoomId -> unsubscribeChatRoom(decoratedSession, chatRoomId));
+            unbindAccount(decoratedSession);
+        }
 
         NotifySessionCountChanged();
     }
 
     @Override
     public void handleTextMessage(WebSocketSession session, TextMessage message) {
+        var decoratedSession = sessions.get(session.getId());
+        if (decoratedSession == null) {
+            return;
+        }
+
+        MessageDto request;
+        try {
+            request = objectMapper.readValue(message.getPayload(), MessageDto.class);
+        } catch (JsonProcessingException e) {
+            log.debug("invalid websocket message from session {}", session.getId());
+            return;
+        }
+        if (request.getType() == null) {
+            return;
+        }
+
+        switch (request.getType()) {
+            case SUBSCRIBE_CHAT_ROOM -> parseChatRoomId(request).ifPresent(chatRoomId -> subscribeChatRoom(decoratedSession, chatRoomId));
+            case UNSUBSCRIBE_CHAT_ROOM -> parseChatRoomId(request).ifPresent(chatRoomId -> unsubscribeChatRoom(decoratedSession, chatRoomId));
+            case AUTHENTICATE -> authenticate(decoratedSession, request);
+            default -> log.debug("unsupported websocket message type: {}", request.getType());
+        }
+    }
+
+    @Override
+    public void sendToChatRoom(UUID chatRoomId, MessageDto message) {
+        // 다른 노드에 접속한 구독자에게도 전달되도록 직렬화된 메시지를 클러스터에 발행한다.
+        serialize(message).ifPresent(payload ->
+                clusterMessageService.publish(ClusterMessageTopic.CHAT_ROOM_MESSAGE, chatRoomId.toString(), payload));
+    }
+
+    @Override
+    public void sendToAccount(UUID accountId, MessageDto message) {
+        serialize(message).ifPresent(payload ->
+                clusterMessageService.publish(ClusterMessageTopic.ACCOUNT_MESSAGE, accountId.toString(), payload));
+    }
+
+    /**
+     * 클러스터 메시지를 대상 Id 에 해당하는 현재 노드의 세션들에게 전송한다.
+     *
+     * @param targetSessions 대상 Id 별 세션
+     * @param message        클러스터 메시지
+     */
+    private void deliver(Map<UUID, Set<WebSocketSession>> targetSessions, ClusterMessageDto message) {
+        UUID targetId;
+        try {
+            targetId = UUID.fromString(message.getTarget());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            log.debug("invalid cluster message target: {}, {}", message.getTopic(), message.getTarget());
+            return;
+        }
+
+        var targets = targetSessions.get(targetId);
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+
+        var textMessage = new TextMessage(message.getPayload());
+        targets.forEach(session -> send(session, textMessage));
+    }
+
+    private void authenticate(WebSocketSession session, MessageDto request) {
+        var accountId = request.getPayload() instanceof String accessToken
+                ? authenticationService.authenticateAccessToken(accessToken)
+                : Optional.<UUID>empty();
+
+        // 구독 권한은 인증된 계정 기준이므로 다시 인증하는 경우 기존 구독을 모두 해제한다.
+        unbindAccount(session);
+        getSubscribedChatRooms(session).forEach(chatRoomId -> unsubscribeChatRoom(session, chatRoomId));
+        accountId.ifPresent(id -> bindAccount(session, id));
+        send(List.of(session), MessageDto.builder().type(MessageType.AUTHENTICATED).payload(accountId.isPresent()).build());
+    }
+
+    private void bindAccount(WebSocketSession session, UUID accountId) {
+        session.getAttributes().put(ACCOUNT_ID_ATTRIBUTE, accountId);
+        accountSessions.compute(accountId, (key, boundSessions) -> {
+            var result = boundSessions == null ? ConcurrentHashMap.<WebSocketSession>newKeySet() : boundSessions;
+            result.add(session);
+            return result;
+        });
+
+        // 인증 처리 중 연결이 종료된 경우 인증 정보가 남지 않도록 한다.
+        if (!sessions.containsKey(session.getId())) {
+            unbindAccount(session);
+        }
+    }
+
+    private void unbindAccount(WebSocketSession session) {
+        var accountId = (UUID) session.getAttributes().remove(ACCOUNT_ID_ATTRIBUTE);
+        if (accountId == null) {
+            return;
+        }
+        accountSessions.computeIfPresent(accountId, (key, boundSessions) -> {
+            boundSessions.remove(session);
+            return boundSessions.isEmpty() ? null : boundSessions;
+        });
+    }
+
+    /**
+     * 채팅방을 구독한다.
+     * REST 채팅 API 와 같이 인증된 세션만 구독할 수 있으며, 인증된 계정이 채팅방의 참여자가 아니면 구독하지 않는다.
+     */
+    private void subscribeChatRoom(WebSocketSession session, UUID chatRoomId) {
+        var accountId = (UUID) session.getAttributes().get(ACCOUNT_ID_ATTRIBUTE);
+        if (accountId == null) {
+            log.debug("chat room subscription from unauthenticated session: {}", session.getId());
+            return;
+        }
+        if (!chatService.isChatRoomMember(accountId, chatRoomId)) {
+            log.debug("chat room subscription from non member: {}, {}", accountId, chatRoomId);
+            return;
+        }
 
+        var subscribedChatRooms = getSubscribedChatRooms(session);
+        if (subscribedChatRooms.size() >= MAX_CHAT_ROOM_SUBSCRIPTIONS_PER_SESSION) {
+            log.debug("too many chat room subscriptions: {}", session.getId());
+            return;
+        }
+
+        subscribedChatRooms.add(chatRoomId);
+        chatRoomSubscribers.compute(chatRoomId, (key, subscribers) -> {
+            var result = subscribers == null ? ConcurrentHashMap.<WebSocketSession>newKeySet() : subscribers;
+            result.add(session);
+            return result;
+        });
+
+        // 구독 처리 중 연결이 종료된 경우 구독 정보가 남지 않도록 한다.
+        if (!sessions.containsKey(session.getId())) {
+            unsubscribeChatRoom(session, chatRoomId);
+        }
+    }
+
+    private void unsubscribeChatRoom(WebSocketSession session, UUID chatRoomId) {
+        getSubscribedChatRooms(session).remove(chatRoomId);
+        chatRoomSubscribers.computeIfPresent(chatRoomId, (key, subscribers) -> {
+            subscribers.remove(session);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<UUID> getSubscribedChatRooms(WebSocketSession session) {
+        return (Set<UUID>) session.getAttributes().get(SUBSCRIBED_CHAT_ROOMS_ATTRIBUTE);
+    }
+
+    private Optional<UUID> parseChatRoomId(MessageDto request) {
+        try {
+            return Optional.of(UUID.fromString(String.valueOf(request.getPayload())));
+        } catch (IllegalArgumentException e) {
+            log.debug("invalid chat room id: {}", request.getPayload());
+            return Optional.empty();
+        }
     }
 
     private void NotifySessionCountChanged() {
-        var message = MessageDto.builder().type(MessageType.SESSION_COUNT_CHANGED).payload(sessions.size()).build();
-        var objectMapper = new ObjectMapper();
-
-        sessions.values().forEach(session -> {
-            try {
-                session.sendMessage(new TextMessage(objectMapper.writeValueAsString(message)));
-            } catch (Exception e) {
-                log.info("NotifySessionCountChanged failed");
-                log.trace("NotifySessionCountChanged failed trace: {}", e);
+        // 연결이 몰리는 경우에도 세션 수 전송은 broadcastSessionCount 주기마다 한번만 이루어진다.
+        localSessionCountChanged.set(true);
+    }
+
+    @Override
+    public void broadcastSessionCount() {
+        // Redis 조회와 세션 전송 중에 가상 스레드가 캐리어 스레드에 고정(pinning)되지 않도록 synchronized 대신 ReentrantLock 을 사용한다.
+        broadcastSessionCountLock.lock();
+        try {
+            broadcastSessionCountLocked();
+        } finally {
+            broadcastSessionCountLock.unlock();
+        }
+    }
+
+    private void broadcastSessionCountLocked() {
+        if (localSessionCountChanged.getAndSet(false)) {
+            var localSessionCount = sessions.size();
+            if (localSessionCount != lastReportedLocalSessionCount) {
+                lastReportedLocalSessionCount = localSessionCount;
+                clusterMessageService.updateLocalSessionCount(localSessionCount);
             }
-        });
+        }
+
+        if (clusterSessionCountChanged.getAndSet(false)) {
+            var sessionCount = clusterMessageService.getClusterSessionCount();
+            if (sessionCount != lastSentSessionCount) {
+                lastSentSessionCount = sessionCount;
+                sessionsAwaitingSessionCount.clear();
+                send(sessions.values(), createSessionCountMessage(sessionCount));
+                return;
+            }
+        }
+
+        // 세션 수는 그대로이지만 새로 연결된 세션에게는 현재 세션 수를 전송한다.
+        if (!sessionsAwaitingSessionCount.isEmpty() && lastSentSessionCount >= 0) {
+            var targets = new ArrayList<WebSocketSession>(sessionsAwaitingSessionCount.size());
+            for (var iterator = sessionsAwaitingSessionCount.iterator(); iterator.hasNext(); ) {
+                targets.add(iterator.next());
+                iterator.remove();
+            }
+            send(targets, createSessionCountMessage(lastSentSessionCount));
+        }
+    }
+
+    private MessageDto createSessionCountMessage(int sessionCount) {
+        return MessageDto.builder()
+                .type(MessageType.SESSION_COUNT_CHANGED)
+                .payload(sessionCount)
+                .build();
+    }
+
+    /**
+     * 메시지를 한번만 직렬화하여 모든 대상 세션에 전송한다.
+     *
+     * @param targets 전송 대상 세션
+     * @param message 전송할 메시지
+     */
+    private void send(Collection<WebSocketSession> targets, MessageDto message) {
+        serialize(message).map(TextMessage::new).ifPresent(textMessage -> targets.forEach(session -> send(session, textMessage)));
+    }
+
+    private Optional<String> serialize(MessageDto message) {
+        try {
+            return Optional.of(objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            log.error("websocket message serialization failed: {}", message.getType(), e);
+            return Optional.empty();
+        }
+    }
+
+    private void send(WebSocketSession session, TextMessage message) {
+        if (!session.isOpen()) {
+            return;
+        }
+
+        try {
+            session.sendMessage(message);
+        } catch (SessionLimitExceededException e) {
+            // 세션은 데코레이터에 의해 종료되며 afterConnectionClosed 에서 정리된다.
+            log.info("slow websocket session terminated: {}", session.getId());
+        } catch (IOException | IllegalStateException e) {
+            log.info("websocket send failed: {}", session.getId());
+            log.trace("websocket send failed trace: {}", e);
+        }
     }
 
     @Override
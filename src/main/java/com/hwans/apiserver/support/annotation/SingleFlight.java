@@ -0,0 +1,17 @@
+package com.hwans.apiserver.support.annotation;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+
+/**
+ * 같은 인자로 동시에 호출된 메서드를 한번만 실행하고 결과(또는 예외)를 모든 호출자가 공유하도록 하는 어노테이션
+ * 실행 중인 호출이 끝난 뒤의 호출은 다시 실행되므로 결과를 캐시하지 않으며, 인자는 equals/hashCode 를 구현해야 한다.
+ * 반환 값이 모든 호출자에게 공유되므로 호출자별로 달라지는 값(인증 정보 등)에 의존하는 메서드에는 사용하지 않는다.
+ */
+@Target(METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SingleFlight {
+}
@@ -0,0 +1,35 @@
+package com.hwans.apiserver.support.async;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 작업 큐가 가득 찼을 때의 처리 방식
+ */
+public enum RejectionPolicy {
+    /**
+     * RejectedExecutionException 을 던진다.
+     */
+    ABORT,
+    /**
+     * 작업을 요청한 스레드에서 직접 실행하여 요청 측의 속도를 늦춘다.
+     */
+    CALLER_RUNS,
+    /**
+     * 새 작업을 버린다.
+     */
+    DISCARD,
+    /**
+     * 큐에서 가장 오래된 작업을 버리고 새 작업을 넣는다.
+     */
+    DISCARD_OLDEST;
+
+    public RejectedExecutionHandler createHandler() {
+        return switch (this) {
+            case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+            case DISCARD -> new ThreadPoolExecutor.DiscardPolicy();
+            case DISCARD_OLDEST -> new ThreadPoolExecutor.DiscardOldestPolicy();
+        };
+    }
+}
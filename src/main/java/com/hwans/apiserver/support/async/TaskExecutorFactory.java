@@ -0,0 +1,135 @@
+package com.hwans.apiserver.support.async;
+
+import com.hwans.apiserver.support.thread.VirtualThreads;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 작업 유형(workload) 별 크기가 제한된 스레드 풀을 생성한다.
+ * 설정은 async.executors.{이름}.* 에서 읽으며, 생성된 스레드 풀은 다음 기능을 가진다.
+ * <ul>
+ *     <li>요청 스레드의 MDC(traceId 등)를 작업 스레드로 전달</li>
+ *     <li>큐 대기 시간(executor.idle), 실행 시간(executor), 큐 길이, 활성 스레드 수, 거부 횟수 메트릭</li>
+ *     <li>virtual-threads.enabled 가 켜져 있고 런타임이 지원하는 경우 가상 스레드에서 실행</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskExecutorFactory {
+    private static final String PROPERTY_PREFIX = "async.executors.";
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 스레드 풀을 생성한다.
+     * 반환된 스레드 풀은 초기화되지 않은 상태이므로 빈으로 등록하지 않는 경우 initialize() 를 호출해야 한다.
+     *
+     * @param name     작업 유형 이름
+     * @param defaults 설정이 없을 때 사용할 기본값
+     * @return 스레드 풀
+     */
+    public ThreadPoolTaskExecutor create(String name, ExecutorDefaults defaults) {
+        var prefix = PROPERTY_PREFIX + name + ".";
+        var corePoolSize = environment.getProperty(prefix + "core-size", Integer.class, defaults.corePoolSize());
+        var maxPoolSize = environment.getProperty(prefix + "max-size", Integer.class, Math.max(corePoolSize, defaults.maxPoolSize()));
+        var queueCapacity = environment.getProperty(prefix + "queue-capacity", Integer.class, defaults.queueCapacity());
+        var rejectionPolicy = environment.getProperty(prefix + "rejection-policy", RejectionPolicy.class, defaults.rejectionPolicy());
+
+        var tags = new String[]{"name", name};
+        var rejectedCounter = Counter.builder("executor.rejected").tags(tags).register(meterRegistry);
+        var rejectedExecutionHandler = rejectionPolicy.createHandler();
+
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setBeanName(name + "Executor");
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(name + "-");
+        executor.setRejectedExecutionHandler((task, threadPoolExecutor) -> {
+            rejectedCounter.increment();
+            rejectedExecutionHandler.rejectedExecution(task, threadPoolExecutor);
+        });
+        executor.setTaskDecorator(new InstrumentedTaskDecorator(
+                Timer.builder("executor.idle").tags(tags).register(meterRegistry),
+                Timer.builder("executor").tags(tags).register(meterRegistry)));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        if (environment.getProperty("virtual-threads.enabled", Boolean.class, false)) {
+            VirtualThreads.newThreadFactory(name + "-").ifPresentOrElse(executor::setThreadFactory,
+                    () -> log.warn("virtual threads are not available on this runtime, {} executor uses platform threads", name));
+        }
+
+        gauge("executor.pool.size", executor, tags, ThreadPoolTaskExecutor::getPoolSize);
+        gauge("executor.active", executor, tags, ThreadPoolTaskExecutor::getActiveCount);
+        gauge("executor.queued", executor, tags, x -> x.getThreadPoolExecutor().getQueue().size());
+        gauge("executor.queue.remaining", executor, tags, x -> x.getThreadPoolExecutor().getQueue().remainingCapacity());
+        return executor;
+    }
+
+    private void gauge(String meterName, ThreadPoolTaskExecutor executor, String[] tags, ToDoubleFunction<ThreadPoolTaskExecutor> value) {
+        Gauge.builder(meterName, executor, x -> {
+            try {
+                return value.applyAsDouble(x);
+            } catch (IllegalStateException e) {
+                // 아직 초기화되지 않았거나 종료된 스레드 풀
+                return Double.NaN;
+            }
+        }).tags(tags).register(meterRegistry);
+    }
+
+    /**
+     * 스레드 풀 설정의 기본값
+     *
+     * @param corePoolSize    기본 스레드 수
+     * @param maxPoolSize     최대 스레드 수
+     * @param queueCapacity   작업 큐 크기
+     * @param rejectionPolicy 작업 큐가 가득 찼을 때의 처리 방식
+     */
+    public record ExecutorDefaults(int corePoolSize, int maxPoolSize, int queueCapacity, RejectionPolicy rejectionPolicy) {
+    }
+
+    /**
+     * 작업을 제출한 스레드의 MDC 를 전달하고 큐 대기 시간과 실행 시간을 기록한다.
+     */
+    private record InstrumentedTaskDecorator(Timer idleTimer, Timer executionTimer) implements TaskDecorator {
+        @Override
+        public Runnable decorate(Runnable runnable) {
+            var contextMap = MDC.getCopyOfContextMap();
+            var submittedAt = System.nanoTime();
+            return () -> {
+                var startedAt = System.nanoTime();
+                idleTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                var previousContextMap = MDC.getCopyOfContextMap();
+                if (contextMap == null) {
+                    MDC.clear();
+                } else {
+                    MDC.setContextMap(contextMap);
+                }
+                try {
+                    runnable.run();
+                } finally {
+                    executionTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    if (previousContextMap == null) {
+                        MDC.clear();
+                    } else {
+                        MDC.setContextMap(previousContextMap);
+                    }
+                }
+            };
+        }
+    }
+}
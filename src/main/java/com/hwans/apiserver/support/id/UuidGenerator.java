@@ -0,0 +1,16 @@
+package com.hwans.apiserver.support.id;
+
+import java.util.UUID;
+
+/**
+ * 엔티티 식별자로 사용할 UUID 생성기
+ */
+@FunctionalInterface
+public interface UuidGenerator {
+    /**
+     * 새로운 UUID 를 생성한다.
+     *
+     * @return 생성된 UUID
+     */
+    UUID generate();
+}
@@ -0,0 +1,45 @@
+package com.hwans.apiserver.support.id;
+
+import org.hibernate.HibernateException;
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.io.Serializable;
+import java.util.Properties;
+import java.util.UUID;
+
+/**
+ * 엔티티의 UUID 식별자를 생성하는 Hibernate 식별자 생성기
+ * hibernate 설정의 hwans.id.uuid-strategy 값으로 생성 방식을 선택한다.
+ * <ul>
+ *     <li>v7 (기본값): 시간 순으로 정렬되는 UUID 버전 7</li>
+ *     <li>random: 무작위 UUID 버전 4</li>
+ * </ul>
+ */
+public class UuidIdentifierGenerator implements IdentifierGenerator {
+    public static final String STRATEGY_SETTING = "hwans.id.uuid-strategy";
+
+    private UuidGenerator generator = UuidV7Generator.INSTANCE;
+
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
+        var strategy = serviceRegistry
+                .getService(ConfigurationService.class)
+                .getSetting(STRATEGY_SETTING, StandardConverters.STRING, "v7");
+        generator = switch (strategy) {
+            case "v7" -> UuidV7Generator.INSTANCE;
+            case "random" -> UUID::randomUUID;
+            default -> throw new MappingException("unknown uuid strategy: " + strategy);
+        };
+    }
+
+    @Override
+    public Serializable generate(SharedSessionContractImplementor session, Object object) throws HibernateException {
+        return generator.generate();
+    }
+}
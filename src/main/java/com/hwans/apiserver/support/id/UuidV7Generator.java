@@ -0,0 +1,67 @@
+package com.hwans.apiserver.support.id;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 순으로 정렬되는 UUID 버전 7 생성기
+ * 상위 48비트는 밀리초 단위의 Unix 시간, 이어지는 12비트는 같은 밀리초 내의 순번, 나머지 62비트는 난수로 채운다.
+ * 하나의 생성기에서 생성된 UUID 는 시계가 뒤로 가더라도 항상 단조 증가하므로 BINARY(16) 클러스터드 인덱스의 끝에 순서대로 삽입된다.
+ */
+public class UuidV7Generator implements UuidGenerator {
+    public static final UuidV7Generator INSTANCE = new UuidV7Generator();
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION_BITS = 0x7000L;
+    private static final long VARIANT_BITS = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private final SecureRandom random = new SecureRandom();
+    private final LongSupplier clock;
+    /**
+     * 마지막으로 발급한 (밀리초 << 12 | 순번) 값
+     */
+    private final AtomicLong lastState = new AtomicLong();
+
+    public UuidV7Generator() {
+        this(System::currentTimeMillis);
+    }
+
+    UuidV7Generator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public UUID generate() {
+        long previous;
+        long next;
+        do {
+            previous = lastState.get();
+            var now = clock.getAsLong();
+            // 같은 밀리초이거나 시계가 뒤로 간 경우 순번을 증가시키며, 순번이 넘치면 다음 밀리초로 넘어간다.
+            next = now > (previous >>> COUNTER_BITS) ? now << COUNTER_BITS : previous + 1;
+        } while (!lastState.compareAndSet(previous, next));
+
+        var timestamp = next >>> COUNTER_BITS;
+        var counter = next & COUNTER_MASK;
+        var mostSigBits = (timestamp << 16) | VERSION_BITS | counter;
+        var leastSigBits = (random.nextLong() & RANDOM_MASK) | VARIANT_BITS;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * UUID 버전 7 에 기록된 생성 시각을 반환한다.
+     *
+     * @param uuid UUID 버전 7
+     * @return 밀리초 단위의 Unix 시간
+     */
+    public static long getTimestamp(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("not a version 7 uuid: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
@@ -0,0 +1,97 @@
+package com.hwans.apiserver.support.mail;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * {{token}} 형식의 치환 토큰을 가진 메일 템플릿
+ * 템플릿은 한번만 읽어 고정 문자열 조각과 토큰 이름 배열로 분해해 두고, 전송 시에는 조각을 순서대로 이어 붙이기만 한다.
+ */
+public final class MailTemplate {
+    private static final Pattern TOKEN_PATTERN = Pattern.compile("\\{\\{([a-z0-9-]+)}}");
+
+    /**
+     * 고정 문자열 조각, tokens.length + 1 개이며 i 번째 토큰은 i 번째와 i + 1 번째 조각 사이에 위치한다.
+     */
+    private final String[] segments;
+    private final String[] tokens;
+    private final int segmentsLength;
+
+    private MailTemplate(String[] segments, String[] tokens) {
+        this.segments = segments;
+        this.tokens = tokens;
+        var length = 0;
+        for (var segment : segments) {
+            length += segment.length();
+        }
+        this.segmentsLength = length;
+    }
+
+    /**
+     * 템플릿 문자열을 분해한다.
+     *
+     * @param source 템플릿 문자열
+     * @return 메일 템플릿
+     */
+    public static MailTemplate compile(String source) {
+        var segments = new ArrayList<String>();
+        var tokens = new ArrayList<String>();
+        var matcher = TOKEN_PATTERN.matcher(source);
+        var position = 0;
+        while (matcher.find()) {
+            segments.add(source.substring(position, matcher.start()));
+            tokens.add(matcher.group(1));
+            position = matcher.end();
+        }
+        segments.add(source.substring(position));
+        return new MailTemplate(segments.toArray(String[]::new), tokens.toArray(String[]::new));
+    }
+
+    /**
+     * 클래스패스의 템플릿 파일을 읽어 분해한다.
+     *
+     * @param path 클래스패스 경로
+     * @return 메일 템플릿
+     */
+    public static MailTemplate load(String path) {
+        try (var inputStream = new ClassPathResource(path).getInputStream()) {
+            return compile(StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to load mail template: " + path, e);
+        }
+    }
+
+    /**
+     * 토큰을 파라미터 값으로 치환한다.
+     * 값은 그대로 삽입되므로 HTML 템플릿에 사용자 입력을 넣는 경우 호출하는 쪽에서 이스케이프해야 한다.
+     *
+     * @param parameters 토큰 이름 별 값
+     * @return 치환된 문자열
+     * @throws IllegalArgumentException 값이 없는 토큰이 있는 경우
+     */
+    public String render(Map<String, String> parameters) {
+        var values = new String[tokens.length];
+        var length = segmentsLength;
+        for (int i = 0; i < tokens.length; i++) {
+            values[i] = parameters.get(tokens[i]);
+            if (values[i] == null) {
+                throw new IllegalArgumentException("missing mail template parameter: " + tokens[i]);
+            }
+            length += values[i].length();
+        }
+
+        var builder = new StringBuilder(length);
+        builder.append(segments[0]);
+        for (int i = 0; i < tokens.length; i++) {
+            builder.append(values[i]).append(segments[i + 1]);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,263 @@
+package com.hwans.apiserver.support.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hwans.apiserver.common.errors.exception.RestApiException;
+import com.hwans.apiserver.entity.outbox.OutboxMessage;
+import com.hwans.apiserver.event.DomainEvent;
+import com.hwans.apiserver.event.DomainEventListener;
+import com.hwans.apiserver.service.outbox.OutboxService;
+import com.hwans.apiserver.support.async.RejectionPolicy;
+import com.hwans.apiserver.support.async.TaskExecutorFactory;
+import com.hwans.apiserver.support.async.TaskExecutorFactory.ExecutorDefaults;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 트랜잭션 아웃박스 릴레이
+ * 아웃박스 메시지를 배치 단위로 가져가 @DomainEventListener 핸들러에 병렬로 전달한다.
+ * 핸들러 단위의 처리 완료 여부를 Redis 에 멱등 키로 기록하여 재시도 시 이미 성공한 핸들러는 다시 호출하지 않는다.
+ * 한 배치의 처리 결과는 outbox.dispatch-timeout 까지만 기다리며, 시간 안에 끝나지 않은 메시지는 임대 시간이 지난 뒤 다시 전달된다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelay implements SmartInitializingSingleton {
+    static final String HANDLED_KEY_PREFIX = "outbox-handled:";
+
+    private final ApplicationContext applicationContext;
+    private final OutboxService outboxService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final TaskExecutorFactory taskExecutorFactory;
+
+    @Value("${outbox.batch-size:100}")
+    private int batchSize;
+    @Value("${outbox.parallelism:4}")
+    private int parallelism;
+    @Value("${outbox.idempotency-ttl:86400000}")
+    private long idempotencyTtl;
+    /**
+     * 한 배치의 처리 결과를 기다리는 최대 시간
+     * 메시지를 다시 전달하기 전에 포기하도록 outbox.lease 보다 짧아야 한다.
+     */
+    @Value("${outbox.dispatch-timeout:30000}")
+    private long dispatchTimeout;
+
+    /**
+     * 이벤트 타입(클래스 이름) 별 핸들러
+     */
+    private final Map<String, List<DomainEventHandler>> handlers = new HashMap<>();
+    private final AtomicBoolean relaying = new AtomicBoolean();
+    private final AtomicBoolean relayRequested = new AtomicBoolean();
+    private ThreadPoolTaskExecutor handlerExecutor;
+    private ThreadPoolTaskExecutor relayExecutor;
+
+    /**
+     * 핸들러 실행 스레드 풀과 전달 반복을 실행할 스레드를 생성한다.
+     * 핸들러 스레드 풀의 기본 크기는 outbox.parallelism, outbox.batch-size 를 따르며 async.executors.outbox-relay.* 로 변경할 수 있다.
+     * 한 배치의 메시지가 모두 큐에 들어가므로 거절되는 경우 relay 스레드에서 직접 실행한다.
+     * 전달 반복은 하나의 스레드에서만 실행되며, 실행 중에 들어온 요청은 하나만 대기하고 나머지는 버린다.
+     */
+    @PostConstruct
+    public void initialize() {
+        handlerExecutor = taskExecutorFactory.create("outbox-relay", new ExecutorDefaults(parallelism, parallelism, batchSize, RejectionPolicy.CALLER_RUNS));
+        handlerExecutor.initialize();
+        relayExecutor = taskExecutorFactory.create("outbox-relay-loop", new ExecutorDefaults(1, 1, 1, RejectionPolicy.DISCARD));
+        relayExecutor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        relayExecutor.shutdown();
+        handlerExecutor.shutdown();
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        var eventTypes = new HashMap<String, Class<?>>();
+        for (var beanName : applicationContext.getBeanNamesForAnnotation(Component.class)) {
+            var beanType = applicationContext.getType(beanName);
+            if (beanType == null) {
+                continue;
+            }
+
+            var userType = ClassUtils.getUserClass(beanType);
+            var methods = MethodIntrospector.selectMethods(userType, (MethodIntrospector.MetadataLookup<DomainEventListener>) method ->
+                    AnnotatedElementUtils.findMergedAnnotation(method, DomainEventListener.class));
+            for (var method : methods.keySet()) {
+                if (method.getParameterCount() != 1 || !DomainEvent.class.isAssignableFrom(method.getParameterTypes()[0])) {
+                    throw new IllegalStateException("@DomainEventListener method must have a single DomainEvent parameter: " + method);
+                }
+
+                var eventType = method.getParameterTypes()[0];
+                var registeredEventType = eventTypes.putIfAbsent(eventType.getSimpleName(), eventType);
+                if (registeredEventType != null && registeredEventType != eventType) {
+                    throw new IllegalStateException("duplicate domain event type name: " + eventType.getName() + ", " + registeredEventType.getName());
+                }
+
+                var bean = applicationContext.getBean(beanName);
+                var invocableMethod = AopUtils.selectInvocableMethod(method, bean.getClass());
+                ReflectionUtils.makeAccessible(invocableMethod);
+                handlers.computeIfAbsent(eventType.getSimpleName(), x -> new ArrayList<>())
+                        .add(new DomainEventHandler(userType.getSimpleName() + "." + method.getName(), eventType, bean, invocableMethod));
+            }
+        }
+    }
+
+    /**
+     * 전용 스레드에서 메시지를 전달하도록 요청하고 바로 반환한다.
+     * 스케줄러와 같이 다른 작업과 스레드를 공유하는 곳에서 전달이 끝날 때까지 기다리지 않도록 사용한다.
+     */
+    public void relayAsync() {
+        relayExecutor.execute(this::relay);
+    }
+
+    /**
+     * 처리 가능한 메시지가 없을 때까지 배치 단위로 메시지를 전달한다.
+     * 이미 다른 스레드가 전달 중이면 요청만 남기고 반환하며, 전달 중인 스레드가 요청을 확인하고 다시 조회한다.
+     */
+    public void relay() {
+        relayRequested.set(true);
+        if (!relaying.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            while (relayRequested.getAndSet(false)) {
+                while (relayBatch() >= batchSize) {
+                    // 가득 찬 배치를 가져온 경우 남은 메시지가 있을 수 있으므로 계속 조회한다.
+                }
+            }
+        } catch (Exception e) {
+            log.error("outbox relay failed", e);
+        } finally {
+            relaying.set(false);
+        }
+    }
+
+    /**
+     * 메시지 한 배치를 가져와 핸들러에 전달한다.
+     *
+     * @return 가져간 메시지 수
+     */
+    int relayBatch() {
+        var messages = outboxService.claimMessages(batchSize);
+        if (messages.isEmpty()) {
+            return 0;
+        }
+
+        var futures = new ArrayList<CompletableFuture<Boolean>>(messages.size());
+        for (var message : messages) {
+            futures.add(CompletableFuture.supplyAsync(() -> dispatch(message), handlerExecutor));
+        }
+
+        // 처리 결과를 기록하지 못한 메시지는 임대 시간이 지난 뒤 다시 전달된다.
+        var completedIds = new ArrayList<UUID>(messages.size());
+        var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(dispatchTimeout);
+        for (int i = 0; i < messages.size(); i++) {
+            try {
+                if (futures.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    completedIds.add(messages.get(i).getId());
+                }
+            } catch (ExecutionException e) {
+                log.warn("outbox message {} dispatch failed", messages.get(i).getId(), e.getCause());
+            } catch (TimeoutException e) {
+                log.warn("outbox message {} dispatch did not finish within {} ms", messages.get(i).getId(), dispatchTimeout);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        outboxService.completeMessages(completedIds);
+        return messages.size();
+    }
+
+    /**
+     * 메시지를 이벤트 타입의 모든 핸들러에 전달한다.
+     *
+     * @param message 아웃박스 메시지
+     * @return 모든 핸들러가 처리를 완료했는지 여부
+     */
+    private boolean dispatch(OutboxMessage message) {
+        var eventHandlers = handlers.get(message.getEventType());
+        if (eventHandlers == null) {
+            return true;
+        }
+
+        DomainEvent event;
+        try {
+            event = (DomainEvent) objectMapper.readValue(message.getPayload(), eventHandlers.get(0).eventType());
+        } catch (JsonProcessingException e) {
+            log.error("invalid outbox message {} ({})", message.getId(), message.getEventType(), e);
+            outboxService.failMessage(message.getId(), e.getOriginalMessage());
+            return false;
+        }
+
+        String error = null;
+        for (var handler : eventHandlers) {
+            var handledKey = HANDLED_KEY_PREFIX + message.getId() + ":" + handler.name();
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(handledKey))) {
+                continue;
+            }
+
+            try {
+                handler.invoke(event);
+            } catch (RestApiException e) {
+                // 요청 자체를 처리할 수 없는 경우이므로 재시도하지 않는다.
+                log.warn("outbox handler {} rejected message {}: {}", handler.name(), message.getId(), e.getErrorCode());
+            } catch (Exception e) {
+                log.warn("outbox handler {} failed for message {}", handler.name(), message.getId(), e);
+                error = handler.name() + ": " + e;
+                continue;
+            }
+            redisTemplate.opsForValue().set(handledKey, "1", Duration.ofMillis(idempotencyTtl));
+        }
+
+        if (error != null) {
+            outboxService.failMessage(message.getId(), error);
+            return false;
+        }
+        return true;
+    }
+
+    private record DomainEventHandler(String name, Class<?> eventType, Object bean, Method method) {
+        void invoke(DomainEvent event) throws Exception {
+            try {
+                method.invoke(bean, event);
+            } catch (InvocationTargetException e) {
+                if (e.getTargetException() instanceof Exception exception) {
+                    throw exception;
+                }
+                throw e;
+            }
+        }
+    }
+}
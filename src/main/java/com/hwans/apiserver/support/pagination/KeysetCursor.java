@@ -0,0 +1,153 @@
+package com.hwans.apiserver.support.pagination;
+
+import com.hwans.apiserver.common.errors.errorcode.ErrorCodes;
+import com.hwans.apiserver.common.errors.exception.RestApiException;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 키셋(Keyset) 페이징 커서
+ * 마지막으로 조회된 행의 정렬 키 튜플을 불투명한 문자열로 인코딩하여 다음 페이지 조회 시 커서 행을 다시 조회하지 않도록 한다.
+ * 지원하는 정렬 키 타입은 LocalDateTime, UUID, Integer 이다.
+ */
+public final class KeysetCursor {
+    private static final byte VERSION = 1;
+    private static final byte TYPE_LOCAL_DATE_TIME = 1;
+    private static final byte TYPE_UUID = 2;
+    private static final byte TYPE_INTEGER = 3;
+    private static final int MAX_KEY_COUNT = 8;
+    private static final int MAX_KEY_BYTES = 17;
+
+    private final Object[] keys;
+
+    private KeysetCursor(Object[] keys) {
+        this.keys = keys;
+    }
+
+    /**
+     * 정렬 키 튜플로 커서를 생성한다.
+     *
+     * @param keys 정렬 순서대로 나열된 정렬 키
+     * @return 커서
+     */
+    public static KeysetCursor of(Object... keys) {
+        if (keys.length == 0 || keys.length > MAX_KEY_COUNT) {
+            throw new IllegalArgumentException("keyset cursor must have 1 to " + MAX_KEY_COUNT + " keys");
+        }
+        for (var key : keys) {
+            if (!(key instanceof LocalDateTime || key instanceof UUID || key instanceof Integer)) {
+                throw new IllegalArgumentException("unsupported keyset cursor key: " + key);
+            }
+        }
+        return new KeysetCursor(keys.clone());
+    }
+
+    /**
+     * 인코딩된 커서 문자열을 해석한다.
+     *
+     * @param encoded 인코딩된 커서 문자열
+     * @return 커서
+     * @throws RestApiException 잘못된 커서 문자열인 경우
+     */
+    public static KeysetCursor decode(String encoded) {
+        try {
+            var buffer = ByteBuffer.wrap(Base64.getUrlDecoder().decode(encoded));
+            if (buffer.get() != VERSION) {
+                throw new RestApiException(ErrorCodes.BadRequest.INVALID_CURSOR);
+            }
+            var keyCount = buffer.get();
+            if (keyCount <= 0 || keyCount > MAX_KEY_COUNT) {
+                throw new RestApiException(ErrorCodes.BadRequest.INVALID_CURSOR);
+            }
+            var keys = new Object[keyCount];
+            for (int i = 0; i < keyCount; i++) {
+                keys[i] = switch (buffer.get()) {
+                    case TYPE_LOCAL_DATE_TIME -> LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+                    case TYPE_UUID -> new UUID(buffer.getLong(), buffer.getLong());
+                    case TYPE_INTEGER -> buffer.getInt();
+                    default -> throw new RestApiException(ErrorCodes.BadRequest.INVALID_CURSOR);
+                };
+            }
+            if (buffer.hasRemaining()) {
+                throw new RestApiException(ErrorCodes.BadRequest.INVALID_CURSOR);
+            }
+            return new KeysetCursor(keys);
+        } catch (IllegalArgumentException | BufferUnderflowException | DateTimeException e) {
+            throw new RestApiException(ErrorCodes.BadRequest.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * 커서를 URL에 그대로 사용할 수 있는 불투명한 문자열로 인코딩한다.
+     *
+     * @return 인코딩된 커서 문자열
+     */
+    public String encode() {
+        var buffer = ByteBuffer.allocate(2 + keys.length * MAX_KEY_BYTES);
+        buffer.put(VERSION);
+        buffer.put((byte) keys.length);
+        for (var key : keys) {
+            if (key instanceof LocalDateTime dateTime) {
+                buffer.put(TYPE_LOCAL_DATE_TIME);
+                buffer.putLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+                buffer.putInt(dateTime.getNano());
+            } else if (key instanceof UUID uuid) {
+                buffer.put(TYPE_UUID);
+                buffer.putLong(uuid.getMostSignificantBits());
+                buffer.putLong(uuid.getLeastSignificantBits());
+            } else if (key instanceof Integer value) {
+                buffer.put(TYPE_INTEGER);
+                buffer.putInt(value);
+            }
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(buffer.array(), buffer.position()));
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public LocalDateTime getLocalDateTime(int index) {
+        return get(index, LocalDateTime.class);
+    }
+
+    public UUID getUuid(int index) {
+        return get(index, UUID.class);
+    }
+
+    public Integer getInteger(int index) {
+        return get(index, Integer.class);
+    }
+
+    private <T> T get(int index, Class<T> type) {
+        // 다른 정렬 기준에서 발급된 커서가 전달된 경우 잘못된 커서로 취급한다.
+        if (index < 0 || index >= keys.length || !type.isInstance(keys[index])) {
+            throw new RestApiException(ErrorCodes.BadRequest.INVALID_CURSOR);
+        }
+        return type.cast(keys[index]);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return Arrays.equals(keys, ((KeysetCursor) o).keys);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(keys);
+    }
+
+    @Override
+    public String toString() {
+        return encode();
+    }
+}
@@ -0,0 +1,76 @@
+package com.hwans.apiserver.support.pagination;
+
+import com.hwans.apiserver.dto.common.SliceDto;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 키셋(Keyset) 페이징 조회를 위한 기능을 제공한다.
+ * 조회 쿼리는 (정렬 키..., id) 튜플을 기준으로 "a < :a or (a = :a and b < :b)" 형태의 사전순 비교 조건을 사용해야 한다.
+ * JPQL 은 행 값 비교("(a, b) < (:a, :b)")를 지원하지 않으므로 같은 의미의 조건을 OR 로 풀어서 작성한다.
+ * 이 형태는 MySQL 옵티마이저가 (고정 조건..., a, b) 인덱스의 범위 스캔으로 처리하며, 행 값 비교보다 인덱스 범위 처리가 안정적이다.
+ * 키셋 조회 쿼리의 인덱스 범위 스캔 여부는 MySqlQueryPlanRegressionTests 에서 EXPLAIN 으로 검사한다.
+ */
+public final class KeysetPagination {
+    private KeysetPagination() {
+    }
+
+    /**
+     * 다음 페이지 존재 여부를 함께 확인하기 위해 요청한 크기보다 하나 더 조회하는 Pageable 을 반환한다.
+     *
+     * @param size 페이지 크기
+     * @return Pageable
+     */
+    public static Pageable lookAhead(int size) {
+        return PageRequest.of(0, size + 1);
+    }
+
+    /**
+     * 요청 파라미터로 전달받은 커서 문자열을 해석한다.
+     *
+     * @param cursorId 인코딩된 커서 문자열
+     * @return 커서
+     */
+    public static Optional<KeysetCursor> decode(Optional<String> cursorId) {
+        return cursorId.filter(x -> !x.isBlank()).map(KeysetCursor::decode);
+    }
+
+    /**
+     * lookAhead 로 조회된 결과를 한번의 순회로 SliceDto 로 변환한다.
+     *
+     * @param rows        조회된 행 (최대 size + 1 개)
+     * @param size        페이지 크기
+     * @param first       첫 페이지 여부
+     * @param mapper      행을 Dto 로 변환하는 함수
+     * @param cursorOf    행으로부터 커서를 생성하는 함수
+     * @param <E>         행 타입
+     * @param <T>         Dto 타입
+     * @return SliceDto
+     */
+    public static <E, T extends Serializable> SliceDto<T> toSlice(List<E> rows, int size, boolean first,
+                                                                  Function<? super E, ? extends T> mapper,
+                                                                  Function<? super E, KeysetCursor> cursorOf) {
+        var count = Math.min(rows.size(), size);
+        var data = new ArrayList<T>(count);
+        E lastRow = null;
+        for (int i = 0; i < count; i++) {
+            lastRow = rows.get(i);
+            data.add(mapper.apply(lastRow));
+        }
+        var last = rows.size() <= size;
+        return SliceDto.<T>builder()
+                .data(data)
+                .size(count)
+                .empty(count == 0)
+                .first(first)
+                .last(last)
+                .cursorId(last || lastRow == null ? null : cursorOf.apply(lastRow).encode())
+                .build();
+    }
+}
@@ -0,0 +1,195 @@
+package com.hwans.apiserver.support.redis;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.event.command.CommandListener;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.lettuce.LettuceExceptionConverter;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 여러 요청 스레드에서 동시에 실행되는 Redis 명령을 모아 한번에 전송하는 비동기 Redis 클라이언트
+ * 전용 연결의 자동 flush 를 끄고 명령을 버퍼에 쌓은 뒤, 단일 flush 스레드가 쌓인 명령을 한번의 쓰기로 전송한다.
+ * flush 스레드가 깨어나는 사이에 도착한 명령은 모두 같은 배치로 전송되며, 배치가 maxBatchSize 에 도달하면 즉시 전송한다.
+ * 모든 명령은 commandTimeout 이 지나면 실패 처리된다.
+ */
+@Slf4j
+public class BatchingRedisClient implements AutoCloseable {
+    private final RedisClient redisClient;
+    private final int maxBatchSize;
+    private final DistributionSummary batchSizeSummary;
+    private final ExecutorService flusher = Executors.newSingleThreadExecutor(runnable -> {
+        var thread = new Thread(runnable, "redis-batch-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ReentrantLock connectLock = new ReentrantLock();
+    private final AtomicInteger pendingCommands = new AtomicInteger();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private volatile StatefulRedisConnection<String, String> connection;
+
+    public BatchingRedisClient(RedisURI redisUri, Duration commandTimeout, int maxBatchSize, MeterRegistry meterRegistry) {
+        this.redisClient = RedisClient.create(redisUri);
+        this.redisClient.setOptions(ClientOptions.builder()
+                .autoReconnect(true)
+                .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                .timeoutOptions(TimeoutOptions.enabled(commandTimeout))
+                .build());
+        this.maxBatchSize = maxBatchSize;
+        this.batchSizeSummary = DistributionSummary.builder("redis.batch.size").register(meterRegistry);
+    }
+
+    /**
+     * Redis 명령을 실행한다.
+     * 명령은 바로 전송되지 않고 다른 스레드의 명령과 함께 다음 flush 에서 전송된다.
+     *
+     * @param command 비동기 명령
+     * @param <T>     결과 타입
+     * @return 명령 결과
+     */
+    public <T> CompletableFuture<T> execute(Function<RedisAsyncCommands<String, String>, RedisFuture<T>> command) {
+        var future = command.apply(connection().async()).toCompletableFuture();
+        if (pendingCommands.incrementAndGet() >= maxBatchSize) {
+            flush();
+        } else if (flushScheduled.compareAndSet(false, true)) {
+            flusher.execute(() -> {
+                flushScheduled.set(false);
+                flush();
+            });
+        }
+        return future;
+    }
+
+    /**
+     * 명령 리스너를 등록한다.
+     * 리스너는 등록 이후에 생성된 연결에만 적용되므로 첫 명령을 실행하기 전에 등록해야 한다.
+     *
+     * @param commandListener 명령 리스너
+     */
+    public void addListener(CommandListener commandListener) {
+        redisClient.addListener(commandListener);
+    }
+
+    public CompletableFuture<String> get(String key) {
+        return execute(commands -> commands.get(key));
+    }
+
+    public CompletableFuture<String> getDel(String key) {
+        return execute(commands -> commands.getdel(key));
+    }
+
+    public CompletableFuture<String> set(String key, String value, Duration timeout) {
+        return execute(commands -> commands.set(key, value, SetArgs.Builder.px(timeout.toMillis())));
+    }
+
+    /**
+     * 키가 존재하지 않는 경우에만 값을 저장한다.
+     *
+     * @return 저장 여부
+     */
+    public CompletableFuture<Boolean> setIfAbsent(String key, String value, Duration timeout) {
+        return execute(commands -> commands.set(key, value, SetArgs.Builder.nx().px(timeout.toMillis())))
+                .thenApply("OK"::equals);
+    }
+
+    public CompletableFuture<String> hget(String key, String field) {
+        return execute(commands -> commands.hget(key, field));
+    }
+
+    public CompletableFuture<Boolean> hsetnx(String key, String field, String value) {
+        return execute(commands -> commands.hsetnx(key, field, value));
+    }
+
+    public CompletableFuture<Long> hincrby(String key, String field, long amount) {
+        return execute(commands -> commands.hincrby(key, field, amount));
+    }
+
+    /**
+     * 값을 증가시키고 만료 시간을 설정한다.
+     * 두 명령을 연이어 버퍼에 쌓으므로 별도의 왕복 없이 함께 전송되며, 만료 시간 설정 결과는 기다리지 않는다.
+     *
+     * @return 증가된 값
+     */
+    public CompletableFuture<Long> incrby(String key, long amount, Duration timeout) {
+        return execute(commands -> {
+            var incremented = commands.incrby(key, amount);
+            commands.pexpire(key, timeout.toMillis());
+            return incremented;
+        });
+    }
+
+    /**
+     * 명령 결과를 기다린다.
+     * 실패한 경우 RedisTemplate 과 동일하게 Spring 의 DataAccessException 으로 변환하여 던진다.
+     *
+     * @param future 명령 결과
+     * @param <T>    결과 타입
+     * @return 명령 결과
+     */
+    public static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            var cause = e.getCause() == null ? e : e.getCause();
+            var converted = cause instanceof Exception exception ? new LettuceExceptionConverter().convert(exception) : null;
+            throw converted != null ? converted : new RedisSystemException("redis command failed", cause);
+        }
+    }
+
+    private void flush() {
+        var batchSize = pendingCommands.getAndSet(0);
+        if (batchSize > 0) {
+            connection().flushCommands();
+            batchSizeSummary.record(batchSize);
+        }
+    }
+
+    private StatefulRedisConnection<String, String> connection() {
+        var current = connection;
+        if (current != null) {
+            return current;
+        }
+
+        // 로컬 환경의 내장 Redis 가 시작된 뒤에 연결하도록 처음 사용할 때 연결한다.
+        connectLock.lock();
+        try {
+            if (connection == null) {
+                var newConnection = redisClient.connect();
+                newConnection.setAutoFlushCommands(false);
+                connection = newConnection;
+            }
+            return connection;
+        } finally {
+            connectLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        flusher.shutdown();
+        var current = connection;
+        if (current != null) {
+            current.flushCommands();
+            current.close();
+        }
+        redisClient.shutdown();
+    }
+}
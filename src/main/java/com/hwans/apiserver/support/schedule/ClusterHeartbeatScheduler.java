@@ -0,0 +1,20 @@
+package com.hwans.apiserver.support.schedule;
+
+import com.hwans.apiserver.service.cluster.ClusterMessageService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 현재 서버 노드가 살아있음을 다른 노드에 알리는 스케줄러
+ */
+@RequiredArgsConstructor
+@Component
+public class ClusterHeartbeatScheduler {
+    private final ClusterMessageService clusterMessageService;
+
+    @Scheduled(fixedDelayString = "${cluster.heartbeat-interval:5000}")
+    private void heartbeat() {
+        clusterMessageService.heartbeat();
+    }
+}
@@ -0,0 +1,31 @@
+package com.hwans.apiserver.support.schedule;
+
+import com.hwans.apiserver.common.config.AsyncConfig;
+import com.hwans.apiserver.service.mail.MailSenderService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전송 대기 중인 메일을 주기적으로 전송하는 스케줄러
+ * 요약 대기 시간이 지난 메일과 재시도 시간이 된 메일을 처리한다.
+ * SMTP 전송은 느릴 수 있으므로 다른 스케줄 작업과 공유하는 스케줄러 스레드에서 전송하지 않고 메일 스레드 풀로 넘긴다.
+ * 이미 전송 중인 경우 sendQueuedMails 는 전송 중인 스레드가 큐를 다시 조회하도록 요청만 하고 바로 반환한다.
+ */
+@Component
+public class MailSendScheduler {
+    private final MailSenderService mailSenderService;
+    private final ThreadPoolTaskExecutor mailExecutor;
+
+    public MailSendScheduler(MailSenderService mailSenderService,
+                             @Qualifier(AsyncConfig.MAIL_EXECUTOR) ThreadPoolTaskExecutor mailExecutor) {
+        this.mailSenderService = mailSenderService;
+        this.mailExecutor = mailExecutor;
+    }
+
+    @Scheduled(fixedDelayString = "${mail-queue.poll-interval:5000}")
+    private void sendQueuedMails() {
+        mailExecutor.execute(mailSenderService::sendQueuedMails);
+    }
+}
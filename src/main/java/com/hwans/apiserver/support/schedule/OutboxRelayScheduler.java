@@ -0,0 +1,22 @@
+package com.hwans.apiserver.support.schedule;
+
+import com.hwans.apiserver.support.outbox.OutboxRelay;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 트랜잭션 아웃박스 메시지를 주기적으로 전달하는 스케줄러
+ * 커밋 직후의 전달이 누락되었거나 재시도 시간이 된 메시지를 처리한다.
+ * 다른 스케줄 작업과 공유하는 스케줄러 스레드가 핸들러를 기다리지 않도록 전달은 릴레이의 전용 스레드에서 실행한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class OutboxRelayScheduler {
+    private final OutboxRelay outboxRelay;
+
+    @Scheduled(fixedDelayString = "${outbox.poll-interval:1000}")
+    private void relay() {
+        outboxRelay.relayAsync();
+    }
+}
@@ -0,0 +1,25 @@
+package com.hwans.apiserver.support.schedule;
+
+import com.hwans.apiserver.service.blog.PostEventService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 병합된 게시글 실시간 이벤트를 주기적으로 전송하는 스케줄러
+ */
+@RequiredArgsConstructor
+@Component
+public class PostEventScheduler {
+    private final PostEventService postEventService;
+
+    @Scheduled(fixedDelayString = "${post-events.flush-interval:1000}")
+    private void flushPendingEvents() {
+        postEventService.flushPendingEvents();
+    }
+
+    @Scheduled(fixedDelayString = "${post-events.heartbeat-interval:15000}")
+    private void sendHeartbeat() {
+        postEventService.sendHeartbeat();
+    }
+}
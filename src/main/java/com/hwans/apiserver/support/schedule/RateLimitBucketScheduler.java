@@ -0,0 +1,20 @@
+package com.hwans.apiserver.support.schedule;
+
+import com.hwans.apiserver.common.ratelimit.RateLimiter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청 제한기의 사용되지 않는 로컬 토큰 버킷을 정리하는 스케줄러
+ */
+@RequiredArgsConstructor
+@Component
+public class RateLimitBucketScheduler {
+    private final RateLimiter rateLimiter;
+
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval:60000}")
+    private void evictIdleBuckets() {
+        rateLimiter.evictIdleBuckets();
+    }
+}
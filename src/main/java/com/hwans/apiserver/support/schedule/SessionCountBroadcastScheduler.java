@@ -0,0 +1,20 @@
+package com.hwans.apiserver.support.schedule;
+
+import com.hwans.apiserver.service.websocket.WebSocketService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 누적된 웹소켓 세션 수 변경을 주기적으로 한번에 전송하는 스케줄러
+ */
+@RequiredArgsConstructor
+@Component
+public class SessionCountBroadcastScheduler {
+    private final WebSocketService webSocketService;
+
+    @Scheduled(fixedDelayString = "${websocket.session-count-broadcast-interval:250}")
+    private void broadcastSessionCount() {
+        webSocketService.broadcastSessionCount();
+    }
+}
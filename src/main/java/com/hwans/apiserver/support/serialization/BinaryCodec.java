@@ -0,0 +1,26 @@
+package com.hwans.apiserver.support.serialization;
+
+/**
+ * 객체를 정해진 필드 순서(스키마)로 기록하고 읽는 코덱
+ * 필드 이름을 기록하지 않으므로 필드를 추가하거나 바꾸는 경우 스키마 버전을 올리고, read 에서 이전 버전의 데이터도 읽을 수 있어야 한다.
+ *
+ * @param <T> 대상 타입
+ */
+public interface BinaryCodec<T> {
+    /**
+     * 값을 기록한다.
+     *
+     * @param writer 기록할 버퍼
+     * @param value  null 이 아닌 값
+     */
+    void write(BinaryWriter writer, T value);
+
+    /**
+     * 값을 읽는다.
+     *
+     * @param reader        읽을 버퍼
+     * @param schemaVersion 데이터가 기록될 때의 스키마 버전
+     * @return 값
+     */
+    T read(BinaryReader reader, int schemaVersion);
+}
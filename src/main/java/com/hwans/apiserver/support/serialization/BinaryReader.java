@@ -0,0 +1,156 @@
+package com.hwans.apiserver.support.serialization;
+
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * BinaryWriter 로 기록된 값을 읽는다.
+ * 잘못되거나 잘린 데이터는 SerializationException 을 발생시킨다.
+ */
+public final class BinaryReader {
+    private final byte[] buffer;
+    private final int limit;
+    private int position;
+
+    public BinaryReader(byte[] buffer) {
+        this(buffer, 0, buffer.length);
+    }
+
+    public BinaryReader(byte[] buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.position = offset;
+        this.limit = offset + length;
+    }
+
+    public int readByte() {
+        require(1);
+        return buffer[position++] & 0xFF;
+    }
+
+    public boolean readBoolean() {
+        return switch (readByte()) {
+            case 0 -> false;
+            case 1 -> true;
+            default -> throw new SerializationException("invalid boolean at " + (position - 1));
+        };
+    }
+
+    public int readVarInt() {
+        var value = readVarLong();
+        if ((value & ~0xFFFFFFFFL) != 0) {
+            throw new SerializationException("varint overflow at " + position);
+        }
+        return (int) value;
+    }
+
+    public long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            var b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new SerializationException("varint overflow at " + position);
+    }
+
+    public int readInt() {
+        var value = readVarInt();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public long readLong() {
+        var value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public String readString() {
+        var length = readVarInt();
+        if (length == 0) {
+            return null;
+        }
+        length -= 1;
+        require(length);
+        var value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public UUID readUuid() {
+        if (!readBoolean()) {
+            return null;
+        }
+        require(16);
+        return new UUID(getLong(), getLong());
+    }
+
+    public LocalDateTime readLocalDateTime() {
+        if (!readBoolean()) {
+            return null;
+        }
+        var epochSecond = readLong();
+        var nano = readVarInt();
+        try {
+            return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+        } catch (DateTimeException e) {
+            throw new SerializationException("invalid date time", e);
+        }
+    }
+
+    public <E extends Enum<E>> E readEnum(Class<E> type) {
+        var name = readString();
+        if (name == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException e) {
+            throw new SerializationException("unknown " + type.getSimpleName() + ": " + name, e);
+        }
+    }
+
+    public <T> T readObject(BinaryCodec<T> codec, int schemaVersion) {
+        return readBoolean() ? codec.read(this, schemaVersion) : null;
+    }
+
+    public <T> List<T> readList(BinaryCodec<T> codec, int schemaVersion) {
+        var size = readVarInt();
+        if (size == 0) {
+            return null;
+        }
+        size -= 1;
+        // 각 요소는 최소 1 바이트(존재 여부)를 사용하므로 남은 바이트보다 많은 크기는 잘못된 데이터이다.
+        require(size);
+        var values = new ArrayList<T>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readObject(codec, schemaVersion));
+        }
+        return values;
+    }
+
+    public int remaining() {
+        return limit - position;
+    }
+
+    private long getLong() {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (buffer[position++] & 0xFF);
+        }
+        return value;
+    }
+
+    private void require(int length) {
+        if (length < 0 || limit - position < length) {
+            throw new SerializationException("unexpected end of data at " + position);
+        }
+    }
+}
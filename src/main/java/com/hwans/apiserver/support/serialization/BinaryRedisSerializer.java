@@ -0,0 +1,127 @@
+package com.hwans.apiserver.support.serialization;
+
+import lombok.extern.slf4j.Slf4j;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 바이너리 코덱을 사용하는 Redis 직렬화기
+ * 값 앞에 다음 헤더를 기록한다.
+ * <pre>
+ * magic(1) | 포맷 버전(1) | 플래그(1) | 타입 Id(varint) | 스키마 버전(varint) | [LZ4 인 경우 원본 크기(varint)] | 본문
+ * </pre>
+ * 순차 배포 중에는 이전 버전의 서버가 새 버전의 데이터를 읽을 수 있으므로, 알 수 없는 포맷/스키마 버전이나 다른 타입의 데이터는
+ * 예외 대신 null(캐시 없음)로 처리하여 호출 측이 원본을 조회해 다시 캐시하도록 한다.
+ *
+ * @param <T> 대상 타입
+ */
+@Slf4j
+public class BinaryRedisSerializer<T> implements RedisSerializer<T> {
+    static final int MAGIC = 0xB7;
+    static final int FORMAT_VERSION = 1;
+    static final int FLAG_LZ4 = 1;
+
+    private static final LZ4Factory LZ4 = LZ4Factory.fastestInstance();
+
+    private final int typeId;
+    private final int schemaVersion;
+    private final BinaryCodec<T> codec;
+    private final int compressionThreshold;
+
+    /**
+     * @param typeId               저장되는 타입을 구분하는 Id
+     * @param schemaVersion        현재 스키마 버전
+     * @param codec                코덱
+     * @param compressionThreshold 본문이 이 크기(바이트) 이상이면 LZ4 로 압축한다. 0 이하이면 압축하지 않는다.
+     */
+    public BinaryRedisSerializer(int typeId, int schemaVersion, BinaryCodec<T> codec, int compressionThreshold) {
+        this.typeId = typeId;
+        this.schemaVersion = schemaVersion;
+        this.codec = codec;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+
+        var body = new BinaryWriter();
+        codec.write(body, value);
+
+        var output = new BinaryWriter(body.size() + 16);
+        output.writeByte(MAGIC);
+        output.writeByte(FORMAT_VERSION);
+        if (compressionThreshold > 0 && body.size() >= compressionThreshold) {
+            var compressor = LZ4.fastCompressor();
+            var compressed = new byte[compressor.maxCompressedLength(body.size())];
+            var compressedLength = compressor.compress(body.buffer(), 0, body.size(), compressed, 0, compressed.length);
+            // 압축 효과가 없는 데이터는 그대로 저장한다.
+            if (compressedLength < body.size()) {
+                output.writeByte(FLAG_LZ4);
+                output.writeVarInt(typeId);
+                output.writeVarInt(schemaVersion);
+                output.writeVarInt(body.size());
+                output.writeBytes(compressed, 0, compressedLength);
+                return output.toByteArray();
+            }
+        }
+        output.writeByte(0);
+        output.writeVarInt(typeId);
+        output.writeVarInt(schemaVersion);
+        output.writeBytes(body.buffer(), 0, body.size());
+        return output.toByteArray();
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        var header = new BinaryReader(bytes);
+        if (header.readByte() != MAGIC) {
+            log.debug("ignore cached value without binary header");
+            return null;
+        }
+        var formatVersion = header.readByte();
+        var flags = header.readByte();
+        var storedTypeId = header.readVarInt();
+        var storedSchemaVersion = header.readVarInt();
+        if (formatVersion > FORMAT_VERSION || (flags & ~FLAG_LZ4) != 0 || storedTypeId != typeId || storedSchemaVersion > schemaVersion) {
+            log.debug("ignore cached value of format {}, type {}, schema {}", formatVersion, storedTypeId, storedSchemaVersion);
+            return null;
+        }
+
+        BinaryReader body;
+        if ((flags & FLAG_LZ4) != 0) {
+            var originalLength = header.readVarInt();
+            var compressedOffset = bytes.length - header.remaining();
+            // LZ4 의 최대 압축률은 255:1 이므로 그보다 큰 원본 크기는 잘못된 데이터이다.
+            if (originalLength > header.remaining() * 255L) {
+                throw new SerializationException("invalid original length " + originalLength);
+            }
+            var original = new byte[originalLength];
+            try {
+                var decompressedLength = LZ4.safeDecompressor().decompress(bytes, compressedOffset, header.remaining(), original, 0, originalLength);
+                if (decompressedLength != originalLength) {
+                    throw new SerializationException("decompressed " + decompressedLength + " bytes, expected " + originalLength);
+                }
+            } catch (LZ4Exception e) {
+                throw new SerializationException("cannot decompress cached value", e);
+            }
+            body = new BinaryReader(original);
+        } else {
+            body = header;
+        }
+
+        var value = codec.read(body, storedSchemaVersion);
+        if (body.remaining() != 0) {
+            throw new SerializationException("unexpected trailing " + body.remaining() + " bytes");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,158 @@
+package com.hwans.apiserver.support.serialization;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * 바이너리 코덱이 값을 쓰는 버퍼
+ * 정수와 길이는 가변 길이(varint)로, 부호가 있는 값은 zigzag 로 인코딩하여 작은 값이 적은 바이트를 사용하도록 한다.
+ * null 이 가능한 값은 존재 여부를 앞에 기록한다.
+ */
+public final class BinaryWriter {
+    private byte[] buffer;
+    private int position;
+
+    public BinaryWriter() {
+        this(256);
+    }
+
+    public BinaryWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(16, initialCapacity)];
+    }
+
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeBytes(byte[] bytes, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, buffer, position, length);
+        position += length;
+    }
+
+    public void writeBoolean(boolean value) {
+        writeByte(value ? 1 : 0);
+    }
+
+    /**
+     * 음수가 아닌 정수를 가변 길이로 기록한다.
+     */
+    public void writeVarInt(int value) {
+        writeVarLong(value & 0xFFFFFFFFL);
+    }
+
+    public void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    /**
+     * 부호가 있는 정수를 zigzag 가변 길이로 기록한다.
+     */
+    public void writeInt(int value) {
+        writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    public void writeLong(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * 문자열을 UTF-8 로 기록한다. 길이에 1을 더해 기록하며 0은 null 을 의미한다.
+     */
+    public void writeString(String value) {
+        if (value == null) {
+            writeVarInt(0);
+            return;
+        }
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length + 1);
+        writeBytes(bytes, 0, bytes.length);
+    }
+
+    public void writeUuid(UUID value) {
+        if (writePresence(value)) {
+            ensureCapacity(16);
+            putLong(value.getMostSignificantBits());
+            putLong(value.getLeastSignificantBits());
+        }
+    }
+
+    /**
+     * 시간을 UTC 기준 epoch 초와 나노초로 기록한다.
+     */
+    public void writeLocalDateTime(LocalDateTime value) {
+        if (writePresence(value)) {
+            writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            writeVarInt(value.getNano());
+        }
+    }
+
+    /**
+     * 열거형을 이름으로 기록한다. 순서(ordinal)는 상수가 추가되거나 순서가 바뀌면 다른 값으로 해석되므로 사용하지 않는다.
+     */
+    public void writeEnum(Enum<?> value) {
+        writeString(value == null ? null : value.name());
+    }
+
+    public <T> void writeObject(T value, BinaryCodec<T> codec) {
+        if (writePresence(value)) {
+            codec.write(this, value);
+        }
+    }
+
+    /**
+     * 컬렉션을 기록한다. 크기에 1을 더해 기록하며 0은 null 을 의미한다.
+     */
+    public <T> void writeCollection(Collection<? extends T> values, BinaryCodec<T> codec) {
+        if (values == null) {
+            writeVarInt(0);
+            return;
+        }
+        writeVarInt(values.size() + 1);
+        for (var value : values) {
+            writeObject(value, codec);
+        }
+    }
+
+    public int size() {
+        return position;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    /**
+     * 내부 버퍼를 반환한다. 유효한 데이터는 size() 까지이다.
+     */
+    byte[] buffer() {
+        return buffer;
+    }
+
+    private boolean writePresence(Object value) {
+        writeBoolean(value != null);
+        return value != null;
+    }
+
+    private void putLong(long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (value >>> shift);
+        }
+    }
+
+    private void ensureCapacity(int length) {
+        if (position + length > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + length));
+        }
+    }
+}
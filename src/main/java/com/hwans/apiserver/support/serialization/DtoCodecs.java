@@ -0,0 +1,205 @@
+package com.hwans.apiserver.support.serialization;
+
+import com.hwans.apiserver.dto.account.AccountDto;
+import com.hwans.apiserver.dto.account.SimpleAccountDto;
+import com.hwans.apiserver.dto.blog.PostDto;
+import com.hwans.apiserver.dto.blog.SimplePostDto;
+import com.hwans.apiserver.dto.blog.TagDto;
+import com.hwans.apiserver.dto.common.SliceDto;
+import com.hwans.apiserver.entity.blog.OpenType;
+
+import java.io.Serializable;
+import java.util.LinkedHashSet;
+
+/**
+ * Redis 에 캐시하는 Dto 의 바이너리 코덱 모음
+ * 필드는 선언된 순서대로 기록한다. Dto 의 필드가 변경되면 SCHEMA_VERSION 을 올리고, 이전 버전의 데이터를 읽는 분기를 추가한다.
+ */
+public final class DtoCodecs {
+    /**
+     * 현재 스키마 버전
+     */
+    public static final int SCHEMA_VERSION = 1;
+
+    public static final BinaryCodec<TagDto> TAG = new BinaryCodec<>() {
+        @Override
+        public void write(BinaryWriter writer, TagDto value) {
+            writer.writeString(value.getName());
+        }
+
+        @Override
+        public TagDto read(BinaryReader reader, int schemaVersion) {
+            return new TagDto(reader.readString());
+        }
+    };
+
+    public static final BinaryCodec<SimpleAccountDto> SIMPLE_ACCOUNT = new BinaryCodec<>() {
+        @Override
+        public void write(BinaryWriter writer, SimpleAccountDto value) {
+            writer.writeString(value.getName());
+            writer.writeString(value.getBlogId());
+            writer.writeString(value.getProfileImageUrl());
+            writer.writeBoolean(value.isGuest());
+        }
+
+        @Override
+        public SimpleAccountDto read(BinaryReader reader, int schemaVersion) {
+            return SimpleAccountDto.builder()
+                    .name(reader.readString())
+                    .blogId(reader.readString())
+                    .profileImageUrl(reader.readString())
+                    .guest(reader.readBoolean())
+                    .build();
+        }
+    };
+
+    public static final BinaryCodec<AccountDto> ACCOUNT = new BinaryCodec<>() {
+        @Override
+        public void write(BinaryWriter writer, AccountDto value) {
+            writer.writeString(value.getEmail());
+            writer.writeString(value.getName());
+            writer.writeString(value.getBlogId());
+            writer.writeString(value.getProfileImageUrl());
+            writer.writeString(value.getBiography());
+            writer.writeString(value.getCompany());
+            writer.writeString(value.getLocation());
+            writer.writeString(value.getHomepage());
+            writer.writeBoolean(value.isGuest());
+        }
+
+        @Override
+        public AccountDto read(BinaryReader reader, int schemaVersion) {
+            return AccountDto.builder()
+                    .email(reader.readString())
+                    .name(reader.readString())
+                    .blogId(reader.readString())
+                    .profileImageUrl(reader.readString())
+                    .biography(reader.readString())
+                    .company(reader.readString())
+                    .location(reader.readString())
+                    .homepage(reader.readString())
+                    .guest(reader.readBoolean())
+                    .build();
+        }
+    };
+
+    public static final BinaryCodec<SimplePostDto> SIMPLE_POST = new BinaryCodec<>() {
+        @Override
+        public void write(BinaryWriter writer, SimplePostDto value) {
+            writer.writeUuid(value.getId());
+            writer.writeString(value.getPostUrl());
+            writer.writeString(value.getTitle());
+            writer.writeString(value.getSummary());
+            writer.writeEnum(value.getOpenType());
+            writer.writeString(value.getThumbnailImageUrl());
+            writer.writeObject(value.getAuthor(), SIMPLE_ACCOUNT);
+            writer.writeLocalDateTime(value.getCreatedAt());
+            writer.writeLocalDateTime(value.getLastModifiedAt());
+            writer.writeCollection(value.getTags(), TAG);
+            writer.writeInt(value.getCommentCount());
+            writer.writeInt(value.getLikeCount());
+            writer.writeInt(value.getHits());
+            writer.writeString(value.getSeriesUrl());
+        }
+
+        @Override
+        public SimplePostDto read(BinaryReader reader, int schemaVersion) {
+            var builder = SimplePostDto.builder()
+                    .id(reader.readUuid())
+                    .postUrl(reader.readString())
+                    .title(reader.readString())
+                    .summary(reader.readString())
+                    .openType(reader.readEnum(OpenType.class))
+                    .thumbnailImageUrl(reader.readString())
+                    .author(reader.readObject(SIMPLE_ACCOUNT, schemaVersion))
+                    .createdAt(reader.readLocalDateTime())
+                    .lastModifiedAt(reader.readLocalDateTime());
+            var tags = reader.readList(TAG, schemaVersion);
+            return builder
+                    .tags(tags == null ? null : new LinkedHashSet<>(tags))
+                    .commentCount(reader.readInt())
+                    .likeCount(reader.readInt())
+                    .hits(reader.readInt())
+                    .seriesUrl(reader.readString())
+                    .build();
+        }
+    };
+
+    public static final BinaryCodec<PostDto> POST = new BinaryCodec<>() {
+        @Override
+        public void write(BinaryWriter writer, PostDto value) {
+            writer.writeUuid(value.getId());
+            writer.writeString(value.getPostUrl());
+            writer.writeString(value.getTitle());
+            writer.writeString(value.getSummary());
+            writer.writeString(value.getContent());
+            writer.writeEnum(value.getOpenType());
+            writer.writeString(value.getThumbnailImageUrl());
+            writer.writeObject(value.getAuthor(), SIMPLE_ACCOUNT);
+            writer.writeLocalDateTime(value.getCreatedAt());
+            writer.writeLocalDateTime(value.getLastModifiedAt());
+            writer.writeCollection(value.getTags(), TAG);
+            writer.writeInt(value.getCommentCount());
+            writer.writeInt(value.getLikeCount());
+            writer.writeInt(value.getHits());
+            writer.writeString(value.getSeriesUrl());
+        }
+
+        @Override
+        public PostDto read(BinaryReader reader, int schemaVersion) {
+            return PostDto.builder()
+                    .id(reader.readUuid())
+                    .postUrl(reader.readString())
+                    .title(reader.readString())
+                    .summary(reader.readString())
+                    .content(reader.readString())
+                    .openType(reader.readEnum(OpenType.class))
+                    .thumbnailImageUrl(reader.readString())
+                    .author(reader.readObject(SIMPLE_ACCOUNT, schemaVersion))
+                    .createdAt(reader.readLocalDateTime())
+                    .lastModifiedAt(reader.readLocalDateTime())
+                    .tags(reader.readList(TAG, schemaVersion))
+                    .commentCount(reader.readInt())
+                    .likeCount(reader.readInt())
+                    .hits(reader.readInt())
+                    .seriesUrl(reader.readString())
+                    .build();
+        }
+    };
+
+    private DtoCodecs() {
+    }
+
+    /**
+     * 페이징 조회 응답의 코덱을 생성한다.
+     *
+     * @param elementCodec 조회된 데이터의 코덱
+     * @param <T>          조회된 데이터 타입
+     * @return 코덱
+     */
+    public static <T extends Serializable> BinaryCodec<SliceDto<T>> slice(BinaryCodec<T> elementCodec) {
+        return new BinaryCodec<>() {
+            @Override
+            public void write(BinaryWriter writer, SliceDto<T> value) {
+                writer.writeCollection(value.getData(), elementCodec);
+                writer.writeVarInt(value.getSize());
+                writer.writeBoolean(value.isEmpty());
+                writer.writeBoolean(value.isFirst());
+                writer.writeBoolean(value.isLast());
+                writer.writeString(value.getCursorId());
+            }
+
+            @Override
+            public SliceDto<T> read(BinaryReader reader, int schemaVersion) {
+                return SliceDto.<T>builder()
+                        .data(reader.readList(elementCodec, schemaVersion))
+                        .size(reader.readVarInt())
+                        .empty(reader.readBoolean())
+                        .first(reader.readBoolean())
+                        .last(reader.readBoolean())
+                        .cursorId(reader.readString())
+                        .build();
+            }
+        };
+    }
+}
@@ -0,0 +1,56 @@
+package com.hwans.apiserver.support.serialization;
+
+import com.hwans.apiserver.dto.account.AccountDto;
+import com.hwans.apiserver.dto.blog.PostDto;
+import com.hwans.apiserver.dto.blog.SimplePostDto;
+import com.hwans.apiserver.dto.common.SliceDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 에 캐시하는 Dto 의 직렬화기를 제공한다.
+ * 타입 Id 는 저장된 데이터의 타입을 구분하는 데 사용되므로 한번 정한 값은 바꾸지 않는다.
+ * <pre>
+ * var template = new RedisTemplate&lt;String, PostDto&gt;();
+ * template.setValueSerializer(dtoRedisSerializers.post());
+ * </pre>
+ */
+@Component
+public class DtoRedisSerializers {
+    static final int TYPE_SIMPLE_POST = 1;
+    static final int TYPE_POST = 2;
+    static final int TYPE_ACCOUNT = 3;
+    static final int TYPE_SIMPLE_POST_SLICE = 4;
+
+    private final RedisSerializer<SimplePostDto> simplePost;
+    private final RedisSerializer<PostDto> post;
+    private final RedisSerializer<AccountDto> account;
+    private final RedisSerializer<SliceDto<SimplePostDto>> simplePostSlice;
+
+    public DtoRedisSerializers(@Value("${redis-serialization.compression-threshold:1024}") int compressionThreshold) {
+        this.simplePost = new BinaryRedisSerializer<>(TYPE_SIMPLE_POST, DtoCodecs.SCHEMA_VERSION, DtoCodecs.SIMPLE_POST, compressionThreshold);
+        this.post = new BinaryRedisSerializer<>(TYPE_POST, DtoCodecs.SCHEMA_VERSION, DtoCodecs.POST, compressionThreshold);
+        this.account = new BinaryRedisSerializer<>(TYPE_ACCOUNT, DtoCodecs.SCHEMA_VERSION, DtoCodecs.ACCOUNT, compressionThreshold);
+        this.simplePostSlice = new BinaryRedisSerializer<>(TYPE_SIMPLE_POST_SLICE, DtoCodecs.SCHEMA_VERSION, DtoCodecs.slice(DtoCodecs.SIMPLE_POST), compressionThreshold);
+    }
+
+    public RedisSerializer<SimplePostDto> simplePost() {
+        return simplePost;
+    }
+
+    public RedisSerializer<PostDto> post() {
+        return post;
+    }
+
+    public RedisSerializer<AccountDto> account() {
+        return account;
+    }
+
+    /**
+     * 게시글 목록 페이지 직렬화기
+     */
+    public RedisSerializer<SliceDto<SimplePostDto>> simplePostSlice() {
+        return simplePostSlice;
+    }
+}
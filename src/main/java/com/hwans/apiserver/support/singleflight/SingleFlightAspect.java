@@ -0,0 +1,58 @@
+package com.hwans.apiserver.support.singleflight;
+
+import com.hwans.apiserver.support.annotation.SingleFlight;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link SingleFlight} 가 선언된 메서드의 동시 호출을 하나로 합친다.
+ * 트랜잭션 밖에서 합쳐야 기다리는 호출자가 DB 연결을 점유하지 않으므로 트랜잭션 어드바이스보다 먼저 실행된다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SingleFlightAspect {
+    private final SingleFlightGroup group = new SingleFlightGroup();
+    private final ConcurrentMap<Method, SingleFlightGroup.Listener> listeners = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public SingleFlightAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@annotation(com.hwans.apiserver.support.annotation.SingleFlight)")
+    public Object coalesce(ProceedingJoinPoint joinPoint) throws Throwable {
+        var method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        var key = new SimpleKey(method, new SimpleKey(joinPoint.getArgs()));
+        return group.execute(key, joinPoint::proceed, listeners.computeIfAbsent(method, this::createListener));
+    }
+
+    private SingleFlightGroup.Listener createListener(Method method) {
+        var name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        var executed = Counter.builder("single.flight").tags("method", name, "result", "executed").register(meterRegistry);
+        var shared = Counter.builder("single.flight").tags("method", name, "result", "shared").register(meterRegistry);
+        return new SingleFlightGroup.Listener() {
+            @Override
+            public void onExecuted() {
+                executed.increment();
+            }
+
+            @Override
+            public void onShared() {
+                shared.increment();
+            }
+        };
+    }
+}
@@ -0,0 +1,73 @@
+package com.hwans.apiserver.support.singleflight;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 키 별로 실행 중인 작업을 하나로 합친다.
+ * 처음 호출한 스레드(leader)가 작업을 실행하고, 실행 중에 같은 키로 호출한 스레드는 그 결과를 기다려 함께 사용한다.
+ */
+public class SingleFlightGroup {
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 작업을 실행하거나 같은 키로 실행 중인 작업의 결과를 기다린다.
+     *
+     * @param key      작업 키
+     * @param loader   작업
+     * @param listener 호출 결과 리스너
+     * @return 작업 결과
+     * @throws Throwable 작업에서 발생한 예외
+     */
+    public Object execute(Object key, Loader loader, Listener listener) throws Throwable {
+        var future = new CompletableFuture<Object>();
+        var running = inFlight.putIfAbsent(key, future);
+        if (running != null) {
+            listener.onShared();
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() == null ? e : e.getCause();
+            }
+        }
+
+        listener.onExecuted();
+        try {
+            var result = loader.load();
+            // 완료 전에 제거하여 이후의 호출은 새로 실행하도록 한다. 이미 기다리고 있는 호출자는 아래에서 결과를 전달받는다.
+            inFlight.remove(key, future);
+            future.complete(result);
+            return result;
+        } catch (Throwable e) {
+            inFlight.remove(key, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 실행 중인 작업 수
+     */
+    public int size() {
+        return inFlight.size();
+    }
+
+    @FunctionalInterface
+    public interface Loader {
+        Object load() throws Throwable;
+    }
+
+    public interface Listener {
+        /**
+         * 작업을 직접 실행하는 경우
+         */
+        void onExecuted();
+
+        /**
+         * 실행 중인 작업의 결과를 공유받는 경우
+         */
+        void onShared();
+    }
+}
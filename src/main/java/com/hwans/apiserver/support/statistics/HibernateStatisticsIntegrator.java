@@ -0,0 +1,45 @@
+package com.hwans.apiserver.support.statistics;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * 요청마다 로딩된 엔티티 수와 초기화된 지연 로딩 컬렉션 수를 {@link RequestStatistics} 에 기록하는 Hibernate 이벤트 리스너
+ * 컬렉션 초기화 수가 조회한 부모 엔티티 수만큼 늘어난다면 N+1 조회가 발생한 것이다.
+ */
+public class HibernateStatisticsIntegrator implements Integrator, PostLoadEventListener, InitializeCollectionEventListener {
+    @Override
+    public void integrate(Metadata metadata, SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        var eventListenerRegistry = serviceRegistry.getService(EventListenerRegistry.class);
+        eventListenerRegistry.appendListeners(EventType.POST_LOAD, this);
+        eventListenerRegistry.appendListeners(EventType.INIT_COLLECTION, this);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        var statistics = RequestStatistics.current();
+        if (statistics != null) {
+            statistics.addEntityLoad();
+        }
+    }
+
+    @Override
+    public void onInitializeCollection(InitializeCollectionEvent event) {
+        var statistics = RequestStatistics.current();
+        if (statistics != null) {
+            statistics.addCollectionFetch();
+        }
+    }
+}
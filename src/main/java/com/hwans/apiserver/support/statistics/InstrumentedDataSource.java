@@ -0,0 +1,105 @@
+package com.hwans.apiserver.support.statistics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 요청마다 실행된 JDBC 문의 수와 실행 시간, 조회한 행의 수를 {@link RequestStatistics} 에 기록하는 DataSource
+ * Connection, Statement, ResultSet 을 동적 프록시로 감싸며, 요청 처리 스레드가 아닌 경우(스케줄러, 비동기 작업)에는 기록하지 않는다.
+ * 배치 실행(executeBatch)은 하나의 문으로 센다.
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+    public InstrumentedDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, super.getConnection(), InstrumentedDataSource::invokeConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, super.getConnection(username, password), InstrumentedDataSource::invokeConnection);
+    }
+
+    private static Object invokeConnection(Object target, Method method, Object[] args) throws Throwable {
+        var result = invoke(target, method, args);
+        if (result instanceof Statement statement) {
+            return proxy(method.getReturnType(), statement, InstrumentedDataSource::invokeStatement);
+        }
+        return result;
+    }
+
+    private static Object invokeStatement(Object target, Method method, Object[] args) throws Throwable {
+        var statistics = RequestStatistics.current();
+        if (statistics == null) {
+            return invoke(target, method, args);
+        }
+        if (method.getName().startsWith("execute")) {
+            var startedAt = System.nanoTime();
+            try {
+                return wrapResultSet(invoke(target, method, args));
+            } finally {
+                statistics.addJdbcStatement(System.nanoTime() - startedAt);
+            }
+        }
+        if (method.getName().equals("getResultSet")) {
+            return wrapResultSet(invoke(target, method, args));
+        }
+        return invoke(target, method, args);
+    }
+
+    private static Object invokeResultSet(Object target, Method method, Object[] args) throws Throwable {
+        var result = invoke(target, method, args);
+        if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+            var statistics = RequestStatistics.current();
+            if (statistics != null) {
+                statistics.addRowFetched();
+            }
+        }
+        return result;
+    }
+
+    private static Object wrapResultSet(Object result) {
+        if (result instanceof ResultSet resultSet) {
+            return proxy(ResultSet.class, resultSet, InstrumentedDataSource::invokeResultSet);
+        }
+        return result;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /**
+     * target 을 감싸는 프록시를 생성한다.
+     * Hibernate 는 Statement 와 ResultSet 을 HashMap 의 키로 사용하므로 equals/hashCode 는 프록시 자신을 기준으로 한다.
+     */
+    private static <T> T proxy(Class<T> type, Object target, Handler handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> handler.invoke(target, method, args);
+        };
+        return type.cast(Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(), new Class<?>[]{type}, invocationHandler));
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object invoke(Object target, Method method, Object[] args) throws Throwable;
+    }
+}
@@ -0,0 +1,43 @@
+package com.hwans.apiserver.support.statistics;
+
+import io.lettuce.core.event.command.CommandFailedEvent;
+import io.lettuce.core.event.command.CommandListener;
+import io.lettuce.core.event.command.CommandStartedEvent;
+import io.lettuce.core.event.command.CommandSucceededEvent;
+
+/**
+ * 요청마다 실행된 Redis 명령의 수와 응답까지 걸린 시간을 {@link RequestStatistics} 에 기록하는 Lettuce 명령 리스너
+ * 명령 시작은 명령을 실행한 요청 처리 스레드에서, 완료는 Lettuce 의 I/O 스레드에서 호출되므로
+ * 시작 시점에 요청의 집계를 이벤트 컨텍스트에 담아 완료 시점에 사용한다.
+ * BatchingRedisClient 의 명령은 다음 flush 까지 기다린 시간도 포함된다.
+ */
+public class RedisStatisticsListener implements CommandListener {
+    private static final String STATISTICS = RequestStatistics.class.getName();
+    private static final String STARTED_AT = RedisStatisticsListener.class.getName() + ".startedAt";
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        var statistics = RequestStatistics.current();
+        if (statistics != null) {
+            statistics.addRedisCommand();
+            event.getContext().put(STATISTICS, statistics);
+            event.getContext().put(STARTED_AT, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        complete(event.getContext().get(STATISTICS), event.getContext().get(STARTED_AT));
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        complete(event.getContext().get(STATISTICS), event.getContext().get(STARTED_AT));
+    }
+
+    private static void complete(Object statistics, Object startedAt) {
+        if (statistics instanceof RequestStatistics requestStatistics && startedAt instanceof Long started) {
+            requestStatistics.addRedisTime(System.nanoTime() - started);
+        }
+    }
+}
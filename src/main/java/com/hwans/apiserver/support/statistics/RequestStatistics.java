@@ -0,0 +1,115 @@
+package com.hwans.apiserver.support.statistics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 하나의 요청이 실행한 JDBC 문, 조회한 행, Hibernate 엔티티 로딩/컬렉션 초기화, Redis 명령의 수와 소요 시간
+ * 요청 처리 스레드에 {@link #start()} 로 등록되며, 등록된 스레드에서 실행된 작업만 집계한다.
+ * Redis 명령의 완료는 Lettuce 의 I/O 스레드에서 기록되므로 모든 값은 LongAdder 로 보관한다.
+ */
+public class RequestStatistics {
+    private static final ThreadLocal<RequestStatistics> current = new ThreadLocal<>();
+
+    private final LongAdder jdbcStatements = new LongAdder();
+    private final LongAdder jdbcNanos = new LongAdder();
+    private final LongAdder rowsFetched = new LongAdder();
+    private final LongAdder entityLoads = new LongAdder();
+    private final LongAdder collectionFetches = new LongAdder();
+    private final LongAdder redisCommands = new LongAdder();
+    private final LongAdder redisNanos = new LongAdder();
+
+    /**
+     * 현재 스레드에 새로운 집계를 등록한다.
+     *
+     * @return 등록된 집계
+     */
+    public static RequestStatistics start() {
+        var statistics = new RequestStatistics();
+        current.set(statistics);
+        return statistics;
+    }
+
+    /**
+     * 현재 스레드에 등록된 집계를 반환한다.
+     *
+     * @return 등록된 집계, 요청 처리 스레드가 아닌 경우 null
+     */
+    public static RequestStatistics current() {
+        return current.get();
+    }
+
+    /**
+     * 현재 스레드에 등록된 집계를 해제한다.
+     */
+    public static void end() {
+        current.remove();
+    }
+
+    public void addJdbcStatement(long elapsedNanos) {
+        jdbcStatements.increment();
+        jdbcNanos.add(elapsedNanos);
+    }
+
+    public void addRowFetched() {
+        rowsFetched.increment();
+    }
+
+    public void addEntityLoad() {
+        entityLoads.increment();
+    }
+
+    public void addCollectionFetch() {
+        collectionFetches.increment();
+    }
+
+    public void addRedisCommand() {
+        redisCommands.increment();
+    }
+
+    public void addRedisTime(long elapsedNanos) {
+        redisNanos.add(elapsedNanos);
+    }
+
+    public long getJdbcStatements() {
+        return jdbcStatements.sum();
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos.sum();
+    }
+
+    public long getRowsFetched() {
+        return rowsFetched.sum();
+    }
+
+    public long getEntityLoads() {
+        return entityLoads.sum();
+    }
+
+    public long getCollectionFetches() {
+        return collectionFetches.sum();
+    }
+
+    public long getRedisCommands() {
+        return redisCommands.sum();
+    }
+
+    public long getRedisNanos() {
+        return redisNanos.sum();
+    }
+
+    /**
+     * 로그에 남길 현재 값을 반환한다.
+     *
+     * @return 현재 값
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(getJdbcStatements(), TimeUnit.NANOSECONDS.toMillis(getJdbcNanos()), getRowsFetched(),
+                getEntityLoads(), getCollectionFetches(), getRedisCommands(), TimeUnit.NANOSECONDS.toMillis(getRedisNanos()));
+    }
+
+    public record Snapshot(long jdbcStatements, long jdbcMillis, long rowsFetched, long entityLoads, long collectionFetches,
+                           long redisCommands, long redisMillis) {
+    }
+}
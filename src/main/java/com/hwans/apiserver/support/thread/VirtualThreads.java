@@ -0,0 +1,61 @@
+package com.hwans.apiserver.support.thread;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 가상 스레드 생성 기능을 제공한다.
+ * 컴파일 대상이 Java 17 이므로 리플렉션으로 Thread.ofVirtual() 을 호출하며, 지원하지 않는 런타임에서는 빈 값을 반환한다.
+ */
+@Slf4j
+public final class VirtualThreads {
+    private VirtualThreads() {
+    }
+
+    /**
+     * 현재 런타임이 가상 스레드를 지원하는지 확인한다.
+     *
+     * @return 지원 여부
+     */
+    public static boolean isSupported() {
+        return newThreadFactory("virtual-check-").isPresent();
+    }
+
+    /**
+     * 가상 스레드 팩토리를 생성한다.
+     *
+     * @param threadNamePrefix 스레드 이름 접두사
+     * @return 가상 스레드 팩토리
+     */
+    public static Optional<ThreadFactory> newThreadFactory(String threadNamePrefix) {
+        try {
+            var builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            var builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, threadNamePrefix, 0L);
+            return Optional.of((ThreadFactory) builderType.getMethod("factory").invoke(builder));
+        } catch (ReflectiveOperationException | LinkageError | UnsupportedOperationException e) {
+            log.debug("virtual threads are not available on this runtime ({})", e.toString());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 작업마다 새 가상 스레드를 생성하는 ExecutorService 를 생성한다.
+     *
+     * @param threadNamePrefix 스레드 이름 접두사
+     * @return ExecutorService
+     */
+    public static Optional<ExecutorService> newThreadPerTaskExecutor(String threadNamePrefix) {
+        return newThreadFactory(threadNamePrefix).map(threadFactory -> {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, threadFactory);
+            } catch (ReflectiveOperationException e) {
+                return null;
+            }
+        });
+    }
+}
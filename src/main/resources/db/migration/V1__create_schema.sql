@@ -0,0 +1,206 @@
+-- 초기 스키마
+-- 기존 운영 DB는 ddl-auto 로 생성된 스키마가 이미 존재하므로 baseline(1) 처리되어 이 스크립트를 건너뛴다.
+
+create table tb_role
+(
+    name varchar(32) not null,
+    primary key (name)
+);
+
+create table tb_attachment
+(
+    id              binary(16)   not null,
+    created_at      datetime(6)  not null,
+    updated_at      datetime(6)  not null,
+    content_type    varchar(255),
+    file_name       varchar(255),
+    file_size       bigint       not null,
+    local_file_path varchar(255) not null,
+    account_id      binary(16)   not null,
+    primary key (id)
+);
+
+create table tb_account
+(
+    id                    binary(16)   not null,
+    created_at            datetime(6)  not null,
+    updated_at            datetime(6)  not null,
+    email                 varchar(320) not null,
+    password              varchar(64),
+    name                  varchar(32),
+    blog_id               varchar(64)  not null,
+    deleted               bit          not null,
+    biography             varchar(255),
+    company               varchar(64),
+    location              varchar(64),
+    homepage              varchar(255),
+    refresh_token         varchar(255),
+    profile_image_file_id binary(16),
+    primary key (id),
+    constraint uk_account_email unique (email),
+    constraint uk_account_blog_id unique (blog_id),
+    constraint uk_account_profile_image_file_id unique (profile_image_file_id),
+    constraint fk_account_profile_image_file_id foreign key (profile_image_file_id) references tb_attachment (id)
+);
+
+alter table tb_attachment
+    add constraint fk_attachment_account_id foreign key (account_id) references tb_account (id);
+
+create table tb_account_role
+(
+    id         binary(16)  not null,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    account_id binary(16),
+    role_name  varchar(32),
+    primary key (id),
+    constraint fk_account_role_account_id foreign key (account_id) references tb_account (id),
+    constraint fk_account_role_role_name foreign key (role_name) references tb_role (name)
+);
+
+create table tb_post
+(
+    id                      binary(16)    not null,
+    created_at              datetime(6)   not null,
+    updated_at              datetime(6)   not null,
+    post_url                varchar(320)  not null,
+    title                   varchar(2000) not null,
+    summary                 varchar(255),
+    content                 longtext,
+    open_type               varchar(255)  not null,
+    thumbnail_image_file_id binary(16),
+    deleted                 bit           not null,
+    hits                    integer,
+    account_id              binary(16)    not null,
+    primary key (id),
+    constraint uk_post_account_id_post_url unique (account_id, post_url),
+    constraint uk_post_thumbnail_image_file_id unique (thumbnail_image_file_id),
+    constraint fk_post_thumbnail_image_file_id foreign key (thumbnail_image_file_id) references tb_attachment (id),
+    constraint fk_post_account_id foreign key (account_id) references tb_account (id)
+);
+
+create table tb_comment
+(
+    id         binary(16)  not null,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    content    longtext,
+    deleted    bit         not null,
+    parent_id  binary(16),
+    post_id    binary(16)  not null,
+    account_id binary(16)  not null,
+    primary key (id),
+    constraint fk_comment_parent_id foreign key (parent_id) references tb_comment (id),
+    constraint fk_comment_post_id foreign key (post_id) references tb_post (id),
+    constraint fk_comment_account_id foreign key (account_id) references tb_account (id)
+);
+
+create table tb_like
+(
+    id         binary(16)  not null,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    post_id    binary(16)  not null,
+    account_id binary(16)  not null,
+    primary key (id),
+    constraint uk_like_post_id_account_id unique (post_id, account_id),
+    constraint fk_like_post_id foreign key (post_id) references tb_post (id),
+    constraint fk_like_account_id foreign key (account_id) references tb_account (id)
+);
+
+create table tb_tag
+(
+    id         binary(16)   not null,
+    created_at datetime(6)  not null,
+    updated_at datetime(6)  not null,
+    name       varchar(100) not null,
+    primary key (id),
+    constraint uk_tag_name unique (name)
+);
+
+create table tb_post_tag
+(
+    id         binary(16)  not null,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    post_id    binary(16)  not null,
+    tag_id     binary(16)  not null,
+    primary key (id),
+    constraint fk_post_tag_post_id foreign key (post_id) references tb_post (id),
+    constraint fk_post_tag_tag_id foreign key (tag_id) references tb_tag (id)
+);
+
+create table tb_series
+(
+    id         binary(16)    not null,
+    created_at datetime(6)   not null,
+    updated_at datetime(6)   not null,
+    series_url varchar(320)  not null,
+    title      varchar(2000) not null,
+    account_id binary(16)    not null,
+    primary key (id),
+    constraint uk_series_account_id_series_url unique (account_id, series_url),
+    constraint fk_series_account_id foreign key (account_id) references tb_account (id)
+);
+
+create table tb_post_series
+(
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    `order`    integer,
+    post_id    binary(16)  not null,
+    series_id  binary(16)  not null,
+    primary key (post_id),
+    constraint fk_post_series_post_id foreign key (post_id) references tb_post (id),
+    constraint fk_post_series_series_id foreign key (series_id) references tb_series (id)
+);
+
+create table tb_chat_room
+(
+    id               binary(16)    not null,
+    created_at       datetime(6)   not null,
+    updated_at       datetime(6)   not null,
+    title            varchar(255)  not null,
+    description      varchar(2000),
+    owner_account_id binary(16)    not null,
+    deleted          bit           not null,
+    primary key (id),
+    constraint fk_chat_room_owner_account_id foreign key (owner_account_id) references tb_account (id)
+);
+
+create table tb_chat_message
+(
+    id                binary(16)    not null,
+    created_at        datetime(6)   not null,
+    updated_at        datetime(6)   not null,
+    content           varchar(2000) not null,
+    chat_room_id      binary(16)    not null,
+    author_account_id binary(16)    not null,
+    deleted           bit           not null,
+    primary key (id),
+    constraint fk_chat_message_chat_room_id foreign key (chat_room_id) references tb_chat_room (id),
+    constraint fk_chat_message_author_account_id foreign key (author_account_id) references tb_account (id)
+);
+
+create table tb_notification
+(
+    notification_type varchar(31) not null,
+    id                binary(16)  not null,
+    created_at        datetime(6) not null,
+    updated_at        datetime(6) not null,
+    deleted           bit         not null,
+    account_id        binary(16)  not null,
+    read_at           datetime(6),
+    primary key (id),
+    constraint fk_notification_account_id foreign key (account_id) references tb_account (id)
+);
+
+create table tb_comment_notification
+(
+    id         binary(16) not null,
+    comment_id binary(16) not null,
+    primary key (id),
+    constraint uk_comment_notification_comment_id unique (comment_id),
+    constraint fk_comment_notification_id foreign key (id) references tb_notification (id),
+    constraint fk_comment_notification_comment_id foreign key (comment_id) references tb_comment (id)
+);
@@ -0,0 +1,28 @@
+-- 커서 페이징 조회 쿼리를 위한 커버링 인덱스
+-- 각 인덱스는 (동등 조건 컬럼..., 정렬 키..., id) 순서로 구성되어 정렬 없이 인덱스 역순 탐색만으로 페이지를 읽는다.
+
+-- PostRepository: 전체 공개 게시글 (생성순, 조회수순)
+create index idx_post_public_created_at on tb_post (deleted, open_type, created_at, id);
+create index idx_post_public_hits on tb_post (deleted, open_type, hits, created_at, id);
+
+-- PostRepository: 블로그 게시글 (비공개 게시글 포함 여부가 파라미터로 결정되므로 open_type 은 인덱스에서 제외)
+create index idx_post_account_created_at on tb_post (account_id, deleted, created_at, id);
+
+-- LikeRepository: 블로거가 좋아요 한 게시글
+create index idx_like_account_created_at on tb_like (account_id, created_at, id);
+
+-- ChatMessageRepository: 채팅방 메시지
+create index idx_chat_message_room_created_at on tb_chat_message (chat_room_id, deleted, created_at, id);
+
+-- NotificationRepository: 계정 알림
+create index idx_notification_account_created_at on tb_notification (account_id, deleted, created_at, id);
+
+-- Post.comments, Comment.children 컬렉션 조회
+create index idx_comment_post_parent_created_at on tb_comment (post_id, parent_id, deleted, created_at, id);
+create index idx_comment_parent_created_at on tb_comment (parent_id, deleted, created_at, id);
+
+-- Series.postSeries 컬렉션 및 시리즈 게시글 조회
+create index idx_post_series_series_created_at on tb_post_series (series_id, created_at);
+
+-- 조회수 순 키셋 페이징에서 null 조회수의 게시글이 누락되지 않도록 한다.
+update tb_post set hits = 0 where hits is null;
@@ -0,0 +1,18 @@
+-- 트랜잭션 아웃박스
+-- 도메인 이벤트는 발생시킨 트랜잭션 안에서 이 테이블에 함께 저장되고, 릴레이가 available_at 순서로 읽어 핸들러에 전달한 뒤 삭제한다.
+
+create table tb_outbox_message
+(
+    id           binary(16)    not null,
+    created_at   datetime(6)   not null,
+    updated_at   datetime(6)   not null,
+    event_type   varchar(128)  not null,
+    payload      varchar(4000) not null,
+    attempts     integer       not null,
+    available_at datetime(6)   not null,
+    last_error   varchar(1000),
+    primary key (id)
+);
+
+-- OutboxMessageRepository: 처리 가능한 메시지 조회
+create index idx_outbox_message_available_at on tb_outbox_message (available_at, id);
@@ -0,0 +1,23 @@
+-- 메일 전송 큐
+-- 메일은 템플릿 파라미터와 함께 저장되고, 전송 스케줄러가 available_at 순서로 읽어 하나의 SMTP 연결로 묶어 전송한 뒤 삭제한다.
+
+create table tb_mail_message
+(
+    id           binary(16)   not null,
+    created_at   datetime(6)  not null,
+    updated_at   datetime(6)  not null,
+    mail_type    varchar(32)  not null,
+    recipient    varchar(320) not null,
+    parameters   longtext,
+    digest_key   varchar(400),
+    attempts     integer      not null,
+    available_at datetime(6)  not null,
+    last_error   varchar(1000),
+    primary key (id)
+);
+
+-- MailMessageRepository: 전송 가능한 메일 조회
+create index idx_mail_message_available_at on tb_mail_message (available_at, id);
+
+-- MailMessageRepository: 요약 메일로 합쳐질 대기 중인 메일 조회
+create index idx_mail_message_digest_key on tb_mail_message (digest_key, available_at);
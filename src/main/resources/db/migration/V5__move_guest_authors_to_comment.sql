@@ -0,0 +1,31 @@
+-- 비회원 댓글 작성자
+-- 비회원 댓글마다 생성되던 손님 계정(ROLE_GUEST)의 이름과 비밀번호 해시를 댓글로 옮기고 손님 계정을 삭제한다.
+-- 손님 계정은 로그인할 수 없으므로 댓글 외의 테이블(알림, 좋아요, 첨부파일, 채팅)에서 참조되지 않는다.
+-- H2(MySQL 호환 모드)에서도 실행되어야 하므로 조인을 사용하는 UPDATE/DELETE 와 임시 테이블을 사용하지 않는다.
+
+alter table tb_comment
+    add column guest_name varchar(32);
+
+alter table tb_comment
+    add column guest_password varchar(64);
+
+alter table tb_comment
+    modify account_id binary(16) null;
+
+-- MySQL 은 SET 절을 순서대로 적용하므로 account_id 는 마지막에 비운다.
+update tb_comment
+set guest_name     = (select coalesce(a.name, '') from tb_account a where a.id = tb_comment.account_id),
+    guest_password = (select coalesce(a.password, '') from tb_account a where a.id = tb_comment.account_id),
+    account_id     = null
+where account_id in (select account_id from tb_account_role where role_name = 'ROLE_GUEST');
+
+-- 손님 계정은 ROLE_GUEST 권한만 가진다.
+delete
+from tb_account_role
+where role_name = 'ROLE_GUEST';
+
+-- 손님 계정은 email 과 blog_id 가 모두 같은 UUID 문자열이고, 권한이 삭제되어 더 이상 권한을 가지지 않는다.
+delete
+from tb_account
+where email = blog_id
+  and id not in (select account_id from tb_account_role where account_id is not null);
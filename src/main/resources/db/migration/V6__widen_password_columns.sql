@@ -0,0 +1,9 @@
+-- 비밀번호 해시 컬럼 확장
+-- 해시 앞에 {bcrypt}, {argon2} 와 같은 방식 접두어가 붙고 argon2/scrypt 해시는 bcrypt 보다 길기 때문에 컬럼 크기를 늘린다.
+-- 기존 bcrypt 해시는 접두어 없이 그대로 두며, 로그인할 때 현재 설정된 방식으로 다시 해시된다.
+
+alter table tb_account
+    modify password varchar(255);
+
+alter table tb_comment
+    modify guest_password varchar(255);
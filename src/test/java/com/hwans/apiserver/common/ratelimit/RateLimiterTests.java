@@ -0,0 +1,119 @@
+package com.hwans.apiserver.common.ratelimit;
+
+import com.hwans.apiserver.support.redis.BatchingRedisClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RateLimiterTests {
+	private static final String GUEST_COMMENT = "/api/v1/blog/@kim-hwan/posts/post_url/comments/guest";
+
+	private final BatchingRedisClient redisClient = mock(BatchingRedisClient.class);
+	private final AtomicLong now = new AtomicLong();
+	private RateLimiter rateLimiter;
+
+	@BeforeEach
+	void setUp() {
+		rateLimiter = new RateLimiter(redisClient);
+		ReflectionTestUtils.setField(rateLimiter, "enabled", true);
+		ReflectionTestUtils.setField(rateLimiter, "capacity", 20);
+		ReflectionTestUtils.setField(rateLimiter, "refillPerSecond", 1d);
+		ReflectionTestUtils.setField(rateLimiter, "sharedWindow", 60000L);
+		ReflectionTestUtils.setField(rateLimiter, "sharedEnabled", false);
+		ReflectionTestUtils.setField(rateLimiter, "ruleDefinitions", new String[]{
+				"POST /v1/blog/*/posts/*/comments/guest=10",
+				" POST /v1/authentication/token=1"});
+		ReflectionTestUtils.setField(rateLimiter, "nanoClock", (LongSupplier) now::get);
+		rateLimiter.initialize();
+	}
+
+	@Test
+	void costlyRouteIsLimitedWithRetryAfter() {
+		assertThat(rateLimiter.tryAcquire("POST", GUEST_COMMENT, "1.1.1.1")).isZero();
+		assertThat(rateLimiter.tryAcquire("POST", GUEST_COMMENT, "1.1.1.1")).isZero();
+		// 버킷 크기 20, 비용 10 이므로 세번째 요청은 10 토큰이 채워질 때까지 기다려야 한다.
+		assertThat(rateLimiter.tryAcquire("POST", GUEST_COMMENT, "1.1.1.1")).isEqualTo(10);
+
+		// 다른 클라이언트와 다른 경로는 별도의 버킷을 사용한다.
+		assertThat(rateLimiter.tryAcquire("POST", GUEST_COMMENT, "2.2.2.2")).isZero();
+		assertThat(rateLimiter.tryAcquire("POST", "/api/v1/authentication/token", "1.1.1.1")).isZero();
+
+		now.addAndGet(TimeUnit.SECONDS.toNanos(4));
+		assertThat(rateLimiter.tryAcquire("POST", GUEST_COMMENT, "1.1.1.1")).isEqualTo(6);
+		now.addAndGet(TimeUnit.SECONDS.toNanos(6));
+		assertThat(rateLimiter.tryAcquire("POST", GUEST_COMMENT, "1.1.1.1")).isZero();
+	}
+
+	@Test
+	void unmatchedRequestsAreNotLimited() {
+		for (int i = 0; i < 100; i++) {
+			assertThat(rateLimiter.tryAcquire("GET", GUEST_COMMENT, "1.1.1.1")).isZero();
+			assertThat(rateLimiter.tryAcquire("POST", "/api/v1/blog/posts", "1.1.1.1")).isZero();
+		}
+		verify(redisClient, never()).incrby(anyString(), anyLong(), any());
+	}
+
+	@Test
+	void variantsOfLimitedPathShareRule() {
+		for (var uri : new String[]{GUEST_COMMENT + "/", GUEST_COMMENT + ";jsessionid=abc", "/api/v1/blog/@kim-hwan/posts/post_url//comments/guest//"}) {
+			var request = new MockHttpServletRequest("POST", uri);
+			assertThat(RateLimitFilter.lookupPath(request)).isEqualTo(GUEST_COMMENT);
+		}
+
+		assertThat(rateLimiter.tryAcquire("POST", RateLimitFilter.lookupPath(new MockHttpServletRequest("POST", GUEST_COMMENT + "/")), "1.1.1.1")).isZero();
+		assertThat(rateLimiter.tryAcquire("POST", RateLimitFilter.lookupPath(new MockHttpServletRequest("POST", GUEST_COMMENT + ";jsessionid=abc")), "1.1.1.1")).isZero();
+		assertThat(rateLimiter.tryAcquire("POST", GUEST_COMMENT, "1.1.1.1")).isPositive();
+	}
+
+	@Test
+	void fullBucketsAreEvicted() {
+		rateLimiter.tryAcquire("POST", GUEST_COMMENT, "1.1.1.1");
+		rateLimiter.tryAcquire("POST", GUEST_COMMENT, "2.2.2.2");
+		now.addAndGet(TimeUnit.SECONDS.toNanos(5));
+		rateLimiter.tryAcquire("POST", GUEST_COMMENT, "2.2.2.2");
+
+		now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+		// 1.1.1.1 은 15초 동안 10 토큰이 채워져 가득 찼고, 2.2.2.2 는 아직 채워지는 중이다.
+		assertThat(rateLimiter.evictIdleBuckets()).isEqualTo(1);
+		assertThat(rateLimiter.evictIdleBuckets()).isZero();
+	}
+
+	@Test
+	void sharedCounterLimitsAcrossInstances() {
+		ReflectionTestUtils.setField(rateLimiter, "sharedEnabled", true);
+		// 다른 인스턴스에서 이미 윈도우 한도(20 + 60)를 넘게 사용한 상태
+		when(redisClient.incrby(anyString(), eq(10L), eq(Duration.ofMillis(120000L))))
+				.thenReturn(CompletableFuture.completedFuture(90L));
+
+		assertThat(rateLimiter.tryAcquire("POST", GUEST_COMMENT, "1.1.1.1")).isBetween(1L, 60L);
+	}
+
+	@Test
+	void localLimitStillAppliesWhenSharedCounterIsUnavailable() {
+		ReflectionTestUtils.setField(rateLimiter, "sharedEnabled", true);
+		when(redisClient.incrby(anyString(), anyLong(), any()))
+				.thenReturn(CompletableFuture.failedFuture(new RedisConnectionFailureException("down")));
+
+		assertThat(rateLimiter.tryAcquire("POST", GUEST_COMMENT, "1.1.1.1")).isZero();
+		assertThat(rateLimiter.tryAcquire("POST", GUEST_COMMENT, "1.1.1.1")).isZero();
+		assertThat(rateLimiter.tryAcquire("POST", GUEST_COMMENT, "1.1.1.1")).isPositive();
+	}
+}
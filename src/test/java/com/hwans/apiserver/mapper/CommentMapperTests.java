@@ -0,0 +1,35 @@
+package com.hwans.apiserver.mapper;
+
+import com.hwans.apiserver.entity.blog.Comment;
+import com.hwans.apiserver.entity.blog.GuestAuthor;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentMapperTests {
+	private final CommentMapper commentMapper = Mappers.getMapper(CommentMapper.class);
+
+	@Test
+	void guestCommentIsMappedWithGuestAuthor() {
+		var comment = Comment.builder()
+				.id(UUID.randomUUID())
+				.content("guest comment")
+				.guestAuthor(GuestAuthor.builder().name("손님").password("hash").build())
+				.build();
+
+		var dto = commentMapper.toDto(comment);
+		var threadDto = commentMapper.toThreadDto(comment);
+		var simpleDto = commentMapper.toSimpleDto(comment);
+
+		assertThat(dto.getAuthor().getName()).isEqualTo("손님");
+		assertThat(dto.getAuthor().isGuest()).isTrue();
+		assertThat(dto.getAuthor().getEmail()).isNull();
+		assertThat(threadDto.getAuthor().getName()).isEqualTo("손님");
+		assertThat(threadDto.getAuthor().isGuest()).isTrue();
+		assertThat(simpleDto.getAuthor().getName()).isEqualTo("손님");
+		assertThat(simpleDto.getAuthor().isGuest()).isTrue();
+	}
+}
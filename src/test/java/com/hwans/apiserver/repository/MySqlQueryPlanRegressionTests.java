@@ -0,0 +1,60 @@
+package com.hwans.apiserver.repository;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * {@link QueryPlanRegressionTests} 를 운영 환경과 같은 MySQL 8 에서 실행하여 MySQL 옵티마이저의 실행 계획을 검사한다.
+ * EXPLAIN 결과에서 실제 테이블의 접근 방식(type)이 ALL 이면 풀 스캔으로 본다.
+ * 키셋 조회 쿼리는 커서 조건이 인덱스 범위(type=range)로 처리되거나, 조인된 테이블의 경우 커서 컬럼을 포함하는 인덱스로 접근(type=ref)해야 한다.
+ * 서브쿼리 결과 등 옵티마이저가 만든 임시 테이블(&lt;subquery2&gt; 등)은 제외한다.
+ * Docker 를 사용할 수 없는 환경에서는 실행되지 않는다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class MySqlQueryPlanRegressionTests extends QueryPlanRegressionTests {
+	@Container
+	private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+	@DynamicPropertySource
+	static void mysqlProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+		registry.add("spring.datasource.username", MYSQL::getUsername);
+		registry.add("spring.datasource.password", MYSQL::getPassword);
+		registry.add("spring.datasource.driver-class-name", MYSQL::getDriverClassName);
+		registry.add("spring.jpa.database", () -> "mysql");
+		registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.MySQL8Dialect");
+	}
+
+	@Override
+	protected String readPlan(ResultSet resultSet) throws SQLException {
+		var plan = new StringBuilder();
+		while (resultSet.next()) {
+			plan.append("table=").append(resultSet.getString("table"))
+					.append(" type=").append(resultSet.getString("type"))
+					.append(" key=").append(resultSet.getString("key"))
+					.append(" rows=").append(resultSet.getString("rows"))
+					.append(" extra=").append(resultSet.getString("Extra"))
+					.append(System.lineSeparator());
+		}
+		return plan.toString();
+	}
+
+	@Override
+	protected boolean isFullScan(String plan) {
+		return plan.lines().anyMatch(x -> !x.startsWith("table=<") && x.contains(" type=ALL "));
+	}
+
+	@Override
+	protected boolean usesIndexRange(String plan) {
+		return plan.lines()
+				.filter(x -> !x.startsWith("table=<"))
+				.anyMatch(x -> x.contains(" type=range ")
+						|| (x.contains(" type=ref ") && (x.contains("_created_at ") || x.contains("_hits "))));
+	}
+}
@@ -0,0 +1,269 @@
+package com.hwans.apiserver.repository;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * 리포지토리의 모든 @Query 를 마이그레이션 스크립트로 생성된 스키마에서 EXPLAIN 하여 풀 스캔이 발생하는지 검사한다.
+ * JPQL 은 Session.createQuery 와 같은 경로인 SessionFactory 의 쿼리 계획 캐시로 번역된 SQL 을 사용한다.
+ * 이 테스트는 H2 의 MySQL 호환 모드에서 실행되므로 H2 옵티마이저의 실행 계획만 검사한다.
+ * MySQL 의 인덱스 선택과 키셋 조회의 인덱스 범위 스캔 여부는 Docker 가 있는 환경에서 실행되는 {@link MySqlQueryPlanRegressionTests} 로 검사한다.
+ */
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:query-plan;MODE=MySQL;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE;DB_CLOSE_DELAY=-1",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.flyway.enabled=true",
+		"spring.jpa.hibernate.ddl-auto=validate",
+		"spring.jpa.defer-datasource-initialization=false",
+		"spring.sql.init.mode=never"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class QueryPlanRegressionTests {
+	/**
+	 * 풀 스캔이 허용되는 쿼리 (리포지토리 단순 이름.메서드 이름)
+	 * LIKE '%검색어%' 조건은 인덱스로 처리할 수 없으므로 공개 게시글 인덱스 범위 내에서의 스캔을 허용한다.
+	 */
+	private static final Set<String> FULL_SCAN_ALLOWED = Set.of(
+			"PostRepository.findAllByOrderByCreatedAtDesc(String,Pageable)",
+			"PostRepository.findAllByOrderByHitsDesc(String,Pageable)",
+			"PostRepository.findByCursorLessThanOrderByCreatedAtDesc(LocalDateTime,UUID,String,Pageable)",
+			"PostRepository.findByCursorLessThanOrderByHitsDesc(Integer,LocalDateTime,UUID,String,Pageable)"
+	);
+
+	private static final int ACCOUNT_COUNT = 20;
+	private static final int POSTS_PER_ACCOUNT = 50;
+	private static final int CHAT_ROOM_COUNT = 10;
+	private static final int MESSAGES_PER_CHAT_ROOM = 100;
+	private static final LocalDateTime BASE_TIME = LocalDateTime.of(2022, 1, 1, 0, 0);
+
+	@Autowired
+	private ApplicationContext applicationContext;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final List<UUID> accountIds = new ArrayList<>();
+	private final List<UUID> postIds = new ArrayList<>();
+	private final List<UUID> chatRoomIds = new ArrayList<>();
+	private final List<UUID> commentIds = new ArrayList<>();
+
+	@BeforeEach
+	void seed() {
+		var time = BASE_TIME;
+		for (int i = 0; i < ACCOUNT_COUNT; i++) {
+			var accountId = UUID.randomUUID();
+			accountIds.add(accountId);
+			jdbcTemplate.update("insert into tb_account (id, created_at, updated_at, email, name, blog_id, deleted) values (?, ?, ?, ?, ?, ?, false)",
+					bytes(accountId), time, time, "blogger-" + i + "@hwans.com", "blogger-" + i, "@blogger-" + i);
+		}
+
+		var tagIds = new ArrayList<UUID>();
+		for (int i = 0; i < 20; i++) {
+			var tagId = UUID.randomUUID();
+			tagIds.add(tagId);
+			jdbcTemplate.update("insert into tb_tag (id, created_at, updated_at, name) values (?, ?, ?, ?)", bytes(tagId), time, time, "tag-" + i);
+		}
+
+		var posts = new ArrayList<Object[]>();
+		var postTags = new ArrayList<Object[]>();
+		var likes = new ArrayList<Object[]>();
+		var comments = new ArrayList<Object[]>();
+		for (int i = 0; i < ACCOUNT_COUNT; i++) {
+			var accountId = accountIds.get(i);
+			var seriesId = UUID.randomUUID();
+			jdbcTemplate.update("insert into tb_series (id, created_at, updated_at, series_url, title, account_id) values (?, ?, ?, ?, ?, ?)",
+					bytes(seriesId), time, time, "series-" + i, "series", bytes(accountId));
+			for (int j = 0; j < POSTS_PER_ACCOUNT; j++) {
+				time = time.plusMinutes(1);
+				var postId = UUID.randomUUID();
+				postIds.add(postId);
+				posts.add(new Object[]{bytes(postId), time, time, "post-" + j, "title-" + j, "content", j % 10 == 0 ? "PRIVATE" : "PUBLIC", j % 25 == 0, j, bytes(accountId)});
+				postTags.add(new Object[]{bytes(UUID.randomUUID()), time, time, bytes(postId), bytes(tagIds.get(j % tagIds.size()))});
+				likes.add(new Object[]{bytes(UUID.randomUUID()), time, time, bytes(postId), bytes(accountIds.get((i + 1) % ACCOUNT_COUNT))});
+				var commentId = UUID.randomUUID();
+				commentIds.add(commentId);
+				comments.add(new Object[]{bytes(commentId), time, time, "comment", bytes(postId), bytes(accountIds.get((i + 2) % ACCOUNT_COUNT))});
+			}
+		}
+		jdbcTemplate.batchUpdate("insert into tb_post (id, created_at, updated_at, post_url, title, content, open_type, deleted, hits, account_id) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", posts);
+		jdbcTemplate.batchUpdate("insert into tb_post_tag (id, created_at, updated_at, post_id, tag_id) values (?, ?, ?, ?, ?)", postTags);
+		jdbcTemplate.batchUpdate("insert into tb_like (id, created_at, updated_at, post_id, account_id) values (?, ?, ?, ?, ?)", likes);
+		jdbcTemplate.batchUpdate("insert into tb_comment (id, created_at, updated_at, content, deleted, post_id, account_id) values (?, ?, ?, ?, false, ?, ?)", comments);
+
+		var notifications = new ArrayList<Object[]>();
+		var commentNotifications = new ArrayList<Object[]>();
+		for (var comment : comments) {
+			var notificationId = UUID.randomUUID();
+			notifications.add(new Object[]{bytes(notificationId), comment[1], comment[2], comment[5]});
+			commentNotifications.add(new Object[]{bytes(notificationId), comment[0]});
+		}
+		jdbcTemplate.batchUpdate("insert into tb_notification (notification_type, id, created_at, updated_at, deleted, account_id) values ('COMMENT', ?, ?, ?, false, ?)", notifications);
+		jdbcTemplate.batchUpdate("insert into tb_comment_notification (id, comment_id) values (?, ?)", commentNotifications);
+
+		var messages = new ArrayList<Object[]>();
+		for (int i = 0; i < CHAT_ROOM_COUNT; i++) {
+			var chatRoomId = UUID.randomUUID();
+			chatRoomIds.add(chatRoomId);
+			jdbcTemplate.update("insert into tb_chat_room (id, created_at, updated_at, title, owner_account_id, deleted) values (?, ?, ?, ?, ?, false)",
+					bytes(chatRoomId), time, time, "room-" + i, bytes(accountIds.get(i)));
+			for (int j = 0; j < MESSAGES_PER_CHAT_ROOM; j++) {
+				time = time.plusSeconds(1);
+				messages.add(new Object[]{bytes(UUID.randomUUID()), time, time, "message", bytes(chatRoomId), bytes(accountIds.get(j % ACCOUNT_COUNT))});
+			}
+		}
+		jdbcTemplate.batchUpdate("insert into tb_chat_message (id, created_at, updated_at, content, chat_room_id, author_account_id, deleted) values (?, ?, ?, ?, ?, ?, false)", messages);
+	}
+
+	@Test
+	void repositoryQueriesDoNotUseFullScan() {
+		var repositories = new Repositories(applicationContext);
+		var violations = new ArrayList<String>();
+		var checkedCount = 0;
+		for (var domainType : repositories) {
+			var repositoryInterface = repositories.getRequiredRepositoryInformation(domainType).getRepositoryInterface();
+			for (var method : repositoryInterface.getDeclaredMethods()) {
+				var query = method.getAnnotation(Query.class);
+				if (query == null || query.nativeQuery() || method.isAnnotationPresent(Modifying.class)) {
+					continue;
+				}
+				checkedCount++;
+				var plan = explain(query.value(), method);
+				if (isFullScan(plan) && !FULL_SCAN_ALLOWED.contains(signature(method))) {
+					violations.add("full scan: " + signature(method) + System.lineSeparator() + plan);
+				}
+				if (method.getName().contains("Cursor") && !usesIndexRange(plan)) {
+					violations.add("keyset condition is not an index range: " + signature(method) + System.lineSeparator() + plan);
+				}
+			}
+		}
+
+		assertThat(checkedCount).isPositive();
+		assertThat(violations)
+				.withFailMessage(() -> "query plan regression detected:" + System.lineSeparator() + String.join(System.lineSeparator() + System.lineSeparator(), violations))
+				.isEmpty();
+	}
+
+	private String explain(String jpql, Method method) {
+		var sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+		var translator = sessionFactory.getQueryPlanCache().getHQLQueryPlan(jpql, false, Collections.emptyMap()).getTranslators()[0];
+
+		var arguments = sampleArguments(method);
+		var parameters = new TreeMap<Integer, Object>();
+		translator.getParameterTranslations().getNamedParameterInformationMap().forEach((name, information) -> {
+			if (!arguments.containsKey(name)) {
+				fail("no sample argument for parameter '%s' of %s", name, signature(method));
+			}
+			for (var location : information.getSourceLocations()) {
+				parameters.put(location + 1, arguments.get(name));
+			}
+		});
+
+		return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+			try (var statement = connection.prepareStatement("explain " + translator.getSQLString())) {
+				for (var parameter : parameters.entrySet()) {
+					statement.setObject(parameter.getKey(), parameter.getValue());
+				}
+				try (var resultSet = statement.executeQuery()) {
+					return readPlan(resultSet);
+				}
+			}
+		});
+	}
+
+	/**
+	 * EXPLAIN 결과를 문자열로 읽는다. H2 는 실행 계획 전체를 하나의 값으로 반환한다.
+	 */
+	protected String readPlan(ResultSet resultSet) throws SQLException {
+		resultSet.next();
+		return resultSet.getString(1);
+	}
+
+	/**
+	 * 실행 계획에 풀 스캔이 포함되어 있는지 검사한다.
+	 */
+	protected boolean isFullScan(String plan) {
+		return plan.toLowerCase(Locale.ROOT).contains("tablescan");
+	}
+
+	/**
+	 * 키셋 조회 쿼리(메서드 이름에 Cursor 가 포함된 쿼리)의 커서 조건이 인덱스 범위로 처리되는지 검사한다.
+	 * H2 의 실행 계획은 인덱스 범위와 필터 조건을 구분할 수 있는 형태로 제공되지 않으므로 검사하지 않는다.
+	 */
+	protected boolean usesIndexRange(String plan) {
+		return true;
+	}
+
+	private Map<String, Object> sampleArguments(Method method) {
+		var arguments = new HashMap<String, Object>();
+		for (var parameter : method.getParameters()) {
+			if (Pageable.class.isAssignableFrom(parameter.getType())) {
+				continue;
+			}
+			var param = parameter.getAnnotation(Param.class);
+			var name = param == null ? parameter.getName() : param.value();
+			arguments.put(name, sampleArgument(name, parameter.getType()));
+		}
+		return arguments;
+	}
+
+	private Object sampleArgument(String name, Class<?> type) {
+		if (type == boolean.class || type == Boolean.class) {
+			return true;
+		}
+		return switch (name) {
+			case "blogId" -> "@blogger-0";
+			case "postUrl" -> "post-0";
+			case "seriesUrl" -> "series-0";
+			case "tag" -> "tag-0";
+			case "search" -> "keyword";
+			case "hits" -> 10;
+			case "createdAt" -> BASE_TIME.plusMinutes(POSTS_PER_ACCOUNT / 2);
+			case "id" -> bytes(postIds.get(POSTS_PER_ACCOUNT / 2));
+			case "accountId" -> bytes(accountIds.get(0));
+			case "postId" -> bytes(postIds.get(0));
+			case "commentId" -> bytes(commentIds.get(0));
+			case "parentId" -> bytes(postIds.get(0));
+			case "ids" -> bytes(postIds.get(POSTS_PER_ACCOUNT / 2));
+			case "chatRoomId" -> bytes(chatRoomIds.get(0));
+			case "now" -> BASE_TIME;
+			case "digestKey" -> "NEW_COMMENT:blogger-0@hwans.com";
+			default -> throw new IllegalArgumentException("no sample argument for parameter '" + name + "' (" + type.getSimpleName() + ")");
+		};
+	}
+
+	private static String signature(Method method) {
+		var parameterTypes = Arrays.stream(method.getParameterTypes()).map(Class::getSimpleName).toList();
+		return method.getDeclaringClass().getSimpleName() + "." + method.getName() + "(" + String.join(",", parameterTypes) + ")";
+	}
+
+	private static byte[] bytes(UUID uuid) {
+		return ByteBuffer.allocate(16)
+				.putLong(uuid.getMostSignificantBits())
+				.putLong(uuid.getLeastSignificantBits())
+				.array();
+	}
+}
@@ -0,0 +1,101 @@
+package com.hwans.apiserver.service.authentication;
+
+import com.hwans.apiserver.common.errors.errorcode.ErrorCodes;
+import com.hwans.apiserver.common.errors.exception.RestApiException;
+import com.hwans.apiserver.common.security.PasswordEncoders;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingServiceTests {
+	private ThreadPoolTaskExecutor executor;
+
+	@AfterEach
+	void tearDown() {
+		if (executor != null) {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void legacyHashIsVerifiedAndUpgraded() {
+		// 접두어 없이 저장된 기존 bcrypt 해시
+		var legacyHash = new BCryptPasswordEncoder(4).encode("secret");
+		var service = createService(PasswordEncoders.create(PasswordEncoders.BCRYPT, 5), 1, 10);
+
+		assertThat(service.verify("wrong", legacyHash).matched()).isFalse();
+		var verification = service.verify("secret", legacyHash);
+		assertThat(verification.matched()).isTrue();
+		assertThat(verification.getUpgradedPassword()).hasValueSatisfying(x -> assertThat(x).startsWith("{bcrypt}$2a$05$"));
+
+		// 다시 해시된 비밀번호는 더 이상 교체하지 않는다.
+		var upgraded = verification.getUpgradedPassword().orElseThrow();
+		assertThat(service.verify("secret", upgraded)).isEqualTo(new PasswordHashingService.Verification(true, null));
+		assertThat(service.matches("secret", upgraded)).isTrue();
+	}
+
+	@Test
+	void hashIsUpgradedWhenEncoderChanges() {
+		var bcryptHash = PasswordEncoders.create(PasswordEncoders.BCRYPT, 4).encode("secret");
+		var service = createService(PasswordEncoders.create(PasswordEncoders.ARGON2, 4), 1, 10);
+
+		assertThat(service.verify("secret", bcryptHash).getUpgradedPassword()).hasValueSatisfying(x -> assertThat(x).startsWith("{argon2}"));
+		assertThat(service.encode("secret")).startsWith("{argon2}");
+	}
+
+	@Test
+	void missingPasswordDoesNotMatch() {
+		var service = createService(PasswordEncoders.create(PasswordEncoders.BCRYPT, 4), 1, 10);
+
+		assertThat(service.matches(null, "{bcrypt}hash")).isFalse();
+		assertThat(service.matches("secret", null)).isFalse();
+		assertThat(service.verify("secret", null).matched()).isFalse();
+	}
+
+	@Test
+	void requestsAreRejectedWhenQueueIsFull() throws InterruptedException {
+		var started = new CountDownLatch(1);
+		var release = new CountDownLatch(1);
+		PasswordEncoder blockingEncoder = new BCryptPasswordEncoder(4) {
+			@Override
+			public String encode(CharSequence rawPassword) {
+				started.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return super.encode(rawPassword);
+			}
+		};
+		var service = createService(blockingEncoder, 1, 0);
+
+		var worker = new Thread(() -> service.encode("secret"));
+		worker.start();
+		started.await();
+		try {
+			// 스레드 하나가 사용 중이고 큐가 없으므로 다음 요청은 바로 거절된다.
+			assertThatThrownBy(() -> service.encode("secret"))
+					.isInstanceOfSatisfying(RestApiException.class, e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCodes.TooManyRequests.TOO_MANY_REQUESTS));
+		} finally {
+			release.countDown();
+			worker.join();
+		}
+	}
+
+	private PasswordHashingService createService(PasswordEncoder passwordEncoder, int poolSize, int queueCapacity) {
+		executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.initialize();
+		return new PasswordHashingServiceImpl(passwordEncoder, executor, 5000);
+	}
+}
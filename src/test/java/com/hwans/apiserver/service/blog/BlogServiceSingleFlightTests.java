@@ -0,0 +1,146 @@
+package com.hwans.apiserver.service.blog;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 게시글과 블로그를 동시에 조회하는 요청(thundering herd)이 하나의 DB 조회를 공유하는지 실행된 SQL 수로 검사한다.
+ * 첫 SQL 에서 실행 중인 호출을 멈춰 나머지 호출이 모두 도착한 뒤에 조회가 끝나도록 하며,
+ * 스케줄러 등 다른 스레드의 SQL 은 제외하기 위해 조회 스레드의 이름으로 구분한다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.hwans.apiserver.service.blog.BlogServiceSingleFlightTests$BlockingStatementInspector")
+class BlogServiceSingleFlightTests {
+	private static final int CALLERS = 100;
+	private static final String BLOG_ID = "@kim-hwan";
+	private static final String POST_URL = "post_url";
+	private static final String CALLER_THREAD_PREFIX = "single-flight-caller-";
+
+	@Autowired
+	private BlogService blogService;
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@AfterEach
+	void tearDown() {
+		BlockingStatementInspector.release();
+	}
+
+	@Test
+	void concurrentGetPostRunsQueriesOnce() throws Exception {
+		assertHerdRunsQueriesOnce("getPost", () -> blogService.getPost(BLOG_ID, POST_URL));
+	}
+
+	@Test
+	void concurrentGetBlogDetailsRunsQueriesOnce() throws Exception {
+		assertHerdRunsQueriesOnce("getBlogDetails", () -> blogService.getBlogDetails(BLOG_ID, true));
+	}
+
+	private void assertHerdRunsQueriesOnce(String method, Callable<Object> call) throws Exception {
+		BlockingStatementInspector.reset(false);
+		var single = Executors.newSingleThreadExecutor(callerThreadFactory());
+		try {
+			single.submit(call).get(30, TimeUnit.SECONDS);
+		} finally {
+			single.shutdownNow();
+		}
+		var queriesPerCall = BlockingStatementInspector.count();
+		assertThat(queriesPerCall).isPositive();
+		var sharedBefore = sharedCount(method);
+
+		BlockingStatementInspector.reset(true);
+		var executor = Executors.newFixedThreadPool(CALLERS, callerThreadFactory());
+		try {
+			var futures = new ArrayList<Future<Object>>();
+			for (int i = 0; i < CALLERS; i++) {
+				futures.add(executor.submit(call));
+			}
+			assertThat(BlockingStatementInspector.awaitBlocked()).isTrue();
+			awaitSharedCount(method, sharedBefore + CALLERS - 1);
+			BlockingStatementInspector.release();
+
+			var results = new ArrayList<Object>();
+			for (var future : futures) {
+				results.add(future.get(30, TimeUnit.SECONDS));
+			}
+			assertThat(results).allSatisfy(x -> assertThat(x).isSameAs(results.get(0)));
+			assertThat(BlockingStatementInspector.count()).isEqualTo(queriesPerCall);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static ThreadFactory callerThreadFactory() {
+		var sequence = new AtomicInteger();
+		return runnable -> new Thread(runnable, CALLER_THREAD_PREFIX + sequence.incrementAndGet());
+	}
+
+	private double sharedCount(String method) {
+		var counter = meterRegistry.find("single.flight").tags("method", "BlogServiceImpl." + method, "result", "shared").counter();
+		return counter == null ? 0 : counter.count();
+	}
+
+	private void awaitSharedCount(String method, double expected) throws InterruptedException {
+		var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (sharedCount(method) < expected && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(sharedCount(method)).isEqualTo(expected);
+	}
+
+	/**
+	 * 실행된 SQL 수를 세고, 차단이 설정된 경우 첫 SQL 을 실행하는 스레드를 release() 까지 멈춘다.
+	 */
+	public static class BlockingStatementInspector implements StatementInspector {
+		private static final AtomicInteger count = new AtomicInteger();
+		private static volatile CountDownLatch blocked = new CountDownLatch(1);
+		private static volatile CountDownLatch gate = new CountDownLatch(0);
+
+		static void reset(boolean block) {
+			count.set(0);
+			blocked = new CountDownLatch(1);
+			gate = new CountDownLatch(block ? 1 : 0);
+		}
+
+		static int count() {
+			return count.get();
+		}
+
+		static boolean awaitBlocked() throws InterruptedException {
+			return blocked.await(10, TimeUnit.SECONDS);
+		}
+
+		static void release() {
+			gate.countDown();
+		}
+
+		@Override
+		public String inspect(String sql) {
+			if (!Thread.currentThread().getName().startsWith(CALLER_THREAD_PREFIX)) {
+				return sql;
+			}
+			count.incrementAndGet();
+			blocked.countDown();
+			try {
+				gate.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return sql;
+		}
+	}
+}
@@ -0,0 +1,108 @@
+package com.hwans.apiserver.service.blog;
+
+import com.hwans.apiserver.common.errors.errorcode.ErrorCodes;
+import com.hwans.apiserver.common.errors.exception.RestApiException;
+import com.hwans.apiserver.dto.blog.CommentPermissionDto;
+import com.hwans.apiserver.repository.blog.CommentRepository;
+import com.hwans.apiserver.service.authentication.PasswordHashingServiceImpl;
+import com.hwans.apiserver.service.authentication.UserAuthenticationDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CommentPermissionEvaluatorTests {
+	private static final String COMMENT_AUTHOR = "comment-author@hwans.com";
+	private static final String POST_AUTHOR = "post-author@hwans.com";
+
+	private final CommentRepository commentRepository = mock(CommentRepository.class);
+	private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+	private final ThreadPoolTaskExecutor executor = createExecutor();
+	private final CommentPermissionEvaluator evaluator = new CommentPermissionEvaluator(commentRepository, new PasswordHashingServiceImpl(passwordEncoder, executor, 5000));
+	private final UUID commentId = UUID.randomUUID();
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	void commentAuthorCanModifyAndDelete() {
+		givenPermission(null);
+
+		assertThat(evaluator.canModify(commentId, user(COMMENT_AUTHOR), null)).isTrue();
+		assertThat(evaluator.canDelete(commentId, user(COMMENT_AUTHOR), null)).isTrue();
+		// 권한 검사마다 프로젝션 조회 한번만 발생한다.
+		verify(commentRepository, times(2)).findPermissionById(commentId);
+	}
+
+	@Test
+	void postAuthorCanDeleteButNotModify() {
+		givenPermission(null);
+
+		assertThat(evaluator.canDelete(commentId, user(POST_AUTHOR), null)).isTrue();
+		assertThatThrownBy(() -> evaluator.canModify(commentId, user(POST_AUTHOR), null))
+				.isInstanceOfSatisfying(RestApiException.class, e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCodes.Unauthorized.UNAUTHORIZED));
+		assertThatThrownBy(() -> evaluator.canDelete(commentId, anonymous(), null))
+				.isInstanceOfSatisfying(RestApiException.class, e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCodes.Forbidden.FORBIDDEN));
+	}
+
+	@Test
+	void guestCommentRequiresMatchingPassword() {
+		givenPermission(passwordEncoder.encode("secret"));
+
+		assertThat(evaluator.canModify(commentId, anonymous(), "secret")).isTrue();
+		assertThat(evaluator.canDelete(commentId, anonymous(), "secret")).isTrue();
+		assertThatThrownBy(() -> evaluator.canModify(commentId, anonymous(), "wrong"))
+				.isInstanceOfSatisfying(RestApiException.class, e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCodes.BadRequest.BAD_REQUEST));
+		assertThatThrownBy(() -> evaluator.canDelete(commentId, anonymous(), " "))
+				.isInstanceOfSatisfying(RestApiException.class, e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCodes.BadRequest.BAD_REQUEST));
+		// 비회원 댓글도 게시글 작성자는 비밀번호 없이 삭제할 수 있다.
+		assertThat(evaluator.canDelete(commentId, user(POST_AUTHOR), null)).isTrue();
+	}
+
+	@Test
+	void missingCommentIsNotFound() {
+		when(commentRepository.findPermissionById(commentId)).thenReturn(Optional.empty());
+
+		assertThatThrownBy(() -> evaluator.canDelete(commentId, user(COMMENT_AUTHOR), null))
+				.isInstanceOfSatisfying(RestApiException.class, e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCodes.NotFound.NOT_FOUND_COMMENT));
+	}
+
+	private void givenPermission(String guestPasswordHash) {
+		var permission = guestPasswordHash == null
+				? new CommentPermissionDto(UUID.randomUUID(), COMMENT_AUTHOR, UUID.randomUUID(), POST_AUTHOR, null)
+				: new CommentPermissionDto(null, null, UUID.randomUUID(), POST_AUTHOR, guestPasswordHash);
+		when(commentRepository.findPermissionById(commentId)).thenReturn(Optional.of(permission));
+	}
+
+	private static Authentication user(String email) {
+		var authorities = AuthorityUtils.createAuthorityList("ROLE_USER");
+		return new UsernamePasswordAuthenticationToken(new UserAuthenticationDetails(email, authorities), "token", authorities);
+	}
+
+	private static ThreadPoolTaskExecutor createExecutor() {
+		var executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.initialize();
+		return executor;
+	}
+
+	private static Authentication anonymous() {
+		return new AnonymousAuthenticationToken("key", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS"));
+	}
+}
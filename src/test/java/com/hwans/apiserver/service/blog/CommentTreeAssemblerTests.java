@@ -0,0 +1,89 @@
+package com.hwans.apiserver.service.blog;
+
+import com.hwans.apiserver.dto.blog.CommentThreadDto;
+import com.hwans.apiserver.entity.blog.Comment;
+import com.hwans.apiserver.support.pagination.KeysetCursor;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentTreeAssemblerTests {
+	private static final LocalDateTime BASE_TIME = LocalDateTime.of(2022, 1, 1, 0, 0);
+
+	private final AtomicInteger createdCount = new AtomicInteger();
+	private final AtomicInteger mappedCount = new AtomicInteger();
+
+	@Test
+	void repliesAreInlinedUnderTheirRoots() {
+		var roots = List.of(comment(null, 5), comment(null, 1), comment(null, 0));
+		var replies = List.of(comment(roots.get(0), 2), comment(roots.get(0), 0), comment(roots.get(0), 0), comment(roots.get(1), 0));
+
+		var page = CommentTreeAssembler.assemble(roots, 2, true, replies, this::toDto);
+
+		assertThat(page.isFirst()).isTrue();
+		assertThat(page.isLast()).isFalse();
+		assertThat(page.getCursorId()).isEqualTo(KeysetCursor.of(roots.get(1).getCreatedAt(), roots.get(1).getId()).encode());
+		assertThat(page.getData()).extracting(CommentThreadDto::getId)
+				.containsExactly(roots.get(0).getId(), roots.get(1).getId());
+		var firstThread = page.getData().get(0);
+		assertThat(firstThread.getReplyCount()).isEqualTo(5);
+		assertThat(firstThread.getReplies()).extracting(CommentThreadDto::getId)
+				.containsExactly(replies.get(0).getId(), replies.get(1).getId(), replies.get(2).getId());
+		assertThat(firstThread.getReplies().get(0).getReplyCount()).isEqualTo(2);
+		assertThat(firstThread.getReplies().get(0).getReplies()).isEmpty();
+		assertThat(page.getData().get(1).getReplyCount()).isEqualTo(1);
+		assertThat(page.getData().get(1).getReplies()).extracting(CommentThreadDto::getId).containsExactly(replies.get(3).getId());
+		// 페이지에 포함된 댓글만 변환한다.
+		assertThat(mappedCount).hasValue(2 + 3 + 1);
+	}
+
+	@Test
+	void lastPageHasNoCursor() {
+		var roots = List.of(comment(null, 0));
+
+		var page = CommentTreeAssembler.assemble(roots, 2, false, List.of(), this::toDto);
+
+		assertThat(page.isFirst()).isFalse();
+		assertThat(page.isLast()).isTrue();
+		assertThat(page.getCursorId()).isNull();
+		assertThat(page.getData()).extracting(CommentThreadDto::getId).containsExactly(roots.get(0).getId());
+		assertThat(page.getData().get(0).getReplies()).isEmpty();
+	}
+
+	@Test
+	void repliesOfOtherCommentsAreNotIncluded() {
+		var root = comment(null, 0);
+		var other = comment(null, 1);
+		var orphan = comment(other, 0);
+
+		var page = CommentTreeAssembler.assemble(List.of(root), 20, true, List.of(orphan), this::toDto);
+
+		assertThat(page.getData()).extracting(CommentThreadDto::getId).containsExactly(root.getId());
+		assertThat(page.getData().get(0).getReplies()).isEmpty();
+	}
+
+	private Comment comment(Comment parent, int childrenCount) {
+		var index = createdCount.getAndIncrement();
+		var comment = Comment.builder().id(UUID.randomUUID()).content("comment-" + index).parent(parent).build();
+		ReflectionTestUtils.setField(comment, "createdAt", BASE_TIME.plusSeconds(index));
+		ReflectionTestUtils.setField(comment, "childrenCount", childrenCount);
+		return comment;
+	}
+
+	private CommentThreadDto toDto(Comment comment) {
+		mappedCount.incrementAndGet();
+		return CommentThreadDto.builder()
+				.id(comment.getId())
+				.content(comment.getContent())
+				.parentId(comment.getParentId())
+				.createdAt(comment.getCreatedAt())
+				.build();
+	}
+}
@@ -0,0 +1,133 @@
+package com.hwans.apiserver.service.blog;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hwans.apiserver.common.errors.errorcode.ErrorCodes;
+import com.hwans.apiserver.common.errors.exception.RestApiException;
+import com.hwans.apiserver.dto.blog.PostEventDto;
+import com.hwans.apiserver.dto.blog.PostEventType;
+import com.hwans.apiserver.dto.cluster.ClusterMessageTopic;
+import com.hwans.apiserver.entity.blog.OpenType;
+import com.hwans.apiserver.entity.blog.Post;
+import com.hwans.apiserver.repository.blog.PostRepository;
+import com.hwans.apiserver.service.cluster.ClusterMessageService;
+import com.hwans.apiserver.support.async.TaskExecutorFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostEventServiceTests {
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final ClusterMessageService clusterMessageService = mock(ClusterMessageService.class);
+	private final PostRepository postRepository = mock(PostRepository.class);
+	private PostEventServiceImpl postEventService;
+
+	@BeforeEach
+	void setUp() {
+		postEventService = new PostEventServiceImpl(postRepository, clusterMessageService, objectMapper,
+				new TaskExecutorFactory(new MockEnvironment(), new SimpleMeterRegistry()));
+		ReflectionTestUtils.setField(postEventService, "senderThreads", 1);
+		ReflectionTestUtils.setField(postEventService, "senderQueueCapacity", 10);
+		ReflectionTestUtils.setField(postEventService, "maxSubscribersPerPost", 3);
+		ReflectionTestUtils.setField(postEventService, "maxSubscriptionsPerClient", 2);
+		postEventService.initialize();
+	}
+
+	@AfterEach
+	void tearDown() {
+		postEventService.shutdown();
+	}
+
+	@Test
+	void eventsAreCoalescedPerPostAndType() throws Exception {
+		var postId = UUID.randomUUID();
+		var otherPostId = UUID.randomUUID();
+		for (int hits = 1; hits <= 100; hits++) {
+			postEventService.publish(postId, PostEventType.HITS_CHANGED, hits);
+		}
+		postEventService.publish(postId, PostEventType.LIKE_COUNT_CHANGED, 3);
+		postEventService.publish(otherPostId, PostEventType.HITS_CHANGED, 7);
+
+		postEventService.flushPendingEvents();
+
+		var payload = ArgumentCaptor.forClass(String.class);
+		verify(clusterMessageService, times(1)).publish(eq(ClusterMessageTopic.POST_EVENTS), isNull(), payload.capture());
+		var events = objectMapper.readValue(payload.getValue(), new TypeReference<List<PostEventDto>>() {
+		});
+		assertThat(events).hasSize(3);
+		assertThat(events)
+				.filteredOn(x -> x.getPostId().equals(postId) && x.getType() == PostEventType.HITS_CHANGED)
+				.singleElement()
+				.extracting(PostEventDto::getValue)
+				.isEqualTo(100L);
+
+		// 변경 사항이 없으면 발행하지 않는다.
+		postEventService.flushPendingEvents();
+		verify(clusterMessageService, times(1)).publish(any(), any(), any());
+	}
+
+	@Test
+	void nothingIsPublishedWithoutEvents() {
+		postEventService.flushPendingEvents();
+		verify(clusterMessageService, never()).publish(any(), any(), any());
+	}
+
+	@Test
+	void subscriptionsArePerClientLimited() {
+		mockPost("post_url");
+		mockPost("post_url_2");
+
+		postEventService.subscribe("@kim-hwan", "post_url", true, "1.1.1.1");
+		postEventService.subscribe("@kim-hwan", "post_url_2", true, "1.1.1.1");
+		assertThatThrownBy(() -> postEventService.subscribe("@kim-hwan", "post_url", true, "1.1.1.1"))
+				.isInstanceOfSatisfying(RestApiException.class, e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCodes.TooManyRequests.TOO_MANY_REQUESTS));
+
+		// 다른 클라이언트는 별도로 제한한다.
+		postEventService.subscribe("@kim-hwan", "post_url", true, "2.2.2.2");
+	}
+
+	@Test
+	void subscriptionsArePerPostLimited() {
+		mockPost("post_url");
+
+		postEventService.subscribe("@kim-hwan", "post_url", true, "1.1.1.1");
+		postEventService.subscribe("@kim-hwan", "post_url", true, "2.2.2.2");
+		postEventService.subscribe("@kim-hwan", "post_url", true, "3.3.3.3");
+		assertThatThrownBy(() -> postEventService.subscribe("@kim-hwan", "post_url", true, "4.4.4.4"))
+				.isInstanceOfSatisfying(RestApiException.class, e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCodes.TooManyRequests.TOO_MANY_REQUESTS));
+
+		// 거절된 구독은 클라이언트의 구독 수에 포함되지 않는다.
+		mockPost("post_url_2");
+		postEventService.subscribe("@kim-hwan", "post_url_2", true, "4.4.4.4");
+		postEventService.subscribe("@kim-hwan", "post_url_2", true, "4.4.4.4");
+	}
+
+	private void mockPost(String postUrl) {
+		var post = Post.builder()
+				.id(UUID.randomUUID())
+				.postUrl(postUrl)
+				.title(postUrl)
+				.openType(OpenType.PUBLIC)
+				.build();
+		when(postRepository.findByBlogIdAndPostUrlAndDeletedIsFalse("@kim-hwan", postUrl)).thenReturn(Optional.of(post));
+	}
+}
@@ -0,0 +1,96 @@
+package com.hwans.apiserver.service.cache;
+
+import com.hwans.apiserver.support.redis.BatchingRedisClient;
+import io.lettuce.core.RedisURI;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResourceVersionServiceTests {
+	private static RedisServer redisServer;
+	private static BatchingRedisClient redisClient;
+
+	private ResourceVersionServiceImpl resourceVersionService;
+
+	@BeforeAll
+	static void startRedis() throws IOException {
+		int port;
+		try (var socket = new ServerSocket(0)) {
+			port = socket.getLocalPort();
+		}
+		redisServer = new RedisServer(port);
+		redisServer.start();
+		redisClient = new BatchingRedisClient(RedisURI.create("localhost", port), Duration.ofSeconds(2), 512, new SimpleMeterRegistry());
+	}
+
+	@AfterAll
+	static void stopRedis() {
+		if (redisClient != null) {
+			redisClient.close();
+		}
+		if (redisServer != null) {
+			redisServer.stop();
+		}
+	}
+
+	@BeforeEach
+	void setUp() {
+		resourceVersionService = new ResourceVersionServiceImpl(redisClient);
+		ReflectionTestUtils.setField(resourceVersionService, "versionTtl", 60000L);
+	}
+
+	@Test
+	void etagIsStableUntilResourceChanges() {
+		var blog = ResourceKey.blog("@" + UUID.randomUUID());
+		var etag = resourceVersionService.getETag("/v1/blog?", blog, ResourceKey.POSTS);
+
+		assertThat(etag).startsWith("\"").endsWith("\"");
+		assertThat(resourceVersionService.getETag("/v1/blog?", blog, ResourceKey.POSTS)).isEqualTo(etag);
+		assertThat(resourceVersionService.getETag("/v1/blog?size=5", blog, ResourceKey.POSTS)).isNotEqualTo(etag);
+
+		resourceVersionService.bump(blog);
+
+		assertThat(resourceVersionService.getETag("/v1/blog?", blog, ResourceKey.POSTS)).isNotEqualTo(etag);
+	}
+
+	@Test
+	void otherResourceChangeDoesNotChangeEtag() {
+		var blog = ResourceKey.blog("@" + UUID.randomUUID());
+		var etag = resourceVersionService.getETag("/v1/blog?", blog);
+
+		resourceVersionService.bump(ResourceKey.blog("@" + UUID.randomUUID()), ResourceKey.comment(UUID.randomUUID()));
+
+		assertThat(resourceVersionService.getETag("/v1/blog?", blog)).isEqualTo(etag);
+	}
+
+	@Test
+	void bumpInTransactionIsAppliedAfterCommit() {
+		var comment = ResourceKey.comment(UUID.randomUUID());
+		var etag = resourceVersionService.getETag("/v1/blog/comments?", comment);
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			resourceVersionService.bump(comment);
+			assertThat(resourceVersionService.getETag("/v1/blog/comments?", comment)).isEqualTo(etag);
+
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		assertThat(resourceVersionService.getETag("/v1/blog/comments?", comment)).isNotEqualTo(etag);
+	}
+}
@@ -0,0 +1,218 @@
+package com.hwans.apiserver.service.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hwans.apiserver.ApiServerApplication;
+import com.hwans.apiserver.dto.cluster.ClusterMessageDto;
+import com.hwans.apiserver.dto.cluster.ClusterMessageTopic;
+import com.hwans.apiserver.dto.websocket.MessageDto;
+import com.hwans.apiserver.dto.websocket.MessageType;
+import com.hwans.apiserver.service.websocket.WebSocketService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내장 Redis 를 공유하는 두 애플리케이션 컨텍스트를 서로 다른 서버 노드로 실행하여 노드 사이의 웹소켓 메시지 전달을 검사한다.
+ */
+class ClusterMessageServiceTests {
+	private static ConfigurableApplicationContext nodeA;
+	private static ConfigurableApplicationContext nodeB;
+
+	@BeforeAll
+	static void startNodes() {
+		nodeA = startNode("cluster-node-a");
+		nodeB = startNode("cluster-node-b");
+	}
+
+	@AfterAll
+	static void stopNodes() {
+		// 먼저 실행된 노드가 내장 Redis 를 실행하므로 나중에 종료한다.
+		if (nodeB != null) {
+			nodeB.close();
+		}
+		if (nodeA != null) {
+			nodeA.close();
+		}
+	}
+
+	@Test
+	void chatMessageReachesSubscriberOnOtherNode() throws Exception {
+		var chatRoomId = UUID.randomUUID();
+		var client = new RecordingClient();
+		var session = client.connect(nodeA);
+		try {
+			client.subscribe(session, chatRoomId);
+			awaitChatMessage(client, chatRoomId, "ping");
+
+			nodeB.getBean(WebSocketService.class).sendToChatRoom(chatRoomId, chatMessage("hello"));
+
+			assertThat(await(() -> client.countChatMessages("hello") == 1)).isTrue();
+		} finally {
+			session.close();
+		}
+	}
+
+	@Test
+	void duplicatedClusterMessageIsDeliveredOnce() throws Exception {
+		var chatRoomId = UUID.randomUUID();
+		var client = new RecordingClient();
+		var session = client.connect(nodeA);
+		try {
+			client.subscribe(session, chatRoomId);
+			awaitChatMessage(client, chatRoomId, "ping");
+
+			var objectMapper = nodeB.getBean(ObjectMapper.class);
+			var duplicated = objectMapper.writeValueAsString(ClusterMessageDto.builder()
+					.eventId(UUID.randomUUID())
+					.nodeId("other-node")
+					.topic(ClusterMessageTopic.CHAT_ROOM_MESSAGE)
+					.target(chatRoomId.toString())
+					.payload(objectMapper.writeValueAsString(chatMessage("duplicated")))
+					.build());
+			var redisTemplate = redisTemplate(nodeB);
+			redisTemplate.convertAndSend(ClusterMessageServiceImpl.CHANNEL, duplicated);
+			redisTemplate.convertAndSend(ClusterMessageServiceImpl.CHANNEL, duplicated);
+
+			assertThat(await(() -> client.countChatMessages("duplicated") == 1)).isTrue();
+			Thread.sleep(500);
+			assertThat(client.countChatMessages("duplicated")).isEqualTo(1);
+		} finally {
+			session.close();
+		}
+	}
+
+	@Test
+	void sessionCountIsAggregatedAcrossNodes() throws Exception {
+		var clientA = new RecordingClient();
+		var clientB = new RecordingClient();
+		var sessionA = clientA.connect(nodeA);
+		var sessionB = clientB.connect(nodeB);
+		try {
+			assertThat(await(() -> clientA.lastSessionCount() == 2 && clientB.lastSessionCount() == 2)).isTrue();
+		} finally {
+			sessionB.close();
+		}
+
+		assertThat(await(() -> clientA.lastSessionCount() == 1)).isTrue();
+		sessionA.close();
+	}
+
+	@Test
+	void expiredNodeIsExcludedFromSessionCount() {
+		var clusterMessageService = nodeA.getBean(ClusterMessageService.class);
+		var redisTemplate = redisTemplate(nodeA);
+		var baseline = clusterMessageService.getClusterSessionCount();
+
+		// heartbeat 를 보내지 않는 노드를 흉내낸다.
+		var deadNodeId = "dead-" + UUID.randomUUID();
+		redisTemplate.opsForValue().set(ClusterMessageServiceImpl.SESSION_COUNT_KEY_PREFIX + deadNodeId, "5", Duration.ofSeconds(1));
+		redisTemplate.opsForSet().add(ClusterMessageServiceImpl.NODES_KEY, deadNodeId);
+		assertThat(clusterMessageService.getClusterSessionCount()).isEqualTo(baseline + 5);
+
+		assertThat(await(() -> clusterMessageService.getClusterSessionCount() == baseline)).isTrue();
+		assertThat(redisTemplate.opsForSet().isMember(ClusterMessageServiceImpl.NODES_KEY, deadNodeId)).isFalse();
+	}
+
+	private static ConfigurableApplicationContext startNode(String name) {
+		return new SpringApplicationBuilder(ApiServerApplication.class)
+				.properties(
+						"server.port=0",
+						"spring.datasource.url=jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1",
+						"cluster.heartbeat-interval=500",
+						"cluster.heartbeat-ttl=2000")
+				.run();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static RedisTemplate<String, String> redisTemplate(ConfigurableApplicationContext context) {
+		return (RedisTemplate<String, String>) context.getBean("redisTemplate");
+	}
+
+	private static MessageDto chatMessage(String content) {
+		return MessageDto.builder().type(MessageType.CHAT_MESSAGE_CREATED).payload(content).build();
+	}
+
+	/**
+	 * 구독 요청은 비동기로 처리되므로 다른 노드에서 보낸 메시지가 수신될 때까지 반복해서 전송한다.
+	 */
+	private static void awaitChatMessage(RecordingClient client, UUID chatRoomId, String content) throws InterruptedException {
+		var webSocketService = nodeB.getBean(WebSocketService.class);
+		var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (client.countChatMessages(content) == 0 && System.nanoTime() < deadline) {
+			webSocketService.sendToChatRoom(chatRoomId, chatMessage(content));
+			Thread.sleep(100);
+		}
+		assertThat(client.countChatMessages(content)).isPositive();
+	}
+
+	private static boolean await(BooleanSupplier condition) {
+		var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (!condition.getAsBoolean()) {
+			if (System.nanoTime() > deadline) {
+				return false;
+			}
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static class RecordingClient extends TextWebSocketHandler {
+		private final ObjectMapper objectMapper = new ObjectMapper();
+		private final List<MessageDto> messages = new CopyOnWriteArrayList<>();
+
+		WebSocketSession connect(ConfigurableApplicationContext node) throws Exception {
+			var port = ((WebServerApplicationContext) node).getWebServer().getPort();
+			return new StandardWebSocketClient().doHandshake(this, "ws://localhost:" + port + "/ws/websocket").get(10, TimeUnit.SECONDS);
+		}
+
+		void subscribe(WebSocketSession session, UUID chatRoomId) throws Exception {
+			session.sendMessage(new TextMessage(objectMapper.writeValueAsString(MessageDto.builder()
+					.type(MessageType.SUBSCRIBE_CHAT_ROOM)
+					.payload(chatRoomId)
+					.build())));
+		}
+
+		long countChatMessages(String content) {
+			return messages.stream()
+					.filter(x -> x.getType() == MessageType.CHAT_MESSAGE_CREATED && content.equals(x.getPayload()))
+					.count();
+		}
+
+		int lastSessionCount() {
+			var count = -1;
+			for (var message : messages) {
+				if (message.getType() == MessageType.SESSION_COUNT_CHANGED) {
+					count = ((Number) message.getPayload()).intValue();
+				}
+			}
+			return count;
+		}
+
+		@Override
+		protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+			messages.add(objectMapper.readValue(message.getPayload(), MessageDto.class));
+		}
+	}
+}
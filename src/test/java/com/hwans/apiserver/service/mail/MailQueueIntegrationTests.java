@@ -0,0 +1,87 @@
+package com.hwans.apiserver.service.mail;
+
+import com.hwans.apiserver.entity.mail.MailMessage;
+import com.hwans.apiserver.entity.mail.MailType;
+import com.hwans.apiserver.repository.mail.MailMessageRepository;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 전송 큐(tb_mail_message)의 메일이 전송, 실패 후 재시도, 최대 시도 횟수 초과로 처리되는지 검사한다.
+ * 큐의 변경은 트랜잭션 없이 실행되는 sendQueuedMails 안에서 각각 커밋되어야 한다.
+ * 스케줄러가 테스트 중에 큐를 가져가지 않도록 조회 주기를 길게 설정하고, 메일은 이벤트 없이 리포지토리로 직접 저장한다.
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:mail-queue;DB_CLOSE_DELAY=-1",
+		"spring.mail.host=localhost",
+		"spring.mail.port=3025",
+		"spring.mail.properties.mail.smtp.auth=false",
+		"spring.mail.properties.mail.smtp.starttls.enable=false",
+		"mail-queue.poll-interval=3600000",
+		"mail-queue.retry-backoff=1",
+		"mail-queue.max-attempts=2"})
+class MailQueueIntegrationTests {
+	@RegisterExtension
+	static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+	@Autowired
+	private MailSenderService mailSenderService;
+	@Autowired
+	private MailMessageRepository mailMessageRepository;
+
+	@AfterEach
+	void tearDown() {
+		mailMessageRepository.deleteAll();
+	}
+
+	@Test
+	void sentMailIsRemovedFromQueue() {
+		var message = mailMessageRepository.save(message("{\"verify-code\":\"123456\"}"));
+
+		mailSenderService.sendQueuedMails();
+
+		assertThat(greenMail.getReceivedMessages()).hasSize(1);
+		assertThat(mailMessageRepository.findById(message.getId())).isEmpty();
+
+		mailSenderService.sendQueuedMails();
+
+		assertThat(greenMail.getReceivedMessages()).hasSize(1);
+	}
+
+	@Test
+	void failedMailIsRetriedAndDroppedAfterMaxAttempts() throws Exception {
+		// 템플릿 파라미터가 올바르지 않아 메일을 만들 수 없는 메일
+		var message = mailMessageRepository.save(message("not json"));
+
+		mailSenderService.sendQueuedMails();
+
+		var retried = mailMessageRepository.findById(message.getId()).orElseThrow();
+		assertThat(retried.getAttempts()).isEqualTo(1);
+		assertThat(retried.getLastError()).isNotBlank();
+		assertThat(retried.getAvailableAt()).isAfterOrEqualTo(message.getAvailableAt());
+
+		Thread.sleep(50);
+		mailSenderService.sendQueuedMails();
+
+		assertThat(mailMessageRepository.findById(message.getId())).isEmpty();
+		assertThat(greenMail.getReceivedMessages()).isEmpty();
+	}
+
+	private static MailMessage message(String parameters) {
+		return MailMessage.builder()
+				.mailType(MailType.VERIFY_CODE)
+				.recipient("new@hwans.com")
+				.parameters(parameters)
+				.availableAt(LocalDateTime.now().minusSeconds(1))
+				.build();
+	}
+}
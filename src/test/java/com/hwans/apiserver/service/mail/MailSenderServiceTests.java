@@ -0,0 +1,128 @@
+package com.hwans.apiserver.service.mail;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hwans.apiserver.entity.mail.MailMessage;
+import com.hwans.apiserver.entity.mail.MailType;
+import com.hwans.apiserver.repository.blog.CommentRepository;
+import com.hwans.apiserver.support.mail.MailTemplate;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.mail.internet.MimeMessage;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MailSenderServiceTests {
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final MailQueueService mailQueueService = mock(MailQueueService.class);
+	private final JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
+	private GreenMail greenMail;
+	private MailSenderServiceImpl mailSenderService;
+
+	@BeforeEach
+	void setUp() {
+		greenMail = new GreenMail(ServerSetupTest.SMTP.dynamicPort());
+		greenMail.start();
+		javaMailSender.setHost("localhost");
+		javaMailSender.setPort(greenMail.getSmtp().getPort());
+		javaMailSender.setDefaultEncoding("UTF-8");
+
+		mailSenderService = new MailSenderServiceImpl(javaMailSender, mock(CommentRepository.class), mailQueueService, objectMapper);
+		ReflectionTestUtils.setField(mailSenderService, "batchSize", 10);
+		mailSenderService.initialize();
+	}
+
+	@AfterEach
+	void tearDown() {
+		greenMail.stop();
+	}
+
+	@Test
+	void queuedMailsAreSentAndCommentNotificationsAreFoldedIntoDigest() throws Exception {
+		var verifyCode = message(MailType.VERIFY_CODE, "new@hwans.com", Map.of("verify-code", "123456"), null);
+		var firstComment = message(MailType.NEW_COMMENT, "author@hwans.com", commentParameters("첫 번째 댓글"), "NEW_COMMENT:author@hwans.com");
+		var secondComment = message(MailType.NEW_COMMENT, "author@hwans.com", commentParameters("두 번째 댓글"), "NEW_COMMENT:author@hwans.com");
+		var otherComment = message(MailType.NEW_COMMENT, "other@hwans.com", commentParameters("다른 댓글"), "NEW_COMMENT:other@hwans.com");
+		when(mailQueueService.claimMessages(anyInt())).thenReturn(List.of(verifyCode, firstComment, secondComment, otherComment), List.of());
+
+		mailSenderService.sendQueuedMails();
+
+		var receivedMessages = greenMail.getReceivedMessages();
+		assertThat(receivedMessages).hasSize(3);
+		var digest = Arrays.stream(receivedMessages)
+				.filter(x -> recipient(x).equals("author@hwans.com"))
+				.findFirst()
+				.orElseThrow();
+		assertThat(digest.getSubject()).isEqualTo("[Hwan'Story] 새 댓글 알림 (2건)");
+		assertThat(GreenMailUtil.getBody(digest)).isNotBlank();
+		verify(mailQueueService).completeMessages(argThat(x -> x.size() == 4
+				&& x.containsAll(List.of(verifyCode.getId(), firstComment.getId(), secondComment.getId(), otherComment.getId()))));
+		verify(mailQueueService, never()).failMessages(argThat(x -> true), anyString());
+	}
+
+	@Test
+	void mailsAreRetriedWhenSmtpServerIsUnavailable() throws Exception {
+		greenMail.stop();
+		var verifyCode = message(MailType.VERIFY_CODE, "new@hwans.com", Map.of("verify-code", "123456"), null);
+		var resetPassword = message(MailType.RESET_PASSWORD, "new@hwans.com", Map.of("reset-password-token", "token"), null);
+		when(mailQueueService.claimMessages(anyInt())).thenReturn(List.of(verifyCode, resetPassword), List.of());
+
+		mailSenderService.sendQueuedMails();
+
+		verify(mailQueueService).failMessages(argThat(x -> x.contains(verifyCode.getId())), anyString());
+		verify(mailQueueService).failMessages(argThat(x -> x.contains(resetPassword.getId())), anyString());
+		verify(mailQueueService).completeMessages(argThat(x -> x.isEmpty()));
+	}
+
+	@Test
+	void templatesAreCompiledIntoSegments() {
+		var template = MailTemplate.compile("<a href=\"/{{blog-id}}/posts/{{post-url}}\">{{post-url}}</a>");
+
+		assertThat(template.render(Map.of("blog-id", "@hwan", "post-url", "hello"))).isEqualTo("<a href=\"/@hwan/posts/hello\">hello</a>");
+		assertThat(MailTemplate.compile("no tokens").render(Map.of())).isEqualTo("no tokens");
+		assertThatThrownBy(() -> template.render(Map.of("blog-id", "@hwan"))).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private MailMessage message(MailType mailType, String recipient, Map<String, String> parameters, String digestKey) throws Exception {
+		return MailMessage.builder()
+				.id(UUID.randomUUID())
+				.mailType(mailType)
+				.recipient(recipient)
+				.parameters(objectMapper.writeValueAsString(parameters))
+				.digestKey(digestKey)
+				.attempts(1)
+				.availableAt(LocalDateTime.now())
+				.build();
+	}
+
+	private static Map<String, String> commentParameters(String comment) {
+		return Map.of("comment", comment, "blog-id", "@author", "post-url", "post");
+	}
+
+	private static String recipient(MimeMessage message) {
+		try {
+			return message.getAllRecipients()[0].toString();
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,216 @@
+package com.hwans.apiserver.service.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hwans.apiserver.common.Constants;
+import com.hwans.apiserver.common.security.jwt.JwtTokenProvider;
+import com.hwans.apiserver.dto.websocket.MessageDto;
+import com.hwans.apiserver.dto.websocket.MessageType;
+import com.hwans.apiserver.entity.blog.Comment;
+import com.hwans.apiserver.repository.account.AccountRepository;
+import com.hwans.apiserver.repository.blog.CommentRepository;
+import com.hwans.apiserver.repository.blog.PostRepository;
+import com.hwans.apiserver.repository.notification.NotificationRepository;
+import com.hwans.apiserver.support.redis.BatchingRedisClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 알림 서비스의 댓글 알림 생성, 읽지 않은 알림 수, 웹소켓 알림 전송을 검사한다.
+ * 게시글 작성자(akon47@naver.com)가 다른 계정의 댓글에 대한 알림을 받는다.
+ * 읽지 않은 알림 수는 새 알림의 커밋 이후 비동기로 증가하므로 기대하는 값이 될 때까지 기다린다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = "spring.datasource.url=jdbc:h2:mem:notification;DB_CLOSE_DELAY=-1")
+class NotificationServiceTests {
+	private static final String BLOG_ID = "@kim-hwan";
+	private static final String POST_URL = "post_url";
+	private static final String RECEIVER_EMAIL = "akon47@naver.com";
+	private static final String COMMENT_AUTHOR_EMAIL = "akon47-2@naver.com";
+	private static final String UNREAD_NOTIFICATION_COUNT_KEY = "unread-notification-count";
+
+	@LocalServerPort
+	private int port;
+	@Autowired
+	private NotificationService notificationService;
+	@Autowired
+	private NotificationRepository notificationRepository;
+	@Autowired
+	private AccountRepository accountRepository;
+	@Autowired
+	private PostRepository postRepository;
+	@Autowired
+	private CommentRepository commentRepository;
+	@Autowired
+	private RedisTemplate<String, String> redisTemplate;
+	@Autowired
+	private BatchingRedisClient redisClient;
+	@Autowired
+	private JwtTokenProvider jwtTokenProvider;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+	@Autowired
+	private TestRestTemplate restTemplate;
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private UUID receiverAccountId;
+
+	@BeforeEach
+	void setUp() {
+		receiverAccountId = accountRepository.findByEmailAndDeletedIsFalse(RECEIVER_EMAIL).orElseThrow().getId();
+		// 내장 Redis 는 테스트 컨텍스트 사이에 유지되므로 이전 DB 로 계산된 값을 제거한다.
+		redisTemplate.opsForHash().delete(UNREAD_NOTIFICATION_COUNT_KEY, receiverAccountId.toString());
+	}
+
+	@Test
+	void redeliveredCommentEventCreatesSingleNotification() {
+		var commentId = createComment();
+		var notificationCount = notificationRepository.count();
+
+		var created = notificationService.createCommentNotification(commentId);
+		var redelivered = notificationService.createCommentNotification(commentId);
+
+		assertThat(created).isNotNull();
+		assertThat(redelivered.getId()).isEqualTo(created.getId());
+		assertThat(notificationRepository.count()).isEqualTo(notificationCount + 1);
+	}
+
+	@Test
+	void unreadCountFollowsCommittedChanges() throws Exception {
+		var unreadCount = notificationService.getUnreadNotificationCount(receiverAccountId);
+
+		var first = notificationService.createCommentNotification(createComment());
+		var second = notificationService.createCommentNotification(createComment());
+		awaitUnreadCount(unreadCount + 2);
+
+		notificationService.markNotificationAsRead(receiverAccountId, first.getId());
+		assertThat(notificationService.getUnreadNotificationCount(receiverAccountId)).isEqualTo(unreadCount + 1);
+		// 이미 읽은 알림은 다시 감소시키지 않는다.
+		notificationService.markNotificationAsRead(receiverAccountId, first.getId());
+		assertThat(notificationService.getUnreadNotificationCount(receiverAccountId)).isEqualTo(unreadCount + 1);
+
+		// 롤백된 삭제는 읽지 않은 알림 수에 반영되지 않는다.
+		var transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.executeWithoutResult(status -> {
+			notificationService.deleteNotification(receiverAccountId, second.getId());
+			status.setRollbackOnly();
+		});
+		assertThat(notificationService.getUnreadNotificationCount(receiverAccountId)).isEqualTo(unreadCount + 1);
+
+		notificationService.deleteNotification(receiverAccountId, second.getId());
+		assertThat(notificationService.getUnreadNotificationCount(receiverAccountId)).isEqualTo(unreadCount);
+
+		notificationService.createCommentNotification(createComment());
+		awaitUnreadCount(unreadCount + 1);
+		notificationService.deleteNotifications(receiverAccountId);
+		assertThat(notificationService.getUnreadNotificationCount(receiverAccountId)).isZero();
+	}
+
+	@Test
+	void unreadCountEndpointReturnsCountOfAuthenticatedAccount() throws Exception {
+		var unreadCount = notificationService.getUnreadNotificationCount(receiverAccountId);
+		notificationService.createCommentNotification(createComment());
+		awaitUnreadCount(unreadCount + 1);
+
+		var headers = new HttpHeaders();
+		headers.setBearerAuth(issueAccessToken());
+		var response = restTemplate.exchange("/api/v1/notifications/unread-count", HttpMethod.GET, new HttpEntity<>(headers), Long.class);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).isEqualTo(unreadCount + 1);
+		assertThat(restTemplate.getForEntity("/api/v1/notifications/unread-count", String.class).getStatusCode())
+				.isEqualTo(HttpStatus.UNAUTHORIZED);
+	}
+
+	@Test
+	void authenticatedWebSocketSessionReceivesNotification() throws Exception {
+		var messages = new LinkedBlockingQueue<MessageDto>();
+		var session = new StandardWebSocketClient().doHandshake(new TextWebSocketHandler() {
+			@Override
+			protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+				var received = objectMapper.readValue(message.getPayload(), MessageDto.class);
+				if (received.getType() != MessageType.SESSION_COUNT_CHANGED) {
+					messages.add(received);
+				}
+			}
+		}, "ws://localhost:" + port + "/ws/websocket").get(10, TimeUnit.SECONDS);
+		try {
+			session.sendMessage(authenticate("invalid-token"));
+			var rejected = poll(messages);
+			assertThat(rejected.getType()).isEqualTo(MessageType.AUTHENTICATED);
+			assertThat(rejected.getPayload()).isEqualTo(false);
+
+			session.sendMessage(authenticate(issueAccessToken()));
+			var authenticated = poll(messages);
+			assertThat(authenticated.getType()).isEqualTo(MessageType.AUTHENTICATED);
+			assertThat(authenticated.getPayload()).isEqualTo(true);
+
+			var notification = notificationService.createCommentNotification(createComment());
+			var pushed = poll(messages);
+			assertThat(pushed.getType()).isEqualTo(MessageType.NOTIFICATION_CREATED);
+			assertThat(objectMapper.writeValueAsString(pushed.getPayload())).contains(notification.getId().toString());
+		} finally {
+			session.close();
+		}
+	}
+
+	private UUID createComment() {
+		var post = postRepository.findByBlogIdAndPostUrl(BLOG_ID, POST_URL).orElseThrow();
+		var author = accountRepository.findByEmailAndDeletedIsFalse(COMMENT_AUTHOR_EMAIL).orElseThrow();
+		return commentRepository.save(Comment.builder()
+				.content("댓글")
+				.post(post)
+				.account(author)
+				.build()).getId();
+	}
+
+	private String issueAccessToken() {
+		var accessToken = jwtTokenProvider.createToken(RECEIVER_EMAIL, "ROLE_USER").getAccessToken();
+		BatchingRedisClient.await(redisClient.set(accessToken, "issue", Duration.ofMillis(Constants.ACCESS_TOKEN_EXPIRES_TIME)));
+		return accessToken;
+	}
+
+	private TextMessage authenticate(String accessToken) throws Exception {
+		return new TextMessage(objectMapper.writeValueAsString(MessageDto.builder()
+				.type(MessageType.AUTHENTICATE)
+				.payload(accessToken)
+				.build()));
+	}
+
+	private static MessageDto poll(BlockingQueue<MessageDto> messages) throws InterruptedException {
+		var message = messages.poll(10, TimeUnit.SECONDS);
+		assertThat(message).isNotNull();
+		return message;
+	}
+
+	private void awaitUnreadCount(long expected) throws InterruptedException {
+		var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (notificationService.getUnreadNotificationCount(receiverAccountId) != expected && System.nanoTime() < deadline) {
+			Thread.sleep(20);
+		}
+		assertThat(notificationService.getUnreadNotificationCount(receiverAccountId)).isEqualTo(expected);
+	}
+}
@@ -0,0 +1,163 @@
+package com.hwans.apiserver.service.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hwans.apiserver.dto.cluster.ClusterMessageDto;
+import com.hwans.apiserver.dto.cluster.ClusterMessageTopic;
+import com.hwans.apiserver.service.authentication.AuthenticationService;
+import com.hwans.apiserver.service.cluster.ClusterMessageService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 10,000 개의 세션이 한번에 연결/재연결될 때 세션 수 전송 횟수와 소요 시간을 측정한다.
+ * 매 연결마다 모든 세션에 전송하던 방식은 N 개의 연결에 대해 N(N+1)/2 번의 전송이 필요하다.
+ */
+@Slf4j
+class SessionCountBroadcastBenchmarkTests {
+	private static final int SESSION_COUNT = 10_000;
+
+	private final AtomicLong sendCount = new AtomicLong();
+	private final Set<WebSocketMessage<?>> sentMessages = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+	private final LocalClusterMessageService clusterMessageService = new LocalClusterMessageService();
+	private WebSocketServiceImpl webSocketService;
+
+	@BeforeEach
+	void setUp() {
+		webSocketService = new WebSocketServiceImpl(new ObjectMapper(), clusterMessageService, mock(AuthenticationService.class));
+		ReflectionTestUtils.setField(webSocketService, "sendTimeLimit", 5000);
+		ReflectionTestUtils.setField(webSocketService, "bufferSizeLimit", 524288);
+		webSocketService.registerClusterMessageListeners();
+	}
+
+	@Test
+	void connectStormIsCoalescedIntoSingleBroadcast() throws Exception {
+		var sessions = createSessions(0, SESSION_COUNT);
+
+		var startedAt = System.nanoTime();
+		for (var session : sessions) {
+			webSocketService.afterConnectionEstablished(session);
+		}
+		webSocketService.broadcastSessionCount();
+		var elapsed = System.nanoTime() - startedAt;
+
+		log.info("connect storm of {} sessions: {} sends (previously {}), {} ms",
+				SESSION_COUNT, sendCount.get(), (long) SESSION_COUNT * (SESSION_COUNT + 1) / 2, TimeUnit.NANOSECONDS.toMillis(elapsed));
+		assertThat(sendCount.get()).isEqualTo(SESSION_COUNT);
+		assertThat(sentMessages).as("payload is serialized once").hasSize(1);
+		assertThat(clusterMessageService.updateCount.get()).isEqualTo(1);
+
+		// 변경 사항이 없으면 전송하지 않는다.
+		webSocketService.broadcastSessionCount();
+		assertThat(sendCount.get()).isEqualTo(SESSION_COUNT);
+	}
+
+	@Test
+	void reconnectStormSendsOnlyToNewSessionsWhenCountIsUnchanged() throws Exception {
+		var sessions = createSessions(0, SESSION_COUNT);
+		for (var session : sessions) {
+			webSocketService.afterConnectionEstablished(session);
+		}
+		webSocketService.broadcastSessionCount();
+		sendCount.set(0);
+		sentMessages.clear();
+
+		var reconnected = createSessions(SESSION_COUNT, SESSION_COUNT / 2);
+		var startedAt = System.nanoTime();
+		for (int i = 0; i < reconnected.size(); i++) {
+			webSocketService.afterConnectionClosed(sessions.get(i), CloseStatus.GOING_AWAY);
+			webSocketService.afterConnectionEstablished(reconnected.get(i));
+		}
+		webSocketService.broadcastSessionCount();
+		var elapsed = System.nanoTime() - startedAt;
+
+		log.info("reconnect storm of {} sessions: {} sends, {} ms",
+				reconnected.size(), sendCount.get(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+		assertThat(sendCount.get()).isEqualTo(reconnected.size());
+		assertThat(sentMessages).hasSize(1);
+		assertThat(clusterMessageService.updateCount.get()).isEqualTo(1);
+	}
+
+	private List<WebSocketSession> createSessions(int offset, int count) throws Exception {
+		var sessions = new ArrayList<WebSocketSession>(count);
+		for (int i = offset; i < offset + count; i++) {
+			var session = mock(WebSocketSession.class);
+			when(session.getId()).thenReturn("session-" + i);
+			when(session.isOpen()).thenReturn(true);
+			when(session.getAttributes()).thenReturn(new ConcurrentHashMap<>());
+			doAnswer(invocation -> {
+				sendCount.incrementAndGet();
+				sentMessages.add(invocation.getArgument(0));
+				return null;
+			}).when(session).sendMessage(any());
+			sessions.add(session);
+		}
+		return sessions;
+	}
+
+	/**
+	 * Redis 없이 단일 노드로 동작하는 ClusterMessageService
+	 */
+	private static class LocalClusterMessageService implements ClusterMessageService {
+		private final List<Consumer<ClusterMessageDto>> sessionCountListeners = new ArrayList<>();
+		private final AtomicInteger sessionCount = new AtomicInteger();
+		private final AtomicInteger updateCount = new AtomicInteger();
+
+		@Override
+		public String getNodeId() {
+			return "local";
+		}
+
+		@Override
+		public void publish(ClusterMessageTopic topic, String target, String payload) {
+			if (topic == ClusterMessageTopic.SESSION_COUNT_CHANGED) {
+				var message = ClusterMessageDto.builder().nodeId(getNodeId()).topic(topic).build();
+				sessionCountListeners.forEach(listener -> listener.accept(message));
+			}
+		}
+
+		@Override
+		public void addListener(ClusterMessageTopic topic, Consumer<ClusterMessageDto> listener) {
+			if (topic == ClusterMessageTopic.SESSION_COUNT_CHANGED) {
+				sessionCountListeners.add(listener);
+			}
+		}
+
+		@Override
+		public void updateLocalSessionCount(int sessionCount) {
+			updateCount.incrementAndGet();
+			this.sessionCount.set(sessionCount);
+			publish(ClusterMessageTopic.SESSION_COUNT_CHANGED, null, null);
+		}
+
+		@Override
+		public int getClusterSessionCount() {
+			return sessionCount.get();
+		}
+
+		@Override
+		public void heartbeat() {
+		}
+	}
+}
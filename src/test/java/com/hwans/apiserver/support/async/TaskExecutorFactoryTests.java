@@ -0,0 +1,76 @@
+package com.hwans.apiserver.support.async;
+
+import com.hwans.apiserver.support.async.TaskExecutorFactory.ExecutorDefaults;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskExecutorFactoryTests {
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final MockEnvironment environment = new MockEnvironment();
+	private ThreadPoolTaskExecutor executor;
+
+	@AfterEach
+	void tearDown() {
+		MDC.clear();
+		if (executor != null) {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void mdcIsPropagatedAndTasksAreTimed() throws Exception {
+		executor = new TaskExecutorFactory(environment, meterRegistry).create("mail", new ExecutorDefaults(1, 1, 10, RejectionPolicy.ABORT));
+		executor.initialize();
+
+		MDC.put("traceId", "trace-1");
+		var traceId = CompletableFuture.supplyAsync(() -> MDC.get("traceId"), executor).get(5, TimeUnit.SECONDS);
+		MDC.clear();
+		var clearedTraceId = CompletableFuture.supplyAsync(() -> MDC.get("traceId"), executor).get(5, TimeUnit.SECONDS);
+
+		assertThat(traceId).isEqualTo("trace-1");
+		assertThat(clearedTraceId).isNull();
+		assertThat(meterRegistry.get("executor").tag("name", "mail").timer().count()).isEqualTo(2);
+		assertThat(meterRegistry.get("executor.idle").tag("name", "mail").timer().count()).isEqualTo(2);
+	}
+
+	@Test
+	void queueIsBoundedAndRejectionsAreCounted() throws Exception {
+		environment.setProperty("async.executors.media.core-size", "1");
+		environment.setProperty("async.executors.media.max-size", "1");
+		environment.setProperty("async.executors.media.queue-capacity", "1");
+		executor = new TaskExecutorFactory(environment, meterRegistry).create("media", new ExecutorDefaults(4, 4, 100, RejectionPolicy.ABORT));
+		executor.initialize();
+
+		var release = new CountDownLatch(1);
+		var started = new CountDownLatch(1);
+		executor.execute(() -> {
+			started.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		started.await(5, TimeUnit.SECONDS);
+		executor.execute(() -> {
+		});
+
+		assertThat(meterRegistry.get("executor.queued").tag("name", "media").gauge().value()).isEqualTo(1);
+		assertThatThrownBy(() -> executor.execute(() -> {
+		})).isInstanceOf(RejectedExecutionException.class);
+		assertThat(meterRegistry.get("executor.rejected").tag("name", "media").counter().count()).isEqualTo(1);
+		release.countDown();
+	}
+}
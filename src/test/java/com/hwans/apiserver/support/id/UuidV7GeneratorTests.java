@@ -0,0 +1,70 @@
+package com.hwans.apiserver.support.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7GeneratorTests {
+	/**
+	 * BINARY(16) 컬럼의 정렬 순서와 같은 부호 없는 바이트 순 비교
+	 */
+	private static final Comparator<UUID> BINARY_ORDER = Comparator
+			.<UUID>comparingLong(x -> x.getMostSignificantBits() ^ Long.MIN_VALUE)
+			.thenComparingLong(x -> x.getLeastSignificantBits() ^ Long.MIN_VALUE);
+
+	@Test
+	void generatesVersion7WithTimestamp() {
+		var generator = new UuidV7Generator(() -> 1_660_000_000_000L);
+
+		var uuid = generator.generate();
+
+		assertThat(uuid.version()).isEqualTo(7);
+		assertThat(uuid.variant()).isEqualTo(2);
+		assertThat(UuidV7Generator.getTimestamp(uuid)).isEqualTo(1_660_000_000_000L);
+	}
+
+	@Test
+	void isMonotonicWithinSameMillisecondAndClockRollback() {
+		var clock = new AtomicLong(1_660_000_000_000L);
+		var generator = new UuidV7Generator(clock::get);
+
+		var generated = new ArrayList<UUID>();
+		for (int i = 0; i < 10_000; i++) {
+			if (i == 5_000) {
+				clock.addAndGet(-1_000);
+			}
+			generated.add(generator.generate());
+		}
+
+		var sorted = new ArrayList<>(generated);
+		sorted.sort(BINARY_ORDER);
+		assertThat(sorted).containsExactlyElementsOf(generated);
+	}
+
+	@Test
+	void isUniqueAcrossThreads() throws InterruptedException {
+		var generator = new UuidV7Generator();
+		var generated = new ConcurrentLinkedQueue<UUID>();
+		var executor = Executors.newFixedThreadPool(8);
+		for (int i = 0; i < 8; i++) {
+			executor.execute(() -> {
+				for (int j = 0; j < 10_000; j++) {
+					generated.add(generator.generate());
+				}
+			});
+		}
+		executor.shutdown();
+		assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+		assertThat(new HashSet<>(generated)).hasSize(80_000);
+	}
+}
@@ -0,0 +1,172 @@
+package com.hwans.apiserver.support.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hwans.apiserver.entity.outbox.OutboxMessage;
+import com.hwans.apiserver.event.DomainEventListener;
+import com.hwans.apiserver.event.chat.CreateChatMessageEvent;
+import com.hwans.apiserver.service.outbox.OutboxService;
+import com.hwans.apiserver.support.async.TaskExecutorFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.stereotype.Component;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxRelayTests {
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final OutboxService outboxService = mock(OutboxService.class);
+	@SuppressWarnings("unchecked")
+	private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+	@SuppressWarnings("unchecked")
+	private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+	private AnnotationConfigApplicationContext handlerContext;
+	private OutboxRelay outboxRelay;
+
+	@BeforeEach
+	void setUp() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		handlerContext = new AnnotationConfigApplicationContext(ChatMessageHandlers.class);
+		outboxRelay = new OutboxRelay(handlerContext, outboxService, redisTemplate, objectMapper,
+				new TaskExecutorFactory(new MockEnvironment(), new SimpleMeterRegistry()));
+		ReflectionTestUtils.setField(outboxRelay, "batchSize", 10);
+		ReflectionTestUtils.setField(outboxRelay, "parallelism", 4);
+		ReflectionTestUtils.setField(outboxRelay, "idempotencyTtl", 60000L);
+		ReflectionTestUtils.setField(outboxRelay, "dispatchTimeout", 10000L);
+		outboxRelay.initialize();
+		outboxRelay.afterSingletonsInstantiated();
+	}
+
+	@AfterEach
+	void tearDown() {
+		outboxRelay.shutdown();
+		handlerContext.close();
+	}
+
+	@Test
+	void claimedMessagesAreDispatchedAndCompleted() throws Exception {
+		var messages = new ArrayList<OutboxMessage>();
+		for (int i = 0; i < 5; i++) {
+			messages.add(message(CreateChatMessageEvent.builder().chatMessageId(UUID.randomUUID()).chatRoomId(UUID.randomUUID()).build()));
+		}
+		when(outboxService.claimMessages(anyInt())).thenReturn(messages, List.of());
+
+		outboxRelay.relay();
+
+		var handlers = handlerContext.getBean(ChatMessageHandlers.class);
+		assertThat(handlers.delivered).hasSize(5);
+		assertThat(handlers.pushed).hasSize(5);
+		verify(outboxService).completeMessages(argThatContainsExactly(messages.stream().map(OutboxMessage::getId).toList()));
+		verify(outboxService, never()).failMessage(any(), any());
+	}
+
+	@Test
+	void handledHandlersAreSkippedAndFailedMessagesAreRetried() throws Exception {
+		var event = CreateChatMessageEvent.builder().chatMessageId(UUID.randomUUID()).chatRoomId(UUID.randomUUID()).build();
+		var message = message(event);
+		var failingEvent = CreateChatMessageEvent.builder().chatMessageId(ChatMessageHandlers.FAILING_ID).chatRoomId(UUID.randomUUID()).build();
+		var failingMessage = message(failingEvent);
+		when(outboxService.claimMessages(anyInt())).thenReturn(List.of(message, failingMessage), List.of());
+		// 이전 시도에서 deliver 핸들러는 이미 처리를 완료했다.
+		when(redisTemplate.hasKey(OutboxRelay.HANDLED_KEY_PREFIX + message.getId() + ":ChatMessageHandlers.deliver")).thenReturn(true);
+
+		outboxRelay.relay();
+
+		var handlers = handlerContext.getBean(ChatMessageHandlers.class);
+		assertThat(handlers.delivered).doesNotContain(event.getChatMessageId());
+		assertThat(handlers.pushed).contains(event.getChatMessageId());
+		verify(valueOperations).set(eq(OutboxRelay.HANDLED_KEY_PREFIX + message.getId() + ":ChatMessageHandlers.push"), anyString(), any(Duration.class));
+		verify(outboxService).completeMessages(argThatContainsExactly(List.of(message.getId())));
+		verify(outboxService).failMessage(eq(failingMessage.getId()), anyString());
+	}
+
+	@Test
+	void stuckHandlerDoesNotBlockRelayBeyondDispatchTimeout() throws Exception {
+		ReflectionTestUtils.setField(outboxRelay, "dispatchTimeout", 200L);
+		var message = message(CreateChatMessageEvent.builder().chatMessageId(UUID.randomUUID()).chatRoomId(UUID.randomUUID()).build());
+		var stuckMessage = message(CreateChatMessageEvent.builder().chatMessageId(ChatMessageHandlers.STUCK_ID).chatRoomId(UUID.randomUUID()).build());
+		when(outboxService.claimMessages(anyInt())).thenReturn(List.of(message, stuckMessage), List.of());
+
+		var handlers = handlerContext.getBean(ChatMessageHandlers.class);
+		try {
+			var startedAt = System.nanoTime();
+			outboxRelay.relay();
+
+			assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(5));
+			// 끝나지 않은 메시지는 완료 처리하지 않으므로 임대 시간이 지난 뒤 다시 전달된다.
+			verify(outboxService).completeMessages(argThatContainsExactly(List.of(message.getId())));
+		} finally {
+			handlers.release.countDown();
+		}
+	}
+
+	private OutboxMessage message(CreateChatMessageEvent event) throws Exception {
+		return OutboxMessage.builder()
+				.id(UUID.randomUUID())
+				.eventType(CreateChatMessageEvent.class.getSimpleName())
+				.payload(objectMapper.writeValueAsString(event))
+				.attempts(1)
+				.availableAt(LocalDateTime.now())
+				.build();
+	}
+
+	private static Collection<UUID> argThatContainsExactly(List<UUID> ids) {
+		return argThat(x -> x.size() == ids.size() && x.containsAll(ids));
+	}
+
+	@Component
+	static class ChatMessageHandlers {
+		static final UUID FAILING_ID = UUID.randomUUID();
+		static final UUID STUCK_ID = UUID.randomUUID();
+
+		final CountDownLatch release = new CountDownLatch(1);
+
+		final Set<UUID> delivered = ConcurrentHashMap.newKeySet();
+		final Set<UUID> pushed = ConcurrentHashMap.newKeySet();
+
+		@DomainEventListener
+		public void deliver(CreateChatMessageEvent event) {
+			if (FAILING_ID.equals(event.getChatMessageId())) {
+				throw new IllegalStateException("delivery failed");
+			}
+			if (STUCK_ID.equals(event.getChatMessageId())) {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			delivered.add(event.getChatMessageId());
+		}
+
+		@DomainEventListener
+		public void push(CreateChatMessageEvent event) {
+			pushed.add(event.getChatMessageId());
+		}
+	}
+}
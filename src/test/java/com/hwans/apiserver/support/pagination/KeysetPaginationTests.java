@@ -0,0 +1,54 @@
+package com.hwans.apiserver.support.pagination;
+
+import com.hwans.apiserver.common.errors.exception.RestApiException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetPaginationTests {
+
+	@Test
+	void cursorRoundTrip() {
+		var createdAt = LocalDateTime.of(2022, 8, 1, 12, 30, 15, 123456789);
+		var id = UUID.randomUUID();
+		var cursor = KeysetCursor.of(42, createdAt, id);
+
+		var decoded = KeysetCursor.decode(cursor.encode());
+
+		assertThat(decoded).isEqualTo(cursor);
+		assertThat(decoded.getInteger(0)).isEqualTo(42);
+		assertThat(decoded.getLocalDateTime(1)).isEqualTo(createdAt);
+		assertThat(decoded.getUuid(2)).isEqualTo(id);
+	}
+
+	@Test
+	void invalidCursorIsRejected() {
+		assertThatThrownBy(() -> KeysetCursor.decode("not-a-cursor")).isInstanceOf(RestApiException.class);
+		assertThatThrownBy(() -> KeysetCursor.decode(UUID.randomUUID().toString())).isInstanceOf(RestApiException.class);
+
+		var cursor = KeysetCursor.decode(KeysetCursor.of(LocalDateTime.now(), UUID.randomUUID()).encode());
+		assertThatThrownBy(() -> cursor.getInteger(0)).isInstanceOf(RestApiException.class);
+		assertThatThrownBy(() -> cursor.getUuid(2)).isInstanceOf(RestApiException.class);
+	}
+
+	@Test
+	void toSliceUsesLookAheadRow() {
+		var slice = KeysetPagination.toSlice(List.of(1, 2, 3), 2, true, Object::toString, x -> KeysetCursor.of(x));
+
+		assertThat(slice.getData()).containsExactly("1", "2");
+		assertThat(slice.getSize()).isEqualTo(2);
+		assertThat(slice.isLast()).isFalse();
+		assertThat(KeysetPagination.decode(Optional.of(slice.getCursorId())).orElseThrow().getInteger(0)).isEqualTo(2);
+
+		var lastSlice = KeysetPagination.toSlice(List.of(3), 2, false, Object::toString, x -> KeysetCursor.of(x));
+		assertThat(lastSlice.isLast()).isTrue();
+		assertThat(lastSlice.isFirst()).isFalse();
+		assertThat(lastSlice.getCursorId()).isNull();
+	}
+}
@@ -0,0 +1,154 @@
+package com.hwans.apiserver.support.redis;
+
+import io.lettuce.core.RedisURI;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내장 Redis 에 500개의 동시 호출자가 토큰 확인과 조회수 증가를 요청하여 명령이 배치로 전송되는지와
+ * RedisTemplate 대비 처리 시간을 검사한다.
+ */
+@Slf4j
+class BatchingRedisClientTests {
+	private static final int CALLERS = 500;
+	private static final int CALLS_PER_CALLER = 20;
+	private static final String HITS_KEY = "post-hits-test";
+
+	private static RedisServer redisServer;
+	private static LettuceConnectionFactory connectionFactory;
+	private static StringRedisTemplate redisTemplate;
+	private static SimpleMeterRegistry meterRegistry;
+	private static BatchingRedisClient redisClient;
+
+	@BeforeAll
+	static void startRedis() throws IOException {
+		int port;
+		try (var socket = new ServerSocket(0)) {
+			port = socket.getLocalPort();
+		}
+		redisServer = new RedisServer(port);
+		redisServer.start();
+
+		connectionFactory = new LettuceConnectionFactory("localhost", port);
+		connectionFactory.afterPropertiesSet();
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+		meterRegistry = new SimpleMeterRegistry();
+		redisClient = new BatchingRedisClient(RedisURI.create("localhost", port), Duration.ofSeconds(2), 512, meterRegistry);
+	}
+
+	@AfterAll
+	static void stopRedis() {
+		if (redisClient != null) {
+			redisClient.close();
+		}
+		if (connectionFactory != null) {
+			connectionFactory.destroy();
+		}
+		if (redisServer != null) {
+			redisServer.stop();
+		}
+	}
+
+	@Test
+	void concurrentCommandsAreFlushedTogether() throws Exception {
+		redisTemplate.opsForValue().set("token", "issue");
+		redisTemplate.delete(HITS_KEY);
+
+		var elapsed = runConcurrently(() -> {
+			assertThat(BatchingRedisClient.await(redisClient.get("token"))).isEqualTo("issue");
+			redisClient.hsetnx(HITS_KEY, "post", "0");
+			BatchingRedisClient.await(redisClient.hincrby(HITS_KEY, "post", 1));
+		});
+		log.info("batching client: {} callers x {} calls in {} ms", CALLERS, CALLS_PER_CALLER, elapsed);
+
+		assertThat(redisTemplate.opsForHash().get(HITS_KEY, "post")).isEqualTo(String.valueOf(CALLERS * CALLS_PER_CALLER));
+		var batchSize = meterRegistry.get("redis.batch.size").summary();
+		assertThat(batchSize.mean()).isGreaterThan(1.0);
+		assertThat(batchSize.max()).isLessThanOrEqualTo(512.0);
+	}
+
+	@Test
+	void setIfAbsentStoresOnlyOnce() throws Exception {
+		redisTemplate.delete("verify-code");
+
+		var stored = new ArrayList<Future<Boolean>>();
+		var executor = Executors.newFixedThreadPool(CALLERS);
+		try {
+			var start = new CountDownLatch(1);
+			for (int i = 0; i < CALLERS; i++) {
+				var code = String.valueOf(i);
+				stored.add(executor.submit(() -> {
+					start.await();
+					return BatchingRedisClient.await(redisClient.setIfAbsent("verify-code", code, Duration.ofMinutes(1)));
+				}));
+			}
+			start.countDown();
+
+			var storedCount = 0;
+			for (var future : stored) {
+				storedCount += future.get(30, TimeUnit.SECONDS) ? 1 : 0;
+			}
+			assertThat(storedCount).isEqualTo(1);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void redisTemplateBaseline() throws Exception {
+		redisTemplate.opsForValue().set("token", "issue");
+		redisTemplate.delete(HITS_KEY);
+
+		var elapsed = runConcurrently(() -> {
+			assertThat(redisTemplate.opsForValue().get("token")).isEqualTo("issue");
+			if (!redisTemplate.opsForHash().hasKey(HITS_KEY, "post")) {
+				redisTemplate.opsForHash().put(HITS_KEY, "post", "0");
+			}
+			redisTemplate.opsForHash().increment(HITS_KEY, "post", 1);
+		});
+		log.info("redis template: {} callers x {} calls in {} ms", CALLERS, CALLS_PER_CALLER, elapsed);
+	}
+
+	private static long runConcurrently(Runnable call) throws Exception {
+		var executor = Executors.newFixedThreadPool(CALLERS);
+		try {
+			var start = new CountDownLatch(1);
+			var futures = new ArrayList<Future<Void>>();
+			for (int i = 0; i < CALLERS; i++) {
+				futures.add(executor.submit((Callable<Void>) () -> {
+					start.await();
+					for (int j = 0; j < CALLS_PER_CALLER; j++) {
+						call.run();
+					}
+					return null;
+				}));
+			}
+			var startedAt = System.nanoTime();
+			start.countDown();
+			for (var future : futures) {
+				future.get(60, TimeUnit.SECONDS);
+			}
+			return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,127 @@
+package com.hwans.apiserver.support.serialization;
+
+import com.hwans.apiserver.dto.account.AccountDto;
+import com.hwans.apiserver.dto.account.SimpleAccountDto;
+import com.hwans.apiserver.dto.blog.PostDto;
+import com.hwans.apiserver.dto.blog.SimplePostDto;
+import com.hwans.apiserver.dto.blog.TagDto;
+import com.hwans.apiserver.dto.common.SliceDto;
+import com.hwans.apiserver.entity.blog.OpenType;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BinaryRedisSerializerTests {
+	private final DtoRedisSerializers serializers = new DtoRedisSerializers(1024);
+
+	@Test
+	void postIsRoundTripped() {
+		var post = createPost("짧은 내용");
+
+		var bytes = serializers.post().serialize(post);
+		var decoded = serializers.post().deserialize(bytes);
+
+		assertThat(bytes[2] & BinaryRedisSerializer.FLAG_LZ4).isZero();
+		assertThat(decoded).usingRecursiveComparison().isEqualTo(post);
+	}
+
+	@Test
+	void largePostIsCompressed() {
+		var post = createPost("반복되는 게시글 내용입니다. ".repeat(500));
+
+		var bytes = serializers.post().serialize(post);
+
+		assertThat(bytes[2] & BinaryRedisSerializer.FLAG_LZ4).isEqualTo(BinaryRedisSerializer.FLAG_LZ4);
+		assertThat(bytes.length).isLessThan(post.getContent().getBytes(StandardCharsets.UTF_8).length / 4);
+		assertThat(serializers.post().deserialize(bytes)).usingRecursiveComparison().isEqualTo(post);
+	}
+
+	@Test
+	void simplePostSliceAndAccountAreRoundTripped() {
+		var simplePost = SimplePostDto.builder()
+				.id(UUID.randomUUID())
+				.postUrl("post-url")
+				.title("제목")
+				.summary("요약")
+				.openType(OpenType.PUBLIC)
+				.author(SimpleAccountDto.builder().name("김환").blogId("@kim-hwan").build())
+				.createdAt(LocalDateTime.of(2022, 7, 1, 12, 30, 15, 123456000))
+				.lastModifiedAt(LocalDateTime.of(2022, 7, 2, 0, 0))
+				.tags(Set.of(new TagDto("java")))
+				.hits(-1)
+				.build();
+		var slice = SliceDto.<SimplePostDto>builder()
+				.data(Arrays.asList(simplePost, null))
+				.size(2)
+				.first(true)
+				.cursorId("cursor")
+				.build();
+		var account = AccountDto.builder()
+				.email("akon47@naver.com")
+				.name("김환")
+				.blogId("@kim-hwan")
+				.homepage("https://kimhwan.kr")
+				.build();
+
+		assertThat(serializers.simplePostSlice().deserialize(serializers.simplePostSlice().serialize(slice)))
+				.usingRecursiveComparison().isEqualTo(slice);
+		assertThat(serializers.account().deserialize(serializers.account().serialize(account)))
+				.usingRecursiveComparison().isEqualTo(account);
+	}
+
+	@Test
+	void unknownVersionOrTypeIsTreatedAsMissing() {
+		var bytes = serializers.post().serialize(createPost("내용"));
+
+		// 다른 타입으로 저장된 데이터
+		assertThat(serializers.account().deserialize(bytes)).isNull();
+		// 새 버전의 서버가 기록한 데이터
+		var newerSchema = new BinaryRedisSerializer<>(DtoRedisSerializers.TYPE_POST, DtoCodecs.SCHEMA_VERSION + 1, DtoCodecs.POST, 0);
+		assertThat(serializers.post().deserialize(newerSchema.serialize(createPost("내용")))).isNull();
+		var newerFormat = bytes.clone();
+		newerFormat[1] = (byte) (BinaryRedisSerializer.FORMAT_VERSION + 1);
+		assertThat(serializers.post().deserialize(newerFormat)).isNull();
+		// 이전에 문자열로 저장된 데이터
+		assertThat(serializers.post().deserialize("{\"title\":\"json\"}".getBytes(StandardCharsets.UTF_8))).isNull();
+	}
+
+	@Test
+	void truncatedDataIsRejected() {
+		var bytes = serializers.post().serialize(createPost("내용"));
+
+		assertThatThrownBy(() -> serializers.post().deserialize(Arrays.copyOf(bytes, bytes.length - 3)))
+				.isInstanceOf(SerializationException.class);
+		var trailing = Arrays.copyOf(bytes, bytes.length + 1);
+		assertThatThrownBy(() -> serializers.post().deserialize(trailing))
+				.isInstanceOf(SerializationException.class);
+	}
+
+	private static PostDto createPost(String content) {
+		return PostDto.builder()
+				.id(UUID.randomUUID())
+				.postUrl("my-first-post")
+				.title("제목입니다.")
+				.summary("요약 내용입니다.")
+				.content(content)
+				.openType(OpenType.PUBLIC)
+				.thumbnailImageUrl("/file-id")
+				.author(SimpleAccountDto.builder().name("김환").blogId("@kim-hwan").profileImageUrl("/profile").build())
+				.createdAt(LocalDateTime.of(2022, 7, 1, 12, 0))
+				.lastModifiedAt(LocalDateTime.of(2022, 7, 1, 13, 0, 0, 1))
+				.tags(List.of(new TagDto("spring"), new TagDto("redis")))
+				.commentCount(3)
+				.likeCount(5)
+				.hits(1024)
+				.seriesUrl("series")
+				.build();
+	}
+}
@@ -0,0 +1,114 @@
+package com.hwans.apiserver.support.singleflight;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightGroupTests {
+	private static final int CALLERS = 200;
+
+	private final SingleFlightGroup group = new SingleFlightGroup();
+	private final AtomicInteger executed = new AtomicInteger();
+	private final AtomicInteger shared = new AtomicInteger();
+	private final SingleFlightGroup.Listener listener = new SingleFlightGroup.Listener() {
+		@Override
+		public void onExecuted() {
+			executed.incrementAndGet();
+		}
+
+		@Override
+		public void onShared() {
+			shared.incrementAndGet();
+		}
+	};
+
+	@Test
+	void concurrentCallersShareOneLoad() throws Exception {
+		var release = new CountDownLatch(1);
+		var loads = new AtomicInteger();
+		var result = new Object();
+
+		var futures = callConcurrently(() -> group.execute("key", () -> {
+			loads.incrementAndGet();
+			release.await();
+			return result;
+		}, listener));
+		awaitShared(CALLERS - 1);
+		release.countDown();
+
+		for (var future : futures) {
+			assertThat(future.get(10, TimeUnit.SECONDS)).isSameAs(result);
+		}
+		assertThat(loads).hasValue(1);
+		assertThat(executed).hasValue(1);
+		assertThat(group.size()).isZero();
+	}
+
+	@Test
+	void exceptionIsSharedWithWaitingCallers() throws Exception {
+		var release = new CountDownLatch(1);
+
+		var futures = callConcurrently(() -> group.execute("key", () -> {
+			release.await();
+			throw new IllegalStateException("load failed");
+		}, listener));
+		awaitShared(CALLERS - 1);
+		release.countDown();
+
+		for (var future : futures) {
+			assertThatThrownBy(() -> future.get(10, TimeUnit.SECONDS))
+					.isInstanceOf(ExecutionException.class)
+					.hasCauseInstanceOf(IllegalStateException.class);
+		}
+		assertThat(executed).hasValue(1);
+		assertThat(group.size()).isZero();
+	}
+
+	@Test
+	void callsAfterCompletionLoadAgain() throws Throwable {
+		var loads = new AtomicInteger();
+
+		group.execute("key", loads::incrementAndGet, listener);
+		group.execute("key", loads::incrementAndGet, listener);
+		group.execute("other", loads::incrementAndGet, listener);
+
+		assertThat(loads).hasValue(3);
+		assertThat(shared).hasValue(0);
+	}
+
+	private List<Future<Object>> callConcurrently(SingleFlightGroup.Loader call) {
+		var executor = Executors.newFixedThreadPool(CALLERS);
+		var futures = new ArrayList<Future<Object>>();
+		for (int i = 0; i < CALLERS; i++) {
+			futures.add(executor.submit(() -> {
+				try {
+					return call.load();
+				} catch (Exception | Error e) {
+					throw e;
+				} catch (Throwable e) {
+					throw new IllegalStateException(e);
+				}
+			}));
+		}
+		executor.shutdown();
+		return futures;
+	}
+
+	private void awaitShared(int expected) throws InterruptedException {
+		var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (shared.get() < expected && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(shared).hasValue(expected);
+	}
+}
@@ -0,0 +1,113 @@
+package com.hwans.apiserver.support.statistics;
+
+import com.hwans.apiserver.common.logging.RequestStatisticsRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.sql.SQLException;
+import java.util.HashSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InstrumentedDataSourceTests {
+	private InstrumentedDataSource dataSource;
+
+	@BeforeEach
+	void setUp() throws SQLException {
+		var h2 = new JdbcDataSource();
+		h2.setURL("jdbc:h2:mem:statistics;DB_CLOSE_DELAY=-1");
+		dataSource = new InstrumentedDataSource(h2);
+		try (var connection = dataSource.getConnection(); var statement = connection.createStatement()) {
+			statement.execute("create table if not exists tb_item (id int primary key)");
+			statement.execute("delete from tb_item");
+			statement.execute("insert into tb_item values (1), (2), (3)");
+		}
+	}
+
+	@AfterEach
+	void tearDown() {
+		RequestStatistics.end();
+	}
+
+	@Test
+	void statementsAndRowsAreCountedForCurrentRequest() throws SQLException {
+		var statistics = RequestStatistics.start();
+		try (var connection = dataSource.getConnection()) {
+			for (int id = 1; id <= 3; id++) {
+				try (var statement = connection.prepareStatement("select id from tb_item where id = ?")) {
+					statement.setInt(1, id);
+					try (var resultSet = statement.executeQuery()) {
+						while (resultSet.next()) {
+							assertThat(resultSet.getInt(1)).isEqualTo(id);
+						}
+					}
+				}
+			}
+			try (var statement = connection.prepareStatement("select id from tb_item")) {
+				statement.execute();
+				try (var resultSet = statement.getResultSet()) {
+					while (resultSet.next()) {
+					}
+				}
+			}
+		}
+
+		assertThat(statistics.getJdbcStatements()).isEqualTo(4);
+		assertThat(statistics.getRowsFetched()).isEqualTo(6);
+		assertThat(statistics.getJdbcNanos()).isPositive();
+	}
+
+	@Test
+	void statementsOutsideOfRequestAreNotCounted() throws SQLException {
+		var statistics = RequestStatistics.start();
+		RequestStatistics.end();
+		try (var connection = dataSource.getConnection(); var statement = connection.createStatement(); var resultSet = statement.executeQuery("select id from tb_item")) {
+			while (resultSet.next()) {
+			}
+		}
+
+		assertThat(statistics.getJdbcStatements()).isZero();
+		assertThat(statistics.getRowsFetched()).isZero();
+	}
+
+	@Test
+	void proxiesUseIdentityForEqualsAndHashCode() throws SQLException {
+		try (var connection = dataSource.getConnection();
+			 var first = connection.prepareStatement("select 1");
+			 var second = connection.prepareStatement("select 1")) {
+			var statements = new HashSet<>();
+			statements.add(first);
+			statements.add(second);
+
+			assertThat(statements).hasSize(2).contains(first, second);
+			assertThat(first).isEqualTo(first).isNotEqualTo(second);
+		}
+	}
+
+	@Test
+	void recorderExportsPerRouteMetrics() throws SQLException {
+		var meterRegistry = new SimpleMeterRegistry();
+		var recorder = new RequestStatisticsRecorder(meterRegistry, true, 1);
+		var request = new MockHttpServletRequest("GET", "/api/v1/blog/@kim-hwan/posts");
+		request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/blog/{blogId}/posts");
+
+		var statistics = recorder.start();
+		try (var connection = dataSource.getConnection(); var statement = connection.createStatement()) {
+			statement.executeQuery("select id from tb_item").close();
+			statement.executeQuery("select id from tb_item").close();
+		}
+		recorder.finish(request, statistics);
+
+		assertThat(RequestStatistics.current()).isNull();
+		var summary = meterRegistry.get("http.server.requests.jdbc.statements")
+				.tag("method", "GET").tag("uri", "/api/v1/blog/{blogId}/posts").summary();
+		assertThat(summary.count()).isEqualTo(1);
+		assertThat(summary.totalAmount()).isEqualTo(2);
+		assertThat(new RequestStatisticsRecorder(meterRegistry, false, 1).start()).isNull();
+	}
+}